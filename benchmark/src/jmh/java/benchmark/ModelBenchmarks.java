@@ -0,0 +1,406 @@
+package benchmark;
+
+import model.ScoreTracker;
+import model.ScreenSettings;
+import model.SessionRandom;
+import model.entities.Dog;
+import model.entities.Drone;
+import model.entities.Player;
+import model.inventoryrelated.Inventory;
+import model.inventoryrelated.PokerCard;
+import model.levels.CollisionGrid;
+import model.levels.LevelManager;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.util.List;
+import java.util.Random;
+import java.util.SplittableRandom;
+
+/**
+ * jmh benchmarks of the hot model paths. no window, audio or rendering is needed.
+ * <pre>
+ * gradle :benchmark:jmh [-Pjmh.includes=regex]
+ * </pre>
+ * the modes, forks and iterations are set in benchmark/build.gradle, and the results are written to
+ * benchmark/build/results/jmh/results.csv: run it before and after a performance change, and compare the csv files.
+ * every benchmark state is deterministic (fixed positions, inputs and seeds), and the output of the game (println) is
+ * discarded while measuring.
+ */
+public class ModelBenchmarks {
+    //----------------------------------------------------------------------------------------------------------------//
+    // FIELDS
+    //----------------------------------------------------------------------------------------------------------------//
+    /**
+     * seed of the random positions used by the collision benchmark, and of the sessions of the level managers
+     */
+    private static final long SEED = 42;
+    /**
+     * number of precomputed positions, cycled by the collision benchmark (a power of 2)
+     */
+    private static final int SAMPLES = 1024;
+
+    //----------------------------------------------------------------------------------------------------------------//
+    // SETUP
+    //----------------------------------------------------------------------------------------------------------------//
+    /**
+     * player that exposes the protected {@link model.entities.Entity#checkCollisionWithTile(int, int)} to the benchmark
+     */
+    private static class CollisionProbe extends Player {
+        /**
+         * @param x x coordinate of the hit box
+         * @param y y coordinate of the hit box
+         * @return true if the player hit box collides with a tile at that position
+         */
+        private boolean collides(int x, int y) {
+            return checkCollisionWithTile(x, y);
+        }
+    }
+
+    /**
+     * discards the output of the game, so the println of the model doesn't end up in the measurements
+     */
+    private static void discardOutput() {
+        System.setOut(new PrintStream(OutputStream.nullOutputStream()));
+    }
+
+    /**sets up the game world like TitleScreenController.startMainGame() does, without the views.
+     * @param player the player
+     * @return the level manager, with the first room loaded
+     */
+    private static LevelManager createWorld(Player player) {
+        LevelManager levelManager = new LevelManager(player, new SessionRandom(SEED));
+        player.setLevelManager(levelManager);
+        levelManager.initializeWorldLayout();
+        levelManager.loadCurrentRoom();
+        return levelManager;
+    }
+
+    /**finds the longest platform of the current room with enough free space above it for an entity, so the enemies
+     * patrol on the ground instead of waiting in mid air.
+     * @param levelManager level manager, with the room loaded
+     * @param heightInTiles height of the entity, in tiles
+     * @return x and y pixel coordinates of an entity standing at the middle of the platform
+     */
+    private static int[] findPlatform(LevelManager levelManager, int heightInTiles) {
+        CollisionGrid collisionGrid = levelManager.getCurrentCollisionGrid();
+        int bestLength = 0;
+        int[] position = {ScreenSettings.TILE_SIZE, ScreenSettings.TILE_SIZE};
+        for (int row = heightInTiles; row < ScreenSettings.MAX_SCREEN_ROW; row++) {
+            int length = 0;
+            for (int col = 0; col < ScreenSettings.MAX_SCREEN_COL; col++) {
+                boolean free = !collisionGrid.isColSpanSolid(col, row - heightInTiles, row - 1);
+                length = collisionGrid.isSolid(col, row) && free ? length + 1 : 0;
+                if (length > bestLength) {
+                    bestLength = length;
+                    position[0] = (col - length / 2) * ScreenSettings.TILE_SIZE;
+                    position[1] = (row - heightInTiles) * ScreenSettings.TILE_SIZE;
+                }
+            }
+        }
+        return position;
+    }
+
+    //----------------------------------------------------------------------------------------------------------------//
+    // STATE
+    //----------------------------------------------------------------------------------------------------------------//
+    /**
+     * player hit box and random positions of the first room, cycled by {@link #checkCollisionWithTile(CollisionState)}
+     */
+    @State(Scope.Thread)
+    public static class CollisionState {
+        /**
+         * the player whose hit box gets checked
+         */
+        private CollisionProbe probe;
+        /**
+         * x coordinates of the positions
+         */
+        private int[] xs;
+        /**
+         * y coordinates of the positions
+         */
+        private int[] ys;
+        /**
+         * index of the next position
+         */
+        private int index;
+
+        /**
+         * loads the first room and precomputes the positions
+         */
+        @Setup
+        public void setup() {
+            discardOutput();
+            probe = new CollisionProbe();
+            createWorld(probe);
+            Random random = new Random(SEED);
+            xs = new int[SAMPLES];
+            ys = new int[SAMPLES];
+            for (int i = 0; i < SAMPLES; i++) {
+                xs[i] = random.nextInt(ScreenSettings.SCREEN_WIDTH - probe.getWidth());
+                ys[i] = random.nextInt(ScreenSettings.SCREEN_HEIGHT - probe.getHeight());
+            }
+        }
+    }
+
+    /**
+     * player in the first room, with the tick that decides its keys
+     */
+    @State(Scope.Thread)
+    public static class PlayerState {
+        /**
+         * the updated player
+         */
+        private Player player;
+        /**
+         * number of updates so far
+         */
+        private int tick;
+
+        /**
+         * loads the first room
+         */
+        @Setup
+        public void setup() {
+            discardOutput();
+            player = new Player();
+            createWorld(player);
+        }
+    }
+
+    /**
+     * drone patrolling the longest platform of the first room
+     */
+    @State(Scope.Thread)
+    public static class DroneState {
+        /**
+         * the updated drone
+         */
+        private Drone drone;
+
+        /**
+         * loads the first room and puts the drone on its platform
+         */
+        @Setup
+        public void setup() {
+            discardOutput();
+            Player player = new Player();
+            LevelManager levelManager = createWorld(player);
+            int[] platform = findPlatform(levelManager, 1);
+            drone = new Drone(platform[0], platform[1], player, levelManager);
+        }
+    }
+
+    /**
+     * dog patrolling the longest platform of the first room
+     */
+    @State(Scope.Thread)
+    public static class DogState {
+        /**
+         * the updated dog
+         */
+        private Dog dog;
+
+        /**
+         * loads the first room and puts the dog on its platform
+         */
+        @Setup
+        public void setup() {
+            discardOutput();
+            Player player = new Player();
+            LevelManager levelManager = createWorld(player);
+            int[] platform = findPlatform(levelManager, 2);
+            dog = new Dog(platform[0], platform[1], player, levelManager);
+        }
+    }
+
+    /**
+     * level manager going back and forth between the first two rooms
+     */
+    @State(Scope.Thread)
+    public static class RoomState {
+        /**
+         * the level manager
+         */
+        private LevelManager levelManager;
+        /**
+         * number of room changes so far
+         */
+        private int moves;
+
+        /**
+         * loads the first room
+         */
+        @Setup
+        public void setup() {
+            discardOutput();
+            levelManager = createWorld(new Player());
+        }
+    }
+
+    /**
+     * player of the new games
+     */
+    @State(Scope.Thread)
+    public static class NewGameState {
+        /**
+         * the player
+         */
+        private Player player;
+
+        /**
+         * creates the player
+         */
+        @Setup
+        public void setup() {
+            discardOutput();
+            player = new Player();
+        }
+    }
+
+    /**
+     * score tracker of a player holding a full inventory of poker cards
+     */
+    @State(Scope.Thread)
+    public static class ScoreState {
+        /**
+         * score tracker of the player
+         */
+        private ScoreTracker scoreTracker;
+        /**
+         * values of the poker cards in the inventory
+         */
+        private List<Integer> cardValues;
+
+        /**
+         * fills the inventory of the player
+         */
+        @Setup
+        public void setup() {
+            discardOutput();
+            Player player = new Player();
+            createWorld(player);
+            Inventory inventory = player.getInventory();
+            inventory.addItem(PokerCard.tenclub);
+            inventory.addItem(PokerCard.jclub);
+            inventory.addItem(PokerCard.qclub);
+            inventory.addItem(PokerCard.kclub);
+            inventory.addItem(PokerCard.aceclub);
+            scoreTracker = player.getScoreTracker();
+            cardValues = scoreTracker.getCardValues(player);
+        }
+    }
+
+    /**
+     * random generator of the poker card draws
+     */
+    @State(Scope.Thread)
+    public static class CardState {
+        /**
+         * the random generator
+         */
+        private SplittableRandom random;
+
+        /**
+         * seeds the random generator
+         */
+        @Setup
+        public void setup() {
+            discardOutput();
+            random = new SplittableRandom(SEED);
+        }
+    }
+
+    //----------------------------------------------------------------------------------------------------------------//
+    // BENCHMARKS
+    //----------------------------------------------------------------------------------------------------------------//
+    /**collision check of the player hit box at a random position of the first room.
+     * @param state positions
+     * @return true if the hit box collides
+     */
+    @Benchmark
+    public boolean checkCollisionWithTile(CollisionState state) {
+        int i = state.index++ & (SAMPLES - 1);
+        return state.probe.collides(state.xs[i], state.ys[i]);
+    }
+
+    /**player update in the first room, walking right and left and jumping, like a player would.
+     * @param state player
+     * @return position of the player
+     */
+    @Benchmark
+    public int playerUpdate(PlayerState state) {
+        int t = state.tick++;
+        boolean right = (t / 120) % 2 == 0;     //2 seconds right, 2 seconds left
+        boolean jump = t % 90 == 0;
+        state.player.update(false, false, !right, right, jump, false, false, false, false);
+        return state.player.getX() + state.player.getY();
+    }
+
+    /**update of a drone patrolling the longest platform of the first room.
+     * @param state drone
+     * @return x coordinate of the drone
+     */
+    @Benchmark
+    public int droneUpdate(DroneState state) {
+        state.drone.update();
+        return state.drone.getX();
+    }
+
+    /**update of a dog patrolling the longest platform of the first room.
+     * @param state dog
+     * @return x coordinate of the dog
+     */
+    @Benchmark
+    public int dogUpdate(DogState state) {
+        state.dog.update();
+        return state.dog.getX();
+    }
+
+    /**room change between the first two rooms, after both have been loaded once (the common case in game).
+     * @param state level manager
+     * @return column of the current room
+     */
+    @Benchmark
+    public int loadCachedRoom(RoomState state) {
+        if ((state.moves++ & 1) == 0) {
+            state.levelManager.moveToRightRoom();
+        }
+        else {
+            state.levelManager.moveToLeftRoom();
+        }
+        return state.levelManager.getCurrentWorldCol();
+    }
+
+    /**creation of a new level manager and load of its first room (the first load of a room).
+     * @param state player
+     * @return the new level manager
+     */
+    @Benchmark
+    public LevelManager loadNewGame(NewGameState state) {
+        return createWorld(state.player);
+    }
+
+    /**grand total of a full inventory of poker cards.
+     * @param state score tracker and card values
+     * @return the grand total
+     */
+    @Benchmark
+    public int getGrandTotalPoints(ScoreState state) {
+        return state.scoreTracker.getGrandTotalPoints(state.cardValues);
+    }
+
+    /**random poker card draw, with the base drop rates.
+     * @param state random generator
+     * @return the drawn card
+     */
+    @Benchmark
+    public PokerCard getRandomPokerCard(CardState state) {
+        return PokerCard.getRandomPokerCard(state.random);
+    }
+}
@@ -1,21 +1,28 @@
 package controller;
 
-import model.entities.Dog;
-import model.entities.Drone;
 import model.entities.Player;
-import model.inventoryrelated.Inventory;
 import model.levels.LevelManager;
+import model.levels.Room;
+import model.snapshot.RenderSnapshotBuffer;
+import profiling.TickEvent;
+import view.PerformanceMonitor;
 import view.gamePanelViews.GameView;
 
+import java.io.IOException;
+import java.nio.file.Path;
+
 /**
  * controller component, updates all the entities states, and requests the game view to render.
  *
  *flow of the controller is:
  * 1. {@link #startGameThread()} is called in the {@link view.gamePanelViews.TitleScreenView} if the user
  * select 'new game' or 'play tutorial' and a new thread gets created, which calls the {@link #run()} method automatically.
- * 2. in the {@link #run()} method, a fixed-time-step game LOOP is implemented: for a fixed time window, the thread is going to sleep.
- *  once that time is up, it will run once more. when it runs, it will call every single .update() method of each entity,
- *  and requests a repaint of {@link GameView}.
+ * 2. in the {@link #run()} method, a fixed-time-step game LOOP is implemented: the elapsed real time is accumulated,
+ *  and the models are updated in fixed {@link #TICK_RATE} steps (see {@link #tick()}) until the accumulator is drained.
+ *  after that, it requests a render of {@link GameView} (actively on the game thread when possible), passing how far between two ticks the render is,
+ *  so rendering and simulation run at independent rates.
+ *  the views never read the models: at the end of every tick, the state of the models is published as a
+ *  {@link model.snapshot.RenderSnapshot}, and the frames are drawn from the latest one.
  */
 public class GameController implements Runnable {
     //models
@@ -40,6 +47,33 @@ public class GameController implements Runnable {
      * to move the player
      */
     private final InputHandler inputHandler;
+    /**
+     * advances the models by one tick, see {@link GameSimulation}
+     */
+    private final GameSimulation simulation;
+    /**
+     * hands the state of the models over to the {@link #gameView} at the end of every tick, see {@link RenderSnapshotBuffer}
+     */
+    private final RenderSnapshotBuffer snapshotBuffer;
+    /**
+     * records the update time and the sleep overshoot of every frame, see {@link PerformanceMonitor}
+     */
+    private final PerformanceMonitor performanceMonitor = PerformanceMonitor.getInstance();
+
+    //input recording
+    /**
+     * keys held during the current tick. the keyboard state of the {@link #inputHandler} changes on the EDT at any time,
+     * so it is copied here once per tick: the models only see this copy, which is exactly what gets recorded.
+     */
+    private final InputHandler tickInput = new InputHandler();
+    /**
+     * file where the keys of the session are recorded, set with -Dgame.recordInput=path. null if they aren't recorded.
+     */
+    private final String RECORDING_FILE = System.getProperty("game.recordInput");
+    /**
+     * recording of the keys of every tick, see {@link InputRecording}. null if they aren't recorded.
+     */
+    private InputRecording inputRecording;
 
     //game loop
     /**
@@ -47,14 +81,19 @@ public class GameController implements Runnable {
      */
     private Thread gameThread;
     /**
-     * indicates the target fps of the game. it is used to as a denominator to get the draw interval.
-     * see {@link #run()}.
+     * number of simulation ticks per second. the models are always updated with this fixed rate,
+     * no matter how fast the game is rendered. see {@link #run()}.
+     */
+    private final int TICK_RATE = 60;
+    /**
+     * maximum number of ticks run before a render. if the game falls behind more than this (for example after a long
+     * room load), the remaining time is dropped instead of fast-forwarding the game.
      */
-    private final int FPS = 60;
+    private final int MAX_TICKS_PER_FRAME = 5;
     /**
      * flag that indicates if the game thread is running or not
      */
-    private boolean running = true;
+    private volatile boolean running = true;
 
     /**
      * state of the game.
@@ -70,7 +109,7 @@ public class GameController implements Runnable {
     /**
      * current state of the player. see {@link GameState} for all the available game states
      */
-    private GameState currentState = GameState.PLAYING;
+    private volatile GameState currentState = GameState.PLAYING;
 
 
     /**controller of the game.
@@ -80,19 +119,30 @@ public class GameController implements Runnable {
      * @param inputHandler {@link InputHandler} controller
      * @param gameView {@link GameView} view
      * @param levelManager {@link LevelManager} model
+     * @param snapshotBuffer buffer the snapshots of the models are published to, shared with the {@link GameView}
      */
-    public GameController(Player player, InputHandler inputHandler, GameView gameView, LevelManager levelManager) {
+    public GameController(Player player, InputHandler inputHandler, GameView gameView, LevelManager levelManager, RenderSnapshotBuffer snapshotBuffer) {
         this.player = player;
         this.inputHandler = inputHandler;
         this.gameView = gameView;
         this.levelManager = levelManager;
+        this.snapshotBuffer = snapshotBuffer;
+        this.simulation = new GameSimulation(player, levelManager);
     }
 
     /**
      * starts the game thread by creating a new Thread object.
      * the game thread automatically calls the {@link #run()} method and updates the models based on the user's inputs.
+     * if -Dgame.recordInput is set, the keys of every tick get recorded, see {@link #saveInputRecording()}.
+     * the state of the models is published once before, so the first frames have something to draw.
      */
     public void startGameThread() {
+        snapshotBuffer.publish();
+        if (RECORDING_FILE != null && inputRecording == null) {
+            boolean tutorial = levelManager.getCurrentRoom().getRoomType() == Room.RoomType.TUTORIAL;
+            inputRecording = new InputRecording(levelManager.getSessionRandom().getSeed(), tutorial);
+            Runtime.getRuntime().addShutdownHook(new Thread(this::saveInputRecording, "input-recording-save"));
+        }
         running = true;
         gameThread = new Thread(this);
         gameThread.start();
@@ -114,78 +164,74 @@ public class GameController implements Runnable {
 
 
     /** automatically called when the {@link #gameThread} starts.
-     * while the thread is running and if the current state of the game is 'playing', then it will call each model's
-     * .update() method. for example, see {@link Player}.
-     * the game uses a fixed-time-step way to manage the game loop:
-     * 1. it computes the time in nanoseconds between frames
-     * 2. it computes the time of the next frame that should be rendered
-     * 3. computes how much time is left until the next frame, and sleeps for that amount of time to maintain a consistent frame rate
+     * while the thread is running and if the current state of the game is 'playing', then it will call {@link #tick()}
+     * to update the models.
+     * the game uses a fixed-time-step accumulator to manage the game loop:
+     * 1. it adds the real time elapsed since the last loop to the accumulator
+     * 2. it runs one {@link #tick()} for every full tick interval stored in the accumulator, up to {@link #MAX_TICKS_PER_FRAME}
+     * 3. it renders the {@link GameView}, passing the leftover fraction of a tick so the views can interpolate the entities positions
+     * 4. it sleeps until the next tick or the next frame of the display, whichever comes first
+     * the time spent updating and how late the thread wakes up from its sleep are recorded in the {@link PerformanceMonitor}.
      *
-     * note: during the 'paused' and 'result' states, the thread will only handle the frame timing without updating the game state.
+     * note: during the 'paused' and 'result' states, the thread will only handle the timing without updating the game state.
      */
     //GAME LOOP
     @Override
     public void run() {
 
-        double drawInterval = (double) 1_000_000_000 / FPS;     //time in nanoseconds between frames
-        double nextDrawTime = System.nanoTime() + drawInterval; //time of when the next frame should be rendered
+        final long tickInterval = 1_000_000_000L / TICK_RATE;      //time in nanoseconds between ticks
+        final long renderInterval = 1_000_000_000L / gameView.getDisplayRefreshRate();   //time in nanoseconds between frames
+        long accumulator = 0;       //simulation time that still has to be processed
+        long lastTime = System.nanoTime();
+        long nextRenderTime = lastTime;
 
         while (running) {   //game loop. it continues while running is true.
-            //update game state if not paused
+            long currentTime = System.nanoTime();
+            long elapsed = currentTime - lastTime;
+            lastTime = currentTime;
+
             if (currentState == GameState.PLAYING) {
-                //update player model based on input
-                player.update(inputHandler.upPressed,
-                        inputHandler.downPressed,
-                        inputHandler.leftPressed,
-                        inputHandler.rightPressed,
-                        inputHandler.spacePressed,
-                        inputHandler.ePressed,
-                        inputHandler.upArrowPressed,
-                        inputHandler.downArrowPressed,
-                        inputHandler.enterPressed
-                );
-                //set the state to result if the player has extracted
-                if(player.getIsExtracted()){
-                    currentState = GameState.RESULT;
-                }
+                accumulator += elapsed;
 
-                //update all the drones in the room
-                for (Drone drone : levelManager.getCurrentRoom().getDrones()) {
-                    drone.update();
+                //catch up with the real time in fixed steps
+                long updateStart = System.nanoTime();
+                int ticks = 0;
+                while (accumulator >= tickInterval && ticks < MAX_TICKS_PER_FRAME && currentState == GameState.PLAYING) {
+                    tick();
+                    accumulator -= tickInterval;
+                    ticks++;
                 }
-
-                //update all the dogs in the room
-                for (Dog dog : levelManager.getCurrentRoom().getDogs()){
-                    dog.update();
+                if (ticks > 0) {
+                    performanceMonitor.record(PerformanceMonitor.Metric.UPDATE, System.nanoTime() - updateStart);
+                }
+                if (ticks == MAX_TICKS_PER_FRAME && accumulator >= tickInterval) {
+                    accumulator = accumulator % tickInterval;     //too far behind, drop the backlog
                 }
 
-                //handle level transition
-                levelManager.handleLevelTransition();
-
-                //always request repaint in game view
-                gameView.repaint(); // -> THIS CALLS PAINT COMPONENT METHOD IN GAMEVIEW
-
-                //update the discard progress for each slot
-                Inventory inventory = player.getInventory();
-                inventory.updateDiscardProgress(0, inputHandler.onePressed);
-                inventory.updateDiscardProgress(1, inputHandler.twoPressed);
-                inventory.updateDiscardProgress(2, inputHandler.threePressed);
-                inventory.updateDiscardProgress(3, inputHandler.fourPressed);
-                inventory.updateDiscardProgress(4, inputHandler.fivePressed);
-
+                //render, at most once per display refresh (always render the frame the game ended on)
+                if (currentTime >= nextRenderTime || currentState != GameState.PLAYING) {
+                    gameView.setInterpolation((double) accumulator / tickInterval);
+                    gameView.render();
+                    nextRenderTime = currentTime + renderInterval;
+                }
+            }
+            else {
+                accumulator = 0;    //don't catch up the time spent paused
             }
 
-
-            //handle frame timing
+            //sleep until the next tick or frame is due
             try {
-                double remainingTime = nextDrawTime - System.nanoTime();    //how much time is left until the next frame should be rendered
-                remainingTime = remainingTime / 1_000_000;
-                if (remainingTime < 0) {
-                    remainingTime = 0;
+                long nextTickTime = lastTime + (tickInterval - accumulator);
+                long wakeUpTime = currentState == GameState.PLAYING ? Math.min(nextTickTime, nextRenderTime) : lastTime + tickInterval;
+                long remainingTime = (wakeUpTime - System.nanoTime()) / 1_000_000;  //in milliseconds
+                if (remainingTime > 0) {
+                    long sleepStart = System.nanoTime();
+                    Thread.sleep(remainingTime);
+                    performanceMonitor.record(PerformanceMonitor.Metric.SLEEP_OVERSHOOT, System.nanoTime() - sleepStart - remainingTime * 1_000_000);
+                }
+                else {
+                    Thread.yield();
                 }
-
-                Thread.sleep((long) remainingTime);     //sleep the thread to maintain consistent fps
-                nextDrawTime += drawInterval;       //adjust the next draw time for the following frame
             }
             catch (InterruptedException e) {
                 if (!running) {
@@ -197,6 +243,59 @@ public class GameController implements Runnable {
         }
     }
 
+    /**
+     * advances the game by one fixed step: updates every model via the {@link #simulation}, then publishes their state
+     * to the {@link #snapshotBuffer} for the renderer.
+     * the keys are sampled once at the start of the step (and recorded, if the input is being recorded).
+     * the step is recorded as a {@link TickEvent} when the flight recorder is on.
+     */
+    private void tick() {
+        TickEvent tickEvent = new TickEvent();
+        tickEvent.begin();
+
+        int keys = InputScript.keysOf(inputHandler);
+        InputScript.applyKeys(keys, tickInput);
+        if (inputRecording != null) {
+            inputRecording.record(keys);
+        }
+        simulation.tick(tickInput);
+
+        //set the state to result if the player has extracted, the final score is computed here once
+        if(player.getIsExtracted()){
+            currentState = GameState.RESULT;
+            player.getScoreTracker().finalizeScore(player);
+            saveInputRecording();
+        }
+
+        //hand the state of this tick over to the renderer
+        snapshotBuffer.publish();
+
+        tickEvent.end();
+        if (tickEvent.shouldCommit()) {     //only fill the fields when the event is recorded
+            Room room = levelManager.getCurrentRoom();
+            tickEvent.roomPath = room.getRoomPath();
+            tickEvent.enemyCount = room.getDrones().size() + room.getDogs().size();
+            tickEvent.objectCount = room.getInteractiveObjects().size();
+            tickEvent.commit();
+        }
+    }
+
+
+    /**
+     * writes the input recording to the -Dgame.recordInput file, if the input is being recorded.
+     * called when the player extracts, and when the game closes.
+     */
+    private void saveInputRecording() {
+        if (inputRecording == null) return;
+        try {
+            inputRecording.save(Path.of(RECORDING_FILE));
+            System.out.println("[GameController][saveInputRecording()] saved " + inputRecording.getLength() + " ticks to " + RECORDING_FILE);
+        }
+        catch (IOException e) {
+            System.out.println("[GameController][saveInputRecording()] couldn't save the input recording to " + RECORDING_FILE);
+            e.printStackTrace();
+        }
+    }
 
     /**gets the {@link LevelManager} used by this game controller.
      * @return the level manager instance that this controller is using
@@ -2,6 +2,8 @@ package controller;
 
 
 import main.JImpossibleMissionKnockoff;
+import model.events.EventBus;
+import model.events.GameEvent;
 import view.AudioManager;
 import view.gamePanelViews.GameView;
 import view.gamePanelViews.PauseMenuView;
@@ -9,15 +11,18 @@ import view.gamePanelViews.PauseMenuView;
 import javax.swing.*;
 import java.awt.event.KeyEvent;
 import java.awt.event.KeyListener;
-import java.util.Observable;
 /**
  * controller, extension of the input handler(handles the player key presses), this class adds the 'escape' key
  * handling, by coordinating the game controller, game view and pause menu view in the {@link #keyPressed(KeyEvent)}method.
  * {@link GameController}, {@link GameView}, {@link PauseMenuView}.
- * it is an observable for the {@link AudioManager} to play a sound when the escape key is pressed.
+ * it publishes an event to the {@link AudioManager} to play a sound when the escape key is pressed.
  */
 //handles in game controls and pause game toggling
-public class GameKeyListener extends Observable implements KeyListener {
+public class GameKeyListener implements KeyListener {
+    /**
+     * event bus of the controller, notifies the {@link AudioManager} to play the menu sounds
+     */
+    private final EventBus eventBus = new EventBus();
     /**
      * reference to the {@link GameController}, to toggle the game state
      */
@@ -55,8 +60,6 @@ public class GameKeyListener extends Observable implements KeyListener {
         this.gameView = gameView;
         this.pauseMenuView = pauseMenuView;
         this.window = window;
-
-        this.addObserver(AudioManager.getInstance());
     }
 
 
@@ -69,6 +72,7 @@ public class GameKeyListener extends Observable implements KeyListener {
      * to pause the game.
      * the game state is set to paused via the {@link GameController} .togglePause() method.
      * whenever the escape key is pressed, it sends a notification to {@link AudioManager} to play a sound.
+     * the 'f3' key shows or hides the performance overlay of the {@link GameView}.
      * @param e the event to be processed
      */
     @Override
@@ -77,11 +81,10 @@ public class GameKeyListener extends Observable implements KeyListener {
             gameController.togglePause();
             inputHandler.resetAllKeys();
 
-            setChanged();
-            notifyObservers("esc pressed");
-            clearChanged();
+            eventBus.publish(GameEvent.ESC_PRESSED);
 
             gameView.setFocusable(false);
+            gameView.setActiveRendering(false);     //the canvas would cover the pause menu
 
             pauseMenuView.setVisible(true);
             pauseMenuView.setFocusable(true);
@@ -91,6 +94,9 @@ public class GameKeyListener extends Observable implements KeyListener {
             window.repaint();
 
         }
+        else if (e.getKeyCode() == KeyEvent.VK_F3) {     //debug: show or hide the frame times overlay
+            gameView.togglePerformanceOverlay();
+        }
         else{   //for the other keys let the input handler handle the key presses
             inputHandler.keyPressed(e);
         }
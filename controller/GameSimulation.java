@@ -0,0 +1,96 @@
+package controller;
+
+import model.entities.Dog;
+import model.entities.Drone;
+import model.entities.Player;
+import model.inventoryrelated.Inventory;
+import model.levels.LevelManager;
+import model.levels.Room;
+
+/**
+ * controller, advances the game models by one fixed step, based on the state of an {@link InputHandler}.
+ * it only touches the models, so it is used both by the {@link GameController} on the game thread, and by
+ * {@link main.HeadlessSimulation} to run the game without any window, audio or rendering.
+ */
+public class GameSimulation {
+    /**
+     * reference to {@link Player} model.
+     */
+    private final Player player;
+    /**
+     * reference to the {@link LevelManager}, which manages the game world.
+     */
+    private final LevelManager levelManager;
+    /**
+     * number of ticks simulated so far
+     */
+    private long tickCount = 0;
+
+    /**
+     * @param player {@link Player} model
+     * @param levelManager {@link LevelManager} model, already initialized with a world layout and the current room loaded
+     */
+    public GameSimulation(Player player, LevelManager levelManager) {
+        this.player = player;
+        this.levelManager = levelManager;
+    }
+
+    /**advances the game by one fixed step. updates every model based on the current input and handles the level
+     * transitions.
+     * @param inputHandler state of the keys during this tick
+     */
+    public void tick(InputHandler inputHandler) {
+        Room currentRoom = levelManager.getCurrentRoom();
+
+        //store the positions of this tick, used by the views to interpolate
+        player.savePreviousPosition();
+        for (Drone drone : currentRoom.getDrones()) {
+            drone.savePreviousPosition();
+        }
+        for (Dog dog : currentRoom.getDogs()) {
+            dog.savePreviousPosition();
+        }
+
+        //update player model based on input
+        player.update(inputHandler.upPressed,
+                inputHandler.downPressed,
+                inputHandler.leftPressed,
+                inputHandler.rightPressed,
+                inputHandler.spacePressed,
+                inputHandler.ePressed,
+                inputHandler.upArrowPressed,
+                inputHandler.downArrowPressed,
+                inputHandler.enterPressed
+        );
+
+        //update all the drones in the room
+        for (Drone drone : currentRoom.getDrones()) {
+            drone.update();
+        }
+
+        //update all the dogs in the room
+        for (Dog dog : currentRoom.getDogs()){
+            dog.update();
+        }
+
+        //handle level transition
+        levelManager.handleLevelTransition();
+
+        //update the discard progress for each slot
+        Inventory inventory = player.getInventory();
+        inventory.updateDiscardProgress(0, inputHandler.onePressed);
+        inventory.updateDiscardProgress(1, inputHandler.twoPressed);
+        inventory.updateDiscardProgress(2, inputHandler.threePressed);
+        inventory.updateDiscardProgress(3, inputHandler.fourPressed);
+        inventory.updateDiscardProgress(4, inputHandler.fivePressed);
+
+        tickCount++;
+    }
+
+    /**
+     * @return number of ticks simulated so far
+     */
+    public long getTickCount() {
+        return tickCount;
+    }
+}
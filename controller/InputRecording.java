@@ -0,0 +1,206 @@
+package controller;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+
+/**
+ * controller, recording of the keys held on every tick of a game session, together with the seed of its random
+ * generator, so that the session can be replayed exactly by {@link main.HeadlessSimulation} (--replay file).
+ * the keys are stored as key masks (see {@link InputScript#KEY_NAMES}), run length encoded: a run is a key mask and
+ * the number of consecutive ticks it was held for. a player holds the same keys for many ticks, so a recording takes a
+ * few bytes per second of game.
+ * file format (big endian, counts and masks as unsigned varints):
+ * <pre>
+ * int      magic 'IMKR'
+ * byte     version
+ * long     seed
+ * boolean  tutorial
+ * varint   number of runs
+ * [varint ticks, varint keys] per run
+ * </pre>
+ */
+public class InputRecording {
+    /**
+     * first bytes of a recording file
+     */
+    private static final int MAGIC = 0x494D4B52;    //'IMKR'
+    /**
+     * version of the file format
+     */
+    private static final int VERSION = 1;
+
+    /**
+     * seed of the random generator of the session
+     */
+    private final long seed;
+    /**
+     * true if the session played the tutorial layout
+     */
+    private final boolean tutorial;
+    /**
+     * number of ticks of each run
+     */
+    private int[] runTicks = new int[64];
+    /**
+     * key mask of each run
+     */
+    private int[] runKeys = new int[64];
+    /**
+     * number of runs
+     */
+    private int runCount = 0;
+    /**
+     * number of ticks recorded
+     */
+    private long length = 0;
+
+    /**creates an empty recording.
+     * @param seed seed of the random generator of the session
+     * @param tutorial true if the session plays the tutorial layout
+     */
+    public InputRecording(long seed, boolean tutorial) {
+        this.seed = seed;
+        this.tutorial = tutorial;
+    }
+
+    /**records the keys held during a tick. called once per tick, before the tick runs.
+     * @param keys key mask, see {@link InputScript#keysOf(InputHandler)}
+     */
+    public synchronized void record(int keys) {
+        if (runCount > 0 && runKeys[runCount - 1] == keys && runTicks[runCount - 1] < Integer.MAX_VALUE) {
+            runTicks[runCount - 1]++;       //same keys as the last tick, extend the run
+            length++;
+        }
+        else {
+            addRun(1, keys);
+        }
+    }
+
+    /**adds a new run at the end of the recording.
+     * @param ticks number of ticks of the run
+     * @param keys key mask of the run
+     */
+    private void addRun(int ticks, int keys) {
+        if (runCount == runTicks.length) {
+            runTicks = Arrays.copyOf(runTicks, runCount * 2);
+            runKeys = Arrays.copyOf(runKeys, runCount * 2);
+        }
+        runTicks[runCount] = ticks;
+        runKeys[runCount] = keys;
+        runCount++;
+        length += ticks;
+    }
+
+    /**
+     * @return seed of the random generator of the session
+     */
+    public long getSeed() {
+        return seed;
+    }
+
+    /**
+     * @return true if the session played the tutorial layout
+     */
+    public boolean isTutorial() {
+        return tutorial;
+    }
+
+    /**
+     * @return number of ticks recorded
+     */
+    public synchronized long getLength() {
+        return length;
+    }
+
+    /**converts the recording into a script, to replay it with the same code as the scripted input.
+     * @return script that holds the recorded keys on every tick
+     * @throws IllegalArgumentException if the recording is empty
+     */
+    public synchronized InputScript toScript() {
+        return new InputScript(Arrays.copyOf(runTicks, runCount), Arrays.copyOf(runKeys, runCount));
+    }
+
+    //----------------------------------------------------------------------------------------------------------------//
+    // FILE
+    //----------------------------------------------------------------------------------------------------------------//
+    /**writes the recording to a file, see the format in {@link InputRecording}.
+     * @param path path of the file, overwritten if it exists
+     * @throws IOException if the file can't be written
+     */
+    public synchronized void save(Path path) throws IOException {
+        try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(path)))) {
+            out.writeInt(MAGIC);
+            out.writeByte(VERSION);
+            out.writeLong(seed);
+            out.writeBoolean(tutorial);
+            writeVarInt(out, runCount);
+            for (int i = 0; i < runCount; i++) {
+                writeVarInt(out, runTicks[i]);
+                writeVarInt(out, runKeys[i]);
+            }
+        }
+    }
+
+    /**reads a recording file.
+     * @param path path of the file
+     * @return the recording
+     * @throws IOException if the file can't be read or is not a recording
+     */
+    public static InputRecording load(Path path) throws IOException {
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(path)))) {
+            if (in.readInt() != MAGIC) {
+                throw new IOException("[InputRecording] not an input recording: " + path);
+            }
+            int version = in.readUnsignedByte();
+            if (version != VERSION) {
+                throw new IOException("[InputRecording] unsupported recording version " + version + ": " + path);
+            }
+            InputRecording recording = new InputRecording(in.readLong(), in.readBoolean());
+            int runs = readVarInt(in);
+            for (int i = 0; i < runs; i++) {
+                int ticks = readVarInt(in);
+                if (ticks <= 0) {
+                    throw new IOException("[InputRecording] run " + i + " must last at least one tick: " + path);
+                }
+                recording.addRun(ticks, readVarInt(in));
+            }
+            return recording;
+        }
+    }
+
+    /**writes an unsigned int in 1 to 5 bytes, 7 bits per byte, the highest bit set on every byte but the last.
+     * @param out where to write
+     * @param value value to write
+     * @throws IOException if it can't be written
+     */
+    private static void writeVarInt(DataOutputStream out, int value) throws IOException {
+        while ((value & ~0x7F) != 0) {
+            out.writeByte((value & 0x7F) | 0x80);
+            value >>>= 7;
+        }
+        out.writeByte(value);
+    }
+
+    /**reads an unsigned int written by {@link #writeVarInt(DataOutputStream, int)}.
+     * @param in where to read
+     * @return the value
+     * @throws IOException if it can't be read
+     */
+    private static int readVarInt(DataInputStream in) throws IOException {
+        int value = 0;
+        for (int shift = 0; shift < 35; shift += 7) {
+            int b = in.readUnsignedByte();
+            value |= (b & 0x7F) << shift;
+            if ((b & 0x80) == 0) {
+                return value;
+            }
+        }
+        throw new IOException("[InputRecording] malformed varint");
+    }
+}
@@ -0,0 +1,166 @@
+package controller;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * controller, scripted input source used instead of the keyboard by {@link main.HeadlessSimulation}.
+ * a script is a list of steps, each step holds a set of keys for a number of ticks. the script loops when it ends.
+ * script format, one step per line (empty lines and lines starting with '#' are ignored):
+ * <pre>
+ * [ticks] [key] [key] ...
+ * 90 right
+ * 20 right jump
+ * 60 interact
+ * 30
+ * </pre>
+ * a step without keys releases every key. see {@link #KEY_NAMES} for the available keys.
+ */
+public class InputScript {
+    /**
+     * key names accepted in a script. the key at index n is stored as the bit n of a step's key mask.
+     */
+    public static final String[] KEY_NAMES = {
+            "left", "right", "up", "down", "jump", "interact",
+            "menuup", "menudown", "enter",
+            "discard1", "discard2", "discard3", "discard4", "discard5"
+    };
+
+    /**
+     * key mask of each step, bit n set = {@link #KEY_NAMES}[n] pressed
+     */
+    private final int[] stepKeys;
+    /**
+     * tick (exclusive) at which each step ends, counting from the start of the script
+     */
+    private final long[] stepEnds;
+
+    /**creates a script from its steps.
+     * @param stepTicks number of ticks of each step
+     * @param stepKeys key mask of each step
+     */
+    public InputScript(int[] stepTicks, int[] stepKeys) {
+        if (stepTicks.length == 0 || stepTicks.length != stepKeys.length) {
+            throw new IllegalArgumentException("[InputScript] a script needs at least one step");
+        }
+        this.stepKeys = Arrays.copyOf(stepKeys, stepKeys.length);
+        this.stepEnds = new long[stepTicks.length];
+        long end = 0;
+        for (int i = 0; i < stepTicks.length; i++) {
+            if (stepTicks[i] <= 0) {
+                throw new IllegalArgumentException("[InputScript] step " + i + " must last at least one tick");
+            }
+            end += stepTicks[i];
+            stepEnds[i] = end;
+        }
+    }
+
+    /**parses a script, see the format in {@link InputScript}.
+     * @param lines lines of the script
+     * @return the script
+     * @throws IllegalArgumentException if a line is not valid
+     */
+    public static InputScript parse(List<String> lines) {
+        List<Integer> ticks = new ArrayList<>();
+        List<Integer> keys = new ArrayList<>();
+        for (String line : lines) {
+            line = line.trim();
+            if (line.isEmpty() || line.startsWith("#")) continue;
+
+            String[] parts = line.split("\\s+");
+            try {
+                ticks.add(Integer.parseInt(parts[0]));
+            }
+            catch (NumberFormatException e) {
+                throw new IllegalArgumentException("[InputScript] invalid tick count in line: " + line);
+            }
+            int mask = 0;
+            for (int i = 1; i < parts.length; i++) {
+                int key = Arrays.asList(KEY_NAMES).indexOf(parts[i]);
+                if (key < 0) {
+                    throw new IllegalArgumentException("[InputScript] unknown key '" + parts[i] + "' in line: " + line);
+                }
+                mask |= 1 << key;
+            }
+            keys.add(mask);
+        }
+        return new InputScript(ticks.stream().mapToInt(Integer::intValue).toArray(), keys.stream().mapToInt(Integer::intValue).toArray());
+    }
+
+    /**reads and parses a script file.
+     * @param path path of the script file
+     * @return the script
+     * @throws IOException if the file can't be read
+     */
+    public static InputScript load(Path path) throws IOException {
+        return parse(Files.readAllLines(path));
+    }
+
+    /**
+     * @return length of the script in ticks, before it loops
+     */
+    public long getLength() {
+        return stepEnds[stepEnds.length - 1];
+    }
+
+    /**sets the keys of the input handler to the keys held by the script at the provided tick.
+     * @param tick tick of the simulation, the script loops when it gets past {@link #getLength()}
+     * @param inputHandler input handler to update
+     */
+    public void apply(long tick, InputHandler inputHandler) {
+        long scriptTick = tick % getLength();
+        int step = Arrays.binarySearch(stepEnds, scriptTick + 1);
+        if (step < 0) {
+            step = -step - 1;       //first step that ends after the tick
+        }
+        applyKeys(stepKeys[step], inputHandler);
+    }
+
+    /**reads every key of the input handler into a key mask, the opposite of {@link #applyKeys(int, InputHandler)}.
+     * @param inputHandler input handler to read
+     * @return key mask, bit n set = {@link #KEY_NAMES}[n] pressed
+     */
+    public static int keysOf(InputHandler inputHandler) {
+        int keys = 0;
+        if (inputHandler.leftPressed) keys |= 1;
+        if (inputHandler.rightPressed) keys |= 1 << 1;
+        if (inputHandler.upPressed) keys |= 1 << 2;
+        if (inputHandler.downPressed) keys |= 1 << 3;
+        if (inputHandler.spacePressed) keys |= 1 << 4;
+        if (inputHandler.ePressed) keys |= 1 << 5;
+        if (inputHandler.upArrowPressed) keys |= 1 << 6;
+        if (inputHandler.downArrowPressed) keys |= 1 << 7;
+        if (inputHandler.enterPressed) keys |= 1 << 8;
+        if (inputHandler.onePressed) keys |= 1 << 9;
+        if (inputHandler.twoPressed) keys |= 1 << 10;
+        if (inputHandler.threePressed) keys |= 1 << 11;
+        if (inputHandler.fourPressed) keys |= 1 << 12;
+        if (inputHandler.fivePressed) keys |= 1 << 13;
+        return keys;
+    }
+
+    /**sets every key of the input handler from a key mask.
+     * @param keys key mask, bit n set = {@link #KEY_NAMES}[n] pressed
+     * @param inputHandler input handler to update
+     */
+    public static void applyKeys(int keys, InputHandler inputHandler) {
+        inputHandler.leftPressed = (keys & 1) != 0;
+        inputHandler.rightPressed = (keys & 1 << 1) != 0;
+        inputHandler.upPressed = (keys & 1 << 2) != 0;
+        inputHandler.downPressed = (keys & 1 << 3) != 0;
+        inputHandler.spacePressed = (keys & 1 << 4) != 0;
+        inputHandler.ePressed = (keys & 1 << 5) != 0;
+        inputHandler.upArrowPressed = (keys & 1 << 6) != 0;
+        inputHandler.downArrowPressed = (keys & 1 << 7) != 0;
+        inputHandler.enterPressed = (keys & 1 << 8) != 0;
+        inputHandler.onePressed = (keys & 1 << 9) != 0;
+        inputHandler.twoPressed = (keys & 1 << 10) != 0;
+        inputHandler.threePressed = (keys & 1 << 11) != 0;
+        inputHandler.fourPressed = (keys & 1 << 12) != 0;
+        inputHandler.fivePressed = (keys & 1 << 13) != 0;
+    }
+}
@@ -1,6 +1,8 @@
 package controller;
 
 import main.JImpossibleMissionKnockoff;
+import model.events.EventBus;
+import model.events.GameEvent;
 import view.AudioManager;
 import view.gamePanelViews.LeaderboardView;
 import view.gamePanelViews.TitleScreenView;
@@ -8,13 +10,16 @@ import view.gamePanelViews.TitleScreenView;
 import javax.swing.*;
 import java.awt.event.KeyEvent;
 import java.awt.event.KeyListener;
-import java.util.Observable;
 
 /**
  * controller of the {@link LeaderboardView} view and {@link model.Leaderboard} model.
  * just handles the key presses (enter key) when the user is in the leaderboard panel from the title screen.
  */
-public class LeaderboardViewController extends Observable implements KeyListener{
+public class LeaderboardViewController implements KeyListener {
+    /**
+     * event bus of the controller, notifies the {@link AudioManager} to play the menu sounds
+     */
+    private final EventBus eventBus = new EventBus();
 
     /**
      * reference to the {@link LeaderboardView} view
@@ -33,8 +38,6 @@ public class LeaderboardViewController extends Observable implements KeyListener
         this.window = window;
         this.leaderboardView = leaderboardView;
 
-
-        this.addObserver(AudioManager.getInstance());
     }
 
     @Override
@@ -53,9 +56,7 @@ public class LeaderboardViewController extends Observable implements KeyListener
         if (e.getKeyCode() == KeyEvent.VK_ENTER) {
             backToMainMenu();
 
-            setChanged();
-            notifyObservers("menu enter");
-            clearChanged();
+            eventBus.publish(GameEvent.MENU_ENTER);
 
         }
     }
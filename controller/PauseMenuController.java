@@ -1,6 +1,8 @@
 package controller;
 
 import main.JImpossibleMissionKnockoff;
+import model.events.EventBus;
+import model.events.GameEvent;
 import view.AudioManager;
 import view.gamePanelViews.GameView;
 import view.gamePanelViews.PauseMenuView;
@@ -9,12 +11,15 @@ import view.gamePanelViews.TitleScreenView;
 import javax.swing.*;
 import java.awt.event.KeyEvent;
 import java.awt.event.KeyListener;
-import java.util.Observable;
 
 /**
  * controller of the pause menu, helps to process the pause menu navigation and coordinates the {@link TitleScreenView} and {@link GameView}.
  */
-public class PauseMenuController extends Observable implements KeyListener{
+public class PauseMenuController implements KeyListener {
+    /**
+     * event bus of the controller, notifies the {@link AudioManager} to play the menu sounds
+     */
+    private final EventBus eventBus = new EventBus();
     /**
      * reference to the JFrame created during startup in {@link JImpossibleMissionKnockoff}
      */
@@ -44,8 +49,6 @@ public class PauseMenuController extends Observable implements KeyListener{
         this.pauseMenuView = pauseMenuView;
         this.gameView = gameView;
         this.gameController = gameController;
-
-        this.addObserver(AudioManager.getInstance());
     }
 
 
@@ -68,29 +71,21 @@ public class PauseMenuController extends Observable implements KeyListener{
     public void keyPressed(KeyEvent e) {
         switch(e.getKeyCode()){
             case KeyEvent.VK_UP:
-                pauseMenuView.selectPreviousOption();
-                pauseMenuView.repaint();
+                pauseMenuView.selectPreviousOption();     //repaints the options that changed
 
-                setChanged();
-                notifyObservers("menu up");
-                clearChanged();
+                eventBus.publish(GameEvent.MENU_UP);
 
                 break;
             case KeyEvent.VK_DOWN:
                 pauseMenuView.selectNextOption();
-                pauseMenuView.repaint();
 
-                setChanged();
-                notifyObservers("menu down");
-                clearChanged();
+                eventBus.publish(GameEvent.MENU_DOWN);
 
                 break;
             case KeyEvent.VK_ENTER:
                 handleEnterInput();
 
-                setChanged();
-                notifyObservers("menu enter");
-                clearChanged();
+                eventBus.publish(GameEvent.MENU_ENTER);
                 break;
         }
     }
@@ -117,6 +112,7 @@ public class PauseMenuController extends Observable implements KeyListener{
 
                 gameView.setFocusable(true);
                 gameView.requestFocusInWindow();
+                gameView.setActiveRendering(true);
 
                 gameController.togglePause();
                 break;
@@ -2,6 +2,8 @@ package controller;
 
 import main.JImpossibleMissionKnockoff;
 import model.ScreenSettings;
+import model.events.EventBus;
+import model.events.GameEvent;
 import view.AudioManager;
 import view.gamePanelViews.ResultScreenView;
 import view.gamePanelViews.TitleScreenView;
@@ -9,14 +11,17 @@ import view.gamePanelViews.TitleScreenView;
 import javax.swing.*;
 import java.awt.event.KeyEvent;
 import java.awt.event.KeyListener;
-import java.util.Observable;
 
 
 /**
  * controller of the result screen, handles enter key processing that allows the user to go back into the title screen.
  * {@link ResultScreenView}.
  */
-public class ResultScreenController extends Observable implements KeyListener{
+public class ResultScreenController implements KeyListener {
+    /**
+     * event bus of the controller, notifies the {@link AudioManager} to play the menu sounds
+     */
+    private final EventBus eventBus = new EventBus();
 
     /**
      * reference to the {@link ResultScreenView}
@@ -34,8 +39,6 @@ public class ResultScreenController extends Observable implements KeyListener{
     public ResultScreenController(ResultScreenView resultScreenView, JFrame window) {
         this.resultScreenView = resultScreenView;
         this.window = window;
-
-        this.addObserver(AudioManager.getInstance());
     }
 
     @Override
@@ -54,9 +57,7 @@ public class ResultScreenController extends Observable implements KeyListener{
         if (e.getKeyCode() == KeyEvent.VK_ENTER) {
             System.out.println("[ResultScreenController][keypressed()]  enter pressed  ");
 
-            setChanged();
-            notifyObservers("enter pressed");
-            clearChanged();
+            eventBus.publish(GameEvent.ENTER_PRESSED);
 
             goToMainMenu();
         }
@@ -3,9 +3,13 @@ package controller;
 import main.JImpossibleMissionKnockoff;
 import model.Leaderboard;
 import model.ScreenSettings;
+import model.SessionRandom;
 import model.entities.Player;
 import model.levels.LevelManager;
+import model.snapshot.RenderSnapshotBuffer;
 
+import model.events.EventBus;
+import model.events.GameEvent;
 import view.AudioManager;
 import view.gamePanelViews.*;
 
@@ -13,7 +17,6 @@ import javax.swing.*;
 import java.awt.event.KeyEvent;
 import java.awt.event.KeyListener;
 import java.util.HashSet;
-import java.util.Observable;
 import java.util.Set;
 
 /**
@@ -21,7 +24,11 @@ import java.util.Set;
  * handles the keyboard inputs of the user when he is in the title screen, and starts the game via {@link #startMainGame(boolean)}
  * if the user selects 'new game' or 'play tutorial'. the method handles the initialization of the models, views and controllers of the game.
  */
-public class TitleScreenController extends Observable implements KeyListener {
+public class TitleScreenController implements KeyListener {
+    /**
+     * event bus of the controller, notifies the {@link AudioManager} to play the menu sounds
+     */
+    private final EventBus eventBus = new EventBus();
 
     /**
      * reference to the JFrame created in the {@link JImpossibleMissionKnockoff}
@@ -51,9 +58,6 @@ public class TitleScreenController extends Observable implements KeyListener {
         this.window = window;
         this.titleScreenView = titleScreenView;
         this.pressedKeys = new HashSet<>();
-
-        AudioManager audioManager = AudioManager.getInstance(); //beautiful.
-        this.addObserver(audioManager);
     }
 
     @Override
@@ -73,30 +77,22 @@ public class TitleScreenController extends Observable implements KeyListener {
         if(pressedKeys.add(keyCode)){       //it returns true if a key is added to the set
             switch (keyCode) {
                 case KeyEvent.VK_UP:
-                    titleScreenView.selectPreviousOption();
-                    titleScreenView.repaint();
+                    titleScreenView.selectPreviousOption();   //repaints the options that changed
 
-                        setChanged();
-                        notifyObservers("menu up");
-                        clearChanged();
+                        eventBus.publish(GameEvent.MENU_UP);
 
 
                     break;
                 case KeyEvent.VK_DOWN:
                     titleScreenView.selectNextOption();
-                    titleScreenView.repaint();
 
-                    setChanged();
-                    notifyObservers("menu down");
-                    clearChanged();
+                    eventBus.publish(GameEvent.MENU_DOWN);
 
                     break;
                 case KeyEvent.VK_ENTER:
                     handleEnterInput();
 
-                    setChanged();
-                    notifyObservers("menu enter");
-                    clearChanged();
+                    eventBus.publish(GameEvent.MENU_ENTER);
 
                     break;
 
@@ -156,8 +152,12 @@ public class TitleScreenController extends Observable implements KeyListener {
         InputHandler inputHandler = new InputHandler();
 //        TileManager tileManager = new TileManager();
         Player player = new Player();
-        LevelManager levelManager = new LevelManager(player);
+        //seed of the loot of the session. set with -Dgame.seed=n, random otherwise.
+        SessionRandom sessionRandom = new SessionRandom(Long.getLong("game.seed", System.nanoTime()));
+        LevelManager levelManager = new LevelManager(player, sessionRandom);
         player.setLevelManager(levelManager);
+        //state of the models handed over from the game thread to the game view, see RenderSnapshotBuffer
+        RenderSnapshotBuffer snapshotBuffer = new RenderSnapshotBuffer(player, levelManager);
 
         //load game view components
         //result screen view
@@ -165,7 +165,7 @@ public class TitleScreenController extends Observable implements KeyListener {
         resultScreenView.setBounds(0, 0, window.getWidth(), window.getHeight());
         resultScreenView.setVisible(false);
         resultScreenView.addKeyListener(new ResultScreenController(resultScreenView, window));
-        GameView gameView = new GameView(player, levelManager, window);
+        GameView gameView = new GameView(player, levelManager, snapshotBuffer, window);
         gameView.setBounds(0,0 , window.getWidth(), window.getHeight());
         gameView.setResultScreenView(resultScreenView);
         PauseMenuView pauseMenuView = new PauseMenuView();
@@ -173,7 +173,7 @@ public class TitleScreenController extends Observable implements KeyListener {
         pauseMenuView.setVisible(false);
 
         //load game controller component
-        GameController gameController = new GameController(player, inputHandler, gameView, levelManager);
+        GameController gameController = new GameController(player, inputHandler, gameView, levelManager, snapshotBuffer);
 
         //setup layered pane
         JLayeredPane layeredPane = new JLayeredPane();
@@ -196,6 +196,7 @@ public class TitleScreenController extends Observable implements KeyListener {
         if(playTutorial) {
             levelManager.initializeTutorialLayout();
             gameView.requestFocusInWindow();
+            gameView.setActiveRendering(true);
         }
         else {
             levelManager.initializeWorldLayout();
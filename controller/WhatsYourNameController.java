@@ -1,20 +1,25 @@
 package controller;
 
+import model.events.EventBus;
+import model.events.GameEvent;
 import view.AudioManager;
 import view.gamePanelViews.GameView;
 import view.gamePanelViews.WhatsYourNameView;
 
 import java.awt.event.KeyEvent;
 import java.awt.event.KeyListener;
-import java.util.Observable;
 
 /**
  * controller of the {@link WhatsYourNameView} view.
  * when the user is in the what's your name? screen, it builds the {@link #currentName} with the keys that are being typed in.
  * when the user pressed the enter key, it will enter the submitted name for the {@link model.Leaderboard} model.
- * it is an observable, strictly because of the {@link AudioManager}.
+ * it has an event bus, strictly because of the {@link AudioManager}.
  */
-public class WhatsYourNameController extends Observable implements KeyListener {
+public class WhatsYourNameController implements KeyListener {
+    /**
+     * event bus of the controller, notifies the {@link AudioManager} to play the menu sounds
+     */
+    private final EventBus eventBus = new EventBus();
 
     /**
      * reference to the {@link WhatsYourNameView}
@@ -49,8 +54,6 @@ public class WhatsYourNameController extends Observable implements KeyListener {
     public WhatsYourNameController(WhatsYourNameView whatsYourNameView, GameView gameView) {
         this.whatsYourNameView = whatsYourNameView;
         this.gameView = gameView;
-
-        this.addObserver(AudioManager.getInstance());
     }
 
 
@@ -67,9 +70,7 @@ public class WhatsYourNameController extends Observable implements KeyListener {
                 currentName.append(c);
                 whatsYourNameView.updateNameDisplay(currentName.toString()); //update the view at each letter typed in
 
-                setChanged();
-                notifyObservers("key typed");
-                clearChanged();
+                eventBus.publish(GameEvent.KEY_TYPED);
 
             }
         }
@@ -90,19 +91,16 @@ public class WhatsYourNameController extends Observable implements KeyListener {
             this.submittedName = currentName.toString();
             whatsYourNameView.setVisible(false);
             gameView.requestFocusInWindow();
+            gameView.setActiveRendering(true);
 
-            setChanged();
-            notifyObservers("enter pressed");
-            clearChanged();
+            eventBus.publish(GameEvent.ENTER_PRESSED);
         }
 
         if (code == KeyEvent.VK_BACK_SPACE && !currentName.isEmpty()){
             currentName.deleteCharAt(currentName.length() - 1);
             whatsYourNameView.updateNameDisplay(currentName.toString());
 
-            setChanged();
-            notifyObservers("backspace pressed");
-            clearChanged();
+            eventBus.publish(GameEvent.BACKSPACE_PRESSED);
         }
 
     }
@@ -0,0 +1,117 @@
+package logging;
+
+/**
+ * leveled logger of the game. every message goes through an asynchronous {@link RingBufferAppender}: the calling
+ * thread only copies the message reference into a preallocated slot, and a background thread writes it to the console,
+ * so logging never blocks the game thread on console i/o.
+ * the level is set by launching the game with -Dgame.logLevel=level (default {@link Level#INFO}). messages below it are
+ * dropped with a single comparison. messages that are built by concatenation should be guarded, so that a disabled
+ * log site doesn't even build its string:
+ * <pre>
+ * if (Log.isDebugEnabled()) {
+ *     Log.debug("[ScoreTracker] red box opened: " + redBoxesOpened);
+ * }
+ * </pre>
+ */
+public class Log {
+    /**
+     * severity of a message, from the most verbose to the least verbose.
+     * off disables every message.
+     */
+    public enum Level {
+        TRACE, DEBUG, INFO, WARN, ERROR, OFF
+    }
+
+    /**
+     * lowest level that gets written, set with -Dgame.logLevel
+     */
+    private static final Level LEVEL = parseLevel(System.getProperty("game.logLevel", "INFO"));
+    /**
+     * ordinal of the {@link #LEVEL}, compared by every log site
+     */
+    private static final int LEVEL_ORDINAL = LEVEL.ordinal();
+    /**
+     * appender that writes the messages on its own thread
+     */
+    private static final RingBufferAppender APPENDER = new RingBufferAppender();
+
+    /**
+     * static only
+     */
+    private Log() {
+    }
+
+    /**
+     * @param level name of a level, case insensitive
+     * @return the level, or {@link Level#INFO} if the name is not a level
+     */
+    private static Level parseLevel(String level) {
+        try {
+            return Level.valueOf(level.trim().toUpperCase());
+        }
+        catch (IllegalArgumentException e) {
+            System.out.println("[Log] unknown log level " + level + ", using INFO");
+            return Level.INFO;
+        }
+    }
+
+    /**
+     * @param level a level
+     * @return true if the messages of the level get written
+     */
+    public static boolean isEnabled(Level level) {
+        return level.ordinal() >= LEVEL_ORDINAL;
+    }
+
+    /**
+     * @return true if the debug messages get written
+     */
+    public static boolean isDebugEnabled() {
+        return Level.DEBUG.ordinal() >= LEVEL_ORDINAL;
+    }
+
+    /**logs a message, if its level is enabled.
+     * @param level level of the message
+     * @param message the message
+     */
+    public static void log(Level level, String message) {
+        if (level.ordinal() >= LEVEL_ORDINAL && level != Level.OFF) {
+            APPENDER.append(level, message);
+        }
+    }
+
+    /**logs a very verbose message, like a value every frame.
+     * @param message the message
+     */
+    public static void trace(String message) {
+        log(Level.TRACE, message);
+    }
+
+    /**logs a debug message, like a state change during the game.
+     * @param message the message
+     */
+    public static void debug(String message) {
+        log(Level.DEBUG, message);
+    }
+
+    /**logs an informative message, like an asset being loaded.
+     * @param message the message
+     */
+    public static void info(String message) {
+        log(Level.INFO, message);
+    }
+
+    /**logs a warning, something went wrong but the game can go on.
+     * @param message the message
+     */
+    public static void warn(String message) {
+        log(Level.WARN, message);
+    }
+
+    /**logs an error.
+     * @param message the message
+     */
+    public static void error(String message) {
+        log(Level.ERROR, message);
+    }
+}
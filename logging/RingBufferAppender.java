@@ -0,0 +1,150 @@
+package logging;
+
+import java.io.PrintStream;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * asynchronous appender of the {@link Log}: a fixed size ring buffer of messages, filled by any number of threads and
+ * written to the console by a single daemon thread.
+ * appending never blocks and never allocates: a thread claims a slot with a compare and set on the write sequence,
+ * fills it and publishes it. if the writer falls behind and the buffer is full, the message is dropped and counted,
+ * and the number of dropped messages is written once the writer catches up.
+ * the messages still in the buffer are written when the game closes.
+ */
+class RingBufferAppender {
+    /**
+     * number of slots, a power of 2
+     */
+    private final int CAPACITY = 1024;
+    /**
+     * mask that turns a sequence into a slot index
+     */
+    private final int MASK = CAPACITY - 1;
+    /**
+     * how long the writer sleeps when the buffer is empty, in nanoseconds
+     */
+    private final long IDLE_PARK_NANOS = 1_000_000L;
+
+    /**
+     * level of the message in each slot
+     */
+    private final Log.Level[] levels = new Log.Level[CAPACITY];
+    /**
+     * message in each slot
+     */
+    private final String[] messages = new String[CAPACITY];
+    /**
+     * sequence + 1 of the message published in each slot: the writer reads a slot only once its message is published
+     */
+    private final AtomicLongArray published = new AtomicLongArray(CAPACITY);
+    /**
+     * sequence of the next slot to be claimed by a logging thread
+     */
+    private final AtomicLong writeSequence = new AtomicLong();
+    /**
+     * sequence of the next slot to be written by the writer thread
+     */
+    private volatile long readSequence = 0;
+    /**
+     * number of messages dropped because the buffer was full, since the last report
+     */
+    private final AtomicLong droppedMessages = new AtomicLong();
+    /**
+     * false once the game is closing, the writer then writes what's left and stops
+     */
+    private volatile boolean running = true;
+    /**
+     * thread that writes the messages to the console
+     */
+    private final Thread writer;
+
+    /**
+     * starts the writer thread, and registers the flush of the remaining messages when the game closes.
+     */
+    RingBufferAppender() {
+        writer = new Thread(this::writeLoop, "log-writer");
+        writer.setDaemon(true);     //never keeps the game open
+        writer.start();
+        Runtime.getRuntime().addShutdownHook(new Thread(this::close, "log-flush"));
+    }
+
+    /**adds a message to the buffer, or drops it if the buffer is full. safe to call from any thread.
+     * @param level level of the message
+     * @param message the message
+     */
+    void append(Log.Level level, String message) {
+        long sequence;
+        do {
+            sequence = writeSequence.get();
+            if (sequence - readSequence >= CAPACITY) {
+                droppedMessages.incrementAndGet();
+                return;
+            }
+        } while (!writeSequence.compareAndSet(sequence, sequence + 1));
+
+        int slot = (int) (sequence & MASK);
+        levels[slot] = level;
+        messages[slot] = message;
+        published.set(slot, sequence + 1);      //volatile write: the fields above are visible to the writer after this
+    }
+
+    /**
+     * loop of the writer thread: writes every published message in order, and sleeps a little when there are none.
+     */
+    private void writeLoop() {
+        while (running) {
+            if (!drain()) {
+                LockSupport.parkNanos(IDLE_PARK_NANOS);
+            }
+        }
+    }
+
+    /**writes the published messages, until the first slot that isn't published yet.
+     * @return true if at least a message was written
+     */
+    private boolean drain() {
+        boolean written = false;
+        long sequence = readSequence;
+        int slot = (int) (sequence & MASK);
+        while (published.get(slot) == sequence + 1) {
+            write(levels[slot], messages[slot]);
+            messages[slot] = null;      //don't keep the message alive
+            sequence++;
+            readSequence = sequence;    //frees the slot
+            slot = (int) (sequence & MASK);
+            written = true;
+        }
+
+        long dropped = droppedMessages.getAndSet(0);
+        if (dropped > 0) {
+            write(Log.Level.WARN, "[Log] " + dropped + " messages dropped, the log buffer was full");
+        }
+        return written;
+    }
+
+    /**writes a message to the console: errors and warnings to the error stream, everything else to the output stream.
+     * @param level level of the message
+     * @param message the message
+     */
+    private void write(Log.Level level, String message) {
+        PrintStream stream = level.ordinal() >= Log.Level.WARN.ordinal() ? System.err : System.out;
+        stream.println(message);
+    }
+
+    /**
+     * stops the writer thread and writes the messages still in the buffer. called when the game closes.
+     */
+    private void close() {
+        running = false;
+        try {
+            writer.join(1000);
+        }
+        catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        drain();
+        System.out.flush();
+    }
+}
@@ -0,0 +1,248 @@
+package main;
+
+import controller.GameSimulation;
+import controller.InputHandler;
+import controller.InputRecording;
+import controller.InputScript;
+import model.ScoreTracker;
+import model.SessionRandom;
+import model.entities.Player;
+import model.events.GameEvent;
+import model.events.GameEventListener;
+import model.levels.LevelManager;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.Arrays;
+
+/**
+ * headless entry point, runs game sessions without any window, audio or rendering, as fast as the cpu allows.
+ * each session creates a new {@link Player} and {@link LevelManager}, and steps them with {@link GameSimulation} using
+ * the keys of an {@link InputScript}, until the player extracts or the max number of ticks is reached.
+ * used for balancing and regression checks, e.g. on machines without a display:
+ * <pre>
+ * java main.HeadlessSimulation [--sessions n] [--ticks n] [--script file] [--tutorial] [--seed n] [--record file] [--replay file]
+ * </pre>
+ * --sessions: number of sessions to run (default {@link #DEFAULT_SESSIONS})
+ * --ticks: max ticks of a session (default {@link #DEFAULT_MAX_TICKS}, 5 minutes of game time)
+ * --script: input script file, see {@link InputScript} (default {@link #DEFAULT_SCRIPT})
+ * --tutorial: play the tutorial layout instead of the game world
+ * --seed: seed of the random generator of every session (default: a different random seed per session)
+ * --record: records the keys and the seed of the first session to a file, see {@link InputRecording}
+ * --replay: replays a recorded session (from the game with -Dgame.recordInput, or from --record): its keys, seed and
+ * layout, for as many ticks as it was recorded. every session of a replay ends in the same state.
+ */
+public class HeadlessSimulation {
+    /**
+     * default number of sessions
+     */
+    private static final int DEFAULT_SESSIONS = 100;
+    /**
+     * default max ticks of a session: 5 minutes at 60 ticks per second
+     */
+    private static final long DEFAULT_MAX_TICKS = 60L * 60 * 5;
+    /**
+     * input script used when no script file is provided: walks from the surface down the elevator shafts to the
+     * second underground floor, searches the paper box next to the ladder of the room on the left, then falls into its
+     * spikes. so every session opens at least one object and dies at least once, and the summary covers the search
+     * and death paths too, not only the movement.
+     */
+    private static final String[] DEFAULT_SCRIPT = {
+            "# ticks keys",
+            "# surface: walk right and jump the steps up to the top of the first elevator shaft",
+            "300 right",
+            "20 right jump",
+            "20 right",
+            "22 right jump",
+            "40",
+            "# climb down the shafts to the second underground floor",
+            "6 right",
+            "140 down",
+            "8 right",
+            "60 down",
+            "8 left",
+            "120 down",
+            "# jump the gap of the corridor and walk left to the ladder of the next room",
+            "12 left",
+            "20 left jump",
+            "137 left",
+            "# climb down, search the paper box, then drop into the spikes on the left",
+            "80 down",
+            "20 right",
+            "120 interact",
+            "60 left",
+            "60"
+    };
+
+    /**
+     * result of a single session. it's also a listener of the player events, to count the deaths.
+     */
+    private static class SessionResult implements GameEventListener {
+        /**
+         * ticks simulated
+         */
+        private long ticks;
+        /**
+         * true if the player extracted
+         */
+        private boolean extracted;
+        /**
+         * times the player died
+         */
+        private int deaths;
+        /**
+         * interactable objects opened
+         */
+        private int objectsOpened;
+        /**
+         * total points at the end of the session
+         */
+        private int points;
+        /**
+         * position of the player at the end of the session
+         */
+        private int finalX, finalY;
+
+        /**counts the player deaths.
+         * @param event {@link GameEvent#PLAYER_DIED}
+         */
+        @Override
+        public void onEvent(GameEvent event) {
+            deaths++;
+        }
+    }
+
+    /**runs the sessions and prints a summary.
+     * @param args see {@link HeadlessSimulation}
+     * @throws IOException if the script file can't be read
+     */
+    public static void main(String[] args) throws IOException {
+        System.setProperty("java.awt.headless", "true");
+
+        int sessions = DEFAULT_SESSIONS;
+        long maxTicks = DEFAULT_MAX_TICKS;
+        InputScript script = InputScript.parse(Arrays.asList(DEFAULT_SCRIPT));
+        boolean tutorial = false;
+        Long seed = null;
+        Path recordPath = null;
+        InputRecording replay = null;
+        for (int i = 0; i < args.length; i++) {
+            switch (args[i]) {
+                case "--sessions":
+                    sessions = Integer.parseInt(args[++i]);
+                    break;
+                case "--ticks":
+                    maxTicks = Long.parseLong(args[++i]);
+                    break;
+                case "--script":
+                    script = InputScript.load(Path.of(args[++i]));
+                    break;
+                case "--tutorial":
+                    tutorial = true;
+                    break;
+                case "--seed":
+                    seed = Long.parseLong(args[++i]);
+                    break;
+                case "--record":
+                    recordPath = Path.of(args[++i]);
+                    break;
+                case "--replay":
+                    replay = InputRecording.load(Path.of(args[++i]));
+                    break;
+                default:
+                    throw new IllegalArgumentException("[HeadlessSimulation] unknown argument: " + args[i]);
+            }
+        }
+
+        if (replay != null) {   //the recording decides the keys, seed, layout and length of the sessions
+            script = replay.toScript();
+            seed = replay.getSeed();
+            tutorial = replay.isTutorial();
+            maxTicks = replay.getLength();
+        }
+
+        long totalTicks = 0;
+        int extractions = 0;
+        int deaths = 0;
+        long objectsOpened = 0;
+        long points = 0;
+        long startTime = System.nanoTime();
+        for (int session = 0; session < sessions; session++) {
+            long sessionSeed = seed != null ? seed : System.nanoTime();
+            InputRecording recording = session == 0 && recordPath != null ? new InputRecording(sessionSeed, tutorial) : null;
+            SessionResult result = runSession(script, maxTicks, tutorial, sessionSeed, recording);
+            if (recording != null) {
+                recording.save(recordPath);
+                System.out.println("[HeadlessSimulation] recorded " + recording.getLength() + " ticks to " + recordPath);
+            }
+            if (replay != null && session == 0) {
+                System.out.println("[HeadlessSimulation] replay ended at tick " + result.ticks + ", player at " + result.finalX + "," + result.finalY
+                        + ", points: " + result.points + ", extracted: " + result.extracted);
+            }
+            totalTicks += result.ticks;
+            extractions += result.extracted ? 1 : 0;
+            deaths += result.deaths;
+            objectsOpened += result.objectsOpened;
+            points += result.points;
+        }
+        double elapsedSeconds = (System.nanoTime() - startTime) / 1e9;
+
+        System.out.println("[HeadlessSimulation] sessions: " + sessions + ", ticks: " + totalTicks + ", time: " + String.format("%.2f", elapsedSeconds) + "s");
+        System.out.println("[HeadlessSimulation] " + String.format("%.0f", totalTicks / elapsedSeconds) + " ticks/s, "
+                + String.format("%.0f", sessions / elapsedSeconds * 60) + " sessions/min");
+        System.out.println("[HeadlessSimulation] extractions: " + extractions + ", deaths: " + deaths
+                + ", avg objects opened: " + String.format("%.2f", (double) objectsOpened / sessions)
+                + ", avg points: " + String.format("%.1f", (double) points / sessions));
+        if (objectsOpened == 0) {       //the script never reached an object: the search path wasn't exercised at all
+            System.out.println("[HeadlessSimulation] warning: no object was opened in any session, check the script");
+        }
+        if (deaths == 0) {
+            System.out.println("[HeadlessSimulation] warning: the player never died in any session, check the script");
+        }
+    }
+
+    /**runs a single session.
+     * @param script input script
+     * @param maxTicks max number of ticks
+     * @param tutorial true to play the tutorial layout
+     * @param seed seed of the random generator of the session
+     * @param recording where to record the keys of every tick, null to not record them
+     * @return the result of the session
+     */
+    private static SessionResult runSession(InputScript script, long maxTicks, boolean tutorial, long seed, InputRecording recording) {
+        SessionResult result = new SessionResult();
+
+        //same setup as TitleScreenController.startMainGame(), without the views
+        Player player = new Player();
+        LevelManager levelManager = new LevelManager(player, new SessionRandom(seed));
+        player.setLevelManager(levelManager);
+        player.getEventBus().addListener(result, GameEvent.PLAYER_DIED);
+        if (tutorial) {
+            levelManager.initializeTutorialLayout();
+        }
+        else {
+            levelManager.initializeWorldLayout();
+        }
+        levelManager.loadCurrentRoom();
+
+        GameSimulation simulation = new GameSimulation(player, levelManager);
+        InputHandler inputHandler = new InputHandler();
+        while (simulation.getTickCount() < maxTicks && !player.getIsExtracted()) {
+            script.apply(simulation.getTickCount(), inputHandler);
+            if (recording != null) {
+                recording.record(InputScript.keysOf(inputHandler));
+            }
+            simulation.tick(inputHandler);
+        }
+
+        ScoreTracker scoreTracker = player.getScoreTracker();
+        result.ticks = simulation.getTickCount();
+        result.extracted = player.getIsExtracted();
+        result.objectsOpened = scoreTracker.getPaperBoxesOpened() + scoreTracker.getRedBoxesOpened()
+                + scoreTracker.getMetalLockersOpened() + scoreTracker.getWoodLockersOpened();
+        result.points = scoreTracker.getTotalPoints(scoreTracker.getCardValues(player));
+        result.finalX = player.getX();
+        result.finalY = player.getY();
+        return result;
+    }
+}
@@ -1,6 +1,7 @@
 package main;
 
 import controller.TitleScreenController;
+import view.AssetLoader;
 import view.AudioManager;
 import view.gamePanelViews.TitleScreenView;
 
@@ -17,12 +18,16 @@ public class JImpossibleMissionKnockoff {
     /** game entry point.
      * it creates the JFrame, sets the title of the window, initiates the {@link TitleScreenView} and connects the {@link TitleScreenController}
      * to handle user navigation.
-     * it initiates/loads all the game audio via {@link AudioManager}.
+     * it starts loading all the game assets in the background via {@link AssetLoader} (fonts, tiles, sprites and the
+     * {@link AudioManager} sounds), so the title screen shows up while they load.
      *
      * @param args
      */
     public static void main(String[] args) {
         System.setProperty("sun.java2d.opengl", "true");        //helps with the fps, enables (me on macbook) to have swing have the game run at 60+ fps instead of 30
+        //start loading the assets in parallel, before creating the window
+        AssetLoader.getInstance();
+
         //main window
         JFrame window = new JFrame();
         window.setDefaultCloseOperation(JFrame.EXIT_ON_CLOSE);
@@ -40,9 +45,6 @@ public class JImpossibleMissionKnockoff {
         titleScreenView.addKeyListener(titleScreenController);
         titleScreenView.setFocusable(true);
         titleScreenView.requestFocus();
-
-        //load audio files on startup
-        AudioManager audioManager = AudioManager.getInstance();
     }
 
 }
@@ -0,0 +1,228 @@
+package model;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * model, final score of a session, computed once by {@link ScoreTracker#finalizeScore(model.entities.Player)} when the
+ * player extracts. it is immutable, so the {@link view.gamePanelViews.ResultScreenView} can read it from the EDT on
+ * every repaint without computing anything again.
+ */
+public final class ExtractionResult {
+    /**
+     * name submitted by the player, null if the tutorial was played
+     */
+    private final String name;
+
+    /**
+     * number of {@link model.interactableObjects.PaperBox} opened
+     */
+    private final int paperBoxesOpened;
+    /**
+     * number of {@link model.interactableObjects.RedBox} opened
+     */
+    private final int redBoxesOpened;
+    /**
+     * number of {@link model.interactableObjects.MetalLocker} opened
+     */
+    private final int metalLockersOpened;
+    /**
+     * number of {@link model.interactableObjects.WoodLocker} opened
+     */
+    private final int woodLockersOpened;
+
+    /**
+     * points of the paper boxes opened
+     */
+    private final int paperBoxPoints;
+    /**
+     * points of the red boxes opened
+     */
+    private final int redBoxPoints;
+    /**
+     * points of the metal lockers opened
+     */
+    private final int metalLockerPoints;
+    /**
+     * points of the wood lockers opened
+     */
+    private final int woodLockerPoints;
+
+    /**
+     * values of the poker cards in the inventory, sorted
+     */
+    private final List<Integer> cardValues;
+    /**
+     * points of the poker cards
+     */
+    private final int pokerCardPoints;
+    /**
+     * points of the objects + points of the poker cards
+     */
+    private final int totalPoints;
+
+    /**
+     * multipliers of the poker cards
+     */
+    private final boolean straight, allFaceCards, fourOfAKind, threeOfAKind, twoPair;
+    /**
+     * total points with the multipliers
+     */
+    private final int grandTotalPoints;
+
+    /**computes the result from the score tracker of the player.
+     * @param scoreTracker score tracker of the player
+     * @param cardValues values of the poker cards in the inventory of the player
+     * @param name name submitted by the player, null if the tutorial was played
+     */
+    ExtractionResult(ScoreTracker scoreTracker, List<Integer> cardValues, String name) {
+        this.name = name;
+
+        this.paperBoxesOpened = scoreTracker.getPaperBoxesOpened();
+        this.redBoxesOpened = scoreTracker.getRedBoxesOpened();
+        this.metalLockersOpened = scoreTracker.getMetalLockersOpened();
+        this.woodLockersOpened = scoreTracker.getWoodLockersOpened();
+
+        this.paperBoxPoints = scoreTracker.getPaperBoxTotalPoints();
+        this.redBoxPoints = scoreTracker.getRedBoxesTotalPoints();
+        this.metalLockerPoints = scoreTracker.getMetalLockersTotalPoints();
+        this.woodLockerPoints = scoreTracker.getWoodLockersTotalPoints();
+
+        List<Integer> values = new ArrayList<>(cardValues);     //the checks sort the list, keep the caller's one untouched
+        this.pokerCardPoints = scoreTracker.getPokerCardsTotalPoints(values);
+        this.totalPoints = scoreTracker.getTotalPoints(values);
+        this.straight = scoreTracker.checkIsStraight(values);
+        this.allFaceCards = scoreTracker.checkIsAllFaceCards(values);
+        this.fourOfAKind = scoreTracker.checkIsFourOfAKind(values);
+        this.threeOfAKind = scoreTracker.checkIsThreeOfAKind(values);
+        this.twoPair = scoreTracker.checkIsTwopair(values);
+        this.grandTotalPoints = scoreTracker.getGrandTotalPoints(values);
+        this.cardValues = List.copyOf(values);
+    }
+
+    /**
+     * @return name submitted by the player, null if the tutorial was played
+     */
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * @return number of {@link model.interactableObjects.PaperBox} opened
+     */
+    public int getPaperBoxesOpened() {
+        return paperBoxesOpened;
+    }
+
+    /**
+     * @return number of {@link model.interactableObjects.RedBox} opened
+     */
+    public int getRedBoxesOpened() {
+        return redBoxesOpened;
+    }
+
+    /**
+     * @return number of {@link model.interactableObjects.MetalLocker} opened
+     */
+    public int getMetalLockersOpened() {
+        return metalLockersOpened;
+    }
+
+    /**
+     * @return number of {@link model.interactableObjects.WoodLocker} opened
+     */
+    public int getWoodLockersOpened() {
+        return woodLockersOpened;
+    }
+
+    /**
+     * @return points of the paper boxes opened
+     */
+    public int getPaperBoxPoints() {
+        return paperBoxPoints;
+    }
+
+    /**
+     * @return points of the red boxes opened
+     */
+    public int getRedBoxPoints() {
+        return redBoxPoints;
+    }
+
+    /**
+     * @return points of the metal lockers opened
+     */
+    public int getMetalLockerPoints() {
+        return metalLockerPoints;
+    }
+
+    /**
+     * @return points of the wood lockers opened
+     */
+    public int getWoodLockerPoints() {
+        return woodLockerPoints;
+    }
+
+    /**
+     * @return values of the poker cards in the inventory, sorted. the list can't be modified.
+     */
+    public List<Integer> getCardValues() {
+        return cardValues;
+    }
+
+    /**
+     * @return points of the poker cards
+     */
+    public int getPokerCardPoints() {
+        return pokerCardPoints;
+    }
+
+    /**
+     * @return points of the objects + points of the poker cards
+     */
+    public int getTotalPoints() {
+        return totalPoints;
+    }
+
+    /**
+     * @return true if the poker cards are a straight
+     */
+    public boolean isStraight() {
+        return straight;
+    }
+
+    /**
+     * @return true if the poker cards are all face cards
+     */
+    public boolean isAllFaceCards() {
+        return allFaceCards;
+    }
+
+    /**
+     * @return true if the poker cards have a four of a kind
+     */
+    public boolean isFourOfAKind() {
+        return fourOfAKind;
+    }
+
+    /**
+     * @return true if the poker cards have a three of a kind
+     */
+    public boolean isThreeOfAKind() {
+        return threeOfAKind;
+    }
+
+    /**
+     * @return true if the poker cards have two pairs
+     */
+    public boolean isTwoPair() {
+        return twoPair;
+    }
+
+    /**
+     * @return total points with the multipliers
+     */
+    public int getGrandTotalPoints() {
+        return grandTotalPoints;
+    }
+}
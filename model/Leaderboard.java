@@ -1,8 +1,15 @@
 package model;
 
 import java.io.*;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicReference;
 
 /**model,
  *  represents the 'leaderboard' object. it contains an inner class, a {@code LeaderboardEntry} class.
@@ -12,6 +19,8 @@ import java.util.List;
  * the leaderboard loads the leaderboard.txt file, converts them into a List<LeaderBoardEntry> of size 10 {@link #leaderboardEntries} .
  * each leaderboard entry has a name, and a score.
  * it the saves the players score (if high enough) when the player extracts.
+ * the .txt file is written behind, by a background thread: adding a score only updates the list in memory, so the
+ * game thread and the EDT never wait for the disk. a shutdown hook writes the last scores if the game closes first.
  */
 public class Leaderboard {
 
@@ -62,6 +71,30 @@ public class Leaderboard {
      * name of the leaderboard .txt file used to store the leaderboard scores
      */
     private final String LEADERBOARD_FILENAME = "leaderboard.txt";
+    /**
+     * name of the file the leaderboard is written to first, then moved over the {@link #LEADERBOARD_FILENAME} in one
+     * step, so the .txt file is never left half written
+     */
+    private final String TEMP_FILENAME = LEADERBOARD_FILENAME + ".tmp";
+    /**
+     * lines of the leaderboard waiting to be written to the .txt file, null if there is nothing to write.
+     * if more scores get added before the writer runs, only the latest lines are written.
+     */
+    private final AtomicReference<List<String>> pendingSave = new AtomicReference<>();
+    /**
+     * lock of the .txt file, held while taking the {@link #pendingSave} lines and writing them, so the writer and the
+     * shutdown hook never write it at the same time, and the hook waits for a write in progress before the game
+     * closes. separate from the leaderboard lock, so adding a score never waits for the disk.
+     */
+    private final Object fileLock = new Object();
+    /**
+     * background thread that writes the leaderboard .txt file, it is a daemon thread so it never keeps the game open
+     */
+    private static final ExecutorService WRITER = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "leaderboard-writer");
+        thread.setDaemon(true);
+        return thread;
+    });
 
 
     /**
@@ -71,6 +104,7 @@ public class Leaderboard {
     private Leaderboard() {
         this.leaderboardEntries = new ArrayList<>(10);
         loadLeaderBoard();      //load the leaderboard .txt file contents
+        Runtime.getRuntime().addShutdownHook(new Thread(this::writePendingSave, "leaderboard-flush"));
     }
 
     /**
@@ -102,30 +136,72 @@ public class Leaderboard {
     /**
      * adds the player score into {@link #leaderboardEntries} ONLY if it is higher than the last one.
      * sorts right after in descending order.
-     * calls {@link #saveLeaderboard()} to save it into the leaderboard.txt file.
+     * calls {@link #scheduleSave()} to save it into the leaderboard.txt file in the background.
      * @param name name of the player
      * @param score total pts of the player
      */
-    public void addScore(String name, int score){
+    public synchronized void addScore(String name, int score){
         //only add the score if it is higher than the last one
         if (score > leaderboardEntries.getLast().score) {
             leaderboardEntries.set(leaderboardEntries.size() - 1, new LeaderboardEntry(name, score)); //replace the lowest score
             leaderboardEntries.sort((aGuy, bGuy) -> Integer.compare(bGuy.score, aGuy.score));  //sort in reverse order (descending)
 
-            saveLeaderboard();
+            scheduleSave();
         }
     }
 
     /**
-     * saves the player score into the leaderboard .txt file
+     * takes a copy of the current entries and hands it to the {@link #WRITER} thread.
      * it is called automatically when a score gets added via {@link #addScore(String name, int score)}
      */
-    private void saveLeaderboard() {    //saves all the leaderboard scores
-        try(PrintWriter printWriter = new PrintWriter(new FileWriter(LEADERBOARD_FILENAME))){
-            for (LeaderboardEntry entry : leaderboardEntries) {
-                printWriter.println(entry);       //overwrites the leaderboard .txt file with the current ones
+    private void scheduleSave() {
+        List<String> lines = new ArrayList<>(leaderboardEntries.size());
+        for (LeaderboardEntry entry : leaderboardEntries) {
+            lines.add(entry.toString());
+        }
+        if (pendingSave.getAndSet(lines) == null) {     //if a save is already waiting, it will write these lines instead
+            WRITER.execute(this::writePendingSave);
+        }
+    }
+
+    /**
+     * writes the lines waiting in {@link #pendingSave}, if any. runs on the {@link #WRITER} thread, and on the
+     * shutdown hook: the lines are taken under the {@link #fileLock}, so if the writer already took them the hook
+     * blocks until they are on disk, instead of finding nothing to write and letting the game close mid write.
+     */
+    private void writePendingSave() {
+        synchronized (fileLock) {
+            List<String> lines = pendingSave.getAndSet(null);
+            if (lines != null) {
+                saveLeaderboard(lines);
+            }
+        }
+    }
+
+    /**
+     * saves the player scores into the leaderboard .txt file: writes them to the {@link #TEMP_FILENAME}, then moves
+     * it over the .txt file, so a crash leaves either the old leaderboard or the new one, never a truncated one.
+     * must be called holding the {@link #fileLock}.
+     * @param lines one line per leaderboard entry
+     */
+    private void saveLeaderboard(List<String> lines) {    //saves all the leaderboard scores
+        Path tempFile = Path.of(TEMP_FILENAME);
+        try {
+            try (PrintWriter printWriter = new PrintWriter(new FileWriter(tempFile.toFile()))) {
+                for (String line : lines) {
+                    printWriter.println(line);
+                }
+                if (printWriter.checkError()) {
+                    throw new IOException("couldn't write " + tempFile);
+                }
+            }
+            try {
+                Files.move(tempFile, Path.of(LEADERBOARD_FILENAME), StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            }
+            catch (AtomicMoveNotSupportedException e) {     //some file systems can't, replacing is still better than truncating
+                Files.move(tempFile, Path.of(LEADERBOARD_FILENAME), StandardCopyOption.REPLACE_EXISTING);
             }
-            System.out.println("[Leaderboard][saveLeaderboard()] Saved leaderboard entry" + leaderboardEntries);
+            System.out.println("[Leaderboard][saveLeaderboard()] Saved leaderboard entry" + lines);
         }
         catch (IOException e){
             e.printStackTrace();
@@ -134,16 +210,16 @@ public class Leaderboard {
 
 
     /**
-     * @return returns {@link #leaderboardEntries} list
+     * @return returns a copy of the {@link #leaderboardEntries} list
      */
-    public List<LeaderboardEntry> getLeaderboardEntries() {
-        return leaderboardEntries;
+    public synchronized List<LeaderboardEntry> getLeaderboardEntries() {
+        return new ArrayList<>(leaderboardEntries);
     }
 
     /**
      * @return returns a list the player names
      */
-    public List<String> getLeaderbordEntryNames() {
+    public synchronized List<String> getLeaderbordEntryNames() {
         List<String> names = new ArrayList<>();
         for (LeaderboardEntry entry : leaderboardEntries) {
             names.add(entry.name);
@@ -154,7 +230,7 @@ public class Leaderboard {
     /**
      * @return returns a list of the leaderboard scores
      */
-    public List<Integer> getLeaderbordEntryScores() {
+    public synchronized List<Integer> getLeaderbordEntryScores() {
         List<Integer> scores = new ArrayList<>();
         for (LeaderboardEntry entry : leaderboardEntries) {
             scores.add(entry.score);
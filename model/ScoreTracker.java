@@ -1,7 +1,10 @@
 package model;
 
 import controller.WhatsYourNameController;
+import logging.Log;
 import model.entities.Player;
+import model.events.GameEvent;
+import model.events.GameEventListener;
 import model.inventoryrelated.Inventory;
 import model.inventoryrelated.Item;
 import model.inventoryrelated.PokerCard;
@@ -9,11 +12,11 @@ import model.inventoryrelated.PokerCard;
 import java.util.*;
 
 /**
- * 'observer' of the '{@link Player} model, tracks the number of {@link model.interactableObjects.InteractableObject} opened, provides card sequence checkers and has various
+ * listener of the {@link Player} model events, tracks the number of {@link model.interactableObjects.InteractableObject} opened, provides card sequence checkers and has various
  * computing utility methods to get the total points.
  * used in {@link view.gamePanelViews.ResultScreenView}, so that the view layer doesn't have to compute stuff.
  */
-public class ScoreTracker implements Observer {
+public class ScoreTracker implements GameEventListener {
 
 
     /**
@@ -39,38 +42,46 @@ public class ScoreTracker implements Observer {
      * reference to the one and only {@link Leaderboard} instance
      */
     private Leaderboard leaderBoard = Leaderboard.getInstance();
+    /**
+     * final score of the session, null until the player extracts, see {@link #finalizeScore(Player)}
+     */
+    private volatile ExtractionResult result;
 
     /**
-     * the ScoreTracker tracks the player's (observable) total interactable object searches through the observer pattern
-     * whener the interactable object gets opened, fires an event to notify this object
+     * the ScoreTracker tracks the player's total interactable object searches through the player's event bus.
+     * whenever the interactable object gets opened, the player publishes an event to notify this object
      *
-     * @param o   the observable object, in this case it is {@link Player}
-     * @param arg an argument passed to the {@code notifyObservers}
-     *            method, in this case the arguments are strings given by the interactable objects
+     * @param event the opened event published by the {@link Player}
      */
     @Override
-    public void update(Observable o, Object arg) {
-        if( o instanceof Player) {
-            if (arg.equals("paper box opened")) {
+    public void onEvent(GameEvent event) {
+        switch (event) {
+            case PAPER_BOX_OPENED:
                 this.paperBoxesOpened++;
                 getObjectPoints();
 //                System.out.println("[ScoreTracker] paper box opened: " + paperBoxesOpened);
-            }
-            else if (arg.equals("red box opened")) {
+                break;
+            case RED_BOX_OPENED:
                 this.redBoxesOpened++;
                 getObjectPoints();
-                System.out.println("[ScoreTracker] red box opened: " + redBoxesOpened);
-            }
-            else if (arg.equals("metal locker opened")) {
+                if (Log.isDebugEnabled()) {
+                    Log.debug("[ScoreTracker] red box opened: " + redBoxesOpened);
+                }
+                break;
+            case METAL_LOCKER_OPENED:
                 this.metalLockersOpened++;
                 getObjectPoints();
-                System.out.println("[ScoreTracker] metal locker opened: " + metalLockersOpened);
-            }
-            else if ( arg.equals("wood locker opened")) {
+                if (Log.isDebugEnabled()) {
+                    Log.debug("[ScoreTracker] metal locker opened: " + metalLockersOpened);
+                }
+                break;
+            case WOOD_LOCKER_OPENED:
                 this.woodLockersOpened++;
                 getObjectPoints();
-                System.out.println("[ScoreTracker] wood lockers opened: " + woodLockersOpened);
-            }
+                if (Log.isDebugEnabled()) {
+                    Log.debug("[ScoreTracker] wood lockers opened: " + woodLockersOpened);
+                }
+                break;
         }
     }
 
@@ -283,8 +294,7 @@ public class ScoreTracker implements Observer {
 
 
     /**
-     * computes the grand total points, and adds them to the {@link Leaderboard} .txt file.
-     * the name is fetched from {@link WhatsYourNameController} class.
+     * computes the grand total points.
      * @param pokerCardValues list of card values
      * @return grand total points: the total points of the player and multiplies them if they are {@link #checkIsStraight(List)}, {@link #checkIsAllFaceCards(List)},
      * {@link #checkIsFourOfAKind(List)}, {@link #checkIsThreeOfAKind(List), {@link #checkIsTwopair(List)}
@@ -309,15 +319,35 @@ public class ScoreTracker implements Observer {
         if(checkIsTwopair(pokerCardValues)) {
             total *= 2;
         }
+        return total;
+    }
 
-
-        String name = WhatsYourNameController.getSubmittedName();
-        //after calculating the gran total points, add the points to the leaderboard.
-        if (name != null) {     // dont add to leaderboard if the tutorial was played.
-            leaderBoard.addScore(name, total);        //foken beautiful, it only gets added once, thought it would add multiple times
+    /**
+     * computes the final score of the session once, when the player extracts, and submits it to the {@link Leaderboard},
+     * which writes it to the .txt file in the background. the name is fetched from {@link WhatsYourNameController} class.
+     * the next calls return the same result, without computing or submitting it again.
+     * @param player the player that extracted
+     * @return the final score of the session
+     */
+    public synchronized ExtractionResult finalizeScore(Player player) {
+        if (result == null) {
+            String name = WhatsYourNameController.getSubmittedName();
+            result = new ExtractionResult(this, getCardValues(player), name);
+            if (name != null) {     // dont add to leaderboard if the tutorial was played.
+                leaderBoard.addScore(name, result.getGrandTotalPoints());
+            }
+            if (Log.isDebugEnabled()) {
+                Log.debug("[ScoreTracker][finalizeScore] final score:  " + name + " " + result.getGrandTotalPoints());
+            }
         }
-        System.out.println("[ScoreTracker][getGrandTotalPoints] added points to leaderboard:  " + name + " " + total );
-        return total;
+        return result;
+    }
+
+    /**
+     * @return final score of the session, null if the player hasn't extracted yet
+     */
+    public ExtractionResult getResult() {
+        return result;
     }
 
 
@@ -0,0 +1,60 @@
+package model;
+
+import java.util.SplittableRandom;
+
+/**
+ * model, random source of a game session. it holds the seed of the session, and hands out an independent
+ * {@link SplittableRandom} stream to every room (see {@link #forRoom(int, int)}), which is used for its loot.
+ * the stream of a room only depends on the seed and on the position of the room in the world layout, not on the order
+ * the rooms are visited in, so the same seed always gives the same drops in the same room.
+ * every stream is used by a single thread (the game thread, or the thread of a headless simulation), so parallel
+ * simulations never share a generator like they did with Math.random().
+ */
+public class SessionRandom {
+    /**
+     * seed of the session
+     */
+    private final long seed;
+
+    /**
+     * @param seed seed of the session, e.g. from -Dgame.seed or an {@link controller.InputRecording}
+     */
+    public SessionRandom(long seed) {
+        this.seed = seed;
+    }
+
+    /**
+     * @return seed of the session
+     */
+    public long getSeed() {
+        return seed;
+    }
+
+    /**creates the random stream of a room.
+     * @param row row of the room in the world layout
+     * @param col column of the room in the world layout
+     * @return a new generator, independent from the ones of the other rooms
+     */
+    public SplittableRandom forRoom(int row, int col) {
+        return forStream(((long) row << 32) | (col & 0xFFFFFFFFL));
+    }
+
+    /**creates a random stream for any part of the session, identified by a number.
+     * @param streamId id of the stream, the same id always gives the same stream for the same seed
+     * @return a new generator
+     */
+    public SplittableRandom forStream(long streamId) {
+        //hash the id with the seed, so that close ids (neighbour rooms) give unrelated streams
+        return new SplittableRandom(mix64(seed ^ mix64(streamId + 0x9E3779B97F4A7C15L)));
+    }
+
+    /**
+     * @param z value to hash
+     * @return the value hashed with the 64 bit finaliser of murmurhash3 (variant 13 by david stafford)
+     */
+    private static long mix64(long z) {
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return z ^ (z >>> 31);
+    }
+}
@@ -1,8 +1,9 @@
 package model.entities;
 
+import logging.Log;
 import model.ScreenSettings;
+import model.events.GameEvent;
 import model.levels.LevelManager;
-import view.AudioManager;
 
 import java.awt.*;
 
@@ -103,7 +104,7 @@ public class Dog extends Entity {
     //required for sound
     /**
      * flag that indicates if the dog was moving or not.
-     * this was needed because otherwise multiple notifications were being sent to the {@link AudioManager}.
+     * this was needed because otherwise multiple notifications were being sent to the {@link view.AudioManager}.
      */
     private boolean wasMoving = false;
     /**
@@ -118,8 +119,8 @@ public class Dog extends Entity {
 
     /**default constructor of {@link Entity}.
      * the dog's starting position and sizes are defined here.
-     * note that the dog is an observable (got it from the {@link Entity} abstract class, so that it is easier to send
-     * notification to the {@link AudioManager} to play the dog footsteps.
+     * note that the dog publishes on its event bus (got it from the {@link Entity} abstract class), so that it is easier to send
+     * notification to the {@link view.AudioManager} to play the dog footsteps.
      * @param x x coordinate of the dog
      * @param y y coordinate of the dog
      * @param player reference to the player instance. {@link Player}
@@ -132,8 +133,6 @@ public class Dog extends Entity {
         this.levelManager = levelManager;
         //dog constants
         setDirection("right");
-
-        this.addObserver(AudioManager.getInstance());
     }
 
     /**
@@ -141,7 +140,7 @@ public class Dog extends Entity {
      * handles waiting logic by decreasing the {@link #waitCounter} if the dog is in the state of {@link #isWaiting}.
      * handles the player collision via {@link #checkCollisionWithPlayer()}.
      * the chase logic is handled in a different method, {@link #chasePlayer()} and the patrol logic is handled in the {@link #patrol()} method.
-     * handles the notification of what sound to play to the {@link AudioManager}
+     * handles the notification of what sound to play to the {@link view.AudioManager}
      */
     public void update(){
         //if the dog sees that there is no ground ahead or these is a wall, it will wait a bit then change direction
@@ -159,7 +158,7 @@ public class Dog extends Entity {
         //collision check with player
         if (!player.getGameOver()) {
             if (checkCollisionWithPlayer()) {
-                System.out.println("[Dog][update()]setting game over to true on player. checkCollisionWithPlayer()");
+                Log.debug("[Dog][update()]setting game over to true on player. checkCollisionWithPlayer()");
                 player.setGameOver(true);
             }
         }
@@ -198,15 +197,11 @@ public class Dog extends Entity {
                 long currentTime = System.currentTimeMillis();
 
                 if (!wasMoving){        //play sound immediately if dog is moving
-                    setChanged();
-                    notifyObservers("dog moving");
-                    clearChanged();
+                    eventBus.publish(GameEvent.DOG_MOVING);
                     lastFootStepTime = currentTime;
                 }
                 else if (currentTime - lastFootStepTime >= FOOTSTEP_SOUND_INTERVAL){    //if dog moving for a while play sound at intervals
-                    setChanged();
-                    notifyObservers("dog moving");
-                    clearChanged();
+                    eventBus.publish(GameEvent.DOG_MOVING);
                     lastFootStepTime = currentTime;
                 }
             }
@@ -412,11 +407,8 @@ public class Dog extends Entity {
             return false; // Or true if you want boundaries to be solid
         }
 
-        //get the tile at that position
-        int tileNum = levelManager.getCurrentRoomData()[row][col];
-
         //check if it's a solid tile
-        return tileNum > 0 && levelManager.getTile(tileNum).collision;
+        return levelManager.getCurrentCollisionGrid().isSolid(col, row);
     }
 
 
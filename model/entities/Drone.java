@@ -1,8 +1,9 @@
 package model.entities;
 
+import logging.Log;
 import model.ScreenSettings;
+import model.events.GameEvent;
 import model.levels.LevelManager;
-import view.AudioManager;
 
 import java.awt.*;
 
@@ -97,7 +98,7 @@ public class Drone extends Entity {
     //required for sound
     /**
      * checks if the drone was moving or not. this is done because otherwise multiple events would fire to the
-     * {@link AudioManager}, instead of notifying it once
+     * {@link view.AudioManager}, instead of notifying it once
      */
     private boolean wasMoving = false;
     /**
@@ -114,7 +115,7 @@ public class Drone extends Entity {
     //----------------------------------------------------------------------------------------//
 
     /**drone extends the entity class, so base methods are already defined, such as getX(), get().
-     * it is an observable for the {@link AudioManager}, so it knows what sound to display. the view counterpart of the drone, {@link view.entityViews.DroneView} handles the rendering
+     * it is an observable for the {@link view.AudioManager}, so it knows what sound to display. the view counterpart of the drone, {@link view.entityViews.DroneView} handles the rendering
      * via getter methods instead of the observer pattern.
      * the {@link Entity} default constructor is used here.
      * @param x x coordinate of the drone
@@ -129,8 +130,6 @@ public class Drone extends Entity {
         this.player = player;
         this.levelManager = levelManager;
         setDirection("right");
-
-        this.addObserver(AudioManager.getInstance());
     }
 
     //----------------------------------------------------------------------------------------//
@@ -146,7 +145,7 @@ public class Drone extends Entity {
         // if drone is disabled and player touches him still kills the player
         if (!player.getGameOver()) {     //if player is not dead
             if (checkCollisionWithPlayer()) {           //check collision with him
-                System.out.println("[Drone][update()]setting game over to true on player. checkCollisionWithPlayer()");
+                Log.debug("[Drone][update()]setting game over to true on player. checkCollisionWithPlayer()");
                 player.setGameOver(true);           // ded
             }
         }
@@ -184,15 +183,11 @@ public class Drone extends Entity {
             if ((isChasing || isMoving) && !isIdle) {
                 long currentTime = System.currentTimeMillis();
                 if (!wasMoving){        //play sound once if started moving
-                    setChanged();
-                    notifyObservers("drone moving");
-                    clearChanged();
+                    eventBus.publish(GameEvent.DRONE_MOVING);
                     lastFootStepTime = currentTime;
                 }
                 else if(currentTime - lastFootStepTime >= FOOTSTEP_SOUND_INTERVAL){     //play sound at interval if keeps moving
-                    setChanged();
-                    notifyObservers("drone moving");
-                    clearChanged();
+                    eventBus.publish(GameEvent.DRONE_MOVING);
                     lastFootStepTime = currentTime;
                 }
             }
@@ -362,11 +357,8 @@ public class Drone extends Entity {
             return false;
         }
 
-        //get the tile at that position
-        int tileNum = levelManager.getCurrentRoomData()[row][col];
-
         //check if it's a solid tile
-        return tileNum > 0 && levelManager.getTile(tileNum).collision;
+        return levelManager.getCurrentCollisionGrid().isSolid(col, row);
     }
 
     /**
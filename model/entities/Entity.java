@@ -1,17 +1,22 @@
 package model.entities;
 
 import model.ScreenSettings;
+import model.levels.CollisionGrid;
 import model.levels.LevelManager;
 
-import java.util.Observable;
+import model.events.EventBus;
 
 /**
  * model, abstract class of a game entity.
  * provides 2 constructors, one with required x, y, width, height and level manager parameters, and one empty constructor to allow
  * more flexible creation.
- * it extends the Observable class, so each entity has the utility methods to notify Observers. see {@link Observable}.
+ * each entity owns an {@link EventBus}, where it publishes its events (footsteps, jumps...) to the registered listeners.
  */
-public abstract class Entity extends Observable  {
+public abstract class Entity {
+    /**
+     * event bus of the entity, where it publishes its {@link model.events.GameEvent}s
+     */
+    protected final EventBus eventBus = new EventBus();
     /**
      * x pixel coordinate of the entity
      */
@@ -42,6 +47,17 @@ public abstract class Entity extends Observable  {
      */
     private LevelManager levelManager;
 
+    /**
+     * x pixel coordinate of the entity at the start of the current simulation tick.
+     * used by the views to interpolate the entity's position between two ticks.
+     */
+    private int previousX;
+    /**
+     * y pixel coordinate of the entity at the start of the current simulation tick.
+     * used by the views to interpolate the entity's position between two ticks.
+     */
+    private int previousY;
+
     /**main entity constructor method, creates an 'entity' object with the provided values
      * @param x x coordinate of the entity
      * @param y y coordinate of the entity
@@ -55,6 +71,8 @@ public abstract class Entity extends Observable  {
         this.width = width;
         this.height = height;
         this.levelManager = levelManager;
+        this.previousX = x;
+        this.previousY = y;
     }
 
 
@@ -71,18 +89,20 @@ public abstract class Entity extends Observable  {
     /**checks if the entity is colliding against some tile.
      * each entity edge has 4 collision points, so it prevents the entity from slipping through tiles.
      * this number was chosen because it proved to be comfortable and enough for the collision detection.
+     * the points of an edge are never more than a tile apart, so they cover every tile between the first and the last
+     * point: each edge is checked as a whole span of tiles on the room's {@link CollisionGrid}.
      * it is divided in 4 other helper methods to check each edge:
-     * {@link #checkTopEdgeCollision(int, int, int, int, int[][])},
-     * {@link #checkBottomEdgeCollision(int, int, int, int, int[][])}
-     * {@link #checkLeftEdgeCollision(int, int, int, int, int[][])}
-     * {@link #checkRightEdgeCollision(int, int, int, int, int[][])}.
+     * {@link #checkTopEdgeCollision(int, int, int, int, CollisionGrid)},
+     * {@link #checkBottomEdgeCollision(int, int, int, int, CollisionGrid)}
+     * {@link #checkLeftEdgeCollision(int, int, int, int, CollisionGrid)}
+     * {@link #checkRightEdgeCollision(int, int, int, int, CollisionGrid)}.
      * @param x entity's current x coordinate
      * @param y entity's current y coordinate
      * @return true if entity is colliding with some tile
      */
     protected boolean checkCollisionWithTile(int x, int y) {  //x and y represent the current position of the entity
-        //get the array representing the current level
-        int[][] roomData = levelManager.getCurrentRoomData();
+        //get the collision bitmask of the current level
+        CollisionGrid collisionGrid = levelManager.getCurrentCollisionGrid();
 
         // calculate the real hit box positions
         // modifying this to tweak the hit box collision size
@@ -105,139 +125,133 @@ public abstract class Entity extends Observable  {
 
         return
                 //top edge
-                checkTopEdgeCollision(collisionPointsForEachEdge, left, right, TopRow, roomData) ||
+                checkTopEdgeCollision(collisionPointsForEachEdge, left, right, TopRow, collisionGrid) ||
                 //bottom edge
-                checkBottomEdgeCollision(collisionPointsForEachEdge, left, right, BottomRow, roomData) ||
+                checkBottomEdgeCollision(collisionPointsForEachEdge, left, right, BottomRow, collisionGrid) ||
                 //left edge
-                checkLeftEdgeCollision(collisionPointsForEachEdge, bottom, top, LeftCol, roomData) ||
+                checkLeftEdgeCollision(collisionPointsForEachEdge, bottom, top, LeftCol, collisionGrid) ||
                 //right edge
-                checkRightEdgeCollision(collisionPointsForEachEdge, bottom, top, RightCol, roomData);
+                checkRightEdgeCollision(collisionPointsForEachEdge, bottom, top, RightCol, collisionGrid);
 
     }
 
     /**checks the entity's top edge collision points. returns true if there's a collision.
+     * the points go from the left to the right point of the edge, so every tile from the left point col to the
+     * right point col is checked at once.
      * @param collisionPointsForEachEdge number of collision points for this edge
      * @param left entity's leftmost point
      * @param right entity's rightmost point
      * @param entityTopRow entity's top row in grid coordinates
-     * @param roomData current room's data
+     * @param collisionGrid current room's collision bitmask
      * @return true if there's a collision with a tile
      */
-    protected boolean checkTopEdgeCollision(int collisionPointsForEachEdge, int left, int right, int entityTopRow, int[][] roomData) {
-        for( int i = 0; i < collisionPointsForEachEdge; i++ ) {
-            int width = right - left;     //width of the entity
-            int totalIntervals = collisionPointsForEachEdge - 1;    //how many spaces between the points
-            int currentInterval = i;            //the current point
-            int distanceFromLeft = (width * currentInterval) / totalIntervals;  //distance from the left point
-            /**
-             * i = 0:   (100 * 0) / 3 = 0 (first is just 0, the left point is just the left point)
-             * i = 1:   (100 * 1) / 3= 33 (distance is 33pixels from the left
-             * i = 2:   (100 * 2) / 3 = 66 px (distance is 66 pixels from the left
-             * i = 3:   (100 * 3) / 3 = 100px distance is 100 pixels, so it is the right edge
-             */
-            int x = left + distanceFromLeft;        //add the left edge to the distances from the left
-
-            //find the current collision point tile grid position
-            int entityTopCollisionPointCol = x / ScreenSettings.TILE_SIZE;       //convert pixel coordinate to the collision point's current column
-
-            int tileNum = roomData[entityTopRow][entityTopCollisionPointCol];    //look up what tile type is at that grid position
-
-            //tile collision
-            if (tileNum > 0 && levelManager.getTile(tileNum).collision) {  //check if that tile collision is true or not
-                return true;
-            }
-
-        }
-        return false;
+    protected boolean checkTopEdgeCollision(int collisionPointsForEachEdge, int left, int right, int entityTopRow, CollisionGrid collisionGrid) {
+        return collisionGrid.isRowSpanSolid(entityTopRow, left / ScreenSettings.TILE_SIZE, right / ScreenSettings.TILE_SIZE);
     }
 
     /**checks the entity's bottom edge collision points. returns true if there's a collision.
+     * see {@link #checkTopEdgeCollision(int, int, int, int, CollisionGrid)}.
      * @param collisionPointsForEachEdge number of collision points for this edge
      * @param left entity's leftmost point
      * @param right entity's rightmost point
      * @param entityBottomRow entity's bottom row in grid coordinates
-     * @param roomData current room's data
+     * @param collisionGrid current room's collision bitmask
      * @return true if there's a collision with a tile
      */
-    protected boolean checkBottomEdgeCollision(int collisionPointsForEachEdge, int left, int right, int entityBottomRow, int[][] roomData) {
-        for( int i = 0; i < collisionPointsForEachEdge; i++ ) {
-            int width = right - left;     //width of the entity
-            int totalIntervals = collisionPointsForEachEdge - 1;    //how many spaces between the points
-            int currentInterval = i;            //the current point
-            int distanceFromLeft = (width * currentInterval) / totalIntervals;  //distance from the left point
-
-            int x = left + distanceFromLeft;        //add the left edge to the distances from the left
-
-            //find the current collision point tile grid position
-            int entityBottomCollisionPointCol = x / ScreenSettings.TILE_SIZE;       //convert pixel coordinate to the collision point's current column
-
-            int tileNum = roomData[entityBottomRow][entityBottomCollisionPointCol];    //look up what tile type is at that grid position
-            //tile collision
-            if (tileNum > 0 && levelManager.getTile(tileNum).collision) {
-
-                return true;
-            }
-        }
-        return false;
+    protected boolean checkBottomEdgeCollision(int collisionPointsForEachEdge, int left, int right, int entityBottomRow, CollisionGrid collisionGrid) {
+        return collisionGrid.isRowSpanSolid(entityBottomRow, left / ScreenSettings.TILE_SIZE, right / ScreenSettings.TILE_SIZE);
     }
 
     /**checks the entity's left edge collision points. returns true if there's a collision.
+     * the points go from the top to the bottom point of the edge, so every tile from the top point row to the
+     * bottom point row is checked at once.
      * @param collisionPointsForEachEdge number of collision points for this edge
      * @param bottom entity's bottommost point
      * @param top entity's topmost point
      * @param entityLeftCol entity's left col in grid coordinates
-     * @param roomData current room's data
+     * @param collisionGrid current room's collision bitmask
      * @return true if there's a collision with a tile
      */
-    protected boolean checkLeftEdgeCollision(int collisionPointsForEachEdge, int bottom, int top, int entityLeftCol, int[][] roomData) {
-        for( int i = 0; i < collisionPointsForEachEdge; i++ ) {
-            int height = bottom - top;
-            int totalIntervals = collisionPointsForEachEdge - 1;
-            int currentInterval = i;
-            int distanceFromTop = (height * currentInterval) / totalIntervals;
-            int y = top + distanceFromTop;
-
-            int entityLeftCollisionPointRow = y / ScreenSettings.TILE_SIZE;
-
-            int tileNum = roomData[entityLeftCollisionPointRow][entityLeftCol];
-            //tile collision
-            if (tileNum > 0 && levelManager.getTile(tileNum).collision) {
-
-                return true;
-            }
-        }
-        return false;
+    protected boolean checkLeftEdgeCollision(int collisionPointsForEachEdge, int bottom, int top, int entityLeftCol, CollisionGrid collisionGrid) {
+        return collisionGrid.isColSpanSolid(entityLeftCol, top / ScreenSettings.TILE_SIZE, bottom / ScreenSettings.TILE_SIZE);
     }
 
     /**checks the entity's right edge collision points. returns true if there's a collision.
+     * see {@link #checkLeftEdgeCollision(int, int, int, int, CollisionGrid)}.
      * @param collisionPointsForEachEdge number of collision points for this edge
      * @param bottom entity's bottommost point
      * @param top entity's topmost point
      * @param entityRightCol entity's left col in grid coordinates
-     * @param roomData current room's data
+     * @param collisionGrid current room's collision bitmask
      * @return true if there's a collision with a tile
      */
-    protected boolean checkRightEdgeCollision(int collisionPointsForEachEdge, int bottom, int top, int entityRightCol, int[][] roomData) {
-        for( int i = 0; i < collisionPointsForEachEdge; i++ ) {
-            int height = bottom - top;
-            int totalIntervals = collisionPointsForEachEdge - 1;
-            int currentInterval = i;
-            int distanceFromTop = (height * currentInterval) / totalIntervals;
-            int y = top + distanceFromTop;
+    protected boolean checkRightEdgeCollision(int collisionPointsForEachEdge, int bottom, int top, int entityRightCol, CollisionGrid collisionGrid) {
+        return collisionGrid.isColSpanSolid(entityRightCol, top / ScreenSettings.TILE_SIZE, bottom / ScreenSettings.TILE_SIZE);
+    }
 
-            int entityRightCollisionPointRow = y / ScreenSettings.TILE_SIZE;
 
-            int tileNum = roomData[entityRightCollisionPointRow][entityRightCol];
+//----------------------------------------------------------------------------------------------------------------//
+// INTERPOLATION
+//----------------------------------------------------------------------------------------------------------------//
+    /**
+     * stores the current position as the previous position.
+     * called by the {@link controller.GameController} once at the start of every simulation tick, so that the views can
+     * interpolate between the previous and the current position, see {@link #getRenderX(double)}.
+     */
+    public void savePreviousPosition() {
+        previousX = x;
+        previousY = y;
+    }
+
+    /**gets the x coordinate the entity should be drawn at, interpolated between the previous and the current tick.
+     * if the entity moved more than a tile in a single tick (room transition, checkpoint reset) it snaps to the
+     * current position instead of sliding across the screen.
+     * @param alpha how far the renderer is between the previous and the current tick, from 0 to 1
+     * @return interpolated x pixel coordinate
+     */
+    public int getRenderX(double alpha) {
+        return interpolate(previousX, x, alpha);
+    }
+
+    /**gets the y coordinate the entity should be drawn at, interpolated between the previous and the current tick.
+     * see {@link #getRenderX(double)}.
+     * @param alpha how far the renderer is between the previous and the current tick, from 0 to 1
+     * @return interpolated y pixel coordinate
+     */
+    public int getRenderY(double alpha) {
+        return interpolate(previousY, y, alpha);
+    }
 
-            //tile collision
-            if (tileNum > 0 && levelManager.getTile(tileNum).collision) {
-                return true;
-            }
+    /**
+     * @return x coordinate at the previous tick, see {@link #savePreviousPosition()}
+     */
+    public int getPreviousX() { return previousX; }
+
+    /**
+     * @return y coordinate at the previous tick, see {@link #savePreviousPosition()}
+     */
+    public int getPreviousY() { return previousY; }
+
+    /**linearly interpolates between the previous and the current coordinate.
+     * also used by the {@link model.snapshot.EntitySnapshot}, so the views interpolate the same way.
+     * @param previous coordinate at the previous tick
+     * @param current coordinate at the current tick
+     * @param alpha interpolation factor, from 0 to 1
+     * @return interpolated coordinate
+     */
+    public static int interpolate(int previous, int current, double alpha) {
+        if (Math.abs(current - previous) > ScreenSettings.TILE_SIZE) {  //teleported, don't interpolate
+            return current;
         }
-        return false;
+        return (int) Math.round(previous + (current - previous) * alpha);
     }
 
 
+    /**
+     * @return {@link #eventBus}, to register the listeners of the entity events
+     */
+    public EventBus getEventBus() { return eventBus; }
+
     /**
      * @return entity's current x pixel coordinate
      */
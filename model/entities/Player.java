@@ -1,19 +1,18 @@
 package model.entities;
 
+import logging.Log;
 import model.ScoreTracker;
 import model.ScreenSettings;
+import model.events.GameEvent;
 import model.interactableObjects.*;
 import model.inventoryrelated.ComputerCard;
 import model.inventoryrelated.Inventory;
 import model.inventoryrelated.Item;
+import model.levels.CollisionGrid;
 import model.levels.LevelManager;
 import model.levels.Room;
-import view.AudioManager;
 
 import java.util.List;
-import java.util.concurrent.Executors;
-import java.util.concurrent.ScheduledExecutorService;
-import java.util.concurrent.TimeUnit;
 
 /**
  * player model, handles everything that a player does: movement, object interaction, computer screen navigation.
@@ -124,6 +123,15 @@ public class Player extends Entity {
      * tracks the last checkpoint's triggered y coordinate
      */
     private int lastCheckpointY = 0;
+    /**
+     * ticks to wait after dying before being reset to the last checkpoint: 2 seconds at 60 ticks per second.
+     * counted in ticks instead of wall clock time, so the game behaves the same when paused or simulated faster.
+     */
+    private final int RESPAWN_DELAY_TICKS = 120;
+    /**
+     * ticks left before the player gets reset to the last checkpoint, see {@link #RESPAWN_DELAY_TICKS}
+     */
+    private int respawnTicksLeft = 0;
 
     //extraction
     /**
@@ -165,9 +173,10 @@ public class Player extends Entity {
     // PLAYER INITIALIZATION
     //----------------------------------------------------------------------------------------------------------------//
     /** player constructor: sets some default values, initializes its {@link #inventory} and {@link #scoreTracker} fields.
-     * sets as observers: {@link ScoreTracker} and {@link AudioManager}.
-     * the score tracker tracks the player's actions, such as opening an interactable object, which gives some points.
-     * the audio manager gets notified of when the player is moving, jumping, if the player died.
+     * registers the {@link ScoreTracker} as a listener of its event bus: the score tracker tracks the player's actions,
+     * such as opening an interactable object, which gives some points.
+     * the {@link view.AudioManager} registers itself as a global listener of the event buses, so it gets notified of when
+     * the player is moving, jumping, if the player died, without the player knowing about it.
      * note: {@link view.entityViews.PlayerView} is not registered as an observer,  because during the initial part of the game development
      * the observer pattern was not implemented... and because of that, the player view just gets updated via getters methods.
      */
@@ -177,8 +186,7 @@ public class Player extends Entity {
         this.inventory = new Inventory(5);
         this.scoreTracker = new ScoreTracker();
 
-        this.addObserver(scoreTracker);
-        this.addObserver(AudioManager.getInstance());
+        eventBus.addListener(scoreTracker, GameEvent.PAPER_BOX_OPENED, GameEvent.RED_BOX_OPENED, GameEvent.METAL_LOCKER_OPENED, GameEvent.WOOD_LOCKER_OPENED);
     }
 
     /**
@@ -211,7 +219,7 @@ public class Player extends Entity {
 //----------------------------------------------------------------------------------------------------------------//
 
     /**core of the player logic, processes gravity, horizontal movement, jump movement, ladder movement, object interaction, computer menu navigation,
-     * sound logic (notifies the {@link AudioManager}.
+     * sound logic (notifies the {@link view.AudioManager}.
      * note: it is very long, and it is not being broken down into smaller methods because it has been WAY easier to debug and
      * implement logic when needed. having little methods scattered into the player class had been a nightmare for me navigate around
      * and debug.
@@ -254,11 +262,11 @@ public class Player extends Entity {
 //                System.out.println("computer .getismenuvisible()" + computer.getIsMenuVisible());
                 if (upArrowPressed) {
                     computer.navigateMenuUp();
-                    System.out.println("menu up : player update()");
+                    Log.debug("menu up : player update()");
                 }
                 if (downArrowPressed) {
                     computer.navigateMenuDown();
-                    System.out.println("menu down : player update()");
+                    Log.debug("menu down : player update()");
                 }
                 if (enterPressed) {
                     computer.selectMenuOption(this);
@@ -389,15 +397,11 @@ public class Player extends Entity {
                 long currentTime = System.currentTimeMillis();
 
                 if (!wasMoving){    //if player just started moving then play the sound right away
-                    setChanged();
-                    notifyObservers("player moved");
-                    clearChanged();
+                    eventBus.publish(GameEvent.PLAYER_MOVED);
                     lastFootStepTime = currentTime;
                 }
                 else if (currentTime - lastFootStepTime >= FOOTSTEP_SOUND_INTERVAL){    //if the player has been moving for a while, then play the sound every 200 ms
-                    setChanged();
-                    notifyObservers("player moved");
-                    clearChanged();
+                    eventBus.publish(GameEvent.PLAYER_MOVED);
                     lastFootStepTime = currentTime;
                 }
             }
@@ -412,9 +416,7 @@ public class Player extends Entity {
                 isMoving = false;
                 verticalSpeed = MAX_JUMP_SPEED;
 
-                setChanged();
-                notifyObservers("player jumped");
-                clearChanged();
+                eventBus.publish(GameEvent.PLAYER_JUMPED);
             }
 
             //interactable object handling (player interaction)
@@ -433,26 +435,21 @@ public class Player extends Entity {
 
         //player reset handling
         if(gameOver && !wasGameOver) {      //if player dies, then reset to last checkpoint after waiting 2 seconds
-            setChanged();
-            notifyObservers("player died");
-            clearChanged();
+            eventBus.publish(GameEvent.PLAYER_DIED);
 
             isMoving = false;
             isOnGround = false;
             isJumping = false;
-            ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor();
-            scheduler.schedule(()->{
-//                System.out.println("resetting to checkpoint...");
-                resetToCheckpoint();
-                scheduler.shutdown();
-            }, 2, TimeUnit.SECONDS);
+            respawnTicksLeft = RESPAWN_DELAY_TICKS;
+        }
+        else if (gameOver && --respawnTicksLeft <= 0) {
+//            System.out.println("resetting to checkpoint...");
+            resetToCheckpoint();
         }
         wasGameOver = gameOver;
 
         if(extracted){
-            setChanged();
-            notifyObservers("player extracted");
-            clearChanged();
+            eventBus.publish(GameEvent.PLAYER_EXTRACTED);
         }
     }
 
@@ -577,23 +574,19 @@ public class Player extends Entity {
             if(currentInteractable.isInteractionCompleted() && !interactionCompleted) {
                 interactionCompleted = true;
                 if (currentInteractable instanceof PaperBox) {
-                    setChanged();
-                    notifyObservers("paper box opened");
+                    eventBus.publish(GameEvent.PAPER_BOX_OPENED);
 //                    System.out.println("notifiying observers paper box opened");
                 }
                 else if (currentInteractable instanceof RedBox) {
-                    setChanged();
-                    notifyObservers("red box opened");
+                    eventBus.publish(GameEvent.RED_BOX_OPENED);
 //                    System.out.println("notifiying observers red box opened");
                 }
                 else if (currentInteractable instanceof MetalLocker){
-                    setChanged();
-                    notifyObservers("metal locker opened");
+                    eventBus.publish(GameEvent.METAL_LOCKER_OPENED);
 //                    System.out.println("notifiying observers metal locker opened");
                 }
                 else if (currentInteractable instanceof WoodLocker){
-                    setChanged();
-                    notifyObservers("wood locker opened");
+                    eventBus.publish(GameEvent.WOOD_LOCKER_OPENED);
 //                    System.out.println("notifiying observers wood locker opened");
                 }
             }
@@ -631,10 +624,10 @@ public class Player extends Entity {
     /**checks if the player is colliding against some tile.
      * each player edge has 4 collision points, so it prevents the player from slipping through tiles.
      * it is divided in 4 other helper methods to check each edge:
-     * {@link #checkTopEdgeCollision(int, int, int, int, int[][])},
-     * {@link #checkBottomEdgeCollision(int, int, int, int, int[][])}
-     * {@link #checkLeftEdgeCollision(int, int, int, int, int[][])}
-     * {@link #checkRightEdgeCollision(int, int, int, int, int[][])}.
+     * {@link #checkTopEdgeCollision(int, int, int, int, CollisionGrid)},
+     * {@link #checkBottomEdgeCollision(int, int, int, int, CollisionGrid)}
+     * {@link #checkLeftEdgeCollision(int, int, int, int, CollisionGrid)}
+     * {@link #checkRightEdgeCollision(int, int, int, int, CollisionGrid)}.
      * it overrides the {@link Entity} check collision system with some minor tweaks: it checks if the current tile is a death tile
      * or the extraction tile.
      * @param playerX player's current x coordinate
@@ -645,8 +638,8 @@ public class Player extends Entity {
     //check player collision with tiles (fuck you, collision logic)
     @Override
     protected boolean checkCollisionWithTile(int playerX, int playerY) {  //playerX and playerY represent the current position of the player
-        //get the array representing the current level
-        int[][] roomData = levelManager.getCurrentRoomData();
+        //get the collision bitmask of the current level
+        CollisionGrid collisionGrid = levelManager.getCurrentCollisionGrid();
 
         // calculate the hit box positions
         int left = playerX + 10;                     //the top left, ex : x = 0
@@ -668,13 +661,13 @@ public class Player extends Entity {
         return
         //there will be 4 collision points for each player edge:
         //top edge
-        checkTopEdgeCollision(collisionPointsForEachEdge, left, right, playerTopRow, roomData) ||
+        checkTopEdgeCollision(collisionPointsForEachEdge, left, right, playerTopRow, collisionGrid) ||
         //bottom edge
-        checkBottomEdgeCollision(collisionPointsForEachEdge, left, right, playerBottomRow, roomData) ||
+        checkBottomEdgeCollision(collisionPointsForEachEdge, left, right, playerBottomRow, collisionGrid) ||
         //left edge
-        checkLeftEdgeCollision(collisionPointsForEachEdge, bottom, top, playerLeftCol, roomData) ||
+        checkLeftEdgeCollision(collisionPointsForEachEdge, bottom, top, playerLeftCol, collisionGrid) ||
         //right edge
-        checkRightEdgeCollision(collisionPointsForEachEdge, bottom, top, playerRightCol, roomData);
+        checkRightEdgeCollision(collisionPointsForEachEdge, bottom, top, playerRightCol, collisionGrid);
 
     }
 
@@ -683,11 +676,17 @@ public class Player extends Entity {
      * @param left player's leftmost point
      * @param right player's rightmost point
      * @param entityTopRow player's top row in grid coordinates
-     * @param roomData current room's data
+     * @param collisionGrid current room's collision bitmask
      * @return true if there's a collision with a tile
      */
     @Override
-    protected boolean checkTopEdgeCollision(int collisionPointsForEachEdge, int left, int right, int entityTopRow, int[][] roomData) {
+    protected boolean checkTopEdgeCollision(int collisionPointsForEachEdge, int left, int right, int entityTopRow, CollisionGrid collisionGrid) {
+        int firstCol = left / ScreenSettings.TILE_SIZE;
+        int lastCol = right / ScreenSettings.TILE_SIZE;
+        if (!collisionGrid.isRowSpanTrigger(entityTopRow, firstCol, lastCol)) {      //no special tile on the edge, check the whole edge at once
+            return collisionGrid.isRowSpanSolid(entityTopRow, firstCol, lastCol);
+        }
+        int[][] roomData = levelManager.getCurrentRoomData();
         for( int i = 0; i < collisionPointsForEachEdge; i++ ) {
             int width = right - left;     //width of the player
             int totalIntervals = collisionPointsForEachEdge - 1;    //how many spaces between the points
@@ -726,13 +725,19 @@ public class Player extends Entity {
      * @param left player's leftmost point
      * @param right player's rightmost point
      * @param entityBottomRow player's bottom row in grid coordinates
-     * @param roomData current room's data
+     * @param collisionGrid current room's collision bitmask
      * @return true if there's a collision with a tile
      */
     @Override
     //called in checkCollisionWithTile()
     //BOTTOM COLLISION
-    protected boolean checkBottomEdgeCollision(int collisionPointsForEachEdge, int left, int right, int entityBottomRow, int[][] roomData) {
+    protected boolean checkBottomEdgeCollision(int collisionPointsForEachEdge, int left, int right, int entityBottomRow, CollisionGrid collisionGrid) {
+        int firstCol = left / ScreenSettings.TILE_SIZE;
+        int lastCol = right / ScreenSettings.TILE_SIZE;
+        if (!collisionGrid.isRowSpanTrigger(entityBottomRow, firstCol, lastCol)) {      //no special tile on the edge, check the whole edge at once
+            return collisionGrid.isRowSpanSolid(entityBottomRow, firstCol, lastCol);
+        }
+        int[][] roomData = levelManager.getCurrentRoomData();
         for( int i = 0; i < collisionPointsForEachEdge; i++ ) {
             int width = right - left;     //width of the player
             int totalIntervals = collisionPointsForEachEdge - 1;    //how many spaces between the points
@@ -774,11 +779,17 @@ public class Player extends Entity {
      * @param bottom player's bottommost point
      * @param top player's topmost point
      * @param playerLeftCol player's left col in grid coordinates
-     * @param roomData current room's data
+     * @param collisionGrid current room's collision bitmask
      * @return true if there's a collision with a tile
      */
     @Override
-    protected boolean checkLeftEdgeCollision(int collisionPointsForEachEdge, int bottom, int top, int playerLeftCol, int[][] roomData) {
+    protected boolean checkLeftEdgeCollision(int collisionPointsForEachEdge, int bottom, int top, int playerLeftCol, CollisionGrid collisionGrid) {
+        int firstRow = top / ScreenSettings.TILE_SIZE;
+        int lastRow = bottom / ScreenSettings.TILE_SIZE;
+        if (!collisionGrid.isColSpanTrigger(playerLeftCol, firstRow, lastRow)) {      //no special tile on the edge, check the whole edge at once
+            return collisionGrid.isColSpanSolid(playerLeftCol, firstRow, lastRow);
+        }
+        int[][] roomData = levelManager.getCurrentRoomData();
         for( int i = 0; i < collisionPointsForEachEdge; i++ ) {
             int height = bottom - top;
             int totalIntervals = collisionPointsForEachEdge - 1;
@@ -809,11 +820,17 @@ public class Player extends Entity {
      * @param bottom player's bottommost point
      * @param top player's topmost point
      * @param playerRightCol player's left col in grid coordinates
-     * @param roomData current room's data
+     * @param collisionGrid current room's collision bitmask
      * @return true if there's a collision with a tile
      */
     @Override
-    protected boolean checkRightEdgeCollision(int collisionPointsForEachEdge, int bottom, int top, int playerRightCol, int[][] roomData) {
+    protected boolean checkRightEdgeCollision(int collisionPointsForEachEdge, int bottom, int top, int playerRightCol, CollisionGrid collisionGrid) {
+        int firstRow = top / ScreenSettings.TILE_SIZE;
+        int lastRow = bottom / ScreenSettings.TILE_SIZE;
+        if (!collisionGrid.isColSpanTrigger(playerRightCol, firstRow, lastRow)) {      //no special tile on the edge, check the whole edge at once
+            return collisionGrid.isColSpanSolid(playerRightCol, firstRow, lastRow);
+        }
+        int[][] roomData = levelManager.getCurrentRoomData();
         for( int i = 0; i < collisionPointsForEachEdge; i++ ) {
             int height = bottom - top;
             int totalIntervals = collisionPointsForEachEdge - 1;
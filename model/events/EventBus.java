@@ -0,0 +1,100 @@
+package model.events;
+
+import java.util.Arrays;
+
+/**
+ * typed event bus, replaces java.util.Observable.
+ * every model / controller that used to notify observers owns its own event bus, and the listeners get registered
+ * for the specific {@link GameEvent}s they care about.
+ *
+ * the listeners are kept in an array per event type, indexed by the event ordinal. registering copies the arrays
+ * (it only happens when the objects get created), so {@link #publish(GameEvent)} doesn't lock, doesn't allocate and
+ * only calls the listeners of that event. it's safe to publish from the game thread while the EDT registers a listener.
+ *
+ * listeners that want an event from every publisher (e.g. the {@link view.AudioManager} playing the sounds) register
+ * once as global listeners via {@link #addGlobalListener(GameEventListener, GameEvent...)}. this way the models never
+ * reference them, and can run without them (e.g. in {@link main.HeadlessSimulation}).
+ */
+public class EventBus {
+    /**
+     * number of event types
+     */
+    private static final int EVENT_COUNT = GameEvent.values().length;
+    /**
+     * shared empty listener array, for the events that have no listeners
+     */
+    private static final GameEventListener[] NO_LISTENERS = new GameEventListener[0];
+
+    /**
+     * listeners of each event type, indexed by {@link GameEvent#ordinal()}.
+     * never modified in place: registering replaces the whole array.
+     */
+    private volatile GameEventListener[][] listeners;
+    /**
+     * global listeners of each event type, notified of the events published on every event bus.
+     */
+    private static volatile GameEventListener[][] globalListeners = createEmptyListeners();
+
+    /**
+     * creates an event bus with no listeners.
+     */
+    public EventBus() {
+        this.listeners = createEmptyListeners();
+    }
+
+    /**
+     * @return a listeners array with no listener for every event type
+     */
+    private static GameEventListener[][] createEmptyListeners() {
+        GameEventListener[][] emptyListeners = new GameEventListener[EVENT_COUNT][];
+        Arrays.fill(emptyListeners, NO_LISTENERS);
+        return emptyListeners;
+    }
+
+    /**returns a copy of the listeners array with the listener added to the provided events.
+     * @param listeners current listeners array
+     * @param listener listener to add
+     * @param events events the listener will get notified of
+     * @return the new listeners array
+     */
+    private static GameEventListener[][] withListener(GameEventListener[][] listeners, GameEventListener listener, GameEvent... events) {
+        GameEventListener[][] newListeners = listeners.clone();
+        for (GameEvent event : events) {
+            GameEventListener[] eventListeners = newListeners[event.ordinal()];
+            GameEventListener[] newEventListeners = Arrays.copyOf(eventListeners, eventListeners.length + 1);
+            newEventListeners[eventListeners.length] = listener;
+            newListeners[event.ordinal()] = newEventListeners;
+        }
+        return newListeners;
+    }
+
+    /**registers the listener for the provided events.
+     * @param listener listener to register
+     * @param events events the listener will get notified of
+     */
+    public synchronized void addListener(GameEventListener listener, GameEvent... events) {
+        this.listeners = withListener(listeners, listener, events);
+    }
+
+    /**registers the listener for the provided events, on every event bus.
+     * @param listener listener to register
+     * @param events events the listener will get notified of
+     */
+    public static synchronized void addGlobalListener(GameEventListener listener, GameEvent... events) {
+        globalListeners = withListener(globalListeners, listener, events);
+    }
+
+    /**notifies every listener registered for the event, and then the global listeners, on the calling thread.
+     * @param event event to publish
+     */
+    public void publish(GameEvent event) {
+        GameEventListener[] eventListeners = listeners[event.ordinal()];
+        for (int i = 0; i < eventListeners.length; i++) {
+            eventListeners[i].onEvent(event);
+        }
+        GameEventListener[] eventGlobalListeners = globalListeners[event.ordinal()];
+        for (int i = 0; i < eventGlobalListeners.length; i++) {
+            eventGlobalListeners[i].onEvent(event);
+        }
+    }
+}
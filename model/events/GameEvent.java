@@ -0,0 +1,112 @@
+package model.events;
+
+/**
+ * every event that can be published on an {@link EventBus}.
+ * each event replaces one of the old string notifications (e.g. "player moved" is {@link #PLAYER_MOVED}), so listeners
+ * can switch on the event (or index an array with its ordinal) instead of comparing strings.
+ */
+public enum GameEvent {
+    //level manager
+    /**
+     * the player entered a new room
+     */
+    LEVEL_CHANGED,
+
+    //player
+    /**
+     * the player made a step
+     */
+    PLAYER_MOVED,
+    /**
+     * the player jumped
+     */
+    PLAYER_JUMPED,
+    /**
+     * the player died
+     */
+    PLAYER_DIED,
+    /**
+     * the player reached the extraction tile
+     */
+    PLAYER_EXTRACTED,
+    /**
+     * the player opened a {@link model.interactableObjects.PaperBox}
+     */
+    PAPER_BOX_OPENED,
+    /**
+     * the player opened a {@link model.interactableObjects.RedBox}
+     */
+    RED_BOX_OPENED,
+    /**
+     * the player opened a {@link model.interactableObjects.MetalLocker}
+     */
+    METAL_LOCKER_OPENED,
+    /**
+     * the player opened a {@link model.interactableObjects.WoodLocker}
+     */
+    WOOD_LOCKER_OPENED,
+
+    //interactable objects
+    /**
+     * a rare poker card was found in an interactable object
+     */
+    RARE_CARD_FOUND,
+    /**
+     * a common poker card was found in an interactable object
+     */
+    COMMON_CARD_FOUND,
+
+    //enemies
+    /**
+     * a dog made a step
+     */
+    DOG_MOVING,
+    /**
+     * a drone made a step
+     */
+    DRONE_MOVING,
+
+    //inventory
+    /**
+     * an item was added to the inventory
+     */
+    ITEM_ADDED,
+    /**
+     * an item was discarded from the inventory
+     */
+    ITEM_REMOVED,
+    /**
+     * a computer card was used and removed from the inventory
+     */
+    COMPUTER_CARD_REMOVED,
+
+    //controllers
+    /**
+     * menu selection moved up
+     */
+    MENU_UP,
+    /**
+     * menu selection moved down
+     */
+    MENU_DOWN,
+    /**
+     * menu option selected
+     */
+    MENU_ENTER,
+    /**
+     * a character was typed in the name field
+     */
+    KEY_TYPED,
+    /**
+     * the enter key was pressed (name submitted, result screen closed)
+     */
+    ENTER_PRESSED,
+    /**
+     * a character was deleted from the name field
+     */
+    BACKSPACE_PRESSED,
+    /**
+     * the game got paused with the esc key
+     */
+    ESC_PRESSED
+}
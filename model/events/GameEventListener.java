@@ -0,0 +1,12 @@
+package model.events;
+
+/**
+ * listener of the {@link GameEvent}s published on an {@link EventBus}.
+ * it only gets the events it was registered for, see {@link EventBus#addListener(GameEventListener, GameEvent...)}.
+ */
+public interface GameEventListener {
+    /**called by the {@link EventBus} on the publishing thread whenever one of the registered events gets published.
+     * @param event the published event
+     */
+    void onEvent(GameEvent event);
+}
@@ -1,5 +1,6 @@
 package model.interactableObjects;
 
+import logging.Log;
 import model.ScreenSettings;
 import model.entities.Player;
 import model.inventoryrelated.ComputerCard;
@@ -39,14 +40,14 @@ public class Card extends InteractableObject {
 
         Inventory inventory = player.getInventory();
         if(inventory == null) {
-            System.out.println("[Card] open(): inventory is null");
+            Log.warn("[Card] open(): inventory is null");
             return;
         }
 
         if (!inventory.isInventoryFull()){
             inventory.addItem(new ComputerCard());
             isTaken = true;
-            System.out.println("[Card] open(): added computer card to inventory");
+            Log.debug("[Card] open(): added computer card to inventory");
         }
     }
 
@@ -1,5 +1,6 @@
 package model.interactableObjects;
 
+import logging.Log;
 import model.ScreenSettings;
 import model.entities.Player;
 
@@ -83,11 +84,11 @@ public class Computer extends InteractableObject{
         if (!isMenuVisible) return;
         switch (selectedMenuOption) {
             case 0:
-                System.out.println("[Computer][selectMenuOption(Player)]: selected menu option 0: deactivate drones");
+                Log.debug("[Computer][selectMenuOption(Player)]: selected menu option 0: deactivate drones");
                 player.getLevelManager().getCurrentRoom().deactivateAllDrones();
                 break;
             case 1:
-                System.out.println("[Computer][selectMenuOption(Player)]: selected menu option 1: deactivate dogs");
+                Log.debug("[Computer][selectMenuOption(Player)]: selected menu option 1: deactivate dogs");
                 player.getLevelManager().getCurrentRoom().deactivateAllDogs();
                 break;
         }
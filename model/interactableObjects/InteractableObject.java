@@ -3,12 +3,16 @@ package model.interactableObjects;
 
 import model.entities.Player;
 
-import java.util.Observable;
+import model.events.EventBus;
 
 /**
  * abstract class, model, interactable objects such as chests, computers(to disable the enemies), etc... extend this abstract class.
  */
-public abstract class InteractableObject extends Observable {
+public abstract class InteractableObject {
+    /**
+     * event bus of the interactable object, where it publishes the card found {@link model.events.GameEvent}s
+     */
+    protected final EventBus eventBus = new EventBus();
     /**
      * interactable object x coordinate
      */
@@ -1,9 +1,12 @@
 package model.interactableObjects;
 
+import logging.Log;
 import model.ScreenSettings;
 import model.entities.Player;
+import model.events.GameEvent;
 import model.inventoryrelated.PokerCard;
-import view.AudioManager;
+
+import java.util.random.RandomGenerator;
 
 /**
  * metal locker interactable model.
@@ -13,20 +16,24 @@ public class MetalLocker extends InteractableObject {
      * indicates if this instance of the metal locker is opened or not
      */
     private boolean isOpened = false;
+    /**
+     * random generator of the room the metal locker is in, decides the dropped poker card
+     */
+    private final RandomGenerator random;
 
     /**
      * @param x x coordinate of the metal locker    (top left)
      * @param y y coordinate of the metal locker
+     * @param random random generator of the room, used for the loot (see {@link model.SessionRandom})
      */
-    public MetalLocker(int x, int y){
+    public MetalLocker(int x, int y, RandomGenerator random){
         super(x,y,ScreenSettings.TILE_SIZE * 2,ScreenSettings.TILE_SIZE * 2);
-
-        this.addObserver(AudioManager.getInstance());
+        this.random = random;
     }
 
     /**opens the current metal locker (sets the {@link #isOpened} boolean flag to true.
      * once opened, the player has a boosted chance of get a face card(J, Q, K)
-     * it notifies the {@link AudioManager} to play a sound.
+     * it notifies the {@link view.AudioManager} to play a sound.
      * @param player current instance of the player that is trying to interact with the object
      */
     @Override
@@ -35,19 +42,17 @@ public class MetalLocker extends InteractableObject {
             isOpened = true;
 
             if (!player.getInventory().isInventoryFull()){
-                PokerCard pokerCard = PokerCard.getBoostedFacePokerCard();      //boosted rates to get a facecard
+                PokerCard pokerCard = PokerCard.getBoostedFacePokerCard(random);      //boosted rates to get a facecard
                 player.getInventory().addItem(pokerCard);
-                System.out.println("[Metallocker] open() -> added new pokercard to inventory -> " + pokerCard);
+                if (Log.isDebugEnabled()) {
+                    Log.debug("[Metallocker] open() -> added new pokercard to inventory -> " + pokerCard);
+                }
 
                 if (pokerCard.getValue() > 10){
-                    setChanged();
-                    notifyObservers("rare card found");
-                    clearChanged();
+                    eventBus.publish(GameEvent.RARE_CARD_FOUND);
                 }
                 else{
-                    setChanged();
-                    notifyObservers("common card found");
-                    clearChanged();
+                    eventBus.publish(GameEvent.COMMON_CARD_FOUND);
                 }
 
             }
@@ -3,8 +3,10 @@ package model.interactableObjects;
 
 import model.ScreenSettings;
 import model.entities.Player;
+import model.events.GameEvent;
 import model.inventoryrelated.PokerCard;
-import view.AudioManager;
+
+import java.util.random.RandomGenerator;
 
 
 
@@ -18,20 +20,24 @@ public class PaperBox extends InteractableObject {
      * indicates if this instance of paper box is open or not
      */
     private boolean isOpened;
+    /**
+     * random generator of the room the paper box is in, decides the dropped poker card
+     */
+    private final RandomGenerator random;
 
     /**
      * @param x x coordinate of the paper box  (top left)
      * @param y y coordinate of the paper box (top left)
+     * @param random random generator of the room, used for the loot (see {@link model.SessionRandom})
      */
-    public PaperBox(int x, int y) {
+    public PaperBox(int x, int y, RandomGenerator random) {
         super(x,y, ScreenSettings.TILE_SIZE,ScreenSettings.TILE_SIZE);   //it is 48x48
+        this.random = random;
         this.isOpened = false;
-
-        this.addObserver(AudioManager.getInstance());
     }
 
     /**once the paper box is opened, the player gets a random poker card with no boosted rates.
-     * it notifies the {@link AudioManager} to play a sound.
+     * it notifies the {@link view.AudioManager} to play a sound.
      * @param player current instance of the player that is trying to interact with the object
      */
     @Override
@@ -40,18 +46,14 @@ public class PaperBox extends InteractableObject {
             isOpened = true;
 
             if (!player.getInventory().isInventoryFull()){
-                PokerCard pokerCard = PokerCard.getRandomPokerCard();
+                PokerCard pokerCard = PokerCard.getRandomPokerCard(random);
                 player.getInventory().addItem(pokerCard);
 
                 if (pokerCard.getValue() > 10){
-                    setChanged();
-                    notifyObservers("rare card found");
-                    clearChanged();
+                    eventBus.publish(GameEvent.RARE_CARD_FOUND);
                 }
                 else{
-                    setChanged();
-                    notifyObservers("common card found");
-                    clearChanged();
+                    eventBus.publish(GameEvent.COMMON_CARD_FOUND);
                 }
 
 //                System.out.println("[paperbox] : open() -> added new pokercard to inventory -> " + pokerCard);
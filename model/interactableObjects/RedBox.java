@@ -2,8 +2,10 @@ package model.interactableObjects;
 
 import model.ScreenSettings;
 import model.entities.Player;
+import model.events.GameEvent;
 import model.inventoryrelated.PokerCard;
-import view.AudioManager;
+
+import java.util.random.RandomGenerator;
 
 /**
  * red box interactable object model.
@@ -14,20 +16,24 @@ public class RedBox extends InteractableObject {
      * indicates if this instance of red box is open or not
      */
     private boolean isOpened = false;
+    /**
+     * random generator of the room the red box is in, decides the dropped poker card
+     */
+    private final RandomGenerator random;
 
 
     /**
      * @param x x coordinate of the red box  (top left)
      * @param y y coordinate of the red box (top left)
+     * @param random random generator of the room, used for the loot (see {@link model.SessionRandom})
      */
-    public RedBox(int x, int y) {
+    public RedBox(int x, int y, RandomGenerator random) {
         super(x, y, ScreenSettings.TILE_SIZE, ScreenSettings.TILE_SIZE);
-
-        this.addObserver(AudioManager.getInstance());
+        this.random = random;
     }
 
     /**once the red box is opened, the player gets a boosted chance to get an ace card.
-     * it notifies the {@link AudioManager} to play a sound.
+     * it notifies the {@link view.AudioManager} to play a sound.
      * @param player current instance of the player that is trying to interact with the object
      */
     @Override
@@ -35,18 +41,14 @@ public class RedBox extends InteractableObject {
         if(!isOpened){
             isOpened = true;
             if (!player.getInventory().isInventoryFull()){
-                PokerCard pokerCard = PokerCard.getBoostedAcePokerCard();        //higher chance to get aces
+                PokerCard pokerCard = PokerCard.getBoostedAcePokerCard(random);        //higher chance to get aces
                 player.getInventory().addItem(pokerCard);
 //                System.out.println("[PaperBox] : open() -> added new pokercard to inventory -> " + pokerCard);
                 if (pokerCard.getValue() > 10){
-                    setChanged();
-                    notifyObservers("rare card found");
-                    clearChanged();
+                    eventBus.publish(GameEvent.RARE_CARD_FOUND);
                 }
                 else{
-                    setChanged();
-                    notifyObservers("common card found");
-                    clearChanged();
+                    eventBus.publish(GameEvent.COMMON_CARD_FOUND);
                 }
             }
         }
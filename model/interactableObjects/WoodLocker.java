@@ -2,8 +2,11 @@ package model.interactableObjects;
 
 import model.ScreenSettings;
 import model.entities.Player;
+import model.events.GameEvent;
 import model.inventoryrelated.PokerCard;
-import view.AudioManager;
+
+import java.util.random.RandomGenerator;
+
 /**
  * wood locker interactable object model.
  */
@@ -12,19 +15,24 @@ public class WoodLocker extends InteractableObject {
      * indicates if this instance of wood locker is open or not
      */
     public boolean isOpened = false;
+    /**
+     * random generator of the room the wood locker is in, decides the dropped poker card
+     */
+    private final RandomGenerator random;
 
     /**
      * @param x x coordinate of the wood locker (top left)
      * @param y y coordinate of the wood locker (top left)
+     * @param random random generator of the room, used for the loot (see {@link model.SessionRandom})
      */
-    public WoodLocker(int x, int y) {
+    public WoodLocker(int x, int y, RandomGenerator random) {
         super (x, y, ScreenSettings.TILE_SIZE * 2, ScreenSettings.TILE_SIZE * 2);
-        this.addObserver(AudioManager.getInstance());
+        this.random = random;
     }
 
 
     /**once the wood locker is opened, the player gets a boosted chance to get a 10 card.
-     * it notifies the {@link AudioManager} to play a sound.
+     * it notifies the {@link view.AudioManager} to play a sound.
      * @param player current instance of the player that is trying to interact with the object
      */
     @Override
@@ -32,18 +40,14 @@ public class WoodLocker extends InteractableObject {
         if (!isOpened) {
             isOpened = true;
             if (!player.getInventory().isInventoryFull()){
-                PokerCard pokerCard = PokerCard.getBoosted10Card();
+                PokerCard pokerCard = PokerCard.getBoosted10Card(random);
                 player.getInventory().addItem(pokerCard);
 //                System.out.println("[WoodLocker] : open() -> added new pokercard to inventory -> " + pokerCard);
                 if (pokerCard.getValue() > 10){
-                    setChanged();
-                    notifyObservers("rare card found");
-                    clearChanged();
+                    eventBus.publish(GameEvent.RARE_CARD_FOUND);
                 }
                 else{
-                    setChanged();
-                    notifyObservers("common card found");
-                    clearChanged();
+                    eventBus.publish(GameEvent.COMMON_CARD_FOUND);
                 }
             }
         }
@@ -0,0 +1,102 @@
+package model.inventoryrelated;
+
+import java.util.random.RandomGenerator;
+
+/**
+ * model, precomputed weighted distribution over a fixed set of items, sampled with the alias method (walker / vose).
+ * the table is built once in O(n); every sample then costs one random number and two array reads, whatever the number
+ * of items, and allocates nothing. used by {@link PokerCard} for its drop tables.
+ * @param <T> type of the items
+ */
+class AliasTable<T> {
+    /**
+     * items of the distribution, one per column of the table
+     */
+    private final T[] items;
+    /**
+     * probability of keeping the item of a column, instead of taking its alias
+     */
+    private final double[] probabilities;
+    /**
+     * index of the item taken when the item of a column is not kept
+     */
+    private final int[] aliases;
+
+    /**builds the table.
+     * @param items items of the distribution
+     * @param weights weight of each item, any non negative scale, the item at index n is picked with probability
+     *                weights[n] / sum(weights)
+     * @throws IllegalArgumentException if the arrays have different lengths, are empty, or the weights are not valid
+     */
+    AliasTable(T[] items, double[] weights) {
+        int n = items.length;
+        if (n == 0 || n != weights.length) {
+            throw new IllegalArgumentException("[AliasTable] needs one weight per item, and at least one item");
+        }
+        double total = 0;
+        for (double weight : weights) {
+            if (weight < 0 || Double.isNaN(weight) || Double.isInfinite(weight)) {
+                throw new IllegalArgumentException("[AliasTable] invalid weight: " + weight);
+            }
+            total += weight;
+        }
+        if (total <= 0) {
+            throw new IllegalArgumentException("[AliasTable] the weights add up to 0");
+        }
+
+        this.items = items.clone();
+        this.probabilities = new double[n];
+        this.aliases = new int[n];
+
+        //scale the weights so that the average column is 1, then split them in columns lighter and heavier than 1
+        double[] scaled = new double[n];
+        int[] small = new int[n];
+        int[] large = new int[n];
+        int smallCount = 0;
+        int largeCount = 0;
+        for (int i = 0; i < n; i++) {
+            scaled[i] = weights[i] * n / total;
+            if (scaled[i] < 1) {
+                small[smallCount++] = i;
+            }
+            else {
+                large[largeCount++] = i;
+            }
+        }
+
+        //fill every light column with a piece of a heavy one, which becomes its alias
+        while (smallCount > 0 && largeCount > 0) {
+            int light = small[--smallCount];
+            int heavy = large[largeCount - 1];
+            probabilities[light] = scaled[light];
+            aliases[light] = heavy;
+            scaled[heavy] = (scaled[heavy] + scaled[light]) - 1;
+            if (scaled[heavy] < 1) {
+                largeCount--;
+                small[smallCount++] = heavy;
+            }
+        }
+        //what is left is 1 up to rounding errors
+        while (largeCount > 0) {
+            int column = large[--largeCount];
+            probabilities[column] = 1;
+            aliases[column] = column;
+        }
+        while (smallCount > 0) {
+            int column = small[--smallCount];
+            probabilities[column] = 1;
+            aliases[column] = column;
+        }
+    }
+
+    /**picks an item.
+     * @param random random generator of the draw
+     * @return an item, picked with the probability of its weight
+     */
+    T sample(RandomGenerator random) {
+        //a single random number picks both the column (integer part) and the coin flip inside it (fractional part)
+        double u = random.nextDouble() * items.length;
+        int column = Math.min((int) u, items.length - 1);      //nextDouble() * length can round up to length
+        return u - column < probabilities[column] ? items[column] : items[aliases[column]];
+    }
+}
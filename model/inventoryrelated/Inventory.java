@@ -1,7 +1,9 @@
 package model.inventoryrelated;
 
+import model.events.EventBus;
+import model.events.GameEvent;
+
 import java.util.Arrays;
-import java.util.Observable;
 
 /**
  * model of player's inventory. it handles the discard process and updates the {@link view.itemViews.InventoryView} accordingly via the
@@ -11,7 +13,11 @@ import java.util.Observable;
  * -{@link #discardProgress} where each inventory slot's discard progress is stored
  * -{@link #discardCompleted} where each inventory slot's discard state is stored
  */
-public class Inventory extends Observable {
+public class Inventory {
+    /**
+     * event bus of the inventory, notifies the {@link view.itemViews.InventoryView} when the items change
+     */
+    private final EventBus eventBus = new EventBus();
     /**
      * array that contains the inventory's items.
      */
@@ -75,9 +81,7 @@ public class Inventory extends Observable {
         //add the item to the available slot
         items[availableSlot] = item;
 
-        setChanged();
-        notifyObservers("item added to inventory");
-        clearChanged();
+        eventBus.publish(GameEvent.ITEM_ADDED);
     }
 
     /**checks if the inventory is full
@@ -108,9 +112,7 @@ public class Inventory extends Observable {
         discardProgress[index] = 0;
         discardCompleted[index] = false;
         //notify inventory view
-        setChanged();
-        notifyObservers("removed item from inventory");
-        clearChanged();
+        eventBus.publish(GameEvent.ITEM_REMOVED);
 
     }
 
@@ -125,9 +127,7 @@ public class Inventory extends Observable {
                 break;
             }
         }
-        setChanged();
-        notifyObservers("removed computer card from inventory");
-        clearChanged();
+        eventBus.publish(GameEvent.COMPUTER_CARD_REMOVED);
     }
 
     /**
@@ -195,6 +195,13 @@ public class Inventory extends Observable {
         return capacity;
     }
 
+    /**
+     * @return {@link #eventBus}, to register the listeners of the inventory events
+     */
+    public EventBus getEventBus() {
+        return eventBus;
+    }
+
     /**returns an item at the specified index
      * @param index index of the item in the inventory
      * @return the Item at the specified inded
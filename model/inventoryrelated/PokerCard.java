@@ -1,5 +1,7 @@
 package model.inventoryrelated;
 
+import java.util.random.RandomGenerator;
+
 /**
  * model of a single 'poker card' item.
  * all the poker cards are created in the fields, instead of having a single class per card.
@@ -80,6 +82,26 @@ public class PokerCard extends Item{
             onediamond, twodiamond, threediamond, fourdiamond, fivediamond, sixdiamond, sevendiamond, eightdiamond, ninediamond, tendiamond, jdiamond, qdiamond, kdiamond, acediamond,
             joker
     };
+    /**
+     * drop table with the base drop rates of all the poker cards
+     */
+    private static final AliasTable<PokerCard> BASE_DROP_TABLE = createDropTable(0);
+    /**
+     * drop table of {@link #getBoostedAcePokerCard(RandomGenerator)}
+     */
+    private static final AliasTable<PokerCard> BOOSTED_ACE_DROP_TABLE = createDropTable(0.6, aceclub, acespade, acediamond, aceheart);
+    /**
+     * drop table of {@link #getBoostedFacePokerCard(RandomGenerator)}
+     */
+    private static final AliasTable<PokerCard> BOOSTED_FACE_DROP_TABLE = createDropTable(0.6,
+            jclub, qclub, kclub,
+            jspade, qspade, kspade,
+            jdiamond, qdiamond, kdiamond,
+            jheart, qheart, kheart);
+    /**
+     * drop table of {@link #getBoosted10Card(RandomGenerator)}
+     */
+    private static final AliasTable<PokerCard> BOOSTED_10_DROP_TABLE = createDropTable(0.7, tenclub, tenspade, tendiamond, tenheart);
 
     /**
      * name of the poker card
@@ -107,79 +129,72 @@ public class PokerCard extends Item{
     }
 
 
-    /** returns a random poker card
-     * @return a random poker card with base drop rates
+    /**creates the drop table of a boosted drop: with the boost chance, one of the boosted cards (all equally likely),
+     * otherwise a random card with the base drop rates.
+     * the two steps are merged into a single distribution, so a drop is a single lookup in the table.
+     * @param boostChance chance to get one of the boosted cards, 0 for the base drop rates
+     * @param boostedCards cards with the boosted drop rate
+     * @return the drop table
      */
-    public static PokerCard getRandomPokerCard(){
+    private static AliasTable<PokerCard> createDropTable(double boostChance, PokerCard... boostedCards){
         //calculate the total of all drop rates
-        //lets say 3 cards with .1, .2, .3, -> total = .6
-        float total = 0;
+        //lets say 3 cards with .1, .2, .3, -> total = .6, so the card 1 gets picked 16% of the times ...
+        double total = 0;
         for (PokerCard card : pokerCards){
             total += card.dropRate;
         }
 
-        //pick a random number along the drop rate
-        //picks a number between 0 - .6 , so if it is 0.0 - 0.1 -> the card 1 gets picked (16% chance) ...
-        float random = (float) Math.random() * total;
-        float count = 0;
-        for (PokerCard card : pokerCards){
-            count += card.dropRate;
-            if(random  <= count){
-                return card;
+        double[] weights = new double[pokerCards.length];
+        for (int i = 0; i < pokerCards.length; i++){
+            weights[i] = (1 - boostChance) * pokerCards[i].dropRate / total;
+            for (PokerCard boostedCard : boostedCards){
+                if (pokerCards[i] == boostedCard){
+                    weights[i] += boostChance / boostedCards.length;
+                }
             }
         }
-        return null;
+        return new AliasTable<>(pokerCards, weights);
+    }
+
+
+    /** returns a random poker card
+     * @param random random generator of the drop, usually the one of the room (see {@link model.SessionRandom})
+     * @return a random poker card with base drop rates
+     */
+    public static PokerCard getRandomPokerCard(RandomGenerator random){
+        return BASE_DROP_TABLE.sample(random);
     }
 
 
     /**return a poker card, with a boosted ace poker card drop rate. (60% chance)
+     * @param random random generator of the drop, usually the one of the room (see {@link model.SessionRandom})
      * @return a poker card
      */
     //boosted rates to get an ace
-    public static PokerCard getBoostedAcePokerCard(){
-        if (Math.random() < 0.6){       //60% to get an ace
-            PokerCard[] aces = {aceclub, acespade, acediamond, aceheart};
-            int whichAce = (int)(Math.random() * aces.length);
-            return aces[whichAce];
-        }
-        else{   //otherwise return a random card with the same rates
-            return getRandomPokerCard();
-        }
+    public static PokerCard getBoostedAcePokerCard(RandomGenerator random){
+        //60% to get an ace, otherwise a random card with the same rates
+        return BOOSTED_ACE_DROP_TABLE.sample(random);
     }
 
 
     /**returns a poker card, with a boosted rate to get a face card (60% chance)
+     * @param random random generator of the drop, usually the one of the room (see {@link model.SessionRandom})
      * @return a poker card
      */
     //boosted rates to get a face card
-    public static PokerCard getBoostedFacePokerCard(){
-        if (Math.random() < 0.6){   //60 % for getting a face card
-            PokerCard[] faceCards = {jclub, qclub, kclub,
-                                    jspade, qspade, kspade,
-                                    jdiamond, qdiamond, kdiamond,
-                                    jheart, qheart, kheart,};
-
-            int whichFace = (int)(Math.random() * faceCards.length);
-            return faceCards[whichFace];
-        }
-        else{
-            return getRandomPokerCard();
-        }
+    public static PokerCard getBoostedFacePokerCard(RandomGenerator random){
+        //60 % for getting a face card
+        return BOOSTED_FACE_DROP_TABLE.sample(random);
     }
 
     /**returns a poker card, with a boosted drop rate of a poker card of value 10. (70% chance)
+     * @param random random generator of the drop, usually the one of the room (see {@link model.SessionRandom})
      * @return a poker card
      */
     //boosted rates to get a 10 card
-    public static PokerCard getBoosted10Card(){
-        if (Math.random() < 0.7){      //70% to get a 10 card
-            PokerCard[] tencards = {tenclub, tenspade, tendiamond, tenheart};
-            int whichTen = (int)(Math.random() * tencards.length);
-            return tencards[whichTen];
-        }
-        else{
-            return getRandomPokerCard();
-        }
+    public static PokerCard getBoosted10Card(RandomGenerator random){
+        //70% to get a 10 card
+        return BOOSTED_10_DROP_TABLE.sample(random);
     }
 
 
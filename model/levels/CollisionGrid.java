@@ -0,0 +1,157 @@
+package model.levels;
+
+/**
+ * model, precomputed collision bitmask of a room. built once when the room data gets loaded by {@link LevelManager}.
+ * every row of the room is a long where bit n is set if the tile at col n is solid, and every col is a long where
+ * bit n is set if the tile at row n is solid. this way a whole edge of an entity hit box (a span of tiles on a single
+ * row or col) can be checked with a mask and a single and operation, instead of looking up every tile.
+ *
+ * it also keeps the same bitmask for the trigger tiles (death, checkpoint, extraction) that have a special effect on the
+ * {@link model.entities.Player}, so the player only has to look at the actual tile numbers when it is touching one.
+ */
+public class CollisionGrid {
+    /**
+     * tile numbers with a special effect on the player: death tile, checkpoint tile and extraction tile.
+     */
+    private static final int[] TRIGGER_TILES = {9, 99, 100};
+    /**
+     * max number of rows and cols in a grid: one bit per tile in a long.
+     */
+    private static final int MAX_SIZE = Long.SIZE;
+
+    /**
+     * solid tiles, one long per row, bit n = col n
+     */
+    private final long[] solidRows;
+    /**
+     * solid tiles, one long per col, bit n = row n
+     */
+    private final long[] solidCols;
+    /**
+     * trigger tiles, one long per row, bit n = col n
+     */
+    private final long[] triggerRows;
+    /**
+     * trigger tiles, one long per col, bit n = row n
+     */
+    private final long[] triggerCols;
+
+    /**builds the collision bitmask of the provided room data.
+     * @param roomData room data matrix, see {@link LevelManager#getCurrentRoomData()}
+     * @param tileManager tile manager, used to know which tiles have collision
+     */
+    public CollisionGrid(int[][] roomData, TileManager tileManager) {
+        int rows = Math.min(roomData.length, MAX_SIZE);
+        int cols = Math.min(roomData[0].length, MAX_SIZE);
+        this.solidRows = new long[rows];
+        this.solidCols = new long[cols];
+        this.triggerRows = new long[rows];
+        this.triggerCols = new long[cols];
+
+        for (int row = 0; row < rows; row++) {
+            for (int col = 0; col < cols; col++) {
+                int tileNum = roomData[row][col];
+                if (tileNum <= 0) {
+                    continue;
+                }
+                Tile tile = tileManager.getTile(tileNum);
+                if (tile != null && tile.collision) {
+                    solidRows[row] |= 1L << col;
+                    solidCols[col] |= 1L << row;
+                }
+                if (isTriggerTile(tileNum)) {
+                    triggerRows[row] |= 1L << col;
+                    triggerCols[col] |= 1L << row;
+                }
+            }
+        }
+    }
+
+    /**
+     * @param tileNum tile number
+     * @return true if the tile has a special effect on the player
+     */
+    private static boolean isTriggerTile(int tileNum) {
+        for (int triggerTile : TRIGGER_TILES) {
+            if (tileNum == triggerTile) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    //----------------------------------------------------------------------------------------------------------------//
+    // QUERIES
+    //----------------------------------------------------------------------------------------------------------------//
+    /**
+     * @param col tile col
+     * @param row tile row
+     * @return true if the tile is solid. tiles outside the grid are never solid.
+     */
+    public boolean isSolid(int col, int row) {
+        if (row < 0 || row >= solidRows.length || col < 0 || col >= solidCols.length) {
+            return false;
+        }
+        return (solidRows[row] & (1L << col)) != 0;
+    }
+
+    /**
+     * @param row tile row
+     * @param fromCol first col of the span
+     * @param toCol last col of the span (inclusive)
+     * @return true if any tile of the span is solid
+     */
+    public boolean isRowSpanSolid(int row, int fromCol, int toCol) {
+        return isSpanSet(solidRows, row, fromCol, toCol);
+    }
+
+    /**
+     * @param col tile col
+     * @param fromRow first row of the span
+     * @param toRow last row of the span (inclusive)
+     * @return true if any tile of the span is solid
+     */
+    public boolean isColSpanSolid(int col, int fromRow, int toRow) {
+        return isSpanSet(solidCols, col, fromRow, toRow);
+    }
+
+    /**
+     * @param row tile row
+     * @param fromCol first col of the span
+     * @param toCol last col of the span (inclusive)
+     * @return true if any tile of the span is a trigger tile (death, checkpoint, extraction)
+     */
+    public boolean isRowSpanTrigger(int row, int fromCol, int toCol) {
+        return isSpanSet(triggerRows, row, fromCol, toCol);
+    }
+
+    /**
+     * @param col tile col
+     * @param fromRow first row of the span
+     * @param toRow last row of the span (inclusive)
+     * @return true if any tile of the span is a trigger tile (death, checkpoint, extraction)
+     */
+    public boolean isColSpanTrigger(int col, int fromRow, int toRow) {
+        return isSpanSet(triggerCols, col, fromRow, toRow);
+    }
+
+    /**checks if any bit of the span is set in the provided line of the bitmask.
+     * @param lines the bitmask, rows or cols
+     * @param line row or col
+     * @param from first bit of the span
+     * @param to last bit of the span (inclusive)
+     * @return true if any bit in the span is set
+     */
+    private static boolean isSpanSet(long[] lines, int line, int from, int to) {
+        if (line < 0 || line >= lines.length) {
+            return false;
+        }
+        from = Math.max(from, 0);
+        to = Math.min(to, MAX_SIZE - 1);
+        if (from > to) {
+            return false;
+        }
+        long mask = (-1L >>> (MAX_SIZE - 1 - (to - from))) << from;     //bits from..to set
+        return (lines[line] & mask) != 0;
+    }
+}
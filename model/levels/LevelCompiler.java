@@ -0,0 +1,120 @@
+package model.levels;
+
+import model.ScreenSettings;
+
+import java.io.BufferedReader;
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.FileReader;
+import java.io.IOException;
+import java.util.Arrays;
+
+/**
+ * build tool, compiles the .txt rooms in res/levels into the binary {@link RoomPack} loaded by {@link LevelManager}.
+ * the text is parsed exactly like the .txt loader in {@link LevelManager} does, so both give the same room.
+ * the gradle build runs it (task compileRooms) whenever a room .txt file changes, and puts the pack in the resources
+ * of the game, so the pack is never committed and can't get out of date. it can also be run by hand:
+ * <pre>
+ * java model.levels.LevelCompiler [levels folder] [output file]
+ * </pre>
+ * by default it reads res/levels and writes build/generated/rooms/levels/rooms.pack.
+ * without a pack on the classpath (e.g. running the game from the sources) the rooms are parsed from the .txt files.
+ */
+public class LevelCompiler {
+    /**
+     * files in the levels folder that are not rooms
+     */
+    private static final String[] NON_ROOM_FILES = {"world.txt"};
+
+    /**compiles every room in the levels folder into a single room pack.
+     * @param args optional: levels folder, output file
+     * @throws IOException if a room can't be read or the pack can't be written
+     */
+    public static void main(String[] args) throws IOException {
+        File levelsFolder = new File(args.length > 0 ? args[0] : "res/levels");
+        File output = new File(args.length > 1 ? args[1] : "build/generated/rooms/levels/rooms.pack");
+
+        File[] roomFiles = levelsFolder.listFiles((dir, name) -> name.endsWith(".txt") && !Arrays.asList(NON_ROOM_FILES).contains(name));
+        if (roomFiles == null) {
+            throw new IOException("levels folder not found: " + levelsFolder);
+        }
+        Arrays.sort(roomFiles);     //keep the pack deterministic
+
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        DataOutputStream out = new DataOutputStream(bytes);
+        out.writeInt(RoomPack.MAGIC);
+        out.writeShort(RoomPack.VERSION);
+        out.writeShort(roomFiles.length);
+        for (File roomFile : roomFiles) {
+            compileRoom(roomFile, "levels/" + roomFile.getName(), out);
+        }
+        out.flush();
+
+        File outputFolder = output.getAbsoluteFile().getParentFile();
+        if (!outputFolder.isDirectory() && !outputFolder.mkdirs()) {
+            throw new IOException("couldn't create the output folder: " + outputFolder);
+        }
+        try (FileOutputStream fileOut = new FileOutputStream(output)) {
+            bytes.writeTo(fileOut);
+        }
+        System.out.println("[LevelCompiler] wrote " + roomFiles.length + " rooms to " + output + " (" + bytes.size() + " bytes)");
+    }
+
+    /**parses a single room .txt file and writes it to the pack.
+     * @param roomFile room .txt file
+     * @param roomPath path of the room, as returned by {@link Room#getRoomPath()}
+     * @param out pack output
+     * @throws IOException if the room can't be read
+     */
+    private static void compileRoom(File roomFile, String roomPath, DataOutputStream out) throws IOException {
+        int[][] tiles = new int[ScreenSettings.MAX_SCREEN_ROW][ScreenSettings.MAX_SCREEN_COL];
+        ByteArrayOutputStream spawnBytes = new ByteArrayOutputStream();
+        int spawnCount = 0;
+        int rows = 0;
+
+        try (BufferedReader bufferedReader = new BufferedReader(new FileReader(roomFile))) {
+            for (int row = 0; row < ScreenSettings.MAX_SCREEN_ROW; row++) {
+                String line = bufferedReader.readLine();
+                if (line == null) break;
+                rows++;
+
+                String[] numbers = line.split(" ");
+                for (int col = 0; col < numbers.length && col < ScreenSettings.MAX_SCREEN_COL; col++) {
+                    String number = numbers[col];
+                    if (number.isEmpty()) continue;
+
+                    char marker = number.charAt(0);
+                    if (RoomPack.SPAWN_MARKERS.indexOf(marker) >= 0) {     //object or enemy, the tile stays empty
+                        spawnBytes.write(marker);
+                        spawnBytes.write(row);
+                        spawnBytes.write(col);
+                        spawnCount++;
+                        continue;
+                    }
+                    try {
+                        tiles[row][col] = Integer.parseInt(number);
+                    }
+                    catch (NumberFormatException e) {
+                        tiles[row][col] = 0;
+                    }
+                    if (tiles[row][col] < 0 || tiles[row][col] > 255) {
+                        throw new IOException(roomPath + ": tile " + tiles[row][col] + " doesn't fit in a byte");
+                    }
+                }
+            }
+        }
+
+        out.writeUTF(roomPath);
+        out.writeByte(rows);
+        out.writeByte(ScreenSettings.MAX_SCREEN_COL);
+        for (int row = 0; row < rows; row++) {
+            for (int col = 0; col < ScreenSettings.MAX_SCREEN_COL; col++) {
+                out.writeByte(tiles[row][col]);
+            }
+        }
+        out.writeShort(spawnCount);
+        spawnBytes.writeTo(out);
+    }
+}
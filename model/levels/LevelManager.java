@@ -1,25 +1,38 @@
 package model.levels;
 
+import logging.Log;
 import model.ScreenSettings;
+import model.SessionRandom;
 import model.entities.Dog;
 import model.entities.Drone;
 import model.entities.Player;
+import model.events.EventBus;
+import model.events.GameEvent;
 import model.interactableObjects.*;
+import profiling.RoomLoadEvent;
+import profiling.RoomTransitionEvent;
 
 import java.io.BufferedReader;
+import java.io.IOException;
 import java.io.InputStream;
 import java.io.InputStreamReader;
-import java.util.Observable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 
 /**
  * model, the class initializes the game world / tutorial layout in the {@link #worldLayout} matrix.
  * loads room data, and handles room transitions, and helps preserve room state.
  */
-public class LevelManager extends Observable {      // -> observers: interactableObjectsView
+public class LevelManager {      // -> listeners: interactableObjectsView, enemyView, levelView
     //----------------------------------------------------------------------------------------------------------------//
     // FIELDS
     //----------------------------------------------------------------------------------------------------------------//
     //other models
+    /**
+     * event bus of the level manager, publishes {@link GameEvent#LEVEL_CHANGED} whenever the room changes (the
+     * {@link model.snapshot.RenderSnapshotBuffer} numbers the rooms with it)
+     */
+    private final EventBus eventBus = new EventBus();
     /**
      * tile manager instance
      */
@@ -28,6 +41,10 @@ public class LevelManager extends Observable {      // -> observers: interactabl
      * player instance
      */
     private Player player;
+    /**
+     * random source of the session, gives every room its own random generator, see {@link SessionRandom}
+     */
+    private final SessionRandom sessionRandom;
 
     /**
      * world layout. the game world is represented as a matrix. each slot in the matrix contains a room.
@@ -45,7 +62,29 @@ public class LevelManager extends Observable {      // -> observers: interactabl
     /**
      * contain current room data. it is an integer matrix, each integer represent which tile it is at that location.
      */
-    private int[][] currentRoomData;    //room data: .txt files that defines the levels
+    private volatile int[][] currentRoomData;    //room data: .txt files that defines the levels
+    /**
+     * collision bitmask of the current room, built from {@link #currentRoomData}. see {@link CollisionGrid}.
+     */
+    private volatile CollisionGrid currentCollisionGrid;
+    /**
+     * precompiled rooms, see {@link RoomPack}. null if there is no pack, then the rooms are parsed from the .txt files.
+     */
+    private final RoomPack roomPack;
+    /**
+     * size of a room data matrix. a room is at most 32x16 tiles, the matrix is bigger to prevent index out of bounds
+     * errors in some unhandled edge cases when the player changes room.
+     */
+    private final int ROOM_DATA_SIZE = 50;
+    /**
+     * background thread that prefetches the rooms next to the current one, see {@link #prefetchNeighbourRooms()}.
+     * shared by every level manager, it is a daemon thread so it never keeps the game open.
+     */
+    private static final ExecutorService PREFETCH_EXECUTOR = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "room-prefetch");
+        thread.setDaemon(true);
+        return thread;
+    });
     //----------------------------------------------------------------------------------------------------------------//
     // CONSTRUCTOR
     //----------------------------------------------------------------------------------------------------------------//
@@ -56,10 +95,21 @@ public class LevelManager extends Observable {      // -> observers: interactabl
      * -the {@link #currentRoomData} integer matrix,
      * -the first Room {@link #worldLayout} as a Room: this was done to solve a null pointer issue.
      * and adds the players as its observer
+     * the session gets a random seed, see {@link #LevelManager(Player, SessionRandom)} to choose it.
      *
      * @param player player instance
      */
     public LevelManager( Player player) {
+        this(player, new SessionRandom(System.nanoTime()));
+    }
+
+    /**creates a level manager, like {@link #LevelManager(Player)}, with the provided random source.
+     * the same seed always gives the same loot in the same room.
+     * @param player player instance
+     * @param sessionRandom random source of the session
+     */
+    public LevelManager(Player player, SessionRandom sessionRandom) {
+        this.sessionRandom = sessionRandom;
         this.tileManager = new TileManager();
         this.player = player;
         this.currentWorldRow = 0;
@@ -67,10 +117,13 @@ public class LevelManager extends Observable {      // -> observers: interactabl
 
 
         worldLayout = new Room[5][8];   //world size
-        currentRoomData = new int[50][50];   //a room is at most 32x16 tiles. however,  i am generating the matrix to be slightly bigger because there could be
+        currentRoomData = new int[ROOM_DATA_SIZE][ROOM_DATA_SIZE];   //a room is at most 32x16 tiles. however,  i am generating the matrix to be slightly bigger because there could be
         //some unhandled edge cases when player changes room. did this to prevent index out of bounds errors...
+        currentCollisionGrid = new CollisionGrid(currentRoomData, tileManager);
 
         worldLayout[0][0] = new Room(Room.RoomType.GROUND, 0, true);     //init a default room when initializing, otherwise it gives a null room (for some reason)
+
+        this.roomPack = RoomPack.getInstance();
     }
 
     /**
@@ -169,9 +222,8 @@ public class LevelManager extends Observable {      // -> observers: interactabl
         Room currentRoom = getCurrentRoom();
         if (currentWorldCol > 0 && worldLayout[currentWorldRow][currentWorldCol - 1] != null) {
             currentWorldCol--;
-            System.out.println("[LevelManager] moveToLeftRoom(): moving to left room, marking as visited");
-            currentRoom.isVisited = true;
-            loadCurrentRoom();
+            Log.debug("[LevelManager] moveToLeftRoom(): moving to left room, marking as visited");
+            enterRoom(currentRoom, "left");
 
         }
     }
@@ -183,9 +235,8 @@ public class LevelManager extends Observable {      // -> observers: interactabl
         Room currentRoom = getCurrentRoom();
         if (currentWorldCol < 7  && worldLayout[currentWorldRow][currentWorldCol + 1] != null ) {
             currentWorldCol++;
-            System.out.println("[LevelManager] moveToRightRoom(): moving to right room, marking as visited");
-            currentRoom.isVisited = true;
-            loadCurrentRoom();
+            Log.debug("[LevelManager] moveToRightRoom(): moving to right room, marking as visited");
+            enterRoom(currentRoom, "right");
 
         }
     }
@@ -198,8 +249,7 @@ public class LevelManager extends Observable {      // -> observers: interactabl
         if (currentWorldRow > 0  && worldLayout[currentWorldRow - 1][currentWorldCol] != null ) {
             currentWorldRow--;
 
-            currentRoom.isVisited = true;
-            loadCurrentRoom();
+            enterRoom(currentRoom, "up");
 
         }
     }
@@ -212,12 +262,32 @@ public class LevelManager extends Observable {      // -> observers: interactabl
         if (currentWorldRow < 4  && worldLayout[currentWorldRow + 1][currentWorldCol] != null ) {
             currentWorldRow++;
 
-            currentRoom.isVisited = true;
-            loadCurrentRoom();
+            enterRoom(currentRoom, "down");
 
         }
     }
 
+    /**marks the room the player left as visited and loads the new current room.
+     * the whole room change is recorded as a {@link RoomTransitionEvent} when the flight recorder is on.
+     * @param previousRoom room the player left
+     * @param direction direction of the move, for the event
+     */
+    private void enterRoom(Room previousRoom, String direction) {
+        RoomTransitionEvent transitionEvent = new RoomTransitionEvent();
+        transitionEvent.begin();
+
+        previousRoom.isVisited = true;
+        loadCurrentRoom();
+
+        transitionEvent.end();
+        if (transitionEvent.shouldCommit()) {
+            transitionEvent.direction = direction;
+            transitionEvent.fromRoom = previousRoom.getRoomPath();
+            transitionEvent.toRoom = getCurrentRoom().getRoomPath();
+            transitionEvent.depth = getCurrentDepth();
+            transitionEvent.commit();
+        }
+    }
 
     /**
      * loads the current room data. heavy work is done by {@link #loadRoomData(String)}, which loads tiles, objects and enemies of the room.
@@ -231,108 +301,47 @@ public class LevelManager extends Observable {      // -> observers: interactabl
         loadRoomData(roomPath); //load room data, also notifies observers
     }
 
-    /**loads the room data: reads the text file contents, and based on the marker, it places the interactable object, enemies or tiles,
+    /**loads the room data: places the tiles, and the interactable objects and enemies of the room,
      * only if that specific instance of the room has not been initialized: allows persistent room state tracking, so that
-     * does not reload opened interactable objects / disabled enemies
+     * does not reload opened interactable objects / disabled enemies.
+     * the tile data of every room is kept in the {@link Room} after the first load (or after being prefetched,
+     * see {@link #prefetchNeighbourRooms()}), so changing room is just swapping {@link #currentRoomData}.
+     * the room is copied from the precompiled {@link RoomPack} if it is there, otherwise it is parsed from its .txt file.
+     * the load is recorded as a {@link RoomLoadEvent} when the flight recorder is on.
      * @param roomPath path of the room .txt file
      */
     private void loadRoomData(String roomPath) {
+        RoomLoadEvent loadEvent = new RoomLoadEvent();
+        loadEvent.begin();
+        Room currentRoom = getCurrentRoom();
+        boolean firstVisit = !currentRoom.isInitialized;
+        boolean cached = currentRoom.getRoomData() != null;
+        RoomPack.RoomEntry packedRoom = roomPack != null ? roomPack.getRoom(roomPath) : null;
         try {
             //clear everything in the room
-            Room currentRoom = getCurrentRoom();
             if (!currentRoom.isInitialized){    //if not been initialized then start from a clean slate
                 currentRoom.clearAllObjects();
+                if (currentRoom.random == null) {
+                    currentRoom.random = sessionRandom.forRoom(currentWorldRow, currentWorldCol);
+                }
             }
-            //read the file
-            InputStream inputStream = getClass().getClassLoader().getResourceAsStream(roomPath);
-            BufferedReader bufferedReader = new BufferedReader(new InputStreamReader(inputStream));
-
-            for (int row = 0; row < ScreenSettings.MAX_SCREEN_ROW; row++) { //for text file each row
-                String line = bufferedReader.readLine();    //.txt line
-                if (line == null) break;
-
-                String[] numbers = line.split(" "); //text file line numbers
-                for (int col = 0; col < numbers.length && col < ScreenSettings.MAX_SCREEN_COL; col++) { //text file cols
-                    String number = numbers[col];   //single number
-                    if (number.isEmpty()) continue;
-                    //calculate where the starting x and y of each time
-                    int tileX = col * ScreenSettings.TILE_SIZE;
-                    int tileY = row * ScreenSettings.TILE_SIZE;
-
-                    char marker = number.charAt(0); //get the first char of the string: if the string is an integer, then just falls down to the default case and just load the tile number
-                    switch (marker) {
-                        //load the interactable objects
-                        case 'b':
-                            if (!currentRoom.isInitialized) {   //if it has not been previously initialized, then creaate the new object, otherwise no need to create new instances
-                                currentRoom.addInteractableObject(new PaperBox(tileX, tileY));
-                                currentRoomData[row][col] = 0;
-                                break;
-                            }
-                        case 'R':
-                            if (!currentRoom.isInitialized) {
-                                currentRoom.addInteractableObject(new RedBox(tileX, tileY));
-                                currentRoomData[row][col] = 0;
-                                break;
-                            }
-                        case 'M':
-                            if (!currentRoom.isInitialized) {
-                                currentRoom.addInteractableObject(new MetalLocker(tileX, tileY));
-                                currentRoomData[row][col] = 0;
-                                break;
-                            }
-                        case 'W':
-                            if (!currentRoom.isInitialized) {
-                                currentRoom.addInteractableObject(new WoodLocker(tileX, tileY));
-                                currentRoomData[row][col] = 0;
-                                break;
-                            }
-                        case 'c':
-                            if (!currentRoom.isInitialized) {
-                                currentRoom.addInteractableObject(new Card(tileX, tileY));
-                                currentRoomData[row][col] = 0;
-                                break;
-                            }
-                        case 'L':
-                            if (!currentRoom.isInitialized) {
-                                currentRoom.addInteractableObject(new Ladder(tileX, tileY));
-                                currentRoomData[row][col] = 0;
-                                break;
-                            }
-                        case 'C':
-                            if (!currentRoom.isInitialized) {
-                                currentRoom.addInteractableObject(new Computer(tileX, tileY));
-                                currentRoomData[row][col] = 0;
-                                break;
-                            }
-
-                        //load the enemies
-                        case 'D':
-                            if (!currentRoom.isInitialized) {
-                                currentRoom.addDrone(new Drone(tileX, tileY, player, this));
-                                currentRoomData[row][col] = 0;
-                                break;
-                            }
-                        case 'd':
-                            if (!currentRoom.isInitialized) {
-                                currentRoom.addDog(new Dog(tileX, tileY, player, this));
-                                currentRoomData[row][col] = 0;
-                                break;
-                            }
-                        //load the tiles
-                        default:
-                            try {
-                                //load the tiles regardless if the room has been initialized or not
-                                int tileNum = Integer.parseInt(number);
-                                currentRoomData[row][col] = tileNum;
-                            }
-                            catch (NumberFormatException e) {
-                                currentRoomData[row][col] = 0;
-                            }
-                            break;
-                    }
+
+            int[][] roomData = currentRoom.getRoomData();
+            if (packedRoom != null) {
+                if (roomData == null) {     //not prefetched
+                    roomData = cacheRoomData(currentRoom, createPackedRoomData(packedRoom));
                 }
+                if (!currentRoom.isInitialized) {
+                    spawnPackedRoom(packedRoom, currentRoom);
+                }
+            }
+            else if (roomData == null) {
+                int[][] textRoomData = createRoomData();
+                loadTextRoom(roomPath, currentRoom, textRoomData);
+                roomData = cacheRoomData(currentRoom, textRoomData);
             }
-            bufferedReader.close();
+            currentCollisionGrid = currentRoom.getCollisionGrid();
+            currentRoomData = roomData;     //swap to the room
 
             if (!currentRoom.isInitialized) {   //mark the room as initialized after first visit
                 currentRoom.isInitialized = true;
@@ -341,9 +350,172 @@ public class LevelManager extends Observable {      // -> observers: interactabl
             e.printStackTrace();
         }
 
-        setChanged();
-        notifyObservers("level changed");
-        clearChanged();
+        prefetchNeighbourRooms();
+
+        loadEvent.end();
+        if (loadEvent.shouldCommit()) {
+            loadEvent.roomPath = roomPath;
+            loadEvent.packed = packedRoom != null;
+            loadEvent.cached = cached;
+            loadEvent.firstVisit = firstVisit;
+            loadEvent.enemyCount = currentRoom.getDrones().size() + currentRoom.getDogs().size();
+            loadEvent.objectCount = currentRoom.getInteractiveObjects().size();
+            loadEvent.commit();
+        }
+
+        eventBus.publish(GameEvent.LEVEL_CHANGED);
+    }
+
+    /**creates a new room data matrix. it starts as a copy of the current room data, so that the rows a room file doesn't
+     * define keep the tiles of the room the player is coming from, like they always did when the rooms were loaded in place.
+     * @return new room data matrix
+     */
+    private int[][] createRoomData() {
+        int[][] source = currentRoomData;
+        int[][] roomData = new int[ROOM_DATA_SIZE][];
+        for (int row = 0; row < ROOM_DATA_SIZE; row++) {
+            roomData[row] = source[row].clone();
+        }
+        return roomData;
+    }
+
+    /**creates the room data of a room in the {@link RoomPack}.
+     * @param packedRoom the room in the pack
+     * @return new room data matrix
+     */
+    private int[][] createPackedRoomData(RoomPack.RoomEntry packedRoom) {
+        int[][] roomData = createRoomData();
+        roomPack.copyTiles(packedRoom, roomData);
+        return roomData;
+    }
+
+    /**stores the room data in the room, together with its {@link CollisionGrid}, unless another thread already did
+     * (the prefetch thread and the game thread can load the same room at the same time).
+     * @param room the room
+     * @param roomData the loaded room data
+     * @return the room data stored in the room
+     */
+    private synchronized int[][] cacheRoomData(Room room, int[][] roomData) {
+        if (room.roomData == null) {
+            room.collisionGrid = new CollisionGrid(roomData, tileManager);
+            room.roomData = roomData;
+        }
+        return room.roomData;
+    }
+
+    /**
+     * prefetches the tile data of the rooms on the left, right, top and bottom of the current room on the
+     * {@link #PREFETCH_EXECUTOR} thread, so that moving to them doesn't load anything on the game thread.
+     * only rooms in the {@link RoomPack} get prefetched: the objects and enemies are still spawned on the game thread
+     * the first time the room is entered.
+     */
+    private void prefetchNeighbourRooms() {
+        if (roomPack == null) {
+            return;
+        }
+        prefetchRoom(currentWorldRow, currentWorldCol - 1);
+        prefetchRoom(currentWorldRow, currentWorldCol + 1);
+        prefetchRoom(currentWorldRow - 1, currentWorldCol);
+        prefetchRoom(currentWorldRow + 1, currentWorldCol);
+    }
+
+    /**prefetches the tile data of the room at the provided world layout position, if there is a room that has not
+     * been loaded yet.
+     * @param row world layout row
+     * @param col world layout col
+     */
+    private void prefetchRoom(int row, int col) {
+        if (row < 0 || row >= worldLayout.length || col < 0 || col >= worldLayout[row].length) {
+            return;
+        }
+        Room room = worldLayout[row][col];
+        if (room == null || room.getRoomData() != null) {
+            return;
+        }
+        RoomPack.RoomEntry packedRoom = roomPack.getRoom(room.getRoomPath());
+        if (packedRoom != null) {
+            PREFETCH_EXECUTOR.execute(() -> cacheRoomData(room, createPackedRoomData(packedRoom)));
+        }
+    }
+
+    /**spawns the objects and enemies of a room in the {@link RoomPack}.
+     * @param packedRoom the room in the pack
+     * @param currentRoom the room being loaded
+     */
+    private void spawnPackedRoom(RoomPack.RoomEntry packedRoom, Room currentRoom) {
+        for (int i = 0; i < packedRoom.getSpawnCount(); i++) {
+            int tileX = roomPack.getSpawnCol(packedRoom, i) * ScreenSettings.TILE_SIZE;
+            int tileY = roomPack.getSpawnRow(packedRoom, i) * ScreenSettings.TILE_SIZE;
+            spawn(roomPack.getSpawnMarker(packedRoom, i), tileX, tileY, currentRoom);
+        }
+    }
+
+    /**loads a room from its .txt file: reads the text file contents, and based on the marker, it places the
+     * interactable object, enemies or tiles. used when the room is not in the {@link RoomPack}.
+     * @param roomPath path of the room .txt file
+     * @param currentRoom the room being loaded
+     * @param roomData room data matrix to fill
+     * @throws IOException if the file can't be read
+     */
+    private void loadTextRoom(String roomPath, Room currentRoom, int[][] roomData) throws IOException {
+        //read the file
+        InputStream inputStream = getClass().getClassLoader().getResourceAsStream(roomPath);
+        BufferedReader bufferedReader = new BufferedReader(new InputStreamReader(inputStream));
+
+        for (int row = 0; row < ScreenSettings.MAX_SCREEN_ROW; row++) { //for text file each row
+            String line = bufferedReader.readLine();    //.txt line
+            if (line == null) break;
+
+            String[] numbers = line.split(" "); //text file line numbers
+            for (int col = 0; col < numbers.length && col < ScreenSettings.MAX_SCREEN_COL; col++) { //text file cols
+                String number = numbers[col];   //single number
+                if (number.isEmpty()) continue;
+                //calculate where the starting x and y of each time
+                int tileX = col * ScreenSettings.TILE_SIZE;
+                int tileY = row * ScreenSettings.TILE_SIZE;
+
+                char marker = number.charAt(0); //get the first char of the string: if the string is an integer, then just load the tile number
+                if (RoomPack.SPAWN_MARKERS.indexOf(marker) >= 0) {
+                    if (!currentRoom.isInitialized) {   //if it has not been previously initialized, then creaate the new object, otherwise no need to create new instances
+                        spawn(marker, tileX, tileY, currentRoom);
+                    }
+                    roomData[row][col] = 0;
+                    continue;
+                }
+                //load the tiles
+                try {
+                    //load the tiles regardless if the room has been initialized or not
+                    int tileNum = Integer.parseInt(number);
+                    roomData[row][col] = tileNum;
+                }
+                catch (NumberFormatException e) {
+                    roomData[row][col] = 0;
+                }
+            }
+        }
+        bufferedReader.close();
+    }
+
+    /**creates the interactable object or enemy of the provided marker, and adds it to the room.
+     * @param marker room file marker, see {@link RoomPack#SPAWN_MARKERS}
+     * @param tileX x pixel coordinate of the tile
+     * @param tileY y pixel coordinate of the tile
+     * @param currentRoom the room being loaded
+     */
+    private void spawn(char marker, int tileX, int tileY, Room currentRoom) {
+        switch (marker) {
+            //load the interactable objects
+            case 'b': currentRoom.addInteractableObject(new PaperBox(tileX, tileY, currentRoom.getRandom())); break;
+            case 'R': currentRoom.addInteractableObject(new RedBox(tileX, tileY, currentRoom.getRandom())); break;
+            case 'M': currentRoom.addInteractableObject(new MetalLocker(tileX, tileY, currentRoom.getRandom())); break;
+            case 'W': currentRoom.addInteractableObject(new WoodLocker(tileX, tileY, currentRoom.getRandom())); break;
+            case 'c': currentRoom.addInteractableObject(new Card(tileX, tileY)); break;
+            case 'L': currentRoom.addInteractableObject(new Ladder(tileX, tileY)); break;
+            case 'C': currentRoom.addInteractableObject(new Computer(tileX, tileY)); break;
+            //load the enemies
+            case 'D': currentRoom.addDrone(new Drone(tileX, tileY, player, this)); break;
+            case 'd': currentRoom.addDog(new Dog(tileX, tileY, player, this)); break;
+        }
     }
 
     //----------------------------------------------------------------------------------------------------------------//
@@ -409,6 +581,13 @@ public class LevelManager extends Observable {      // -> observers: interactabl
         }
     }
 
+    /**
+     * @return random source of the session
+     */
+    public SessionRandom getSessionRandom() {
+        return sessionRandom;
+    }
+
     /**
      * @return the current which the {@link Player} is in
      */
@@ -447,6 +626,20 @@ public class LevelManager extends Observable {      // -> observers: interactabl
         return currentRoomData;
     }
 
+    /**
+     * @return {@link #currentCollisionGrid}
+     */
+    public CollisionGrid getCurrentCollisionGrid() {
+        return currentCollisionGrid;
+    }
+
+    /**
+     * @return {@link #eventBus}, to register the listeners of {@link GameEvent#LEVEL_CHANGED}
+     */
+    public EventBus getEventBus() {
+        return eventBus;
+    }
+
     /**
      * @param tileNum tile number
      * @return {@link Tile} object that has that tile number
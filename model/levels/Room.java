@@ -6,6 +6,7 @@ import model.interactableObjects.InteractableObject;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.SplittableRandom;
 
 /**
  * model, contains an inner enum {@link RoomType},s contain utility methods, primarily a class that allows working on enemies
@@ -45,6 +46,21 @@ public class Room {
      */
     protected boolean isInitialized;
 
+    /**
+     * tile data of the room, kept after the room is loaded the first time (or prefetched by {@link LevelManager}),
+     * so that coming back to the room does not load it again. null until then.
+     */
+    protected volatile int[][] roomData;
+    /**
+     * collision bitmask of the room, built together with {@link #roomData}. null until then.
+     */
+    protected volatile CollisionGrid collisionGrid;
+    /**
+     * random generator of the room, used for the loot of its objects. set by the {@link LevelManager} from the
+     * {@link model.SessionRandom} of the session, before the room is initialized.
+     */
+    protected SplittableRandom random;
+
     /**
      * list of {@link InteractableObject}s in the room
      */
@@ -250,6 +266,27 @@ public class Room {
     }
 
 
+    /**
+     * @return the cached tile data of the room, or null if it has not been loaded yet
+     */
+    public int[][] getRoomData(){
+        return roomData;
+    }
+
+    /**
+     * @return the collision bitmask of the room, or null if it has not been loaded yet
+     */
+    public CollisionGrid getCollisionGrid(){
+        return collisionGrid;
+    }
+
+    /**
+     * @return random generator of the room, or null if the room has not been loaded yet
+     */
+    public SplittableRandom getRandom(){
+        return random;
+    }
+
     /**
      * @return tutorial text
      */
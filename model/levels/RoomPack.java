@@ -0,0 +1,260 @@
+package model.levels;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URL;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * model, precompiled binary pack of all the rooms in res/levels, generated by {@link LevelCompiler} at build time.
+ * the pack is memory mapped (or read into a single buffer when running from a jar), and indexed once when it is loaded,
+ * so loading a room is just copying bytes from the buffer into the room data matrix, without any text parsing.
+ *
+ * pack layout (big endian):
+ * <pre>
+ * int    magic ('IMRP')
+ * short  version
+ * short  room count
+ * for each room:
+ *   short + utf-8 bytes   room path, as returned by {@link Room#getRoomPath()}
+ *   byte   rows
+ *   byte   cols
+ *   byte[rows * cols]     tile numbers, spawn cells are stored as 0
+ *   short  spawn count
+ *   for each spawn: byte marker, byte row, byte col
+ * </pre>
+ */
+public class RoomPack {
+    //----------------------------------------------------------------------------------------------------------------//
+    // FIELDS
+    //----------------------------------------------------------------------------------------------------------------//
+    /**
+     * resource path of the room pack
+     */
+    public static final String PACK_PATH = "levels/rooms.pack";
+    /**
+     * magic number at the start of the pack: the ascii 'IMRP'
+     */
+    public static final int MAGIC = 0x494D5250;
+    /**
+     * pack format version. bump it when the layout changes, so old packs get rejected.
+     */
+    public static final short VERSION = 1;
+    /**
+     * the markers that spawn an interactable object or an enemy instead of a tile.
+     * see {@link LevelManager} for what each marker creates.
+     */
+    public static final String SPAWN_MARKERS = "bRMWcLCDd";
+
+    /**
+     * the pack contents
+     */
+    private final ByteBuffer buffer;
+    /**
+     * index of the rooms in the pack, by room path
+     */
+    private final Map<String, RoomEntry> rooms = new HashMap<>();
+    /**
+     * the room pack shared by every {@link LevelManager}, see {@link #getInstance()}
+     */
+    private static RoomPack instance;
+    /**
+     * flag that indicates if the room pack was already loaded (the {@link #instance} can be null if there is no pack)
+     */
+    private static boolean instanceLoaded = false;
+
+    /**
+     * position of a single room inside the pack.
+     */
+    public static class RoomEntry {
+        /**
+         * number of rows stored for the room
+         */
+        private final int rows;
+        /**
+         * number of cols stored for the room
+         */
+        private final int cols;
+        /**
+         * buffer position of the first tile
+         */
+        private final int tilesOffset;
+        /**
+         * number of spawns of the room
+         */
+        private final int spawnCount;
+        /**
+         * buffer position of the first spawn
+         */
+        private final int spawnsOffset;
+
+        /**creates an entry
+         * @param rows number of rows
+         * @param cols number of cols
+         * @param tilesOffset buffer position of the first tile
+         * @param spawnCount number of spawns
+         * @param spawnsOffset buffer position of the first spawn
+         */
+        private RoomEntry(int rows, int cols, int tilesOffset, int spawnCount, int spawnsOffset) {
+            this.rows = rows;
+            this.cols = cols;
+            this.tilesOffset = tilesOffset;
+            this.spawnCount = spawnCount;
+            this.spawnsOffset = spawnsOffset;
+        }
+
+        /**
+         * @return number of rows stored for the room
+         */
+        public int getRows() { return rows; }
+
+        /**
+         * @return number of cols stored for the room
+         */
+        public int getCols() { return cols; }
+
+        /**
+         * @return number of objects / enemies spawned in the room
+         */
+        public int getSpawnCount() { return spawnCount; }
+    }
+
+    //----------------------------------------------------------------------------------------------------------------//
+    // CONSTRUCTOR
+    //----------------------------------------------------------------------------------------------------------------//
+    /**indexes the rooms of the provided pack.
+     * @param buffer pack contents
+     * @throws IOException if the buffer is not a valid room pack
+     */
+    private RoomPack(ByteBuffer buffer) throws IOException {
+        this.buffer = buffer;
+
+        if (buffer.getInt(0) != MAGIC || buffer.getShort(4) != VERSION) {
+            throw new IOException("not a room pack, or wrong version");
+        }
+        int roomCount = buffer.getShort(6);
+        int position = 8;
+        for (int i = 0; i < roomCount; i++) {
+            int pathLength = buffer.getShort(position) & 0xFFFF;
+            byte[] pathBytes = new byte[pathLength];
+            buffer.get(position + 2, pathBytes);
+            String path = new String(pathBytes, StandardCharsets.UTF_8);
+            position += 2 + pathLength;
+
+            int rows = buffer.get(position) & 0xFF;
+            int cols = buffer.get(position + 1) & 0xFF;
+            int tilesOffset = position + 2;
+            position = tilesOffset + rows * cols;
+
+            int spawnCount = buffer.getShort(position) & 0xFFFF;
+            int spawnsOffset = position + 2;
+            position = spawnsOffset + spawnCount * 3;
+
+            rooms.put(path, new RoomEntry(rows, cols, tilesOffset, spawnCount, spawnsOffset));
+        }
+    }
+
+    /**loads the room pack from the classpath.
+     * if the pack is a plain file it gets memory mapped, otherwise (inside a jar) it is read once into a buffer.
+     * @return the room pack, or null if there is no pack or it can't be read. the caller should then fall back to
+     * the .txt rooms.
+     */
+    public static RoomPack load() {
+        URL url = RoomPack.class.getClassLoader().getResource(PACK_PATH);
+        if (url == null) {
+            System.out.println("[RoomPack][load()] no room pack found at " + PACK_PATH + ", using the .txt rooms");
+            return null;
+        }
+        try {
+            ByteBuffer buffer;
+            if (url.getProtocol().equals("file")) {
+                try (FileChannel channel = FileChannel.open(Path.of(url.toURI()), StandardOpenOption.READ)) {
+                    buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+                }
+            }
+            else {
+                try (InputStream inputStream = url.openStream()) {
+                    buffer = ByteBuffer.wrap(inputStream.readAllBytes());
+                }
+            }
+            RoomPack roomPack = new RoomPack(buffer);
+            System.out.println("[RoomPack][load()] loaded " + roomPack.rooms.size() + " rooms from " + PACK_PATH);
+            return roomPack;
+        }
+        catch (Exception e) {
+            System.out.println("[RoomPack][load()] couldn't load the room pack, using the .txt rooms");
+            e.printStackTrace();
+            return null;
+        }
+    }
+
+    /**loads the room pack the first time it is called, and then always returns the same one.
+     * the pack is read only, so it can be shared by every {@link LevelManager}.
+     * @return the room pack, or null if there is no pack, see {@link #load()}
+     */
+    public static synchronized RoomPack getInstance() {
+        if (!instanceLoaded) {
+            instance = load();
+            instanceLoaded = true;
+        }
+        return instance;
+    }
+
+    //----------------------------------------------------------------------------------------------------------------//
+    // ROOM ACCESS
+    //----------------------------------------------------------------------------------------------------------------//
+    /**
+     * @param roomPath path of the room, as returned by {@link Room#getRoomPath()}
+     * @return the room entry, or null if the room is not in the pack
+     */
+    public RoomEntry getRoom(String roomPath) {
+        return rooms.get(roomPath);
+    }
+
+    /**copies the tiles of the room into the provided matrix. only the stored rows and cols are written.
+     * @param room room entry
+     * @param roomData destination matrix
+     */
+    public void copyTiles(RoomEntry room, int[][] roomData) {
+        int position = room.tilesOffset;
+        for (int row = 0; row < room.rows; row++) {
+            int[] dataRow = roomData[row];
+            for (int col = 0; col < room.cols; col++) {
+                dataRow[col] = buffer.get(position++) & 0xFF;
+            }
+        }
+    }
+
+    /**
+     * @param room room entry
+     * @param index spawn index, from 0 to {@link RoomEntry#getSpawnCount()}
+     * @return the marker of the spawn, see {@link #SPAWN_MARKERS}
+     */
+    public char getSpawnMarker(RoomEntry room, int index) {
+        return (char) (buffer.get(room.spawnsOffset + index * 3) & 0xFF);
+    }
+
+    /**
+     * @param room room entry
+     * @param index spawn index, from 0 to {@link RoomEntry#getSpawnCount()}
+     * @return the tile row of the spawn
+     */
+    public int getSpawnRow(RoomEntry room, int index) {
+        return buffer.get(room.spawnsOffset + index * 3 + 1) & 0xFF;
+    }
+
+    /**
+     * @param room room entry
+     * @param index spawn index, from 0 to {@link RoomEntry#getSpawnCount()}
+     * @return the tile col of the spawn
+     */
+    public int getSpawnCol(RoomEntry room, int index) {
+        return buffer.get(room.spawnsOffset + index * 3 + 2) & 0xFF;
+    }
+}
@@ -19,11 +19,26 @@ public class TileManager {
     private final Tile[] tiles;
 
     /**
-     * initialized the empty array {@link tiles} into an array of size 101, and initializes the tiles information
+     * tiles shared by every tile manager. the tiles never change after being initialized, so the sprites are only read
+     * once per process instead of once per game (matters when a lot of games get created, e.g. {@link main.HeadlessSimulation}).
+     */
+    private static Tile[] sharedTiles;
+
+    /**
+     * initialized the empty array {@link tiles} into an array of size 101, and initializes the tiles information.
+     * if the tiles were already initialized by another tile manager, they are reused.
      */
     public TileManager() {
-        tiles = new Tile[101];    //creating 81 kind of tiles, if you need more, change this
-        initializeTiles();
+        synchronized (TileManager.class) {
+            if (sharedTiles == null) {
+                tiles = new Tile[101];    //creating 81 kind of tiles, if you need more, change this
+                initializeTiles();
+                sharedTiles = tiles;
+            }
+            else {
+                tiles = sharedTiles;
+            }
+        }
     }
 
 
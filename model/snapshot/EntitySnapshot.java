@@ -0,0 +1,187 @@
+package model.snapshot;
+
+import model.entities.Dog;
+import model.entities.Drone;
+import model.entities.Entity;
+import model.entities.Player;
+
+/**
+ * state of an {@link Entity} (the player, a drone or a dog) at the end of a tick, as the views need it to draw it:
+ * position, size, direction and the flags that pick the animation.
+ * it is part of a {@link RenderSnapshot}: filled on the game thread, and never changed while the views read it.
+ * the getters are named like the ones of the models, the flags an entity doesn't have are false.
+ */
+public final class EntitySnapshot {
+    /**
+     * position at the end of the tick
+     */
+    private int x, y;
+    /**
+     * position at the start of the tick, to interpolate between the two
+     */
+    private int previousX, previousY;
+    /**
+     * size of the entity
+     */
+    private int width, height;
+    /**
+     * direction the entity is facing, "left" or "right"
+     */
+    private String direction;
+    /**
+     * animation flags of the player
+     */
+    private boolean moving, jumping, climbing, onGround, gameOver;
+    /**
+     * animation flags of the enemies
+     */
+    private boolean idle, disabled, chasing;
+
+    /**
+     * empty snapshot, filled by one of the capture methods
+     */
+    EntitySnapshot() {
+    }
+
+    /**copies the state of the player.
+     * @param player the player
+     */
+    void capture(Player player) {
+        capturePosition(player);
+        this.moving = player.getIsMoving();
+        this.jumping = player.getIsJumping();
+        this.climbing = player.getIsClimbing();
+        this.onGround = player.getIsOnGround();
+        this.gameOver = player.getGameOver();
+        this.idle = false;
+        this.disabled = false;
+        this.chasing = false;
+    }
+
+    /**copies the state of a drone.
+     * @param drone the drone
+     */
+    void capture(Drone drone) {
+        capturePosition(drone);
+        captureEnemy(drone.getIsMoving(), drone.getIsIdle(), drone.getIsDisabled(), drone.getIsChasing());
+    }
+
+    /**copies the state of a dog.
+     * @param dog the dog
+     */
+    void capture(Dog dog) {
+        capturePosition(dog);
+        captureEnemy(dog.getIsMoving(), dog.getIsIdle(), dog.getIsDisabled(), dog.getIsChasing());
+    }
+
+    /**copies the position, size and direction of an entity.
+     * @param entity the entity
+     */
+    private void capturePosition(Entity entity) {
+        this.x = entity.getX();
+        this.y = entity.getY();
+        this.previousX = entity.getPreviousX();
+        this.previousY = entity.getPreviousY();
+        this.width = entity.getWidth();
+        this.height = entity.getHeight();
+        this.direction = entity.getDirection();
+    }
+
+    /**sets the flags of an enemy, the ones of the player are cleared.
+     * @param moving true if the enemy is moving
+     * @param idle true if the enemy is idle
+     * @param disabled true if the enemy is disabled
+     * @param chasing true if the enemy is chasing the player
+     */
+    private void captureEnemy(boolean moving, boolean idle, boolean disabled, boolean chasing) {
+        this.moving = moving;
+        this.idle = idle;
+        this.disabled = disabled;
+        this.chasing = chasing;
+        this.jumping = false;
+        this.climbing = false;
+        this.onGround = false;
+        this.gameOver = false;
+    }
+
+    /**gets the x coordinate the entity should be drawn at, like {@link Entity#getRenderX(double)}.
+     * @param alpha how far the renderer is between the previous and the current tick, from 0 to 1
+     * @return interpolated x pixel coordinate
+     */
+    public int getRenderX(double alpha) {
+        return Entity.interpolate(previousX, x, alpha);
+    }
+
+    /**gets the y coordinate the entity should be drawn at, like {@link Entity#getRenderY(double)}.
+     * @param alpha how far the renderer is between the previous and the current tick, from 0 to 1
+     * @return interpolated y pixel coordinate
+     */
+    public int getRenderY(double alpha) {
+        return Entity.interpolate(previousY, y, alpha);
+    }
+
+    /**
+     * @return x coordinate at the end of the tick
+     */
+    public int getX() { return x; }
+
+    /**
+     * @return y coordinate at the end of the tick
+     */
+    public int getY() { return y; }
+
+    /**
+     * @return width of the entity
+     */
+    public int getWidth() { return width; }
+
+    /**
+     * @return height of the entity
+     */
+    public int getHeight() { return height; }
+
+    /**
+     * @return direction the entity is facing, "left" or "right"
+     */
+    public String getDirection() { return direction; }
+
+    /**
+     * @return true if the entity is moving
+     */
+    public boolean getIsMoving() { return moving; }
+
+    /**
+     * @return true if the player is jumping
+     */
+    public boolean getIsJumping() { return jumping; }
+
+    /**
+     * @return true if the player is climbing a ladder
+     */
+    public boolean getIsClimbing() { return climbing; }
+
+    /**
+     * @return true if the player is on the ground (and can jump)
+     */
+    public boolean getIsOnGround() { return onGround; }
+
+    /**
+     * @return true if the player is dead
+     */
+    public boolean getGameOver() { return gameOver; }
+
+    /**
+     * @return true if the enemy is idle
+     */
+    public boolean getIsIdle() { return idle; }
+
+    /**
+     * @return true if the enemy was disabled from a computer
+     */
+    public boolean getIsDisabled() { return disabled; }
+
+    /**
+     * @return true if the enemy is chasing the player
+     */
+    public boolean getIsChasing() { return chasing; }
+}
@@ -0,0 +1,156 @@
+package model.snapshot;
+
+import model.interactableObjects.*;
+
+/**
+ * state of an {@link InteractableObject} of the room at the end of a tick, as the views need it to draw it.
+ * it is part of a {@link RenderSnapshot}: filled on the game thread, and never changed while the views read it.
+ * the getters are named like the ones of the models, the flags an object doesn't have are false.
+ */
+public final class ObjectSnapshot {
+    /**
+     * kind of interactable object, one per model class. the views are picked from it.
+     */
+    public enum Kind {
+        PAPER_BOX, CARD, COMPUTER, LADDER, METAL_LOCKER, RED_BOX, WOOD_LOCKER
+    }
+
+    /**
+     * kind of the object
+     */
+    private Kind kind;
+    /**
+     * position of the object (top left)
+     */
+    private int x, y;
+    /**
+     * size of the object
+     */
+    private int width, height;
+    /**
+     * true if the box was opened
+     */
+    private boolean opened;
+    /**
+     * true if the card was taken
+     */
+    private boolean taken;
+    /**
+     * state of the computer menu
+     */
+    private boolean beingAccessed, menuVisible;
+    /**
+     * selected option of the computer menu
+     */
+    private int selectedMenuOption;
+    /**
+     * options of the computer menu, null for the other objects. the array is never modified by the computer.
+     */
+    private String[] menuOptions;
+
+    /**
+     * empty snapshot, filled by {@link #capture(InteractableObject)}
+     */
+    ObjectSnapshot() {
+    }
+
+    /**copies the state of an object.
+     * @param obj the object
+     */
+    void capture(InteractableObject obj) {
+        this.x = obj.getX();
+        this.y = obj.getY();
+        this.width = obj.getWidth();
+        this.height = obj.getHeight();
+        this.opened = false;
+        this.taken = false;
+        this.beingAccessed = false;
+        this.menuVisible = false;
+        this.selectedMenuOption = 0;
+        this.menuOptions = null;
+
+        if (obj instanceof PaperBox paperBox) {
+            this.kind = Kind.PAPER_BOX;
+            this.opened = paperBox.getIsOpened();
+        }
+        else if (obj instanceof Card card) {
+            this.kind = Kind.CARD;
+            this.taken = card.getIsTaken();
+        }
+        else if (obj instanceof Computer computer) {
+            this.kind = Kind.COMPUTER;
+            this.beingAccessed = computer.getIsBeingAccessed();
+            this.menuVisible = computer.getIsMenuVisible();
+            this.selectedMenuOption = computer.getSelectedMenuOption();
+            this.menuOptions = computer.getMenuOptions();
+        }
+        else if (obj instanceof Ladder) {
+            this.kind = Kind.LADDER;
+        }
+        else if (obj instanceof MetalLocker) {
+            this.kind = Kind.METAL_LOCKER;
+        }
+        else if (obj instanceof RedBox redBox) {
+            this.kind = Kind.RED_BOX;
+            this.opened = redBox.getIsOpened();
+        }
+        else if (obj instanceof WoodLocker) {
+            this.kind = Kind.WOOD_LOCKER;
+        }
+    }
+
+    /**
+     * @return kind of the object
+     */
+    public Kind getKind() { return kind; }
+
+    /**
+     * @return x coordinate of the object (top left)
+     */
+    public int getX() { return x; }
+
+    /**
+     * @return y coordinate of the object (top left)
+     */
+    public int getY() { return y; }
+
+    /**
+     * @return width of the object
+     */
+    public int getWidth() { return width; }
+
+    /**
+     * @return height of the object
+     */
+    public int getHeight() { return height; }
+
+    /**
+     * @return true if the paper box or the red box was opened
+     */
+    public boolean getIsOpened() { return opened; }
+
+    /**
+     * @return true if the card was taken
+     */
+    public boolean getIsTaken() { return taken; }
+
+    /**
+     * @return true if the computer is being accessed
+     */
+    public boolean getIsBeingAccessed() { return beingAccessed; }
+
+    /**
+     * @return true if the computer menu is visible
+     */
+    public boolean getIsMenuVisible() { return menuVisible; }
+
+    /**
+     * @return selected option of the computer menu
+     */
+    public int getSelectedMenuOption() { return selectedMenuOption; }
+
+    /**
+     * @return options of the computer menu, null if the object is not a computer
+     */
+    public String[] getMenuOptions() { return menuOptions; }
+}
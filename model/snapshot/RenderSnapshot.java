@@ -0,0 +1,314 @@
+package model.snapshot;
+
+import model.entities.Dog;
+import model.entities.Drone;
+import model.entities.Player;
+import model.interactableObjects.InteractableObject;
+import model.inventoryrelated.Inventory;
+import model.inventoryrelated.Item;
+import model.levels.LevelManager;
+import model.levels.Room;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * everything the {@link view.gamePanelViews.GameView} draws, copied from the models at the end of a tick: the room, the
+ * player, the enemies, the interactable objects, the inventory and the hud values.
+ * the views only read the snapshot, never the models, so they can draw on any thread while the game thread keeps
+ * changing the models, and they always see the state of a single tick.
+ * the snapshots are handed over by the {@link RenderSnapshotBuffer}, which re-uses 3 of them: a snapshot is filled
+ * only by the game thread, and never changes while a view holds it. the getters never allocate.
+ */
+public final class RenderSnapshot {
+    /**
+     * number of the tick the snapshot was taken at, -1 if it was never filled
+     */
+    private long tick = -1;
+
+    //room
+    /**
+     * incremented every time the room is loaded, so the views know when to rebuild what depends on the room
+     */
+    private int roomVersion;
+    /**
+     * tiles of the room. the matrix of a loaded room never changes, so it is shared with the {@link LevelManager}.
+     */
+    private int[][] roomData;
+    /**
+     * row of the room in the world layout
+     */
+    private int depth;
+    /**
+     * column of the room in the world layout
+     */
+    private int worldCol;
+    /**
+     * type of the room
+     */
+    private Room.RoomType roomType;
+    /**
+     * tutorial text of the room, null if there is none
+     */
+    private String tutorialText;
+
+    //entities
+    /**
+     * state of the player
+     */
+    private final EntitySnapshot player = new EntitySnapshot();
+    /**
+     * state of the drones of the room. the list only grows, the first {@link #droneCount} are in use.
+     */
+    private final List<EntitySnapshot> drones = new ArrayList<>();
+    /**
+     * number of drones in the room
+     */
+    private int droneCount;
+    /**
+     * state of the dogs of the room. the list only grows, the first {@link #dogCount} are in use.
+     */
+    private final List<EntitySnapshot> dogs = new ArrayList<>();
+    /**
+     * number of dogs in the room
+     */
+    private int dogCount;
+    /**
+     * state of the interactable objects of the room, in the order of the room. the list only grows, the first
+     * {@link #objectCount} are in use.
+     */
+    private final List<ObjectSnapshot> objects = new ArrayList<>();
+    /**
+     * number of interactable objects in the room
+     */
+    private int objectCount;
+    /**
+     * true if the player has extracted
+     */
+    private boolean extracted;
+
+    //hud
+    /**
+     * true if the interaction prompt of the player is shown
+     */
+    private boolean promptVisible;
+    /**
+     * position of the object the player can interact with
+     */
+    private int promptX, promptY;
+    /**
+     * interaction progress on the object, and the progress needed to complete the interaction
+     */
+    private int interactionProgress, searchCompleteTime;
+    /**
+     * items in the inventory slots, null for the empty slots. the items never change, so they are shared with the inventory.
+     */
+    private Item[] items = new Item[0];
+    /**
+     * discard progress of each inventory slot, from 0 to 1
+     */
+    private float[] discardProgress = new float[0];
+
+    /**
+     * empty snapshot, filled by {@link #capture(Player, LevelManager, long, int)}
+     */
+    RenderSnapshot() {
+    }
+
+    /**copies the state of the models. called on the game thread, at the end of the tick.
+     * @param player the player
+     * @param levelManager the level manager, with the current room
+     * @param tick number of the tick
+     * @param roomVersion number of times a room was loaded
+     */
+    void capture(Player player, LevelManager levelManager, long tick, int roomVersion) {
+        this.tick = tick;
+
+        //room
+        Room room = levelManager.getCurrentRoom();
+        this.roomVersion = roomVersion;
+        this.roomData = levelManager.getCurrentRoomData();
+        this.depth = levelManager.getCurrentDepth();
+        this.worldCol = levelManager.getCurrentWorldCol();
+        this.roomType = room.getRoomType();
+        this.tutorialText = room.getTutorialText();
+
+        //entities
+        this.player.capture(player);
+        List<Drone> roomDrones = room.getDrones();
+        this.droneCount = roomDrones.size();
+        for (int i = 0; i < droneCount; i++) {
+            entityAt(drones, i).capture(roomDrones.get(i));
+        }
+        List<Dog> roomDogs = room.getDogs();
+        this.dogCount = roomDogs.size();
+        for (int i = 0; i < dogCount; i++) {
+            entityAt(dogs, i).capture(roomDogs.get(i));
+        }
+        List<InteractableObject> roomObjects = room.getInteractiveObjects();
+        this.objectCount = roomObjects.size();
+        for (int i = 0; i < objectCount; i++) {
+            if (i == objects.size()) {
+                objects.add(new ObjectSnapshot());
+            }
+            objects.get(i).capture(roomObjects.get(i));
+        }
+        this.extracted = player.getIsExtracted();
+
+        //hud
+        InteractableObject interactable = player.getCurrentInteractable();
+        this.promptVisible = player.getIsShowingInteractionPrompt() && interactable != null;
+        if (promptVisible) {
+            this.promptX = interactable.getX();
+            this.promptY = interactable.getY();
+            this.interactionProgress = interactable.getInteractionProgress();
+            this.searchCompleteTime = interactable.getSearchCompleteTime();
+        }
+        Inventory inventory = player.getInventory();
+        if (items.length != inventory.getCapacity()) {
+            items = new Item[inventory.getCapacity()];
+            discardProgress = new float[inventory.getCapacity()];
+        }
+        for (int i = 0; i < items.length; i++) {
+            items[i] = inventory.getItem(i);
+            discardProgress[i] = inventory.getDiscardProgress(i);
+        }
+    }
+
+    /**gets the entity snapshot at the index of the list, adding it if the list is too short.
+     * @param entities list of entity snapshots
+     * @param index index in the list
+     * @return the entity snapshot
+     */
+    private static EntitySnapshot entityAt(List<EntitySnapshot> entities, int index) {
+        if (index == entities.size()) {
+            entities.add(new EntitySnapshot());
+        }
+        return entities.get(index);
+    }
+
+    /**
+     * @return true if the snapshot was never filled, nothing can be drawn from it
+     */
+    public boolean isEmpty() { return tick < 0; }
+
+    /**
+     * @return number of the tick the snapshot was taken at
+     */
+    public long getTick() { return tick; }
+
+    /**
+     * @return number of times a room was loaded, changes when the room changes
+     */
+    public int getRoomVersion() { return roomVersion; }
+
+    /**
+     * @return tiles of the room, must not be modified
+     */
+    public int[][] getRoomData() { return roomData; }
+
+    /**
+     * @return row of the room in the world layout
+     */
+    public int getDepth() { return depth; }
+
+    /**
+     * @return column of the room in the world layout
+     */
+    public int getWorldCol() { return worldCol; }
+
+    /**
+     * @return type of the room
+     */
+    public Room.RoomType getRoomType() { return roomType; }
+
+    /**
+     * @return tutorial text of the room, null if there is none
+     */
+    public String getTutorialText() { return tutorialText; }
+
+    /**
+     * @return state of the player
+     */
+    public EntitySnapshot getPlayer() { return player; }
+
+    /**
+     * @return number of drones in the room
+     */
+    public int getDroneCount() { return droneCount; }
+
+    /**
+     * @param index index of the drone in the room
+     * @return state of the drone
+     */
+    public EntitySnapshot getDrone(int index) { return drones.get(index); }
+
+    /**
+     * @return number of dogs in the room
+     */
+    public int getDogCount() { return dogCount; }
+
+    /**
+     * @param index index of the dog in the room
+     * @return state of the dog
+     */
+    public EntitySnapshot getDog(int index) { return dogs.get(index); }
+
+    /**
+     * @return number of interactable objects in the room
+     */
+    public int getObjectCount() { return objectCount; }
+
+    /**
+     * @param index index of the object in the room
+     * @return state of the object
+     */
+    public ObjectSnapshot getObject(int index) { return objects.get(index); }
+
+    /**
+     * @return true if the player has extracted
+     */
+    public boolean isExtracted() { return extracted; }
+
+    /**
+     * @return true if the interaction prompt of the player is shown
+     */
+    public boolean isPromptVisible() { return promptVisible; }
+
+    /**
+     * @return x coordinate of the object the player can interact with
+     */
+    public int getPromptX() { return promptX; }
+
+    /**
+     * @return y coordinate of the object the player can interact with
+     */
+    public int getPromptY() { return promptY; }
+
+    /**
+     * @return interaction progress on the object the player can interact with
+     */
+    public int getInteractionProgress() { return interactionProgress; }
+
+    /**
+     * @return interaction progress needed to complete the interaction
+     */
+    public int getSearchCompleteTime() { return searchCompleteTime; }
+
+    /**
+     * @return number of inventory slots
+     */
+    public int getInventoryCapacity() { return items.length; }
+
+    /**
+     * @param slot index of the inventory slot
+     * @return item in the slot, null if the slot is empty
+     */
+    public Item getItem(int slot) { return items[slot]; }
+
+    /**
+     * @param slot index of the inventory slot
+     * @return discard progress of the slot, from 0 to 1
+     */
+    public float getDiscardProgress(int slot) { return discardProgress[slot]; }
+}
@@ -0,0 +1,73 @@
+package model.snapshot;
+
+import model.entities.Player;
+import model.events.GameEvent;
+import model.events.GameEventListener;
+import model.levels.LevelManager;
+
+/**
+ * hands the {@link RenderSnapshot}s over from the game thread to the thread that draws the game, through a
+ * {@link TripleBuffer}. the game thread {@link #publish()}es a snapshot at the end of every tick, the
+ * {@link view.gamePanelViews.GameView} {@link #acquire()}s the latest one at the start of every frame; neither waits
+ * for the other, and the 3 snapshots are re-used, so publishing allocates nothing once the biggest room was seen.
+ * listener of the level manager events, to number the rooms loaded, see {@link RenderSnapshot#getRoomVersion()}.
+ */
+public final class RenderSnapshotBuffer implements GameEventListener {
+    /**
+     * reference to the {@link Player} model
+     */
+    private final Player player;
+    /**
+     * reference to the {@link LevelManager} model
+     */
+    private final LevelManager levelManager;
+    /**
+     * the 3 snapshots
+     */
+    private final TripleBuffer<RenderSnapshot> buffer = new TripleBuffer<>(RenderSnapshot::new);
+    /**
+     * number of snapshots published so far. only used by the publishing thread.
+     */
+    private long tick = 0;
+    /**
+     * number of rooms loaded so far. the rooms are loaded by the publishing thread (the EDT loads the first one, before
+     * the game thread starts), so it needs no synchronization.
+     */
+    private int roomVersion = 0;
+
+    /**creates the buffer, nothing is published until {@link #publish()} is called.
+     * @param player {@link Player} model
+     * @param levelManager {@link LevelManager} model
+     */
+    public RenderSnapshotBuffer(Player player, LevelManager levelManager) {
+        this.player = player;
+        this.levelManager = levelManager;
+        levelManager.getEventBus().addListener(this, GameEvent.LEVEL_CHANGED);
+    }
+
+    /**
+     * copies the state of the models into a snapshot, and hands it over to the renderer.
+     * called by the {@link controller.GameController} at the end of every tick, and once before the game thread starts.
+     * only one thread at a time may publish.
+     */
+    public void publish() {
+        buffer.getWriteBuffer().capture(player, levelManager, tick++, roomVersion);
+        buffer.publish();
+    }
+
+    /**returns the latest published snapshot. it doesn't change until the next call, so a whole frame can be drawn from it.
+     * only one thread at a time may acquire.
+     * @return the latest snapshot, empty ({@link RenderSnapshot#isEmpty()}) if nothing was published yet
+     */
+    public RenderSnapshot acquire() {
+        return buffer.acquire();
+    }
+
+    /**counts the rooms loaded, so the snapshots tell the views when the room changed.
+     * @param event {@link GameEvent#LEVEL_CHANGED}, published by the level manager
+     */
+    @Override
+    public void onEvent(GameEvent event) {
+        roomVersion++;
+    }
+}
@@ -0,0 +1,79 @@
+package model.snapshot;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * lock free triple buffer, hands the latest value written by one thread over to one other thread.
+ * there are 3 buffers, created once: the writer fills its own buffer and then {@link #publish()}es it, swapping it with
+ * the shared one; the reader {@link #acquire()}s the shared one, swapping it with its own, but only if something new
+ * was published. the writer and the reader never wait for each other, and never touch the same buffer at the same time:
+ * the writer can publish many times while the reader is still using its buffer, and the reader keeps getting the last
+ * published buffer until a newer one comes.
+ * there must be only one writer thread and one reader thread at a time.
+ * @param <T> type of the buffers
+ */
+public final class TripleBuffer<T> {
+    /**
+     * bits of {@link #shared} that hold the index of the shared buffer
+     */
+    private static final int INDEX_MASK = 0b011;
+    /**
+     * bit of {@link #shared} set when the shared buffer was published and not acquired yet
+     */
+    private static final int FRESH = 0b100;
+
+    /**
+     * the 3 buffers
+     */
+    private final Object[] buffers = new Object[3];
+    /**
+     * index of the buffer in the middle, plus the {@link #FRESH} bit. the only state shared by the two threads.
+     */
+    private final AtomicInteger shared = new AtomicInteger(2);
+    /**
+     * index of the buffer owned by the writer, only used by the writer thread
+     */
+    private int writeIndex = 0;
+    /**
+     * index of the buffer owned by the reader, only used by the reader thread
+     */
+    private int readIndex = 1;
+
+    /**creates the 3 buffers.
+     * @param factory creates a buffer, called 3 times
+     */
+    public TripleBuffer(Supplier<T> factory) {
+        for (int i = 0; i < buffers.length; i++) {
+            buffers[i] = factory.get();
+        }
+    }
+
+    /**writer side: the buffer to fill before the next {@link #publish()}.
+     * it is not cleared, it still contains what was written into it a few publishes ago.
+     * @return the buffer of the writer
+     */
+    @SuppressWarnings("unchecked")
+    public T getWriteBuffer() {
+        return (T) buffers[writeIndex];
+    }
+
+    /**
+     * writer side: hands the buffer returned by {@link #getWriteBuffer()} over to the reader, and takes the shared buffer
+     * to write the next value into.
+     */
+    public void publish() {
+        writeIndex = shared.getAndSet(writeIndex | FRESH) & INDEX_MASK;
+    }
+
+    /**reader side: returns the last published buffer. the buffer stays valid, and unchanged, until the next call.
+     * @return the last published buffer, the same as the previous call if nothing was published since
+     */
+    @SuppressWarnings("unchecked")
+    public T acquire() {
+        if ((shared.get() & FRESH) != 0) {
+            readIndex = shared.getAndSet(readIndex) & INDEX_MASK;
+        }
+        return (T) buffers[readIndex];
+    }
+}
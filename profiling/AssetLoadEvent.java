@@ -0,0 +1,29 @@
+package profiling;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * flight recorder event of an asset being loaded, see {@link view.AssetLoader}.
+ * its duration is the time spent reading and decoding the asset.
+ */
+@Name("game.AssetLoad")
+@Label("Asset Load")
+@Category({"Game", "Assets"})
+@Description("reading and decoding of an asset")
+@StackTrace(false)
+public class AssetLoadEvent extends jdk.jfr.Event {
+    /**
+     * group of the asset, see {@link view.AssetLoader.AssetGroup}
+     */
+    @Label("Group")
+    public String group;
+    /**
+     * path of the asset in the res folder
+     */
+    @Label("Asset")
+    public String asset;
+}
@@ -0,0 +1,29 @@
+package profiling;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * flight recorder event of a rendered frame, see {@link view.gamePanelViews.GameView}.
+ * its duration is the time spent drawing the frame, and showing it when it is rendered actively.
+ */
+@Name("game.Render")
+@Label("Render")
+@Category({"Game", "Loop"})
+@Description("one frame drawn by the game view")
+@StackTrace(false)
+public class RenderEvent extends jdk.jfr.Event {
+    /**
+     * true if the frame was drawn by the game thread into the canvas, false if it was painted by swing on the EDT
+     */
+    @Label("Active Rendering")
+    public boolean activeRendering;
+    /**
+     * how far the frame is between the previous and the current simulation tick, from 0 to 1
+     */
+    @Label("Interpolation")
+    public double interpolation;
+}
@@ -0,0 +1,48 @@
+package profiling;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * flight recorder event of a room load, see {@link model.levels.LevelManager}.
+ * its duration is the time spent loading the tiles (unless they were cached or prefetched) and spawning the objects and
+ * enemies (on the first visit).
+ */
+@Name("game.RoomLoad")
+@Label("Room Load")
+@Category({"Game", "Level"})
+@Description("loading of the tiles, objects and enemies of a room")
+public class RoomLoadEvent extends jdk.jfr.Event {
+    /**
+     * path of the room
+     */
+    @Label("Room")
+    public String roomPath;
+    /**
+     * true if the room is in the room pack, false if it was parsed from its .txt file
+     */
+    @Label("Packed")
+    public boolean packed;
+    /**
+     * true if the tiles of the room were already loaded (by a previous visit or by the prefetch thread)
+     */
+    @Label("Cached")
+    public boolean cached;
+    /**
+     * true if it is the first visit of the room, when its objects and enemies get spawned
+     */
+    @Label("First Visit")
+    public boolean firstVisit;
+    /**
+     * number of enemies in the room after the load
+     */
+    @Label("Enemies")
+    public int enemyCount;
+    /**
+     * number of interactable objects in the room after the load
+     */
+    @Label("Interactable Objects")
+    public int objectCount;
+}
@@ -0,0 +1,37 @@
+package profiling;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * flight recorder event of the player moving to a neighbour room, see {@link model.levels.LevelManager}.
+ * its duration is the whole room change, including the {@link RoomLoadEvent} and the listeners of the level change.
+ */
+@Name("game.RoomTransition")
+@Label("Room Transition")
+@Category({"Game", "Level"})
+@Description("move of the player to a neighbour room")
+public class RoomTransitionEvent extends jdk.jfr.Event {
+    /**
+     * direction of the move: left, right, up or down
+     */
+    @Label("Direction")
+    public String direction;
+    /**
+     * path of the room the player left
+     */
+    @Label("From Room")
+    public String fromRoom;
+    /**
+     * path of the room the player entered
+     */
+    @Label("To Room")
+    public String toRoom;
+    /**
+     * depth of the room the player entered in the world layout
+     */
+    @Label("Depth")
+    public int depth;
+}
@@ -0,0 +1,29 @@
+package profiling;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * flight recorder event of a sound effect being triggered, see {@link view.AudioManager}.
+ * it is an instant event: the sound itself is mixed later on the audio thread.
+ */
+@Name("game.Sound")
+@Label("Sound")
+@Category({"Game", "Audio"})
+@Description("a sound effect triggered by a game event")
+@StackTrace(false)
+public class SoundEvent extends jdk.jfr.Event {
+    /**
+     * game event that triggered the sound
+     */
+    @Label("Game Event")
+    public String gameEvent;
+    /**
+     * id of the sound in the audio mixer
+     */
+    @Label("Sound Id")
+    public int soundId;
+}
@@ -0,0 +1,34 @@
+package profiling;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * flight recorder event of a simulation tick, see {@link controller.GameController}.
+ * its duration is the time spent updating the models and the view animations for one fixed step.
+ */
+@Name("game.Tick")
+@Label("Tick")
+@Category({"Game", "Loop"})
+@Description("one fixed step of the simulation")
+@StackTrace(false)
+public class TickEvent extends jdk.jfr.Event {
+    /**
+     * path of the room the player is in
+     */
+    @Label("Room")
+    public String roomPath;
+    /**
+     * number of enemies in the room
+     */
+    @Label("Enemies")
+    public int enemyCount;
+    /**
+     * number of interactable objects in the room
+     */
+    @Label("Interactable Objects")
+    public int objectCount;
+}
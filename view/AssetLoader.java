@@ -0,0 +1,194 @@
+package view;
+
+import model.levels.TileManager;
+import profiling.AssetLoadEvent;
+import view.entityViews.SpriteAtlas;
+import view.gamePanelViews.GameView;
+import view.itemViews.PokerCardsView;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * loads and decodes the game assets in parallel at startup, so the title screen shows up right away instead of after
+ * every asset has been read on the main thread.
+ * the assets are split in {@link AssetGroup}s, each with its own completion future (see {@link #getGroup(AssetGroup)}).
+ * every single file (a frame, a sound) is a separate task on a small bounded pool of daemon threads.
+ * the assets keep their usual entry points ({@link SpriteAtlas#getInstance()}, {@link AudioManager#getInstance()},
+ * {@link TileManager}, {@link FontCache}, {@link ImageCache}): if the game needs an asset before it's loaded, the call waits for it, and if
+ * the loader was never started (e.g. in {@link main.HeadlessSimulation}) the asset loads on the calling thread as before.
+ */
+public class AssetLoader {
+    /**
+     * groups of assets, each completed by its own future
+     */
+    public enum AssetGroup {
+        FONTS, TILES, SPRITES, IMAGES, SOUNDS
+    }
+
+    /**
+     * singleton instance
+     */
+    private static AssetLoader instance;
+
+    /**
+     * number of loader threads: leaves a core to the EDT, and no more than 4 since the files are small and the disk is shared
+     */
+    private static final int POOL_SIZE = Math.max(1, Math.min(4, Runtime.getRuntime().availableProcessors() - 1));
+
+    /**
+     * pool of the loader threads, shut down once every group is loaded
+     */
+    private final ExecutorService executor;
+    /**
+     * completion future of each group
+     */
+    private final Map<AssetGroup, CompletableFuture<Void>> groups = new EnumMap<>(AssetGroup.class);
+    /**
+     * completed when every group is loaded
+     */
+    private final CompletableFuture<Void> all;
+    /**
+     * number of tasks submitted to the pool
+     */
+    private final AtomicInteger submittedTasks = new AtomicInteger();
+    /**
+     * number of tasks completed by the pool
+     */
+    private final AtomicInteger completedTasks = new AtomicInteger();
+
+    /**
+     * creates the pool and submits every asset group, see {@link #loadGroup(AssetGroup, Executor)}.
+     */
+    private AssetLoader() {
+        long startTime = System.nanoTime();
+        executor = Executors.newFixedThreadPool(POOL_SIZE, runnable -> {
+            Thread thread = new Thread(runnable, "asset-loader");
+            thread.setDaemon(true);     //never keeps the game open
+            return thread;
+        });
+        Executor countingExecutor = task -> {
+            submittedTasks.incrementAndGet();
+            executor.execute(() -> {
+                try {
+                    task.run();
+                }
+                finally {
+                    completedTasks.incrementAndGet();
+                }
+            });
+        };
+
+        for (AssetGroup group : AssetGroup.values()) {
+            CompletableFuture<Void> future = loadGroup(group, countingExecutor);
+            future.whenComplete((done, e) -> {
+                if (e != null) {
+                    System.out.println("[AssetLoader] failed to load " + group + " : ");
+                    e.printStackTrace();
+                }
+                else {
+                    System.out.println("[AssetLoader] " + group + " loaded after " + (System.nanoTime() - startTime) / 1_000_000 + "ms");
+                }
+            });
+            groups.put(group, future);
+        }
+        all = CompletableFuture.allOf(groups.values().toArray(new CompletableFuture<?>[0]));
+        all.whenComplete((done, e) -> executor.shutdown());
+    }
+
+    /**starts loading the assets if they aren't loading already.
+     * called as early as possible, by {@link main.JImpossibleMissionKnockoff#main(String[])}.
+     * @return the asset loader
+     */
+    public static synchronized AssetLoader getInstance() {
+        if (instance == null) {
+            instance = new AssetLoader();
+        }
+        return instance;
+    }
+
+    /**submits the tasks of an asset group.
+     * @param group the group
+     * @param executor executor that runs the tasks
+     * @return future completed once the group is loaded
+     */
+    private CompletableFuture<Void> loadGroup(AssetGroup group, Executor executor) {
+        switch (group) {
+            case FONTS:
+                //parses the font into the font cache, then rasterises the hud glyphs
+                return CompletableFuture.runAsync(recorded(group, FontCache.GAME_FONT, GameView::prewarmGameTextGlyphs), executor);
+            case TILES:
+                return CompletableFuture.runAsync(recorded(group, "tiles", TileManager::new), executor);     //fills the tiles shared by every tile manager
+            case SPRITES:
+                return SpriteAtlas.loadAsync(executor).thenApply(atlas -> null);
+            case IMAGES:
+                //decodes the 57 poker card sprites into the image cache, the object sprites are decoded by the first room
+                return CompletableFuture.runAsync(PokerCardsView::new, executor);
+            case SOUNDS:
+                return AudioManager.loadAsync(executor).thenApply(audioManager -> null);
+            default:
+                throw new IllegalArgumentException("[AssetLoader] unknown asset group: " + group);
+        }
+    }
+
+    /**wraps a loading task so that it is recorded as an {@link AssetLoadEvent} when the flight recorder is on.
+     * the sprites and the sounds record their own events, one per file.
+     * @param group group of the asset
+     * @param asset path of the asset in the res folder
+     * @param task the loading task
+     * @return the recorded task
+     */
+    private static Runnable recorded(AssetGroup group, String asset, Runnable task) {
+        return () -> {
+            AssetLoadEvent loadEvent = new AssetLoadEvent();
+            loadEvent.begin();
+            try {
+                task.run();
+            }
+            finally {
+                loadEvent.end();
+                if (loadEvent.shouldCommit()) {
+                    loadEvent.group = group.name();
+                    loadEvent.asset = asset;
+                    loadEvent.commit();
+                }
+            }
+        };
+    }
+
+    /**
+     * @param group the group
+     * @return future completed once the group is loaded
+     */
+    public CompletableFuture<Void> getGroup(AssetGroup group) {
+        return groups.get(group);
+    }
+
+    /**
+     * @return future completed once every group is loaded
+     */
+    public CompletableFuture<Void> getAll() {
+        return all;
+    }
+
+    /**
+     * @return true if every group is loaded
+     */
+    public boolean isDone() {
+        return all.isDone();
+    }
+
+    /**
+     * @return fraction of the loading tasks completed so far, from 0 to 1
+     */
+    public float getProgress() {
+        if (isDone()) return 1f;
+        int submitted = submittedTasks.get();
+        return submitted == 0 ? 0f : (float) completedTasks.get() / submitted;
+    }
+}
@@ -1,284 +1,212 @@
 package view;
 
-import controller.*;
-import model.entities.Dog;
-import model.entities.Drone;
-import model.entities.Player;
-import model.interactableObjects.InteractableObject;
+import model.events.EventBus;
+import model.events.GameEvent;
+import model.events.GameEventListener;
+import profiling.AssetLoadEvent;
+import profiling.SoundEvent;
 
-import javax.sound.sampled.AudioInputStream;
-import javax.sound.sampled.AudioSystem;
-import javax.sound.sampled.Clip;
 import java.net.URL;
 import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
 
 /**
  * manages all the audio of the game.
  * it follows the singleton and observer pattern: only a single instance of the audio manager can exist,
- * and plays a certain sound effect whenever it gets notified from an observable model via {@link #update(Observable, Object)}.
+ * and plays a certain sound effect whenever a model / controller publishes an event it is registered for, via {@link #onEvent(GameEvent)}.
  */
-public class AudioManager implements Observer {
+public class AudioManager implements GameEventListener {
     /**
-     * instance of AudioManager
+     * instance of AudioManager, completed once every sound is decoded. null until the audio manager is first requested
+     * via {@link #getInstance()} or {@link #loadAsync(Executor)}.
      */
-    private static AudioManager instance;       //single instance of the audio manager (singleton ptrn)
+    private static CompletableFuture<AudioManager> instance;       //single instance of the audio manager (singleton ptrn)
     /**
-     * a Map of sound effects. each sound name is represented as a String (key), and each sound/name has 5 ({@link #CopiesPerSound}) copies per sound.
-     * this allows multiple sound clips to play simultaneously
+     * name and path in the 'res' folder of every sound effect
      */
-    private static Map<String, List<Clip>> soundEffects;     //is gonna have like : name - list of sound effect (all sound effects get loaded here)
+    private static final String[][] SOUND_FILES = {
+            //title screen  / pause menu / result screen / leaderboard navigation sounds
+            {"menu up", "sounds/menuup.wav"},
+            {"menu down", "sounds/menudown.wav"},
+            {"menu enter", "sounds/menuenter.wav"},
+            //enter name sounds (used in what's your name controller)
+            {"entered char", "sounds/enteredchar.wav"},
+            {"deleted char", "sounds/deletedchar.wav"},
+            //player sounds
+            {"player jump", "sounds/playerjump.wav"},
+            {"player death", "sounds/playerdeath.wav"},
+            {"player step", "sounds/playerstep.wav"},
+            {"player extracted", "sounds/playerextracted.wav"},
+            //rare card and common card found
+            {"rare card found", "sounds/rarecardcollected.wav"},
+            {"common card found", "sounds/commoncardcollected.wav"},
+            //dog sounds
+            {"dog step", "sounds/dogstep.wav"},
+            //drone sounds
+            {"drone step", "sounds/dronestep.wav"}
+    };
     /**
-     * number of copies per sound
+     * a Map of sound effects. each sound name is represented as a String (key), and the value is the id of the decoded
+     * sound in the {@link #mixer}.
      */
-    private static final int CopiesPerSound = 5;    //having multiple copies of each sound allows multiple clips to play simultaneously
+    private static Map<String, Integer> soundEffects;     //is gonna have like : name - mixer sound id (all sound effects get loaded here)
+    /**
+     * mixer sound id played for each {@link GameEvent}, indexed by the event ordinal. -1 if the event has no sound.
+     */
+    private final int[] eventSounds = new int[GameEvent.values().length];
+    /**
+     * mixer that plays every sound on a single audio thread, see {@link AudioMixer}
+     */
+    private final AudioMixer mixer;
 
 
     /**
      * manages the audio of the game. it follows the singleton pattern, so only a single instance of SoundManager
-     * is allowed. it initializes the {@link #soundEffects} via {@link #loadSoundEffects()}.
+     * is allowed. it adds the decoded sounds to the {@link #mixer} and the {@link #soundEffects}, maps them to the events
+     * via {@link #mapEventSounds()}, and starts the {@link #mixer}.
+     * registers itself as a global listener of every event that has a sound, so the models and controllers never have to
+     * reference the audio manager (and can run without it).
+     * @param decodedSounds samples of each sound of {@link #SOUND_FILES}, null for a sound that failed to load
      */
-    private AudioManager() {        //load all sound fx when creating this audio manager instance
+    private AudioManager(short[][] decodedSounds) {        //load all sound fx when creating this audio manager instance
         soundEffects = new HashMap<>();
-        loadSoundEffects();
+        mixer = new AudioMixer();
+        for (int i = 0; i < SOUND_FILES.length; i++) {
+            if (decodedSounds[i] != null) {
+                soundEffects.put(SOUND_FILES[i][0], mixer.addSound(decodedSounds[i]));
+            }
+        }
+        mapEventSounds();
+        mixer.start();
+
+        for (GameEvent event : GameEvent.values()) {
+            if (eventSounds[event.ordinal()] >= 0) {
+                EventBus.addGlobalListener(this, event);
+            }
+        }
     }
 
     /**creates the AudioManager instance if there isnt one, returns AudioManager if already created.
+     * if the sounds are being decoded by {@link #loadAsync(Executor)}, waits for them.
      * @return {@link #instance} of AudioManager
      */
     public static AudioManager getInstance() {
+        return loadAsync(Runnable::run).join();
+    }
+
+    /**starts decoding the sound effects, if the audio manager isn't loaded or loading already.
+     * every sound is decoded as a separate task on the executor, the audio manager gets created once they are all decoded.
+     * @param executor executor that decodes the sounds, e.g. the pool of {@link AssetLoader}
+     * @return future completed with the audio manager
+     */
+    public static synchronized CompletableFuture<AudioManager> loadAsync(Executor executor) {
         if (instance == null) {
-            instance = new AudioManager();
+            short[][] decodedSounds = new short[SOUND_FILES.length][];
+            CompletableFuture<?>[] decodes = new CompletableFuture<?>[SOUND_FILES.length];
+            for (int i = 0; i < SOUND_FILES.length; i++) {
+                int sound = i;
+                decodes[i] = CompletableFuture.runAsync(() -> decodedSounds[sound] = decodeSound(SOUND_FILES[sound][0], SOUND_FILES[sound][1]), executor);
+            }
+            instance = CompletableFuture.allOf(decodes).thenApply(done -> new AudioManager(decodedSounds));
         }
         return instance;
     }
 
 
-    /** plays a sound via {@link #playSound(String)} whenever an observable object sends a specific notification
-     * @param o   the observable object.
-     * @param arg an argument passed to the {@code notifyObservers}
-     *            method.
+    /** plays the sound mapped to the event, whenever a model / controller publishes an event this audio manager
+     * is registered for. it's a single array lookup, since footstep events get published many times per second.
+     * every played sound is recorded as a {@link SoundEvent} when the flight recorder is on.
+     * @param event the published event
      */
     @Override
-    public void update(Observable o, Object arg) {      //whenever model changes something, audio plays
-        if (o instanceof TitleScreenController) {
-            switch((String)(arg)){      //cast that to into a string :)
-                case "menu up":
-                    playSound("menu up");
-//                    System.out.println("[AudioManager] played menu up sound effect");
-                    break;
-                case "menu down":
-                     playSound("menu down");
-//                    System.out.println("[AudioManager] played menu down sound effect");
-                    break;
-                case "menu enter":
-                    playSound("menu enter");
-//                    System.out.println("[AudioManager] played menu enbter sound effect");
-                    break;
-            }
-        }
-        else if (o instanceof LeaderboardViewController){
-            switch((String)(arg)){
-                case "menu enter":
-                    playSound("menu enter");
-//                    System.out.println("[AudioManager] played menu enter sound effect");
-                    break;
-            }
-        }
-
-        else if (o instanceof WhatsYourNameController){
-            switch((String)(arg)){
-                case "enter pressed":
-                    playSound("menu enter");
-//                    System.out.println("[AudioManager] played name submitted sound effect");
-                    break;
-                case "key typed":
-                    playSound("entered char");
-//                    System.out.println("[AudioManager] played key typed sound effect");
-                    break;
-                case "backspace pressed":
-                    playSound("deleted char");
-//                    System.out.println("[AudioManager] played backspace pressed sound effect");
-                    break;
-            }
-        }
-
-        else if (o instanceof PauseMenuController){
-            switch((String)(arg)){
-                case "menu up":
-                    playSound("menu up");
-//                    System.out.println("[AudioManager] played menu up sound effect");
-                    break;
-                case "menu down":
-                    playSound("menu down");
-//                    System.out.println("[AudioManager] played menu down sound effect");
-                    break;
-                case "menu enter":
-                    playSound("menu enter");
-//                    System.out.println("[AudioManager] played menu enter sound effect");
-                    break;
-            }
-        }
-
-        else if(o instanceof ResultScreenController){
-            switch((String)(arg)){
-                case "enter pressed":
-                    playSound("menu enter");
-//                    System.out.println("[AudioManager] played menu enter sound effect");
-                    break;
-            }
-        }
-
-        else if (o instanceof GameKeyListener){
-            switch((String)(arg)){
-                case "esc pressed":
-                    playSound("deleted char");
-//                    System.out.println("[AudioManager] played esc pressed sound effect");
-                    break;
-            }
-        }
-        else if (o instanceof Player){
-            switch((String)(arg)){
-                case "player jumped":
-                    playSound("player jump");
-//                    System.out.println("[AudioManager] played player jump sound effect");
-                    break;
-                case "player died":
-                    playSound("player death");
-//                    System.out.println("[AudioManager] played player death sound effect");
-                    break;
-                case "player moved":
-                    playSound("player step");
-//                    System.out.println("[AudioManager] played player step sound effect");
-                    break;
-                case "player extracted":
-                    playSound("player extracted");
-//                    System.out.println("[AudioManager] played player extracted sound effect");
-                    break;
-            }
-        }
-        else if (o instanceof InteractableObject){
-            switch((String)(arg)){
-                case "rare card found":
-                    playSound("rare card found");
-//                    System.out.println("[AudioManager] played rare card found sound effect");
-                    break;
-                case "common card found":
-                    playSound("common card found");
-//                    System.out.println("[AudioManager] played common card found sound effect");
-                    break;
-            }
-        }
-        else if (o instanceof Dog){
-            switch((String)(arg)){
-                case "dog moving":
-                    playSound("dog step");
-//                    System.out.println("[AudioManager] played dog moving sound effect");
-                    break;
+    public void onEvent(GameEvent event) {      //whenever model changes something, audio plays
+        int soundId = eventSounds[event.ordinal()];
+        if (soundId >= 0) {
+            mixer.play(soundId);
+
+            SoundEvent soundEvent = new SoundEvent();
+            if (soundEvent.shouldCommit()) {
+                soundEvent.gameEvent = event.name();
+                soundEvent.soundId = soundId;
+                soundEvent.commit();
             }
         }
-        else if(o instanceof Drone){
-            switch((String)(arg)){
-                case "drone moving":
-                    playSound("drone step");
-//                    System.out.println("[AudioManager] played drone moving sound effect");
-                    break;
-            }
-        }
-
     }
 
 
     /**
-     * loads all the sound effects from the 'res' directory
+     * maps each {@link GameEvent} to the sound it plays, see {@link #eventSounds}.
+     */
+    private void mapEventSounds() {
+        Arrays.fill(eventSounds, -1);
+        //title screen / pause menu / leaderboard navigation
+        mapEventSound(GameEvent.MENU_UP, "menu up");
+        mapEventSound(GameEvent.MENU_DOWN, "menu down");
+        mapEventSound(GameEvent.MENU_ENTER, "menu enter");
+        //what's your name / result screen
+        mapEventSound(GameEvent.ENTER_PRESSED, "menu enter");
+        mapEventSound(GameEvent.KEY_TYPED, "entered char");
+        mapEventSound(GameEvent.BACKSPACE_PRESSED, "deleted char");
+        //pause
+        mapEventSound(GameEvent.ESC_PRESSED, "deleted char");
+        //player
+        mapEventSound(GameEvent.PLAYER_JUMPED, "player jump");
+        mapEventSound(GameEvent.PLAYER_DIED, "player death");
+        mapEventSound(GameEvent.PLAYER_MOVED, "player step");
+        mapEventSound(GameEvent.PLAYER_EXTRACTED, "player extracted");
+        //interactable objects
+        mapEventSound(GameEvent.RARE_CARD_FOUND, "rare card found");
+        mapEventSound(GameEvent.COMMON_CARD_FOUND, "common card found");
+        //enemies
+        mapEventSound(GameEvent.DOG_MOVING, "dog step");
+        mapEventSound(GameEvent.DRONE_MOVING, "drone step");
+    }
+
+    /**maps the event to the sound, if the sound was loaded.
+     * @param event the event
+     * @param soundName name of the sound, see {@link #SOUND_FILES}
      */
-    private void loadSoundEffects() {   //load all sound once at startup
-        //title screen  / pause menu / result screen / leaderboard navigation sounds
-        loadSound("menu up", "sounds/menuup.wav");
-        loadSound("menu down", "sounds/menudown.wav");
-        loadSound("menu enter", "sounds/menuenter.wav");
-        //enter name sounds (used in what's your name controller)
-        loadSound("entered char", "sounds/enteredchar.wav");
-        loadSound("deleted char", "sounds/deletedchar.wav");
-        //player sounds
-        loadSound("player jump", "sounds/playerjump.wav");
-        loadSound("player death", "sounds/playerdeath.wav");
-        loadSound("player step", "sounds/playerstep.wav");
-        loadSound("player extracted", "sounds/playerextracted.wav");
-        //rare card and common card found
-        loadSound("rare card found", "sounds/rarecardcollected.wav");
-        loadSound("common card found", "sounds/commoncardcollected.wav");
-        //dog sounds
-        loadSound("dog step", "sounds/dogstep.wav");
-        //drone sounds
-        loadSound("drone step", "sounds/dronestep.wav");
+    private void mapEventSound(GameEvent event, String soundName) {
+        Integer soundId = soundEffects.get(soundName);
+        if (soundId != null) {
+            eventSounds[event.ordinal()] = soundId;
+        }
     }
 
 
-    /**populates {@link #soundEffects} map by loading 5 same sound clips given the sound effect filepath.
+    /**decodes a sound effect, see {@link AudioMixer#decodeSound(URL)}. safe to call from any thread.
      * @param soundName name of the sound
      * @param filePath path to the .wav sound in the 'res' folder
+     * @return the decoded samples, null if the sound couldn't be loaded
      */
-    private void loadSound(String soundName, String filePath){
+    private static short[] decodeSound(String soundName, String filePath){
+        AssetLoadEvent loadEvent = new AssetLoadEvent();
+        loadEvent.begin();
         try{
-            URL soundurl = getClass().getClassLoader().getResource(filePath);  //get url to the audio sample
+            URL soundurl = AudioManager.class.getClassLoader().getResource(filePath);  //get url to the audio sample
             if (soundurl == null) {
                 throw new IllegalArgumentException("[AudioManager] couldnt find: " + filePath );
 
             }
-            AudioInputStream ais = AudioSystem.getAudioInputStream(soundurl);   //this creates audio stream from the url does the heavy lifting hell yea
-            ais.mark(Integer.MAX_VALUE);        // mark the start of the audio...
-            List<Clip> audioClips = new ArrayList<>(CopiesPerSound);         //MAX 5 INSTANCES OF THE SAME AUDIO CLIP
-
-            for (int i = 0; i < 5; i ++){       //pre-load multiple instances of the same clip under the same name, so that if player spams a key audio still gets reproduced
-                ais.reset();            //... and reset back to it
-                Clip audioClip = AudioSystem.getClip();  //creates the audio 'clip' and opens it
-                audioClip.open(ais);
-
-                audioClips.add(audioClip);  //add to list
-            }
-            soundEffects.put(soundName, audioClips);  //put the name - list of sound clips in the map
+            short[] samples = AudioMixer.decodeSound(soundurl);     //decodes the whole sound once
 
             System.out.println("[AudioManager] loaded sound,  " + soundName + " from " + filePath);
-            ais.close();
+            return samples;
         }
         catch (Exception e){
             System.out.println("[AudioManager] uanble to load sound,  " + soundName +" from " + filePath);
             e.printStackTrace();
+            return null;
         }
-    }
-
-    /**creates a new thread that plays the sound's name.
-     * this was done because otherwise, whenever a sound plays, it would freeze the game thread
-     * for 100 ish milliseconds.
-     * searches an available sound clip in the {@link #soundEffects} map that is not currently playing
-     * @param soundName name of the sound to play
-     */
-    private void playSound(String soundName) {
-
-        new Thread(() -> {
-            //without creating a new thread, the audio would freeze the game thread, so that even in the title screen
-            //the game would freeze for around 200ms when navigating the menu.
-            //by creating new little threads when the audio plays, there is no game thread freezing anymoreì
-            List<Clip> audioClips = soundEffects.get(soundName);
-
-            Clip availableClip = null ;         //start with no availableClip clip
-            for (Clip audioClip : audioClips){
-                if (!audioClip.isRunning()){    //if a clip instance is not currently running then set it as the availableClip clip
-                    availableClip = audioClip;
-//                    System.out.println("[AudioManager] played " + soundName + " sound effect from clip: " + availableClip);   //ok sure that there are 5 different clips of the same audio clip
-                    break;  //end the loop when found the availableClip clip
-                }
-            }
-
-            //if all the different instatnce of the same sound are occupied then just dont play the sound
-            if (availableClip == null){
-                return;
+        finally {
+            loadEvent.end();
+            if (loadEvent.shouldCommit()) {
+                loadEvent.group = AssetLoader.AssetGroup.SOUNDS.name();
+                loadEvent.asset = filePath;
+                loadEvent.commit();
             }
-
-            availableClip.stop();
-            availableClip.setFramePosition(0);
-            availableClip.start();
-        }).start();
+        }
     }
 
 
@@ -0,0 +1,293 @@
+package view;
+
+import javax.sound.sampled.AudioFormat;
+import javax.sound.sampled.AudioInputStream;
+import javax.sound.sampled.AudioSystem;
+import javax.sound.sampled.SourceDataLine;
+import java.net.URL;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+
+/**
+ * software audio mixer used by the {@link AudioManager}.
+ * every sound is decoded once into a pcm buffer in the mixer format ({@link #SAMPLE_RATE} hz, 16 bit, stereo).
+ * a single mixer thread sums all the playing voices into one SourceDataLine, so playing a sound never creates a
+ * thread or opens a line.
+ *
+ * playing a sound only increments the sound's pending counter ({@link #play(int)}), which is lock free and allocation
+ * free, so it is safe to call from the game thread and the EDT. the mixer thread takes the pending counters at the start
+ * of every block and starts the voices, up to {@link #VOICES_PER_SOUND} voices per sound.
+ */
+public class AudioMixer implements Runnable {
+    //----------------------------------------------------------------------------------------------------------------//
+    // FIELDS
+    //----------------------------------------------------------------------------------------------------------------//
+    /**
+     * sample rate of the mixer output
+     */
+    private static final float SAMPLE_RATE = 48000f;
+    /**
+     * number of output channels (stereo)
+     */
+    private static final int CHANNELS = 2;
+    /**
+     * frames mixed per block. 512 frames are about 10ms at 48khz: this is the latency of a sound trigger.
+     */
+    private static final int FRAMES_PER_BLOCK = 512;
+    /**
+     * size of the line buffer, in blocks
+     */
+    private static final int LINE_BUFFER_BLOCKS = 4;
+    /**
+     * max number of voices of the same sound playing at the same time. same as the old 5 copies of each clip.
+     */
+    private static final int VOICES_PER_SOUND = 5;
+    /**
+     * max number of voices playing at the same time
+     */
+    private static final int MAX_VOICES = 32;
+
+    /**
+     * output format of the mixer: 16 bit signed, stereo, little endian
+     */
+    private final AudioFormat format = new AudioFormat(SAMPLE_RATE, 16, CHANNELS, true, false);
+
+    /**
+     * decoded sounds, indexed by sound id. interleaved stereo samples in the mixer format.
+     */
+    private final List<short[]> sounds = new ArrayList<>();
+    /**
+     * pending play requests of each sound, indexed by sound id. written by any thread in {@link #play(int)},
+     * taken by the mixer thread.
+     */
+    private AtomicIntegerArray pendingPlays;
+
+    //voices, only used by the mixer thread
+    /**
+     * sound id of each voice, -1 if the voice is free
+     */
+    private final int[] voiceSound = new int[MAX_VOICES];
+    /**
+     * next sample to play of each voice
+     */
+    private final int[] voicePosition = new int[MAX_VOICES];
+    /**
+     * number of voices currently playing each sound
+     */
+    private int[] voicesPlaying;
+
+    /**
+     * mixer thread
+     */
+    private Thread mixerThread;
+    /**
+     * flag that indicates if the mixer thread is running
+     */
+    private volatile boolean running;
+
+    //----------------------------------------------------------------------------------------------------------------//
+    // LOADING
+    //----------------------------------------------------------------------------------------------------------------//
+    /**decodes the sound at the provided url, and converts it to the mixer format.
+     * it doesn't touch any mixer, so sounds can be decoded in parallel on any thread.
+     * @param soundUrl url of the .wav file
+     * @return interleaved stereo samples in the mixer format
+     * @throws Exception if the sound can't be decoded
+     */
+    public static short[] decodeSound(URL soundUrl) throws Exception {
+        try (AudioInputStream sourceStream = AudioSystem.getAudioInputStream(soundUrl)) {
+            AudioFormat sourceFormat = sourceStream.getFormat();
+            //decode to 16 bit signed little endian pcm, keeping the source rate and channels
+            AudioFormat pcmFormat = new AudioFormat(sourceFormat.getSampleRate(), 16, sourceFormat.getChannels(), true, false);
+            byte[] bytes;
+            try (AudioInputStream pcmStream = AudioSystem.getAudioInputStream(pcmFormat, sourceStream)) {
+                bytes = pcmStream.readAllBytes();
+            }
+            return resample(bytes, pcmFormat.getChannels(), pcmFormat.getSampleRate());
+        }
+    }
+
+    /**adds a decoded sound to the mixer. must be called before {@link #start()}.
+     * @param samples samples returned by {@link #decodeSound(URL)}
+     * @return the sound id, used to play the sound with {@link #play(int)}
+     */
+    public int addSound(short[] samples) {
+        sounds.add(samples);
+        return sounds.size() - 1;
+    }
+
+    /**converts 16 bit little endian pcm with any rate and channel count into the mixer rate, in stereo.
+     * uses linear interpolation, which is plenty for short sound effects.
+     * @param bytes source pcm bytes
+     * @param sourceChannels number of channels of the source
+     * @param sourceRate sample rate of the source
+     * @return interleaved stereo samples in the mixer format
+     */
+    private static short[] resample(byte[] bytes, int sourceChannels, float sourceRate) {
+        int sourceFrames = bytes.length / (2 * sourceChannels);
+        int frames = (int) ((long) sourceFrames * (long) SAMPLE_RATE / (long) sourceRate);
+        short[] samples = new short[frames * CHANNELS];
+        double step = sourceRate / SAMPLE_RATE;
+        for (int frame = 0; frame < frames; frame++) {
+            double sourcePosition = frame * step;
+            int index = (int) sourcePosition;
+            double fraction = sourcePosition - index;
+            int nextIndex = Math.min(index + 1, sourceFrames - 1);
+            for (int channel = 0; channel < CHANNELS; channel++) {
+                int sourceChannel = Math.min(channel, sourceChannels - 1);     //mono goes to both channels
+                int a = readSample(bytes, index, sourceChannel, sourceChannels);
+                int b = readSample(bytes, nextIndex, sourceChannel, sourceChannels);
+                samples[frame * CHANNELS + channel] = (short) (a + (b - a) * fraction);
+            }
+        }
+        return samples;
+    }
+
+    /**
+     * @param bytes 16 bit little endian pcm bytes
+     * @param frame frame index
+     * @param channel channel index
+     * @param channels number of channels
+     * @return the sample
+     */
+    private static int readSample(byte[] bytes, int frame, int channel, int channels) {
+        int offset = (frame * channels + channel) * 2;
+        return (short) ((bytes[offset] & 0xFF) | (bytes[offset + 1] << 8));
+    }
+
+    //----------------------------------------------------------------------------------------------------------------//
+    // PLAYBACK
+    //----------------------------------------------------------------------------------------------------------------//
+    /**
+     * opens the output line and starts the mixer thread. if there is no audio device, the mixer stays off and
+     * {@link #play(int)} does nothing.
+     */
+    public void start() {
+        pendingPlays = new AtomicIntegerArray(sounds.size());
+        voicesPlaying = new int[sounds.size()];
+        for (int i = 0; i < MAX_VOICES; i++) {
+            voiceSound[i] = -1;
+        }
+
+        running = true;
+        mixerThread = new Thread(this, "audio-mixer");
+        mixerThread.setDaemon(true);
+        mixerThread.setPriority(Thread.MAX_PRIORITY);     //an audio underrun is more noticeable than a late frame
+        mixerThread.start();
+    }
+
+    /**requests to play the sound. can be called from any thread.
+     * @param soundId sound id returned by {@link #addSound(short[])}
+     */
+    public void play(int soundId) {
+        if (running) {
+            pendingPlays.incrementAndGet(soundId);
+        }
+    }
+
+    /**
+     * mixer thread loop: starts the pending voices, mixes a block and writes it to the line.
+     * writing to the line blocks until there is room in its buffer, which paces the loop.
+     */
+    @Override
+    public void run() {
+        SourceDataLine line;
+        try {
+            line = AudioSystem.getSourceDataLine(format);
+            line.open(format, FRAMES_PER_BLOCK * CHANNELS * 2 * LINE_BUFFER_BLOCKS);
+            line.start();
+        }
+        catch (Exception e) {
+            running = false;
+            System.out.println("[AudioMixer][run()] unable to open the audio line, sounds are disabled");
+            e.printStackTrace();
+            return;
+        }
+        System.out.println("[AudioMixer][run()] mixing " + sounds.size() + " sounds into " + format);
+
+        int[] mix = new int[FRAMES_PER_BLOCK * CHANNELS];
+        byte[] block = new byte[FRAMES_PER_BLOCK * CHANNELS * 2];
+        while (running) {
+            startPendingVoices();
+            mixBlock(mix);
+
+            //clip and convert to 16 bit little endian
+            for (int i = 0; i < mix.length; i++) {
+                int sample = Math.max(Short.MIN_VALUE, Math.min(Short.MAX_VALUE, mix[i]));
+                block[i * 2] = (byte) sample;
+                block[i * 2 + 1] = (byte) (sample >> 8);
+            }
+            line.write(block, 0, block.length);
+        }
+        line.drain();
+        line.close();
+    }
+
+    /**
+     * takes the pending play requests and starts a voice for each, if the sound has less than {@link #VOICES_PER_SOUND}
+     * voices playing and there is a free voice. otherwise the request is dropped, like the old clips did when all copies
+     * were busy.
+     */
+    private void startPendingVoices() {
+        for (int sound = 0; sound < voicesPlaying.length; sound++) {
+            int requests = pendingPlays.getAndSet(sound, 0);
+            for (int r = 0; r < requests && voicesPlaying[sound] < VOICES_PER_SOUND; r++) {
+                int voice = findFreeVoice();
+                if (voice < 0) {
+                    return;
+                }
+                voiceSound[voice] = sound;
+                voicePosition[voice] = 0;
+                voicesPlaying[sound]++;
+            }
+        }
+    }
+
+    /**
+     * @return index of a free voice, -1 if all voices are playing
+     */
+    private int findFreeVoice() {
+        for (int voice = 0; voice < MAX_VOICES; voice++) {
+            if (voiceSound[voice] < 0) {
+                return voice;
+            }
+        }
+        return -1;
+    }
+
+    /**sums every playing voice into the block, and frees the voices that reached the end of their sound.
+     * @param mix block of samples to fill
+     */
+    private void mixBlock(int[] mix) {
+        Arrays.fill(mix, 0);
+        for (int voice = 0; voice < MAX_VOICES; voice++) {
+            int sound = voiceSound[voice];
+            if (sound < 0) {
+                continue;
+            }
+            short[] samples = sounds.get(sound);
+            int position = voicePosition[voice];
+            int count = Math.min(mix.length, samples.length - position);
+            for (int i = 0; i < count; i++) {
+                mix[i] += samples[position + i];
+            }
+            position += count;
+            if (position >= samples.length) {   //finished, free the voice
+                voiceSound[voice] = -1;
+                voicesPlaying[sound]--;
+            }
+            else {
+                voicePosition[voice] = position;
+            }
+        }
+    }
+
+    /**
+     * stops the mixer thread and closes the line.
+     */
+    public void stop() {
+        running = false;
+    }
+}
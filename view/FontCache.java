@@ -0,0 +1,124 @@
+package view;
+
+import java.awt.*;
+import java.awt.image.BufferedImage;
+import java.io.InputStream;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * shared registry of the game fonts. every .ttf file is parsed and registered in the graphics environment once, and
+ * every derived size is created once, so the views share the same font instances instead of each reading the file again.
+ * it is thread safe: the {@link AssetLoader} fills it in the background while the EDT may already be asking for fonts.
+ */
+public class FontCache {
+    /**
+     * singleton instance
+     */
+    private static FontCache instance;
+
+    /**
+     * path of the font used by every view of the game
+     */
+    public static final String GAME_FONT = "fonts/ThaleahFat.ttf";
+
+    /**
+     * parsed fonts (size 1), by path of the .ttf file
+     */
+    private final Map<String, Font> baseFonts = new ConcurrentHashMap<>();
+    /**
+     * derived fonts, by path of the .ttf file and size (see {@link #getFont(String, float)})
+     */
+    private final Map<String, Font> derivedFonts = new ConcurrentHashMap<>();
+
+    /**
+     * @return the font cache
+     */
+    public static synchronized FontCache getInstance() {
+        if (instance == null) {
+            instance = new FontCache();
+        }
+        return instance;
+    }
+
+    /**returns the font at the provided path with the provided size. the file is only parsed the first time.
+     * @param fontPath path of the .ttf file in the res folder
+     * @param size size of the font
+     * @return the font if it finds it, null otherwise
+     */
+    public Font getFont(String fontPath, float size) {
+        String key = fontPath + "@" + size;
+        Font font = derivedFonts.get(key);
+        if (font == null) {
+            Font baseFont = getBaseFont(fontPath);
+            if (baseFont == null) {
+                return null;
+            }
+            font = derivedFonts.computeIfAbsent(key, k -> baseFont.deriveFont(size));
+        }
+        return font;
+    }
+
+    /**
+     * @param fontPath path of the .ttf file in the res folder
+     * @return the parsed font, parsing and registering it on the first call. null if it can't be loaded.
+     */
+    private Font getBaseFont(String fontPath) {
+        Font font = baseFonts.get(fontPath);
+        if (font == null) {
+            synchronized (baseFonts) {      //parse each file once, even if two threads ask for it at the same time
+                font = baseFonts.get(fontPath);
+                if (font == null) {
+                    font = parseFont(fontPath);
+                    if (font != null) {
+                        baseFonts.put(fontPath, font);
+                    }
+                }
+            }
+        }
+        return font;
+    }
+
+    /**parses a .ttf file and registers it in the graphics environment.
+     * @param fontPath path of the .ttf file in the res folder
+     * @return the font, null if it can't be loaded
+     */
+    private Font parseFont(String fontPath) {
+        try (InputStream stream = getClass().getClassLoader().getResourceAsStream(fontPath)) {
+            if (stream == null) {    //if the font path provided is not available
+                System.out.println("[FontCache]cant find font " + fontPath);
+                return null;
+            }
+            Font font = Font.createFont(Font.TRUETYPE_FONT, stream);
+            GraphicsEnvironment.getLocalGraphicsEnvironment().registerFont(font);
+            System.out.println("[FontCache]loaded font " + fontPath);
+            return font;
+        }
+        catch (Exception e) {
+            System.err.println("[FontCache]couldn't load font " + fontPath);
+            e.printStackTrace();
+            return null;
+        }
+    }
+
+    /**draws the characters once into a scratch image, with the rendering hints used by the game, so their glyphs are
+     * already rasterised and cached by java2d when they are first drawn on screen.
+     * @param fontPath path of the .ttf file in the res folder
+     * @param size size of the font
+     * @param characters characters to rasterise
+     */
+    public void prewarm(String fontPath, float size, String characters) {
+        Font font = getFont(fontPath, size);
+        if (font == null) return;
+
+        //big enough to hold the whole string, so no glyph gets clipped away before being rasterised
+        BufferedImage scratch = new BufferedImage((int) (size * characters.length()) + 1, (int) (size * 2) + 1, BufferedImage.TYPE_INT_ARGB);
+        Graphics2D g2d = scratch.createGraphics();
+        g2d.setRenderingHint(RenderingHints.KEY_TEXT_ANTIALIASING, RenderingHints.VALUE_TEXT_ANTIALIAS_ON);
+        g2d.setRenderingHint(RenderingHints.KEY_FRACTIONALMETRICS, RenderingHints.VALUE_FRACTIONALMETRICS_ON);
+        g2d.setRenderingHint(RenderingHints.KEY_RENDERING, RenderingHints.VALUE_RENDER_QUALITY);
+        g2d.setFont(font);
+        g2d.drawString(characters, 0, (int) size);
+        g2d.dispose();
+    }
+}
@@ -0,0 +1,152 @@
+package view;
+
+import java.io.PrintWriter;
+import java.util.Locale;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * histogram of durations in nanoseconds, in the style of HdrHistogram: the buckets are log-linear, every power of 2
+ * is split into {@link #SUB_BUCKETS} linear buckets, so every recorded value keeps about 3% of precision from a
+ * nanosecond up to minutes, with a fixed amount of memory.
+ * recording is lock free and allocation free, so it can be called every frame from the game thread, the EDT and the
+ * gc notification thread at the same time.
+ */
+public class FrameTimeHistogram {
+    /**
+     * number of bits of the linear part of a bucket: 5 bits means 32 buckets per power of 2
+     */
+    private static final int SUB_BUCKET_BITS = 5;
+    /**
+     * number of linear buckets per power of 2
+     */
+    private static final int SUB_BUCKETS = 1 << SUB_BUCKET_BITS;
+    /**
+     * highest power of 2 that can be recorded (2^40 ns is about 18 minutes), higher values are clamped
+     */
+    private static final int MAX_MAGNITUDE = 40;
+    /**
+     * total number of buckets
+     */
+    private static final int BUCKET_COUNT = (MAX_MAGNITUDE - SUB_BUCKET_BITS + 2) * SUB_BUCKETS;
+
+    /**
+     * number of values recorded in each bucket
+     */
+    private final AtomicLongArray counts = new AtomicLongArray(BUCKET_COUNT);
+    /**
+     * number of values recorded
+     */
+    private final AtomicLong totalCount = new AtomicLong();
+    /**
+     * sum of the values recorded, used for the mean
+     */
+    private final AtomicLong totalNanos = new AtomicLong();
+    /**
+     * highest value recorded, exact (not rounded to a bucket)
+     */
+    private final AtomicLong maxNanos = new AtomicLong();
+
+    /**records a duration.
+     * @param nanos duration in nanoseconds, negative values are recorded as 0
+     */
+    public void record(long nanos) {
+        if (nanos < 0) nanos = 0;
+        counts.incrementAndGet(bucketOf(nanos));
+        totalCount.incrementAndGet();
+        totalNanos.addAndGet(nanos);
+        long max = maxNanos.get();
+        while (nanos > max && !maxNanos.compareAndSet(max, nanos)) {
+            max = maxNanos.get();
+        }
+    }
+
+    /**
+     * @param nanos a duration
+     * @return index of the bucket that holds the duration
+     */
+    private static int bucketOf(long nanos) {
+        if (nanos < SUB_BUCKETS) {
+            return (int) nanos;     //below 32ns every value has its own bucket
+        }
+        int magnitude = Math.min(63 - Long.numberOfLeadingZeros(nanos), MAX_MAGNITUDE);
+        long subBucket = Math.min(nanos >> (magnitude - SUB_BUCKET_BITS), SUB_BUCKETS * 2 - 1);     //from 32 to 63
+        return (magnitude - SUB_BUCKET_BITS + 1) * SUB_BUCKETS + (int) (subBucket - SUB_BUCKETS);
+    }
+
+    /**
+     * @param bucket index of a bucket
+     * @return highest duration that falls in the bucket
+     */
+    private static long highestValueOf(int bucket) {
+        if (bucket < SUB_BUCKETS) {
+            return bucket;
+        }
+        int magnitude = bucket / SUB_BUCKETS + SUB_BUCKET_BITS - 1;
+        long subBucket = bucket % SUB_BUCKETS + SUB_BUCKETS;
+        return ((subBucket + 1) << (magnitude - SUB_BUCKET_BITS)) - 1;
+    }
+
+    /**
+     * @param percentile percentile, from 0 to 100
+     * @return the duration under which the provided percentage of the values fall (rounded up to its bucket, except for
+     * the max), 0 if nothing was recorded
+     */
+    public long getValueAtPercentile(double percentile) {
+        long count = totalCount.get();
+        if (count == 0) return 0;
+        long target = Math.max(1, (long) Math.ceil(percentile / 100.0 * count));
+        long seen = 0;
+        for (int bucket = 0; bucket < BUCKET_COUNT; bucket++) {
+            seen += counts.get(bucket);
+            if (seen >= target) {
+                return Math.min(highestValueOf(bucket), maxNanos.get());
+            }
+        }
+        return maxNanos.get();
+    }
+
+    /**
+     * @return number of values recorded
+     */
+    public long getCount() {
+        return totalCount.get();
+    }
+
+    /**
+     * @return highest value recorded, in nanoseconds
+     */
+    public long getMax() {
+        return maxNanos.get();
+    }
+
+    /**
+     * @return mean of the values recorded, in nanoseconds
+     */
+    public double getMean() {
+        long count = totalCount.get();
+        return count == 0 ? 0 : (double) totalNanos.get() / count;
+    }
+
+    /**writes the whole distribution, one line per non empty bucket, like HdrHistogram's percentile distribution:
+     * the value (in milliseconds), the percentile of values at or below it, and the count of values at or below it.
+     * @param writer where to write
+     * @param name name of the histogram, written in the header
+     */
+    public void writePercentileDistribution(PrintWriter writer, String name) {
+        long count = totalCount.get();
+        writer.println("# " + name + String.format(Locale.ROOT, "  count=%d  mean=%.3fms  p50=%.3fms  p99=%.3fms  p99.9=%.3fms  max=%.3fms",
+                count, getMean() / 1e6, getValueAtPercentile(50) / 1e6, getValueAtPercentile(99) / 1e6,
+                getValueAtPercentile(99.9) / 1e6, getMax() / 1e6));
+        writer.println(String.format(Locale.ROOT, "%12s %14s %12s", "Value(ms)", "Percentile", "TotalCount"));
+        long seen = 0;
+        for (int bucket = 0; bucket < BUCKET_COUNT; bucket++) {
+            long bucketCount = counts.get(bucket);
+            if (bucketCount == 0) continue;
+            seen += bucketCount;
+            long value = Math.min(highestValueOf(bucket), maxNanos.get());
+            writer.println(String.format(Locale.ROOT, "%12.4f %14.10f %12d", value / 1e6, (double) seen / count, seen));
+        }
+        writer.println();
+    }
+}
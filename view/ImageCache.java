@@ -0,0 +1,127 @@
+package view;
+
+import profiling.AssetLoadEvent;
+
+import javax.imageio.ImageIO;
+import java.awt.*;
+import java.awt.image.BufferedImage;
+import java.io.InputStream;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * shared registry of the single images of the game (objects, items, inventory...), the entity frames live in the
+ * {@link view.entityViews.SpriteAtlas} instead.
+ * every .png file is decoded once per process, converted to the format of the screen so java2d can cache it in video
+ * memory, and the same image instance is handed to every view that asks for it. the object views are rebuilt on every
+ * room change and the item views on every inventory change, so after the first use of an image they decode nothing.
+ * it is thread safe: the {@link AssetLoader} fills it in the background while the EDT may already be asking for images.
+ * only the threads asking for the same file wait for each other, the decode of a file never blocks the others.
+ */
+public class ImageCache {
+    /**
+     * singleton instance
+     */
+    private static ImageCache instance;
+
+    /**
+     * images by resource path of the .png file, completed once the file is decoded. completed with null if the file
+     * can't be loaded, so a missing file is not looked up again.
+     */
+    private final Map<String, CompletableFuture<BufferedImage>> images = new ConcurrentHashMap<>();
+
+    /**
+     * @return the image cache
+     */
+    public static synchronized ImageCache getInstance() {
+        if (instance == null) {
+            instance = new ImageCache();
+        }
+        return instance;
+    }
+
+    /**returns the image at the provided path. the file is only decoded the first time.
+     * @param imagePath path of the .png file in the res folder
+     * @return the image if it finds it, null otherwise
+     */
+    public BufferedImage getImage(String imagePath) {
+        CompletableFuture<BufferedImage> image = images.get(imagePath);
+        if (image == null) {
+            CompletableFuture<BufferedImage> decoding = new CompletableFuture<>();
+            image = images.putIfAbsent(imagePath, decoding);
+            if (image == null) {        //first to ask: this thread decodes the file, the others asking for it wait
+                image = decoding;
+                try {
+                    decoding.complete(decodeImage(imagePath));
+                }
+                finally {
+                    decoding.complete(null);        //no-op once decoded, never leaves the waiting threads hanging
+                }
+            }
+        }
+        return image.join();
+    }
+
+    /**decodes the images in advance, so that the first room and the first card pickups don't have to.
+     * @param imagePaths paths of the .png files in the res folder
+     */
+    public void preload(String... imagePaths) {
+        for (String imagePath : imagePaths) {
+            getImage(imagePath);
+        }
+    }
+
+    /**
+     * @return number of files in the cache, including the ones still decoding and the ones that couldn't be loaded
+     */
+    public int size() {
+        return images.size();
+    }
+
+    /**decodes a .png file and converts it to the format of the screen.
+     * @param imagePath path of the .png file in the res folder
+     * @return the image, null if it can't be loaded
+     */
+    private BufferedImage decodeImage(String imagePath) {
+        AssetLoadEvent loadEvent = new AssetLoadEvent();
+        loadEvent.begin();
+        try (InputStream stream = getClass().getClassLoader().getResourceAsStream(imagePath)) {
+            if (stream == null) {    //if the image path provided is not available
+                System.out.println("[ImageCache]cant find image " + imagePath);
+                return null;
+            }
+            BufferedImage decoded = ImageIO.read(stream);
+            return decoded == null ? null : toCompatibleImage(decoded);
+        }
+        catch (Exception e) {
+            System.err.println("[ImageCache]couldn't load image " + imagePath);
+            e.printStackTrace();
+            return null;
+        }
+        finally {
+            loadEvent.end();
+            if (loadEvent.shouldCommit()) {
+                loadEvent.group = AssetLoader.AssetGroup.IMAGES.name();
+                loadEvent.asset = imagePath;
+                loadEvent.commit();
+            }
+        }
+    }
+
+    /**copies an image into the format of the screen when there is one, so drawing it needs no conversion.
+     * @param decoded image as decoded by ImageIO
+     * @return the compatible image, or the decoded one when there is no screen
+     */
+    private BufferedImage toCompatibleImage(BufferedImage decoded) {
+        if (GraphicsEnvironment.isHeadless()) {
+            return decoded;
+        }
+        GraphicsConfiguration gc = GraphicsEnvironment.getLocalGraphicsEnvironment().getDefaultScreenDevice().getDefaultConfiguration();
+        BufferedImage compatible = gc.createCompatibleImage(decoded.getWidth(), decoded.getHeight(), decoded.getTransparency());
+        Graphics2D g2d = compatible.createGraphics();
+        g2d.drawImage(decoded, 0, 0, null);
+        g2d.dispose();
+        return compatible;
+    }
+}
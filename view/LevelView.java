@@ -4,31 +4,25 @@ import model.ScreenSettings;
 import model.levels.LevelManager;
 import model.levels.Tile;
 import model.levels.TileManager;
+import model.snapshot.RenderSnapshot;
 
+import javax.imageio.ImageIO;
 import java.awt.*;
-import java.io.InputStream;
-import java.util.Observable;
-import java.util.Observer;
+import java.awt.image.BufferedImage;
 
 /**
- * view, handles the rendering of the level's tiles and tutorial text.
- * observer of level manager, so it gets updated when the room changes via {@link #update(Observable, Object)}.
+ * view, handles the rendering of the level's background, tiles and tutorial text.
+ * since a room never changes after being loaded, everything is composed once per room into a cached layer image
+ * ({@link #rebuildLayer(RenderSnapshot, GraphicsConfiguration, double)}), which then gets drawn with a single drawImage
+ * call every frame. the room is read from the {@link RenderSnapshot}, and the layer is composed again when the room of
+ * the snapshot changes.
  */
-public class LevelView implements Observer {
-    /**
-     * {@link LevelManager} model instance
-     */
-    private final LevelManager levelManager;
+public class LevelView {
     /**
      * {@link TileManager} model instance
      */
     private final TileManager tileManager;
 
-    /**
-     * room data: matrix where each integer represents what tile it is.
-     * {@link LevelManager} extracts the current room information.
-     */
-    private int[][] roomData;
     /**
      * list of the tiles initialized in {@link TileManager}.
      */
@@ -37,27 +31,116 @@ public class LevelView implements Observer {
     /**
      * font used to display the tutorial text, if the current room is of 'tutorial' type. {@link model.levels.Room.RoomType}.
      */
-    private final Font tutorialTextFont = loadFont("fonts/ThaleahFat.ttf", 40);
+    private final Font tutorialTextFont = FontCache.getInstance().getFont(FontCache.GAME_FONT, 40);
+
+    //background
+    /**
+     *background image of the game. it only gets rendered when the player is on the first layer
+     * of the world layout defined in {@link LevelManager}
+     */
+    private BufferedImage backgroundImage;
+    /**
+     * background color of the rooms at depth 1 of the world layout (lighter light blue)
+     */
+    private final Color DEPTH_1_COLOR = new Color(139,171,191);
+    /**
+     * background color of the rooms at depth 2 of the world layout (light blue)
+     */
+    private final Color DEPTH_2_COLOR = new Color(86,106,137);
+    /**
+     * background color of the rooms at depth 3 of the world layout (dark blue)
+     */
+    private final Color DEPTH_3_COLOR = new Color(55, 68, 110);
+    /**
+     * background color of the rooms at depth 4 of the world layout
+     */
+    private final Color DEPTH_4_COLOR = new Color(41,51,83);
+
+    //cached layer
+    /**
+     * pre-rendered image of the current room: background and tiles.
+     * it is created compatible with the screen, so java2d can keep it in video memory, and at the resolution of the
+     * surface it is drawn into (see {@link view.gamePanelViews.ScaledRenderTarget}), so it is always drawn 1:1.
+     */
+    private BufferedImage layer;
+    /**
+     * scale of the {@link #layer}: its pixels per logical pixel of the models
+     */
+    private double layerScale = 1;
+    /**
+     * {@link RenderSnapshot#getRoomVersion()} of the room composed into the {@link #layer}. when the room of the
+     * snapshot drawn is another one, the layer has to be composed again.
+     */
+    private int layerRoomVersion = -1;
 
     /**handles the rendering of the room tiles.
-     * @param levelManager {@link LevelManager} model
      * @param tileManager {@link TileManager} model
      */
-    public LevelView(LevelManager levelManager, TileManager tileManager) {
-        this.levelManager = levelManager;
+    public LevelView(TileManager tileManager) {
         this.tileManager = tileManager;
-        this.roomData = levelManager.getCurrentRoomData();  //initialize the room data when creating the LevelView instance
         this.tiles = tileManager.getTiles();    //the tiles never change
+
+        loadBackgroundImage();
     }
 
 
     /**
-     * draws the tiles of the room from {@link #roomData} and {@link #tiles}.
-     * if the current room is of type 'tutorial', {@link model.levels.Room.RoomType}, it will display the room's tutorial text
+     * draws the current room: the background and the tiles.
+     * everything is drawn from the cached {@link #layer}, which is composed again only if the room changed.
      * @param g2d swing's graphics 2d instance that allows rendering
+     * @param snapshot the snapshot being drawn
      */
-    public void draw(Graphics2D g2d) {
-        Font originalFont = g2d.getFont();
+    public void draw(Graphics2D g2d, RenderSnapshot snapshot) {
+        double scale = g2d.getTransform().getScaleX();
+        if (layer == null || layerRoomVersion != snapshot.getRoomVersion() || scale != layerScale) {
+            rebuildLayer(snapshot, g2d.getDeviceConfiguration(), scale);
+        }
+        if (scale == 1) {
+            g2d.drawImage(layer, 0, 0, null);
+        }
+        else {
+            g2d.drawImage(layer, 0, 0, ScreenSettings.SCREEN_WIDTH, ScreenSettings.SCREEN_HEIGHT, null);    //1:1 on the destination
+        }
+    }
+
+    /**draws the room's tutorial text, if the current room is of type 'tutorial' ({@link model.levels.Room.RoomType}).
+     * it is not part of the {@link #layer}, so it stays sharp when the world is drawn at a lower resolution.
+     * @param g2d swing's graphics 2d instance that allows rendering
+     * @param snapshot the snapshot being drawn
+     */
+    public void drawTutorialText(Graphics2D g2d, RenderSnapshot snapshot) {
+        String text = snapshot.getTutorialText();
+        if (text != null) {       //draw the text only if there is one, prevents null pointer exception
+            g2d.setFont(tutorialTextFont);
+            g2d.setColor(Color.MAGENTA);
+            g2d.drawString(text, 50, 100);
+        }
+    }
+
+    /**composes the current room into the {@link #layer} image.
+     * the layer is re-used between rooms, it only gets created again if the graphics configuration or the scale change
+     * (for example if the window is moved to another screen).
+     * @param snapshot the snapshot being drawn, with the room to compose
+     * @param gc graphics configuration of the destination, used to create a compatible image
+     * @param scale pixels of the destination per logical pixel of the models
+     */
+    private void rebuildLayer(RenderSnapshot snapshot, GraphicsConfiguration gc, double scale) {
+        layerRoomVersion = snapshot.getRoomVersion();
+        int[][] roomData = snapshot.getRoomData();
+
+        if (layer == null || scale != layerScale || !gc.getColorModel().equals(layer.getColorModel())) {
+            int width = (int) Math.round(ScreenSettings.SCREEN_WIDTH * scale);
+            int height = (int) Math.round(ScreenSettings.SCREEN_HEIGHT * scale);
+            layer = gc.createCompatibleImage(width, height, Transparency.OPAQUE);
+            layerScale = scale;
+        }
+
+        Graphics2D layerG2d = layer.createGraphics();
+        layerG2d.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_NEAREST_NEIGHBOR);
+        layerG2d.scale(scale, scale);
+
+        //background
+        drawBackground(layerG2d, snapshot.getDepth());
 
         int x = 0;
         int y = 0;
@@ -65,67 +148,56 @@ public class LevelView implements Observer {
         for (int row = 0; row < ScreenSettings.MAX_SCREEN_ROW; row ++){ //for each row
             for (int col = 0; col < ScreenSettings.MAX_SCREEN_COL; col ++){     //for each col
                 int tileNum = roomData[row][col];       //get the tile number from the room data
-                g2d.drawImage(tiles[tileNum].image, x, y, ScreenSettings.TILE_SIZE, ScreenSettings.TILE_SIZE, null);    //draw the tile image at x and y position
+                if (tileNum > 0) {      //tile 0 is transparent, nothing to draw
+                    layerG2d.drawImage(tiles[tileNum].image, x, y, ScreenSettings.TILE_SIZE, ScreenSettings.TILE_SIZE, null);    //draw the tile image at x and y position
+                }
                 x += ScreenSettings.TILE_SIZE;  //go forward on the x-axis when finished drawing the tile
             }
             x = 0;  //finished row, reset the x-axis
             y += ScreenSettings.TILE_SIZE;  //move forward on the y axis
         }
 
-        //draw the tutorial text if it is a tutorial level.
-        //draw the tutorial level texts
-        if(levelManager.getCurrentRoom().getTutorialText() != null){       //load the text only if there is one, prevents null pointer exception
-            String text = levelManager.getCurrentRoom().getTutorialText();
-            g2d.setFont(tutorialTextFont);
-            g2d.setColor(Color.MAGENTA);
-            g2d.drawString(text,  50, 100 );
-        }
-        //set revert back to the original game font
-        g2d.setFont(originalFont);
+        layerG2d.dispose();
     }
 
-    /**loads the font at the provided font path, with the provided size.
-     * @param fontPath path of the .ttf file in the res folder
-     * @param size size of the font
-     * @return the font if it finds it, null otherwise
+    /**
+     * draws the room's background.
+     * it will display a background image if the player is on the first layer of {@link LevelManager} world layout,
+     * and a solid color when deeper into the game world.
+     * @param g2d graphics of the layer image
+     * @param depth row of the room in the world layout
      */
-    private Font loadFont(String fontPath, float size) {
-        try{
-            InputStream stream = getClass().getClassLoader().getResourceAsStream(fontPath);
-            if(stream == null) {    //if the font path provided is not available
-                System.out.println("[PauseMenuView]cant find font " + fontPath);
-                return null;
-            }
-
-            Font font = Font.createFont(Font.TRUETYPE_FONT, stream).deriveFont(size);
-            GraphicsEnvironment ge = GraphicsEnvironment.getLocalGraphicsEnvironment();
-            ge.registerFont(font);
-            System.out.println("[PauseMenuView]loaded font " + fontPath);
-            return font;
+    private void drawBackground(Graphics2D g2d, int depth) {
+        Color depthColor = null;
+        switch (depth) {
+            case 1: depthColor = DEPTH_1_COLOR; break;
+            case 2: depthColor = DEPTH_2_COLOR; break;
+            case 3: depthColor = DEPTH_3_COLOR; break;
+            case 4: depthColor = DEPTH_4_COLOR; break;
+        }
 
-        }catch(Exception e) {
-            System.err.println("[PauseMenuView]couldn't load font " + fontPath);
-            return null;
+        if (depthColor != null) {
+            g2d.setColor(depthColor);
+            g2d.fillRect(0, 0, ScreenSettings.SCREEN_WIDTH, ScreenSettings.SCREEN_HEIGHT);
+        }
+        else{
+            g2d.setColor(Color.BLACK);
+            g2d.fillRect(0, 0, ScreenSettings.SCREEN_WIDTH, ScreenSettings.SCREEN_HEIGHT);
+            g2d.drawImage(backgroundImage, 0,0, ScreenSettings.SCREEN_WIDTH, ScreenSettings.SCREEN_HEIGHT, null);
         }
     }
 
-
-
-
-    /**updates the {@link #roomData}
-     * @param o   the observable object.
-     * @param arg an argument passed to the {@code notifyObservers}
-     *            method.
+    /**
+     * loads the background image, drawn in {@link #drawBackground(Graphics2D)}.
+     * the background is image is only drawn on the first layer of the game world. see {@link LevelManager}
      */
-    @Override
-    public void update(Observable o, Object arg) {
-        if (o instanceof LevelManager) {
-            switch((String) (arg)){
-                case "level changed":
-                    this.roomData = levelManager.getCurrentRoomData();      //update the room data when level changes
-            }
+    private void loadBackgroundImage(){
+        try{
+            this.backgroundImage = ImageIO.read(getClass().getClassLoader().getResourceAsStream("backgrounds/background.png"));
+        }
+        catch(Exception e) {
+            System.out.println("[LevelView]couldn't find background");
+            e.printStackTrace();
         }
-
-
     }
 }
@@ -0,0 +1,127 @@
+package view;
+
+import com.sun.management.GarbageCollectionNotificationInfo;
+
+import javax.management.NotificationEmitter;
+import javax.management.openmbean.CompositeData;
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.lang.management.GarbageCollectorMXBean;
+import java.lang.management.ManagementFactory;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * records how long each part of a frame takes into a {@link FrameTimeHistogram} per {@link Metric}, so stutters show
+ * up in the tail percentiles (p99, max) instead of being averaged away like in the fps counter.
+ * the {@link controller.GameController} records the update and sleep overshoot times, the
+ * {@link view.gamePanelViews.GameView} records the render times and shows the percentiles in its overlay (F3), and the
+ * gc pauses are recorded from the jvm's garbage collection notifications.
+ * launching the game with -Dgame.frameStatsFile=path dumps every histogram to that file when the game closes.
+ */
+public class PerformanceMonitor {
+    /**
+     * what is measured
+     * update: time spent running the simulation ticks of a frame
+     * render: time spent drawing and showing a frame
+     * sleep overshoot: how much later than requested the game thread woke up
+     * gc pause: stop the world pauses of the garbage collector
+     */
+    public enum Metric {
+        UPDATE, RENDER, SLEEP_OVERSHOOT, GC_PAUSE
+    }
+
+    /**
+     * singleton instance
+     */
+    private static PerformanceMonitor instance;
+
+    /**
+     * file where the histograms are dumped when the game closes, set with -Dgame.frameStatsFile=path.
+     * null if they shouldn't be dumped.
+     */
+    private final String STATS_FILE = System.getProperty("game.frameStatsFile");
+
+    /**
+     * histogram of each metric
+     */
+    private final Map<Metric, FrameTimeHistogram> histograms = new EnumMap<>(Metric.class);
+
+    /**
+     * creates the histograms, starts listening to the gc pauses and registers the dump at exit if it was requested.
+     */
+    private PerformanceMonitor() {
+        for (Metric metric : Metric.values()) {
+            histograms.put(metric, new FrameTimeHistogram());
+        }
+        listenToGcPauses();
+        if (STATS_FILE != null) {
+            Runtime.getRuntime().addShutdownHook(new Thread(() -> dump(Paths.get(STATS_FILE)), "frame-stats-dump"));
+        }
+    }
+
+    /**
+     * @return the performance monitor
+     */
+    public static synchronized PerformanceMonitor getInstance() {
+        if (instance == null) {
+            instance = new PerformanceMonitor();
+        }
+        return instance;
+    }
+
+    /**records a duration. thread safe and allocation free.
+     * @param metric what was measured
+     * @param nanos duration in nanoseconds
+     */
+    public void record(Metric metric, long nanos) {
+        histograms.get(metric).record(nanos);
+    }
+
+    /**
+     * @param metric a metric
+     * @return histogram of the metric
+     */
+    public FrameTimeHistogram getHistogram(Metric metric) {
+        return histograms.get(metric);
+    }
+
+    /**
+     * records the duration of every stop the world collection, using the notifications of the garbage collector
+     * beans. the beans of the concurrent collectors (g1's concurrent cycle, zgc's and shenandoah's cycles) are skipped,
+     * because their collections run alongside the game and don't stop it.
+     */
+    private void listenToGcPauses() {
+        for (GarbageCollectorMXBean gcBean : ManagementFactory.getGarbageCollectorMXBeans()) {
+            if (!(gcBean instanceof NotificationEmitter) || gcBean.getName().contains("Concurrent") || gcBean.getName().contains("Cycles")) {
+                continue;
+            }
+            ((NotificationEmitter) gcBean).addNotificationListener((notification, handback) -> {
+                if (!notification.getType().equals(GarbageCollectionNotificationInfo.GARBAGE_COLLECTION_NOTIFICATION)) {
+                    return;
+                }
+                GarbageCollectionNotificationInfo info = GarbageCollectionNotificationInfo.from((CompositeData) notification.getUserData());
+                record(Metric.GC_PAUSE, info.getGcInfo().getDuration() * 1_000_000);   //the duration is in milliseconds
+            }, null, null);
+        }
+    }
+
+    /**writes the percentile distribution of every histogram to a file.
+     * @param path path of the file, overwritten if it exists
+     */
+    public void dump(Path path) {
+        try (PrintWriter writer = new PrintWriter(Files.newBufferedWriter(path))) {
+            for (Metric metric : Metric.values()) {
+                histograms.get(metric).writePercentileDistribution(writer, metric.name());
+            }
+            System.out.println("[PerformanceMonitor][dump()] frame stats written to " + path.toAbsolutePath());
+        }
+        catch (IOException e) {
+            System.out.println("[PerformanceMonitor][dump()] couldn't write the frame stats to " + path);
+            e.printStackTrace();
+        }
+    }
+}
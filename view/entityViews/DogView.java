@@ -1,60 +1,59 @@
 package view.entityViews;
 
 import model.entities.Dog;
+import model.snapshot.EntitySnapshot;
 
-import javax.imageio.ImageIO;
 import java.awt.*;
-import java.awt.image.BufferedImage;
 
 
 /**
  * view counterpart of the {@link Dog} model.
  * handles the rendering logic of a single dog instance.
- * all the dog sprites are loaded once in the {@link EnemyView} constructor.
+ * all the dog frames are looked up once in the {@link EnemyView} constructor, and drawn from the {@link SpriteAtlas}.
  */
 public class DogView {
 
     /**
-     * reference of the {@link Dog} model that this view is rendering.
+     * atlas that holds every dog frame, see {@link SpriteAtlas}
      */
-    private final Dog dog;
+    private static SpriteAtlas atlas;
 
     //6 disabled sprites
     /**
-     *dog's disabling sprites. (right)
+     *dog's disabling frames. (right)
      */
-    private static BufferedImage disabledR1, disabledR2, disabledR3, disabledR4, disabledR5, disabledR6;
+    private static int[] disabledR;
     /**
-     * dog's disabling sprites. (left)
+     * dog's disabling frames. (left)
      */
-    private static BufferedImage disabledL1, disabledL2, disabledL3, disabledL4, disabledL5, disabledL6;
+    private static int[] disabledL;
 
 
     //6 running sprites
     /**
-     *dog's moving sprites. (right)
+     *dog's moving frames. (right)
      */
-    private static BufferedImage runR1, runR2, runR3, runR4, runR5, runR6;
+    private static int[] runR;
     /**
-     * dog's moving sprites. (left)
+     * dog's moving frames. (left)
      */
-    private static BufferedImage runL1, runL2, runL3, runL4, runL5, runL6;
+    private static int[] runL;
 
     //4 idle sprites
     /**
-     * dog idle state sprites (right)
+     * dog idle state frames (right)
      */
-    private static BufferedImage idleR1, idleR2, idleR3, idleR4;
+    private static int[] idleR;
     /**
-     * dog idle state sprites (left)
+     * dog idle state frames (left)
      */
-    private static BufferedImage idleL1, idleL2, idleL3, idleL4;
+    private static int[] idleL;
 
     //chasing indicators
     /**
      * indicators of the dog sprites, if chasing or not.
      */
-    private static BufferedImage chasing, notchasing;
+    private static int chasing, notchasing;
 
     //used for cycling the sprites
     /**
@@ -78,60 +77,29 @@ public class DogView {
      */
     private boolean wasDisabled = false;
 
-    /** creates a dog view instance, that handles the rendering / visual side of the model.
-     * @param dog reference to the {@link Dog} model that his view is rendering
+    /**
+     * creates a dog view instance, that handles the rendering / visual side of a {@link Dog} model.
+     * the state of the dog is passed on every call, from the {@link model.snapshot.RenderSnapshot}.
      */
-    public DogView(Dog dog) {
-        this.dog = dog;
+    public DogView() {
 //        loadSprites();
     }
 
     /**
-     * loads all the dog sprites from the 'res' folder.
-     * called to load all the sprites in the {@link EnemyView} constructor, so it loads all the sprites once.
+     * looks up the indexes of all the dog frames in the {@link SpriteAtlas}, which loads and packs them on first use.
+     * called in the {@link EnemyView} constructor, so it looks them up once.
      */
     public static void loadSprites() {
         try{
-            disabledR1 = ImageIO.read(DogView.class.getClassLoader().getResourceAsStream("enemies/dog/disabledR1.png"));
-            disabledR2 = ImageIO.read(DogView.class.getClassLoader().getResourceAsStream("enemies/dog/disabledR2.png"));
-            disabledR3 = ImageIO.read(DogView.class.getClassLoader().getResourceAsStream("enemies/dog/disabledR3.png"));
-            disabledR4 = ImageIO.read(DogView.class.getClassLoader().getResourceAsStream("enemies/dog/disabledR4.png"));
-            disabledR5 = ImageIO.read(DogView.class.getClassLoader().getResourceAsStream("enemies/dog/disabledR5.png"));
-            disabledR6 = ImageIO.read(DogView.class.getClassLoader().getResourceAsStream("enemies/dog/disabledR6.png"));
-
-            disabledL1 = ImageIO.read(DogView.class.getClassLoader().getResourceAsStream("enemies/dog/disabledL1.png"));
-            disabledL2 = ImageIO.read(DogView.class.getClassLoader().getResourceAsStream("enemies/dog/disabledL2.png"));
-            disabledL3 = ImageIO.read(DogView.class.getClassLoader().getResourceAsStream("enemies/dog/disabledL3.png"));
-            disabledL4 = ImageIO.read(DogView.class.getClassLoader().getResourceAsStream("enemies/dog/disabledL4.png"));
-            disabledL5 = ImageIO.read(DogView.class.getClassLoader().getResourceAsStream("enemies/dog/disabledL5.png"));
-            disabledL6 = ImageIO.read(DogView.class.getClassLoader().getResourceAsStream("enemies/dog/disabledL6.png"));
-
-            runR1 = ImageIO.read(DogView.class.getClassLoader().getResourceAsStream("enemies/dog/runR1.png"));
-            runR2 = ImageIO.read(DogView.class.getClassLoader().getResourceAsStream("enemies/dog/runR2.png"));
-            runR3 = ImageIO.read(DogView.class.getClassLoader().getResourceAsStream("enemies/dog/runR3.png"));
-            runR4 = ImageIO.read(DogView.class.getClassLoader().getResourceAsStream("enemies/dog/runR4.png"));
-            runR5 = ImageIO.read(DogView.class.getClassLoader().getResourceAsStream("enemies/dog/runR5.png"));
-            runR6 = ImageIO.read(DogView.class.getClassLoader().getResourceAsStream("enemies/dog/runR6.png"));
-
-            runL1 = ImageIO.read(DogView.class.getClassLoader().getResourceAsStream("enemies/dog/runL1.png"));
-            runL2 = ImageIO.read(DogView.class.getClassLoader().getResourceAsStream("enemies/dog/runL2.png"));
-            runL3 = ImageIO.read(DogView.class.getClassLoader().getResourceAsStream("enemies/dog/runL3.png"));
-            runL4 = ImageIO.read(DogView.class.getClassLoader().getResourceAsStream("enemies/dog/runL4.png"));
-            runL5 = ImageIO.read(DogView.class.getClassLoader().getResourceAsStream("enemies/dog/runL5.png"));
-            runL6 = ImageIO.read(DogView.class.getClassLoader().getResourceAsStream("enemies/dog/runL6.png"));
-
-            idleR1 = ImageIO.read(DogView.class.getClassLoader().getResourceAsStream("enemies/dog/idleR1.png"));
-            idleR2 = ImageIO.read(DogView.class.getClassLoader().getResourceAsStream("enemies/dog/idleR2.png"));
-            idleR3 = ImageIO.read(DogView.class.getClassLoader().getResourceAsStream("enemies/dog/idleR3.png"));
-            idleR4 = ImageIO.read(DogView.class.getClassLoader().getResourceAsStream("enemies/dog/idleR4.png"));
-
-            idleL1 = ImageIO.read(DogView.class.getClassLoader().getResourceAsStream("enemies/dog/idleL1.png"));
-            idleL2 = ImageIO.read(DogView.class.getClassLoader().getResourceAsStream("enemies/dog/idleL2.png"));
-            idleL3 = ImageIO.read(DogView.class.getClassLoader().getResourceAsStream("enemies/dog/idleL3.png"));
-            idleL4 = ImageIO.read(DogView.class.getClassLoader().getResourceAsStream("enemies/dog/idleL4.png"));
-
-            chasing = ImageIO.read(DogView.class.getClassLoader().getResourceAsStream("enemies/dog/chasing.png"));
-            notchasing = ImageIO.read(DogView.class.getClassLoader().getResourceAsStream("enemies/dog/notchasing.png"));
+            atlas = SpriteAtlas.getInstance();
+            disabledR = atlas.getFrames("enemies/dog/disabledR", 6);
+            disabledL = atlas.getFrames("enemies/dog/disabledL", 6);
+            runR = atlas.getFrames("enemies/dog/runR", 6);
+            runL = atlas.getFrames("enemies/dog/runL", 6);
+            idleR = atlas.getFrames("enemies/dog/idleR", 4);
+            idleL = atlas.getFrames("enemies/dog/idleL", 4);
+            chasing = atlas.getFrame("enemies/dog/chasing");
+            notchasing = atlas.getFrame("enemies/dog/notchasing");
 
             System.out.println("[DogView] loaded dog sprites");
         }
@@ -145,10 +113,11 @@ public class DogView {
     /**
      * updates the {@link #spriteCounter} depending on the dog's current state.
      * by updating the sprite counter and its sprite number, it creates an animation effect.
-     * called in the {@link #draw(Graphics2D)} method.
-     *
+     * called by the {@link EnemyView} once for every simulation tick since the last frame, so the animation speed
+     * doesn't depend on the frame rate.
+     * @param dog state of the dog
      */
-    private void updateFrameCounter(){
+    public void updateFrameCounter(EntitySnapshot dog){
         spriteCounter++;        //increment once per frame
 
         //check if dog just became disabled
@@ -192,37 +161,42 @@ public class DogView {
         }
     }
 
-    /** draws the dog based on its current state and position given by the {@link Dog} model.
-     * the sprite counter speed is handled in {@link #updateFrameCounter()}, and the sprite
+    /** draws the dog based on its current state and position, copied from the {@link Dog} model.
+     * the sprite counter speed is handled in {@link #updateFrameCounter(EntitySnapshot)}, and the sprite
      * cycling (to create the animation) is handled by the {@link #switchDisabledSprites(String)},  {@link #switchIdleSprite(String)} and
      * {@link #switchMovingSprite(String)}.
      *
      * @param g2d swing's graphics 2d instance that allows rendering
+     * @param dog state of the dog
+     * @param alpha interpolation factor between the previous and the current simulation tick
      */
-    public void draw(Graphics2D g2d){
-        BufferedImage image = null;
-        updateFrameCounter();
+    public void draw(Graphics2D g2d, EntitySnapshot dog, double alpha){
+        int frame = -1;
+        int x = dog.getRenderX(alpha);     //interpolated position
+        int y = dog.getRenderY(alpha);
 
         if(dog.getIsDisabled()){
-            image = switchDisabledSprites(dog.getDirection());
+            frame = switchDisabledSprites(dog.getDirection());
 //            System.out.println("[DogView] disabled dog sprite");
         }
 
          else if(dog.getIsIdle()){
-            image = switchIdleSprite(dog.getDirection());
+            frame = switchIdleSprite(dog.getDirection());
 //            System.out.println("[DogView] idle dog sprite");
         }
 
          else if(dog.getIsMoving()){
-            image = switchMovingSprite(dog.getDirection());
+            frame = switchMovingSprite(dog.getDirection());
 //            System.out.println("[DogView] moving dog sprite");
         }
 
 
         //dog sprite
-        g2d.drawImage(image, dog.getX(), dog.getY(), dog.getWidth(), dog.getHeight(), null);
+        if (frame >= 0) {
+            atlas.drawFrame(g2d, frame, x, y, dog.getWidth(), dog.getHeight());
+        }
         //alerted icon
-        g2d.drawImage(dog.getIsChasing() ? chasing : notchasing, dog.getX() + 30, dog.getY() + 20, null);
+        atlas.drawFrame(g2d, dog.getIsChasing() ? chasing : notchasing, x + 30, y + 20);
 
 
 //        //debug info:
@@ -252,141 +226,41 @@ public class DogView {
     }
 
 
-    /**switches the image based on the {@link #spriteNum} field.
+    /**switches the frame based on the {@link #spriteNum} field.
      * contains the dog's idle state sprites.
      * @param direction direction of the dog
-     * @return an image, current sprite of the dog.
+     * @return index of the current frame of the dog in the atlas.
      */
-    private BufferedImage switchIdleSprite(String direction){
-        BufferedImage image = null;
-
-        if (direction.equals("right")){
-            switch (spriteNum){
-                case 1:
-                    image = idleR1;
-                    break;
-                case 2:
-                    image = idleR2;
-                    break;
-                case 3:
-                    image = idleR3;
-                    break;
-                case 4:
-                    image = idleR4;
-                    break;
-                default:
-                    image = idleR1;
-                    break;
-            }
-        }
-        else if (direction.equals("left"))
-            switch (spriteNum){
-                case 1:
-                    image = idleL1;
-                    break;
-                case 2:
-                    image = idleL2;
-                    break;
-                case 3:
-                    image = idleL3;
-                    break;
-                case 4:
-                    image = idleL4;
-                    break;
-                default:
-                    image = idleL1;
-                    break;
-            }
-        return image;
+    private int switchIdleSprite(String direction){
+        return currentFrame(direction.equals("right") ? idleR : idleL);
     }
-    /**switches the image based on the {@link #spriteNum} field.
+    /**switches the frame based on the {@link #spriteNum} field.
      * contains the dog's moving state sprites.
      * @param direction direction of the dog
-     * @return an image, current sprite of the dog.
+     * @return index of the current frame of the dog in the atlas.
      */
-    private BufferedImage switchMovingSprite(String direction){
-        BufferedImage image = null;
-        if (direction.equals("right")){
-            switch (spriteNum){
-                case 1:
-                    image = runR1;
-                    break;
-                case 2:
-                    image = runR2;
-                    break;
-                case 3:
-                    image = runR3;
-                    break;
-                case 4:
-                    image = runR4;
-                    break;
-                case 5:
-                    image = runR5;
-                    break;
-                case 6:
-                    image = runR6;
-                    break;
-                default:
-                    image = runR1;
-            }
-        } else if (direction.equals("left")) {
-            switch (spriteNum){
-                case 1:
-                    image = runL1;
-                    break;
-                case 2:
-                    image = runL2;
-                    break;
-                case 3:
-                    image = runL3;
-                    break;
-                case 4:
-                    image = runL4;
-                    break;
-                case 5:
-                    image = runL5;
-                    break;
-                case 6:
-                    image = runL6;
-                    break;
-                default:
-                    image = runL1;
-                    break;
-            }
-        }
-        return image;
+    private int switchMovingSprite(String direction){
+        return currentFrame(direction.equals("right") ? runR : runL);
     }
 
-    /**switches the image based on the {@link #spriteNum} field.
+    /**switches the frame based on the {@link #spriteNum} field.
      * contains the dog's disabled state sprites.
      * @param direction direction of the dog
-     * @return an image, current sprite of the dog.
+     * @return index of the current frame of the dog in the atlas.
      */
-    private BufferedImage switchDisabledSprites(String direction) {
-        BufferedImage image = null;
-        if (direction.equals("right")) {
-            switch (spriteNum) {
-                case 1: image = disabledR1; break;
-                case 2: image = disabledR2; break;
-                case 3: image = disabledR3; break;
-                case 4: image = disabledR4; break;
-                case 5: image = disabledR5; break;
-                case 6: image = disabledR6; break;
-                default: image = disabledR1; break;
-            }
-        }
-        else {
-            switch (spriteNum) {
-                case 1: image = disabledL1; break;
-                case 2: image = disabledL2; break;
-                case 3: image = disabledL3; break;
-                case 4: image = disabledL4; break;
-                case 5: image = disabledL5; break;
-                case 6: image = disabledL6; break;
-                default: image = disabledL1; break;
-            }
+    private int switchDisabledSprites(String direction) {
+        return currentFrame(direction.equals("right") ? disabledR : disabledL);
+    }
+
+    /**picks the frame of an animation that matches the {@link #spriteNum} (1 is the first frame).
+     * @param frames frames of the animation
+     * @return the frame at the sprite number, or the first frame if the sprite number is out of the animation
+     */
+    private int currentFrame(int[] frames){
+        if (spriteNum >= 1 && spriteNum <= frames.length) {
+            return frames[spriteNum - 1];
         }
-        return image;
+        return frames[0];
     }
 
 }
@@ -1,61 +1,60 @@
 package view.entityViews;
 
 import model.entities.Drone;
+import model.snapshot.EntitySnapshot;
 
-import javax.imageio.ImageIO;
 import java.awt.*;
-import java.awt.image.BufferedImage;
 
 /**
  * view counterpart of the {@link Drone} model.
  * handles the rendering logic of a single drone instance.
- * all the drone sprites are loaded once in the {@link EnemyView} constructor.
+ * all the drone frames are looked up once in the {@link EnemyView} constructor, and drawn from the {@link SpriteAtlas}.
  */
 public class DroneView {
 
     /**
-     * reference to the {@link Drone} model
+     * atlas that holds every drone frame, see {@link SpriteAtlas}
      */
-    private final Drone drone;
+    private static SpriteAtlas atlas;
     /**
-     * drone attacking sprites: initially wanted to implement the re-enabling of a drone attack, scrapped the idea.
+     * drone attacking frames: initially wanted to implement the re-enabling of a drone attack, scrapped the idea.
      * maybe another time... @todo
      */
-    private static BufferedImage attack1, attack2, attack3, attack4, attack5, attack6;
+    private static int[] attack;
     /**
-     * drone disabling sprites (left)
+     * drone disabling frames (left)
      */
-    private static BufferedImage disabledL1, disabledL2, disabledL3, disabledL4, disabledL5, disabledL6;
+    private static int[] disabledL;
     /**
-     * drone disabling sprites (right)
+     * drone disabling frames (right)
      */
-    private static BufferedImage disabledR1, disabledR2, disabledR3, disabledR4, disabledR5, disabledR6;
+    private static int[] disabledR;
     /**
-     * drone enabling sprites: these are in the res folder. initially wanted to implement the re-enabling of the drones
+     * drone enabling frames: these are in the res folder. initially wanted to implement the re-enabling of the drones
      * in the room after some time, but scrapped the idea.
      */
-    private static BufferedImage enable1, enable2, enable3, enable4, enable5, enable6;
+    private static int[] enable;
     /**
-     * drone idle sprites (right, unused)
+     * drone idle frames (right, unused)
      */
-    private static  BufferedImage idleR1, idleR2, idleR3, idleR4;
+    private static int[] idleR;
     /**
-     * drone idle sprites (left, unused)
+     * drone idle frames (left, unused)
      */
-    private static  BufferedImage idleL1, idleL2, idleL3, idleL4;
+    private static int[] idleL;
     /**
-     * drone walking sprites (right)
+     * drone walking frames (right)
      */
-    private static BufferedImage walkR1, walkR2, walkR3, walkR4, walkR5, walkR6;
+    private static int[] walkR;
     /**
-     * drone walking sprites (left)
+     * drone walking frames (left)
      */
-    private static BufferedImage walkL1, walkL2, walkL3, walkL4, walkL5, walkL6;
+    private static int[] walkL;
     //chasing indicators
     /**
      * indicators of the drone sprites, if chasing or not.
      */
-    private static BufferedImage chasing, notChasing;
+    private static int chasing, notChasing;
     /**
      * sprite counter. this helps to display the drone animations.
      * it essentially is a counter tightly coupled with the game frame rate.
@@ -76,77 +75,31 @@ public class DroneView {
      */
     private boolean wasDisabled = false;
 
-    /** creates a drone view instance, that handles the rendering / visual side of the model.
-     * @param drone reference to the {@link Drone} model that his view is rendering
+    /**
+     * creates a drone view instance, that handles the rendering / visual side of a {@link Drone} model.
+     * the state of the drone is passed on every call, from the {@link model.snapshot.RenderSnapshot}.
      */
-    public DroneView(Drone drone) {
-        this.drone = drone;
+    public DroneView() {
     }
 
 
     /**
-     * loads all the drone sprites from the 'res' folder.
-     * called to load all the sprites in the {@link EnemyView} constructor, so it loads all the sprites once.
+     * looks up the indexes of all the drone frames in the {@link SpriteAtlas}, which loads and packs them on first use.
+     * called in the {@link EnemyView} constructor, so it looks them up once.
      */
-
     public static void loadSprites() {
         try{
-            attack1 = ImageIO.read(DroneView.class.getClassLoader().getResourceAsStream("enemies/drone/attack1.png"));
-            attack2 = ImageIO.read(DroneView.class.getClassLoader().getResourceAsStream("enemies/drone/attack2.png"));
-            attack3 = ImageIO.read(DroneView.class.getClassLoader().getResourceAsStream("enemies/drone/attack3.png"));
-            attack4 = ImageIO.read(DroneView.class.getClassLoader().getResourceAsStream("enemies/drone/attack4.png"));
-            attack5 = ImageIO.read(DroneView.class.getClassLoader().getResourceAsStream("enemies/drone/attack5.png"));
-            attack6 = ImageIO.read(DroneView.class.getClassLoader().getResourceAsStream("enemies/drone/attack6.png"));
-
-            disabledR1 = ImageIO.read(DroneView.class.getClassLoader().getResourceAsStream("enemies/drone/disabledR1.png"));
-            disabledR2 = ImageIO.read(DroneView.class.getClassLoader().getResourceAsStream("enemies/drone/disabledR2.png"));
-            disabledR3 = ImageIO.read(DroneView.class.getClassLoader().getResourceAsStream("enemies/drone/disabledR3.png"));
-            disabledR4 = ImageIO.read(DroneView.class.getClassLoader().getResourceAsStream("enemies/drone/disabledR4.png"));
-            disabledR5 = ImageIO.read(DroneView.class.getClassLoader().getResourceAsStream("enemies/drone/disabledR5.png"));
-            disabledR6 = ImageIO.read(DroneView.class.getClassLoader().getResourceAsStream("enemies/drone/disabledR6.png"));
-
-            disabledL1 = ImageIO.read(DroneView.class.getClassLoader().getResourceAsStream("enemies/drone/disabledL1.png"));
-            disabledL2 = ImageIO.read(DroneView.class.getClassLoader().getResourceAsStream("enemies/drone/disabledL2.png"));
-            disabledL3 = ImageIO.read(DroneView.class.getClassLoader().getResourceAsStream("enemies/drone/disabledL3.png"));
-            disabledL4 = ImageIO.read(DroneView.class.getClassLoader().getResourceAsStream("enemies/drone/disabledL4.png"));
-            disabledL5 = ImageIO.read(DroneView.class.getClassLoader().getResourceAsStream("enemies/drone/disabledL5.png"));
-            disabledL6 = ImageIO.read(DroneView.class.getClassLoader().getResourceAsStream("enemies/drone/disabledL6.png"));
-
-            enable1 = ImageIO.read(DroneView.class.getClassLoader().getResourceAsStream("enemies/drone/enable1.png"));
-            enable2 = ImageIO.read(DroneView.class.getClassLoader().getResourceAsStream("enemies/drone/enable2.png"));
-            enable3 = ImageIO.read(DroneView.class.getClassLoader().getResourceAsStream("enemies/drone/enable3.png"));
-            enable4 = ImageIO.read(DroneView.class.getClassLoader().getResourceAsStream("enemies/drone/enable4.png"));
-            enable5 = ImageIO.read(DroneView.class.getClassLoader().getResourceAsStream("enemies/drone/enable5.png"));
-            enable6 = ImageIO.read(DroneView.class.getClassLoader().getResourceAsStream("enemies/drone/enable6.png"));
-
-            idleR1 = ImageIO.read(DroneView.class.getClassLoader().getResourceAsStream("enemies/drone/idleR1.png"));
-            idleR2 = ImageIO.read(DroneView.class.getClassLoader().getResourceAsStream("enemies/drone/idleR2.png"));
-            idleR3 = ImageIO.read(DroneView.class.getClassLoader().getResourceAsStream("enemies/drone/idleR3.png"));
-            idleR4 = ImageIO.read(DroneView.class.getClassLoader().getResourceAsStream("enemies/drone/idleR4.png"));
-
-            idleL1 = ImageIO.read(DroneView.class.getClassLoader().getResourceAsStream("enemies/drone/idleL1.png"));
-            idleL2 = ImageIO.read(DroneView.class.getClassLoader().getResourceAsStream("enemies/drone/idleL2.png"));
-            idleL3 = ImageIO.read(DroneView.class.getClassLoader().getResourceAsStream("enemies/drone/idleL3.png"));
-            idleL4 = ImageIO.read(DroneView.class.getClassLoader().getResourceAsStream("enemies/drone/idleL4.png"));
-
-            walkR1 = ImageIO.read(DroneView.class.getClassLoader().getResourceAsStream("enemies/drone/walkR1.png"));
-            walkR2 = ImageIO.read(DroneView.class.getClassLoader().getResourceAsStream("enemies/drone/walkR2.png"));
-            walkR3 = ImageIO.read(DroneView.class.getClassLoader().getResourceAsStream("enemies/drone/walkR3.png"));
-            walkR4 = ImageIO.read(DroneView.class.getClassLoader().getResourceAsStream("enemies/drone/walkR4.png"));
-            walkR5 = ImageIO.read(DroneView.class.getClassLoader().getResourceAsStream("enemies/drone/walkR5.png"));
-            walkR6 = ImageIO.read(DroneView.class.getClassLoader().getResourceAsStream("enemies/drone/walkR6.png"));
-
-            walkL1 = ImageIO.read(DroneView.class.getClassLoader().getResourceAsStream("enemies/drone/walkL1.png"));
-            walkL2 = ImageIO.read(DroneView.class.getClassLoader().getResourceAsStream("enemies/drone/walkL2.png"));
-            walkL3 = ImageIO.read(DroneView.class.getClassLoader().getResourceAsStream("enemies/drone/walkL3.png"));
-            walkL4 = ImageIO.read(DroneView.class.getClassLoader().getResourceAsStream("enemies/drone/walkL4.png"));
-            walkL5 = ImageIO.read(DroneView.class.getClassLoader().getResourceAsStream("enemies/drone/walkL5.png"));
-            walkL6 = ImageIO.read(DroneView.class.getClassLoader().getResourceAsStream("enemies/drone/walkL6.png"));
-
-            chasing = ImageIO.read(DroneView.class.getClassLoader().getResourceAsStream("enemies/drone/chasing.png"));
-            notChasing = ImageIO.read(DroneView.class.getClassLoader().getResourceAsStream("enemies/drone/notchasing.png"));
-
-
+            atlas = SpriteAtlas.getInstance();
+            attack = atlas.getFrames("enemies/drone/attack", 6);
+            disabledR = atlas.getFrames("enemies/drone/disabledR", 6);
+            disabledL = atlas.getFrames("enemies/drone/disabledL", 6);
+            enable = atlas.getFrames("enemies/drone/enable", 6);
+            idleR = atlas.getFrames("enemies/drone/idleR", 4);
+            idleL = atlas.getFrames("enemies/drone/idleL", 4);
+            walkR = atlas.getFrames("enemies/drone/walkR", 6);
+            walkL = atlas.getFrames("enemies/drone/walkL", 6);
+            chasing = atlas.getFrame("enemies/drone/chasing");
+            notChasing = atlas.getFrame("enemies/drone/notchasing");
         } catch (Exception e) {
             throw new RuntimeException(e);
         }
@@ -156,9 +109,11 @@ public class DroneView {
     /**
      * updates the {@link #spriteCounter} depending on the drone's current state.
      * by updating the sprite counter and its sprite number, it creates an animation effect.
-     * called in the {@link #draw(Graphics2D)} method.
+     * called by the {@link EnemyView} once for every simulation tick since the last frame, so the animation speed
+     * doesn't depend on the frame rate.
+     * @param drone state of the drone
      */
-    private void updateFrameCounter(){
+    public void updateFrameCounter(EntitySnapshot drone){
         spriteCounter++;
 
         //check if drone just became disabled
@@ -199,34 +154,39 @@ public class DroneView {
 //----------------------------------------------------------------------------------------------------------------//
 // main draw method
 //----------------------------------------------------------------------------------------------------------------//
-    /** draws the drone based on its current state and position given by the {@link Drone} model.
-     * the sprite counter speed is handled in {@link #updateFrameCounter()}, and the sprite
+    /** draws the drone based on its current state and position, copied from the {@link Drone} model.
+     * the sprite counter speed is handled in {@link #updateFrameCounter(EntitySnapshot)}, and the sprite
      * cycling (to create the animation) is handled by the {@link #switchDisabledSprites(String)},  {@link #switchIdleSprite(String)}(unused) and
      * {@link #switchMovingSprite(String)}.
      *
      * @param g2d swing's graphics 2d instance that allows rendering
+     * @param drone state of the drone
+     * @param alpha interpolation factor between the previous and the current simulation tick
      */
-    public void draw(Graphics2D g2d){
-        BufferedImage image = null;
-        updateFrameCounter();
+    public void draw(Graphics2D g2d, EntitySnapshot drone, double alpha){
+        int frame = -1;
+        int x = drone.getRenderX(alpha);     //interpolated position
+        int y = drone.getRenderY(alpha);
 
         if (drone.getIsDisabled()){
-            image = switchDisabledSprites(drone.getDirection());
+            frame = switchDisabledSprites(drone.getDirection());
         }
 
         else if (drone.getIsIdle()){
-            image = switchIdleSprite(drone.getDirection());
+            frame = switchIdleSprite(drone.getDirection());
         }
 
         else if (drone.getIsMoving()){
-            image = switchMovingSprite(drone.getDirection());
+            frame = switchMovingSprite(drone.getDirection());
         }
 
 
         //drone images
-        g2d.drawImage(image, drone.getX(), drone.getY(), drone.getWidth(), drone.getHeight(), null);
+        if (frame >= 0) {
+            atlas.drawFrame(g2d, frame, x, y, drone.getWidth(), drone.getHeight());
+        }
         //drone is chasing indicator
-        g2d.drawImage(drone.getIsChasing() ? chasing : notChasing, drone.getX() + 10, drone.getY() - 20, null);
+        atlas.drawFrame(g2d, drone.getIsChasing() ? chasing : notChasing, x + 10, y - 20);
 
 ////        debug info:
 //        //drone image size
@@ -250,141 +210,40 @@ public class DroneView {
 //----------------------------------------------------------------------------------------------------------------//
 // sprites switch statements
 //----------------------------------------------------------------------------------------------------------------//
-    /**switches the image based on the {@link #spriteNum} field.
+    /**switches the frame based on the {@link #spriteNum} field.
      * contains the drone's idle state sprites.
      * note that it is currently unused, because the drone never enter into a 'idle' state.
      * @param direction direction of the drone
-     * @return an image, current sprite of the drone.
+     * @return index of the current frame of the drone in the atlas.
      */
-    private BufferedImage switchIdleSprite(String direction) {
-        BufferedImage image = null;
-
-        if (direction.equals("right")) {
-            switch (spriteNum) {
-                case 1:
-                    image = idleR1;
-                    break;
-                case 2:
-                    image = idleR2;
-                    break;
-                case 3:
-                    image = idleR3;
-                    break;
-                case 4:
-                    image = idleR4;
-                    break;
-                default:
-                    image = idleR1;
-                    break;
-            }
-        }
-        else if (direction.equals("left")) {
-            switch (spriteNum) {
-                case 1:
-                    image = idleL1;
-                    break;
-                case 2:
-                    image = idleL2;
-                    break;
-                case 3:
-                    image = idleL3;
-                    break;
-                case 4:
-                    image = idleL4;
-                    break;
-                default: image = idleL1;
-            }
-        }
-        return image;
+    private int switchIdleSprite(String direction) {
+        return currentFrame(direction.equals("right") ? idleR : idleL);
     }
-    /**switches the image based on the {@link #spriteNum} field.
+    /**switches the frame based on the {@link #spriteNum} field.
      * contains the drone's moving state sprites.
      * @param direction direction of the drone
-     * @return an image, current sprite of the drone.
+     * @return index of the current frame of the drone in the atlas.
      */
-    private BufferedImage switchMovingSprite(String direction) {
-        BufferedImage image = null;
-        if (direction.equals("right")) {
-            switch (spriteNum) {
-                case 1:
-                    image = walkR1;
-                    break;
-                case 2:
-                    image = walkR2;
-                    break;
-                case 3:
-                    image = walkR3;
-                    break;
-                case 4:
-                    image = walkR4;
-                    break;
-                case 5:
-                    image = walkR5;
-                    break;
-                case 6:
-                    image = walkR6;
-                    break;
-                default:
-                    image = walkR1;
-            }
-        }
-        else if (direction.equals("left")) {
-            switch (spriteNum) {
-                case 1:
-                    image = walkL1;
-                    break;
-                case 2:
-                    image = walkL2;
-                    break;
-                case 3:
-                    image = walkL3;
-                    break;
-                case 4:
-                    image = walkL4;
-                    break;
-                case 5:
-                    image = walkL5;
-                    break;
-                case 6:
-                    image = walkL6;
-                    break;
-                default:
-                    image = walkL1;
-                    break;
-            }
-        }
-
-        return image;
+    private int switchMovingSprite(String direction) {
+        return currentFrame(direction.equals("right") ? walkR : walkL);
     }
-    /**switches the image based on the {@link #spriteNum} field.
+    /**switches the frame based on the {@link #spriteNum} field.
      * contains the drone's disabled state sprites.
      * @param direction direction of the drone
-     * @return an image, current sprite of the drone.
+     * @return index of the current frame of the drone in the atlas.
      */
-    private BufferedImage switchDisabledSprites(String direction) {
-        BufferedImage image = null;
-        if (direction.equals("right")) {
-            switch (spriteNum) {
-                case 1: image = disabledR1; break;
-                case 2: image = disabledR2; break;
-                case 3: image = disabledR3; break;
-                case 4: image = disabledR4; break;
-                case 5: image = disabledR5; break;
-                case 6: image = disabledR6; break;
-                default: image = disabledR1; break;
-            }
-        }
-        else {
-            switch (spriteNum) {
-                case 1: image = disabledL1; break;
-                case 2: image = disabledL2; break;
-                case 3: image = disabledL3; break;
-                case 4: image = disabledL4; break;
-                case 5: image = disabledL5; break;
-                case 6: image = disabledL6; break;
-                default: image = disabledL1; break;
-            }
+    private int switchDisabledSprites(String direction) {
+        return currentFrame(direction.equals("right") ? disabledR : disabledL);
+    }
+
+    /**picks the frame of an animation that matches the {@link #spriteNum} (1 is the first frame).
+     * @param frames frames of the animation
+     * @return the frame at the sprite number, or the first frame if the sprite number is out of the animation
+     */
+    private int currentFrame(int[] frames) {
+        if (spriteNum >= 1 && spriteNum <= frames.length) {
+            return frames[spriteNum - 1];
         }
-        return image;
+        return frames[0];
     }
 }
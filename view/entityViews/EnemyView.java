@@ -1,116 +1,99 @@
 package view.entityViews;
 
-import model.entities.Dog;
-import model.entities.Drone;
-import model.levels.LevelManager;
+import logging.Log;
 import model.levels.Room;
+import model.snapshot.RenderSnapshot;
 
 import java.awt.*;
 import java.util.ArrayList;
 import java.util.List;
-import java.util.Observable;
-import java.util.Observer;
 
 
 /**
  * view, it contains all the views of all enemies in the {@link model.entities.Player}'s current {@link Room}.
- * gets updated via the observer pattern by {@link LevelManager}.
+ * the enemies are drawn from the {@link RenderSnapshot}, and the views are created again whenever the room of the
+ * snapshot changes.
  */
-public class EnemyView implements Observer {
+public class EnemyView {
     /**
-     * list of all the drone views in the current room.
+     * list of all the drone views in the current room, in the order of the drones of the snapshot.
      */
     private List<DroneView> droneViews = new ArrayList<>();
     /**
-     * list of all the dog views in the current room.
+     * list of all the dog views in the current room, in the order of the dogs of the snapshot.
      */
     private List<DogView> dogViews = new ArrayList<>();
 
     /**
-     * the current {@link Room} where the {@link model.entities.Player} is
+     * {@link RenderSnapshot#getRoomVersion()} of the room the views were created for, -1 before the first snapshot
      */
-    private Room currentRoom;
-    /**
-     * reference to the {@link LevelManager} instance
-     */
-    private final LevelManager levelManager;
+    private int roomVersion = -1;
 
     /**
      * view, it contains all the views of all enemies in the {@link model.entities.Player}'s current {@link Room}.
-     * gets updated via the observer pattern by {@link LevelManager} (observable).
-     * loads the {@link DogView} and {@link DroneView} sprites statically to increase efficiency.
+     * the views are created from the first snapshot drawn, see {@link #update(RenderSnapshot, int)}.
+     * looks up the {@link DogView} and {@link DroneView} frames of the {@link SpriteAtlas} statically to increase efficiency.
      */
-    public EnemyView(LevelManager levelManager) {
-        this.levelManager = levelManager;
-        this.currentRoom = levelManager.getCurrentRoom();
-        //initialize the views in the constructor (once)
-        initializeViews();
+    public EnemyView() {
         //load all the enemies sprites
         DogView.loadSprites();
         DroneView.loadSprites();
-        //register enemy view as an observer of level manager
-        this.levelManager.addObserver(this);
-    }
-
-    /**updates the {@link #currentRoom} whenever it changes.
-     * see {@link LevelManager}.
-     * @param o   the observable object.
-     * @param arg an argument passed to the {@code notifyObservers}
-     *            method.
-     */
-    @Override
-    public void update(Observable o, Object arg) {
-        if (o instanceof LevelManager levelManager){
-            if (arg.equals("level changed")){           //when changin rooms, in level manager notifies observers with getCurrentRoom()
-                this.currentRoom = levelManager.getCurrentRoom();             //update the current room
-                refreshViews();
-            }
-        }
     }
 
 
     /**
      * clears and re-populates the {@link #droneViews} and the {@link #dogViews} array lists with new {@link DogView} or {@link DroneView},
-     * by checking the {@link Room}'s enemies.
+     * one for each enemy of the snapshot.
+     * @param snapshot the snapshot being drawn
      */
-    private void initializeViews() {
+    private void initializeViews(RenderSnapshot snapshot) {
         droneViews.clear();
         dogViews.clear();
 
-        for( Drone drone : currentRoom.getDrones()) {
-            droneViews.add(new DroneView(drone));
+        for (int i = 0; i < snapshot.getDroneCount(); i++) {
+            droneViews.add(new DroneView());
         }
-        for(Dog dog : currentRoom.getDogs() ) {
-            dogViews.add(new DogView(dog));
+        for (int i = 0; i < snapshot.getDogCount(); i++) {
+            dogViews.add(new DogView());
         }
+        roomVersion = snapshot.getRoomVersion();
 
-        System.out.println("[EnemyView][initializeViews()] initializing enemy views");
+        Log.debug("[EnemyView][initializeViews()] initializing enemy views");
     }
 
-    /**
-     * refreshed the enemy views.
-     * clears all existing views in {@link #droneViews} and {@link #dogViews} and re-initializes them based on the current room.
-     */
-    private void refreshViews() {
-        droneViews.clear();
-        dogViews.clear();
 
-        initializeViews();
-        System.out.println("[EnemyView] -> refreshViews(): refreshing enemy views");
+    /**creates the views again if the room changed, then advances the animation of every enemy view by the ticks
+     * elapsed since the last frame.
+     * called by the {@link view.gamePanelViews.GameView} before drawing a snapshot.
+     * @param snapshot the snapshot being drawn
+     * @param ticks number of simulation ticks since the last frame
+     */
+    public void update(RenderSnapshot snapshot, int ticks) {
+        if (roomVersion != snapshot.getRoomVersion() || droneViews.size() != snapshot.getDroneCount() || dogViews.size() != snapshot.getDogCount()) {
+            initializeViews(snapshot);
+        }
+        for (int tick = 0; tick < ticks; tick++) {
+            for (int i = 0; i < droneViews.size(); i++) {
+                droneViews.get(i).updateFrameCounter(snapshot.getDrone(i));
+            }
+            for (int i = 0; i < dogViews.size(); i++) {
+                dogViews.get(i).updateFrameCounter(snapshot.getDog(i));
+            }
+        }
     }
 
-
     /**calls every single view's .draw() method.
      * the view instances are stored in {@link #droneViews}, {@link #dogViews}
      * @param g2d swing's graphics 2d instance that allows rendering
+     * @param snapshot the snapshot being drawn, already passed to {@link #update(RenderSnapshot, int)}
+     * @param alpha interpolation factor between the previous and the current simulation tick
      */
-    //get the list of the objects in the current room
-    public void drawEnemies(Graphics2D g2d) {
-        for (DroneView droneView : droneViews) {
-            droneView.draw(g2d);
+    public void drawEnemies(Graphics2D g2d, RenderSnapshot snapshot, double alpha) {
+        for (int i = 0; i < droneViews.size(); i++) {
+            droneViews.get(i).draw(g2d, snapshot.getDrone(i), alpha);
         }
-        for (DogView dogView : dogViews) {
-            dogView.draw(g2d);
+        for (int i = 0; i < dogViews.size(); i++) {
+            dogViews.get(i).draw(g2d, snapshot.getDog(i), alpha);
         }
 
     }
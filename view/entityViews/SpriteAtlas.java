@@ -0,0 +1,339 @@
+package view.entityViews;
+
+import profiling.AssetLoadEvent;
+import view.AssetLoader;
+
+import javax.imageio.ImageIO;
+import java.awt.*;
+import java.awt.image.BufferedImage;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+
+/**
+ * view, single packed texture that holds every animation frame of the entities (the 'player' and 'enemies' folders in res).
+ * the frames are loaded and packed once into one managed image, by {@link #loadAsync(Executor)} at startup, or on the first
+ * {@link #getInstance()} call.
+ * each frame gets an index in the frame table, which stores the rectangle of the frame inside the atlas image.
+ * the entity views look up the indexes of their frames once, and draw sub rectangles of the atlas via
+ * {@link #drawFrame(Graphics2D, int, int, int, int, int)}: a single image means java2d uploads and caches a single
+ * surface in video memory, instead of one per frame.
+ */
+public class SpriteAtlas {
+    //----------------------------------------------------------------------------------------------------------------//
+    // FIELDS
+    //----------------------------------------------------------------------------------------------------------------//
+    /**
+     * singleton instance, completed once the frames are loaded and packed. null until the atlas is first requested
+     * via {@link #getInstance()} or {@link #loadAsync(Executor)}.
+     */
+    private static CompletableFuture<SpriteAtlas> instance;
+
+    /**
+     * width of the atlas image. the frames are 48 pixels wide at most, so a row fits about 10 of them.
+     */
+    private static final int ATLAS_WIDTH = 512;
+    /**
+     * empty pixels left around each frame, so a scaled frame never samples the pixels of its neighbours
+     */
+    private static final int PADDING = 1;
+
+    /**
+     * the atlas image, holding every frame
+     */
+    private BufferedImage image;
+    /**
+     * name of each frame (resource path without the '.png' extension, e.g. "player/idleR1"), by frame index
+     */
+    private static final List<String> FRAME_NAMES = listFrames();
+    /**
+     * frame index of each frame name
+     */
+    private final Map<String, Integer> frameIndexes = new HashMap<>();
+    /**
+     * x coordinate of each frame inside the atlas image, by frame index
+     */
+    private int[] frameX;
+    /**
+     * y coordinate of each frame inside the atlas image, by frame index
+     */
+    private int[] frameY;
+    /**
+     * width of each frame, by frame index. 0 if the frame failed to load.
+     */
+    private int[] frameWidth;
+    /**
+     * height of each frame, by frame index. 0 if the frame failed to load.
+     */
+    private int[] frameHeight;
+
+    /**packs the loaded frames into the atlas, see {@link #pack(BufferedImage[])}.
+     * @param frames decoded frames, by frame index (null for a frame that failed to load)
+     */
+    private SpriteAtlas(BufferedImage[] frames) {
+        pack(frames);
+    }
+
+    /**returns the sprite atlas. if nobody started loading it yet, it gets loaded on the calling thread;
+     * if it's being loaded by {@link #loadAsync(Executor)}, waits for it.
+     * @return the sprite atlas
+     */
+    public static SpriteAtlas getInstance() {
+        return loadAsync(Runnable::run).join();
+    }
+
+    /**starts loading the atlas, if it isn't loaded or loading already. every frame is decoded as a separate task on
+     * the executor, and the frames get packed once they are all decoded.
+     * @param executor executor that decodes the frames, e.g. the pool of {@link view.AssetLoader}
+     * @return future completed with the atlas
+     */
+    public static synchronized CompletableFuture<SpriteAtlas> loadAsync(Executor executor) {
+        if (instance == null) {
+            long startTime = System.nanoTime();
+            int frameCount = FRAME_NAMES.size();
+            BufferedImage[] frames = new BufferedImage[frameCount];
+            CompletableFuture<?>[] decodes = new CompletableFuture<?>[frameCount];
+            for (int i = 0; i < frameCount; i++) {
+                int frame = i;
+                decodes[i] = CompletableFuture.runAsync(() -> frames[frame] = decodeFrame(FRAME_NAMES.get(frame)), executor);
+            }
+            instance = CompletableFuture.allOf(decodes).thenApply(done -> {
+                SpriteAtlas atlas = new SpriteAtlas(frames);
+                System.out.println("[SpriteAtlas][loadAsync()] loaded " + frameCount + " frames in "
+                        + (System.nanoTime() - startTime) / 1_000_000 + "ms");
+                return atlas;
+            });
+        }
+        return instance;
+    }
+
+    //----------------------------------------------------------------------------------------------------------------//
+    // BUILD
+    //----------------------------------------------------------------------------------------------------------------//
+    /**
+     * lists every frame of the entities, in the order of their frame indexes.
+     * sequences are numbered from 1, like the files in the res folder (e.g. "player/idleR" with 4 frames is
+     * "player/idleR1" to "player/idleR4").
+     * @return name of each frame, by frame index
+     */
+    private static List<String> listFrames() {
+        List<String> names = new ArrayList<>();
+        //player
+        addSequence(names, "player/idleR", 4);
+        addSequence(names, "player/idleL", 4);
+        addSequence(names, "player/jumpR", 8);
+        addSequence(names, "player/jumpL", 8);
+        addSequence(names, "player/runningR", 6);
+        addSequence(names, "player/runningL", 6);
+        addSequence(names, "player/climb", 4);
+        addSequence(names, "player/death", 9);
+        addSequence(names, "player/jumpsmoke", 8);
+        addFrame(names, "player/canjumpicon");
+
+        //drone
+        addSequence(names, "enemies/drone/attack", 6);
+        addSequence(names, "enemies/drone/disabledR", 6);
+        addSequence(names, "enemies/drone/disabledL", 6);
+        addSequence(names, "enemies/drone/enable", 6);
+        addSequence(names, "enemies/drone/idleR", 4);
+        addSequence(names, "enemies/drone/idleL", 4);
+        addSequence(names, "enemies/drone/walkR", 6);
+        addSequence(names, "enemies/drone/walkL", 6);
+        addFrame(names, "enemies/drone/chasing");
+        addFrame(names, "enemies/drone/notchasing");
+
+        //dog
+        addSequence(names, "enemies/dog/disabledR", 6);
+        addSequence(names, "enemies/dog/disabledL", 6);
+        addSequence(names, "enemies/dog/runR", 6);
+        addSequence(names, "enemies/dog/runL", 6);
+        addSequence(names, "enemies/dog/idleR", 4);
+        addSequence(names, "enemies/dog/idleL", 4);
+        addFrame(names, "enemies/dog/chasing");
+        addFrame(names, "enemies/dog/notchasing");
+        return names;
+    }
+
+    /**adds a frame to the frame list.
+     * @param names frame list
+     * @param name resource path of the frame, without the '.png' extension
+     */
+    private static void addFrame(List<String> names, String name) {
+        names.add(name);
+    }
+
+    /**adds a numbered sequence of frames to the frame list.
+     * @param names frame list
+     * @param prefix resource path of the frames, without the frame number and the '.png' extension
+     * @param count number of frames
+     */
+    private static void addSequence(List<String> names, String prefix, int count) {
+        for (int i = 1; i <= count; i++) {
+            addFrame(names, prefix + i);
+        }
+    }
+
+    /**decodes a single frame. safe to call from any thread.
+     * @param name resource path of the frame, without the '.png' extension
+     * @return the frame, or null if it failed to load
+     */
+    private static BufferedImage decodeFrame(String name) {
+        AssetLoadEvent loadEvent = new AssetLoadEvent();
+        loadEvent.begin();
+        try (InputStream is = SpriteAtlas.class.getClassLoader().getResourceAsStream(name + ".png")) {
+            return ImageIO.read(is);
+        }
+        catch (Exception e) {
+            System.out.println("[SpriteAtlas][decodeFrame()] failed to load frame: " + name);
+            e.printStackTrace();
+            return null;
+        }
+        finally {
+            loadEvent.end();
+            if (loadEvent.shouldCommit()) {
+                loadEvent.group = AssetLoader.AssetGroup.SPRITES.name();
+                loadEvent.asset = name + ".png";
+                loadEvent.commit();
+            }
+        }
+    }
+
+    /**
+     * packs the frames in rows (tallest frames first) and draws them into the atlas image, filling the frame table.
+     * a frame that failed to load is kept in the table with a size of 0, so it draws nothing.
+     * @param frames decoded frames, by frame index
+     */
+    private void pack(BufferedImage[] frames) {
+        int frameCount = frames.length;
+        frameX = new int[frameCount];
+        frameY = new int[frameCount];
+        frameWidth = new int[frameCount];
+        frameHeight = new int[frameCount];
+        for (int i = 0; i < frameCount; i++) {
+            frameIndexes.put(FRAME_NAMES.get(i), i);
+            if (frames[i] != null) {
+                frameWidth[i] = frames[i].getWidth();
+                frameHeight[i] = frames[i].getHeight();
+            }
+        }
+
+        //pack the frames in rows, from the tallest to the shortest, so each row wastes little height
+        Integer[] order = new Integer[frameCount];
+        for (int i = 0; i < frameCount; i++) {
+            order[i] = i;
+        }
+        Arrays.sort(order, (a, b) -> frameHeight[b] - frameHeight[a]);
+        int x = 0;
+        int y = 0;
+        int rowHeight = 0;
+        for (int i : order) {
+            if (frames[i] == null) continue;
+            if (x + frameWidth[i] + PADDING * 2 > ATLAS_WIDTH) {      //row full, start a new one
+                x = 0;
+                y += rowHeight;
+                rowHeight = 0;
+            }
+            frameX[i] = x + PADDING;
+            frameY[i] = y + PADDING;
+            x += frameWidth[i] + PADDING * 2;
+            rowHeight = Math.max(rowHeight, frameHeight[i] + PADDING * 2);
+        }
+        int atlasHeight = Math.max(1, y + rowHeight);
+
+        //draw the frames into the atlas
+        image = createAtlasImage(atlasHeight);
+        Graphics2D g2d = image.createGraphics();
+        for (int i = 0; i < frameCount; i++) {
+            if (frames[i] != null) {
+                g2d.drawImage(frames[i], frameX[i], frameY[i], null);
+            }
+        }
+        g2d.dispose();
+
+        System.out.println("[SpriteAtlas][pack()] packed " + frameCount + " frames into a " + ATLAS_WIDTH + "x" + atlasHeight + " atlas");
+    }
+
+    /**creates the atlas image, in the format of the screen when there is one, so java2d can cache it in video memory.
+     * @param height height of the atlas
+     * @return a transparent image of {@link #ATLAS_WIDTH} x height pixels
+     */
+    private BufferedImage createAtlasImage(int height) {
+        if (!GraphicsEnvironment.isHeadless()) {
+            GraphicsConfiguration gc = GraphicsEnvironment.getLocalGraphicsEnvironment().getDefaultScreenDevice().getDefaultConfiguration();
+            return gc.createCompatibleImage(ATLAS_WIDTH, height, Transparency.TRANSLUCENT);
+        }
+        return new BufferedImage(ATLAS_WIDTH, height, BufferedImage.TYPE_INT_ARGB);
+    }
+
+    //----------------------------------------------------------------------------------------------------------------//
+    // LOOKUP AND DRAW
+    //----------------------------------------------------------------------------------------------------------------//
+    /**
+     * @param name resource path of the frame, without the '.png' extension (e.g. "player/idleR1")
+     * @return index of the frame in the frame table
+     * @throws IllegalArgumentException if the frame is not in the atlas
+     */
+    public int getFrame(String name) {
+        Integer index = frameIndexes.get(name);
+        if (index == null) {
+            throw new IllegalArgumentException("[SpriteAtlas] no frame named " + name);
+        }
+        return index;
+    }
+
+    /**
+     * @param prefix resource path of the frames, without the frame number and the '.png' extension (e.g. "player/idleR")
+     * @param count number of frames of the sequence
+     * @return indexes of the frames 1 to count of the sequence
+     */
+    public int[] getFrames(String prefix, int count) {
+        int[] frames = new int[count];
+        for (int i = 0; i < count; i++) {
+            frames[i] = getFrame(prefix + (i + 1));
+        }
+        return frames;
+    }
+
+    /**draws a frame of the atlas, scaled to the provided size.
+     * @param g2d swing's graphics 2d instance that allows rendering
+     * @param frame index of the frame
+     * @param x x coordinate of the destination
+     * @param y y coordinate of the destination
+     * @param width width of the destination
+     * @param height height of the destination
+     */
+    public void drawFrame(Graphics2D g2d, int frame, int x, int y, int width, int height) {
+        int sx = frameX[frame];
+        int sy = frameY[frame];
+        g2d.drawImage(image, x, y, x + width, y + height, sx, sy, sx + frameWidth[frame], sy + frameHeight[frame], null);
+    }
+
+    /**draws a frame of the atlas, at its own size.
+     * @param g2d swing's graphics 2d instance that allows rendering
+     * @param frame index of the frame
+     * @param x x coordinate of the destination
+     * @param y y coordinate of the destination
+     */
+    public void drawFrame(Graphics2D g2d, int frame, int x, int y) {
+        drawFrame(g2d, frame, x, y, frameWidth[frame], frameHeight[frame]);
+    }
+
+    /**
+     * @return number of frames in the atlas
+     */
+    public int getFrameCount() {
+        return FRAME_NAMES.size();
+    }
+
+    /**
+     * @return the atlas image
+     */
+    public BufferedImage getImage() {
+        return image;
+    }
+}
@@ -0,0 +1,75 @@
+package view.gamePanelViews;
+
+import java.awt.*;
+import java.awt.image.BufferedImage;
+import java.util.function.Consumer;
+
+/**
+ * view, the static part of a screen (background image, titles, instructions) cached as an image of the size of the
+ * screen. the static part is painted once into the image, and every repaint of the screen, full or only a small region,
+ * is a single blit of it: the screens then only draw over it what actually changed (the selected option, the name typed in).
+ * the image is painted again when the size of the screen changes, or after {@link #invalidate()}.
+ */
+public class CachedLayer {
+    /**
+     * paints the static part of the screen, in the coordinates of the screen
+     */
+    private final Consumer<Graphics2D> painter;
+    /**
+     * transparency of the image: {@link Transparency#OPAQUE} for the screens that cover the whole window,
+     * {@link Transparency#TRANSLUCENT} for the overlays drawn over the game
+     */
+    private final int transparency;
+    /**
+     * the cached static part, null until the first draw or after {@link #invalidate()}
+     */
+    private BufferedImage image;
+
+    /**
+     * @param painter paints the static part of the screen
+     * @param transparency transparency of the cached image, see {@link Transparency}
+     */
+    public CachedLayer(Consumer<Graphics2D> painter, int transparency) {
+        this.painter = painter;
+        this.transparency = transparency;
+    }
+
+    /**draws the cached static part, painting it first if there is none yet or the size of the screen changed.
+     * only the clip of the graphics gets copied.
+     * @param g2d graphics of the screen
+     * @param width width of the screen
+     * @param height height of the screen
+     */
+    public void draw(Graphics2D g2d, int width, int height) {
+        if (width <= 0 || height <= 0) {
+            return;
+        }
+        if (image == null || image.getWidth() != width || image.getHeight() != height) {
+            paint(g2d.getDeviceConfiguration(), width, height);
+        }
+        g2d.drawImage(image, 0, 0, null);
+    }
+
+    /**
+     * drops the cached image, so the static part is painted again on the next draw. to be called when it changes.
+     */
+    public void invalidate() {
+        image = null;
+    }
+
+    /**paints the static part into a new image compatible with the screen.
+     * @param gc graphics configuration of the screen
+     * @param width width of the screen
+     * @param height height of the screen
+     */
+    private void paint(GraphicsConfiguration gc, int width, int height) {
+        image = gc.createCompatibleImage(width, height, transparency);
+        Graphics2D imageG2d = image.createGraphics();
+        try {
+            painter.accept(imageG2d);
+        }
+        finally {
+            imageG2d.dispose();
+        }
+    }
+}
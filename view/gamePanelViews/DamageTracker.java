@@ -0,0 +1,332 @@
+package view.gamePanelViews;
+
+import model.ScreenSettings;
+import model.inventoryrelated.Item;
+import model.snapshot.EntitySnapshot;
+import model.snapshot.ObjectSnapshot;
+import model.snapshot.RenderSnapshot;
+import view.interactableObjectsViews.ComputerView;
+import view.itemViews.InventoryView;
+
+import java.awt.*;
+
+/**
+ * view, records the regions of the game that changed since the last frame (the "damage"), by comparing every
+ * {@link RenderSnapshot} drawn with the previous one. the {@link GameView} then only draws those regions again, over
+ * the frame it drew before:
+ * - world damage: the entities (they move and animate every tick), the objects that animate or whose state changed.
+ *   the world is drawn again only inside it, see {@link ScaledRenderTarget#redraw(GraphicsConfiguration, Rectangle, java.util.function.Consumer)}.
+ * - frame damage: the world damage, plus the hud that changed (inventory slots, interaction prompt, and whatever the
+ *   {@link GameView} adds with {@link #addHud(int, int, int, int)}). it's the part of the window to show again.
+ * the whole frame is damaged on the first frame, when the room changes, and after {@link #invalidate()}.
+ * all the regions are in the logical coordinates of the models, and nothing is allocated once the biggest room was seen.
+ */
+public class DamageTracker {
+    /**
+     * empty pixels added around the entities: the sprites and the icons drawn over them (jump icon, chasing icon)
+     * go a little outside their hitbox
+     */
+    private final int ENTITY_MARGIN = ScreenSettings.TILE_SIZE;
+    /**
+     * empty pixels added around the objects and the hud elements, for the antialiased edges of their text
+     */
+    private final int MARGIN = 8;
+    /**
+     * the whole logical screen
+     */
+    private final Rectangle screenBounds = new Rectangle(0, 0, ScreenSettings.SCREEN_WIDTH, ScreenSettings.SCREEN_HEIGHT);
+
+    /**
+     * reference to the {@link InventoryView}, which knows where the inventory slots are drawn
+     */
+    private final InventoryView inventoryView;
+
+    //damage of the current frame
+    /**
+     * union of the world regions that changed, empty (negative size) if none did
+     */
+    private final Rectangle worldDamage = new Rectangle();
+    /**
+     * union of the world and hud regions that changed, empty (negative size) if none did
+     */
+    private final Rectangle frameDamage = new Rectangle();
+    /**
+     * true if everything has to be drawn again
+     */
+    private boolean fullDamage = true;
+
+    //state of the previous frame
+    /**
+     * room of the previous frame, see {@link RenderSnapshot#getRoomVersion()}
+     */
+    private int roomVersion = -1;
+    /**
+     * area the entities were drawn at in the previous frame: the player, then the drones, then the dogs
+     */
+    private Rectangle[] entityBounds = new Rectangle[0];
+    /**
+     * state of the interactable objects in the previous frame, see {@link #getObjectState(ObjectSnapshot)}
+     */
+    private int[] objectStates = new int[0];
+    /**
+     * true if the interaction prompt was shown in the previous frame
+     */
+    private boolean promptVisible;
+    /**
+     * position of the object the interaction prompt was shown for in the previous frame
+     */
+    private int promptX, promptY;
+    /**
+     * interaction progress shown by the prompt in the previous frame
+     */
+    private int interactionProgress;
+    /**
+     * items of the inventory slots in the previous frame
+     */
+    private Item[] items = new Item[0];
+    /**
+     * discard progress of the inventory slots in the previous frame
+     */
+    private float[] discardProgress = new float[0];
+    /**
+     * reusable rectangle, for the regions being added
+     */
+    private final Rectangle bounds = new Rectangle();
+
+    /**
+     * @param inventoryView the view of the inventory drawn in the hud
+     */
+    public DamageTracker(InventoryView inventoryView) {
+        this.inventoryView = inventoryView;
+        clear();
+    }
+
+    /**compares the snapshot about to be drawn with the previous one, and records what changed.
+     * called once per frame, before drawing it. the damage of the previous frame is forgotten.
+     * @param snapshot the snapshot about to be drawn
+     * @param alpha interpolation factor the entities are drawn with
+     */
+    public void track(RenderSnapshot snapshot, double alpha) {
+        if (!fullDamage) {
+            clear();
+        }
+        int entityCount = 1 + snapshot.getDroneCount() + snapshot.getDogCount();
+        if (snapshot.getRoomVersion() != roomVersion || entityCount != entityBounds.length || snapshot.getObjectCount() != objectStates.length) {
+            //new room: everything changes, start tracking its entities and objects
+            roomVersion = snapshot.getRoomVersion();
+            entityBounds = new Rectangle[entityCount];
+            for (int i = 0; i < entityCount; i++) {
+                entityBounds[i] = new Rectangle();
+            }
+            objectStates = new int[snapshot.getObjectCount()];
+            invalidate();
+        }
+
+        trackEntities(snapshot, alpha);
+        trackObjects(snapshot);
+        trackPrompt(snapshot);
+        trackInventory(snapshot);
+    }
+
+    /**damages the area of every entity, where it was drawn in the previous frame and where it is drawn now.
+     * the entities are always damaged, even when they stand still, because their sprite animates.
+     * @param snapshot the snapshot about to be drawn
+     * @param alpha interpolation factor the entities are drawn with
+     */
+    private void trackEntities(RenderSnapshot snapshot, double alpha) {
+        trackEntity(0, snapshot.getPlayer(), alpha);
+        for (int i = 0; i < snapshot.getDroneCount(); i++) {
+            trackEntity(1 + i, snapshot.getDrone(i), alpha);
+        }
+        for (int i = 0; i < snapshot.getDogCount(); i++) {
+            trackEntity(1 + snapshot.getDroneCount() + i, snapshot.getDog(i), alpha);
+        }
+    }
+
+    /**damages the previous and the current area of an entity.
+     * @param index index of the entity in {@link #entityBounds}
+     * @param entity state of the entity
+     * @param alpha interpolation factor the entity is drawn with
+     */
+    private void trackEntity(int index, EntitySnapshot entity, double alpha) {
+        Rectangle previous = entityBounds[index];
+        addWorld(previous.x, previous.y, previous.width, previous.height);
+        previous.setBounds(entity.getRenderX(alpha) - ENTITY_MARGIN, entity.getRenderY(alpha) - ENTITY_MARGIN,
+                entity.getWidth() + ENTITY_MARGIN * 2, entity.getHeight() + ENTITY_MARGIN * 2);
+        addWorld(previous.x, previous.y, previous.width, previous.height);
+    }
+
+    /**damages the objects that animate (cards, computers, red boxes) and the ones whose state changed.
+     * the menu of a computer is damaged when it appears, disappears or its selected option changes.
+     * @param snapshot the snapshot about to be drawn
+     */
+    private void trackObjects(RenderSnapshot snapshot) {
+        for (int i = 0; i < snapshot.getObjectCount(); i++) {
+            ObjectSnapshot obj = snapshot.getObject(i);
+            int state = getObjectState(obj);
+            boolean changed = state != objectStates[i];
+            objectStates[i] = state;
+
+            switch (obj.getKind()) {
+                case CARD:
+                case RED_BOX:
+                    addWorld(obj.getX() - MARGIN, obj.getY() - MARGIN, obj.getWidth() + MARGIN * 2, obj.getHeight() + MARGIN * 2);
+                    break;
+                case COMPUTER:
+                    addWorld(obj.getX() - MARGIN, obj.getY() - MARGIN, obj.getWidth() + MARGIN * 2, obj.getHeight() + MARGIN * 2);
+                    if (changed) {
+                        ComputerView.getMenuBounds(obj, bounds);
+                        addWorld(bounds.x - MARGIN, bounds.y - MARGIN, bounds.width + MARGIN * 2, bounds.height + MARGIN * 2);
+                    }
+                    break;
+                default:
+                    if (changed) {
+                        addWorld(obj.getX() - MARGIN, obj.getY() - MARGIN, obj.getWidth() + MARGIN * 2, obj.getHeight() + MARGIN * 2);
+                    }
+                    break;
+            }
+        }
+    }
+
+    /**packs the flags of an object that change how it is drawn into a single number, to compare it with the previous frame.
+     * @param obj state of the object
+     * @return the packed state
+     */
+    private int getObjectState(ObjectSnapshot obj) {
+        int state = obj.getSelectedMenuOption() << 4;
+        if (obj.getIsOpened()) state |= 1;
+        if (obj.getIsTaken()) state |= 2;
+        if (obj.getIsBeingAccessed() && obj.getIsMenuVisible()) state |= 4;
+        return state;
+    }
+
+    /**damages the interaction prompt (the 'e' box and its progress bar) where it was and where it is, if it changed.
+     * @param snapshot the snapshot about to be drawn
+     */
+    private void trackPrompt(RenderSnapshot snapshot) {
+        boolean visible = snapshot.isPromptVisible();
+        if (visible == promptVisible && (!visible || (snapshot.getPromptX() == promptX && snapshot.getPromptY() == promptY
+                && snapshot.getInteractionProgress() == interactionProgress))) {
+            return;
+        }
+        if (promptVisible) {
+            addPrompt(promptX, promptY);
+        }
+        promptVisible = visible;
+        promptX = snapshot.getPromptX();
+        promptY = snapshot.getPromptY();
+        interactionProgress = snapshot.getInteractionProgress();
+        if (promptVisible) {
+            addPrompt(promptX, promptY);
+        }
+    }
+
+    /**damages the area of the interaction prompt of an object, as drawn by the {@link GameView}.
+     * @param objX x coordinate of the object
+     * @param objY y coordinate of the object
+     */
+    private void addPrompt(int objX, int objY) {
+        addHud(objX + ScreenSettings.TILE_SIZE - MARGIN, objY - ScreenSettings.TILE_SIZE - MARGIN,
+                ScreenSettings.TILE_SIZE + MARGIN * 2, ScreenSettings.TILE_SIZE + MARGIN * 2);
+    }
+
+    /**damages the inventory slots whose item or discard progress changed.
+     * @param snapshot the snapshot about to be drawn
+     */
+    private void trackInventory(RenderSnapshot snapshot) {
+        int capacity = snapshot.getInventoryCapacity();
+        if (items.length != capacity) {
+            items = new Item[capacity];
+            discardProgress = new float[capacity];
+            invalidate();
+        }
+        for (int i = 0; i < capacity; i++) {
+            if (items[i] != snapshot.getItem(i) || discardProgress[i] != snapshot.getDiscardProgress(i)) {
+                items[i] = snapshot.getItem(i);
+                discardProgress[i] = snapshot.getDiscardProgress(i);
+                inventoryView.getSlotBounds(i, bounds);
+                addHud(bounds.x, bounds.y, bounds.width, bounds.height);
+            }
+        }
+    }
+
+    /**damages a region of the world. the frame is damaged there too.
+     * @param x x coordinate of the region
+     * @param y y coordinate of the region
+     * @param width width of the region
+     * @param height height of the region
+     */
+    public void addWorld(int x, int y, int width, int height) {
+        if (width <= 0 || height <= 0) return;
+        bounds.setBounds(x, y, width, height);
+        worldDamage.add(bounds);
+        frameDamage.add(bounds);
+    }
+
+    /**damages a region of the hud, drawn over the world. the world is not drawn again there.
+     * @param x x coordinate of the region
+     * @param y y coordinate of the region
+     * @param width width of the region
+     * @param height height of the region
+     */
+    public void addHud(int x, int y, int width, int height) {
+        if (width <= 0 || height <= 0) return;
+        bounds.setBounds(x, y, width, height);
+        frameDamage.add(bounds);
+    }
+
+    /**
+     * damages the whole frame, for example when the hud moves or the cached frame was lost.
+     * it stays fully damaged until the next {@link #track(RenderSnapshot, double)} after the frame is drawn.
+     */
+    public void invalidate() {
+        fullDamage = true;
+        worldDamage.setBounds(screenBounds);
+        frameDamage.setBounds(screenBounds);
+    }
+
+    /**
+     * marks the current damage as drawn. the next {@link #track(RenderSnapshot, double)} starts from no damage.
+     */
+    public void drawn() {
+        fullDamage = false;
+    }
+
+    /**
+     * forgets the damage of the previous frame
+     */
+    private void clear() {
+        worldDamage.setBounds(0, 0, -1, -1);
+        frameDamage.setBounds(0, 0, -1, -1);
+    }
+
+    /**
+     * @return true if the whole frame has to be drawn again
+     */
+    public boolean isFullDamage() { return fullDamage; }
+
+    /**
+     * @return the world regions that changed, clipped to the screen, empty if none did. must not be modified.
+     */
+    public Rectangle getWorldDamage() {
+        return clipToScreen(worldDamage);
+    }
+
+    /**
+     * @return the world and hud regions that changed, clipped to the screen, empty if none did. must not be modified.
+     */
+    public Rectangle getFrameDamage() {
+        return clipToScreen(frameDamage);
+    }
+
+    /**clips a damage region to the screen, the entities can be partly outside of it.
+     * @param damage the damage region, clipped in place
+     * @return the damage region
+     */
+    private Rectangle clipToScreen(Rectangle damage) {
+        if (!damage.isEmpty()) {
+            Rectangle.intersect(damage, screenBounds, damage);
+        }
+        return damage;
+    }
+}
@@ -3,44 +3,83 @@ package view.gamePanelViews;
 import main.JImpossibleMissionKnockoff;
 import model.ScreenSettings;
 import model.entities.Player;
-import model.interactableObjects.InteractableObject;
 import model.levels.LevelManager;
 import model.levels.Room;
 import model.levels.TileManager;
+import model.snapshot.RenderSnapshot;
+import model.snapshot.RenderSnapshotBuffer;
+import profiling.RenderEvent;
+import view.FontCache;
+import view.FrameTimeHistogram;
 import view.LevelView;
+import view.PerformanceMonitor;
 import view.entityViews.EnemyView;
 import view.entityViews.PlayerView;
 import view.interactableObjectsViews.InteractableObjectsView;
 import view.itemViews.InventoryView;
 
-import javax.imageio.ImageIO;
 import javax.swing.*;
 import java.awt.*;
-import java.awt.image.BufferedImage;
-import java.io.InputStream;
+import java.awt.image.BufferStrategy;
 
 
 /**
  *view, this is the components that requests each view's draw() method. it is composed by all the game views, and decides when to
  * display the result screen. it also helps to draw the appropriate background image, player hud such as the fps and  the
  * information of the player's current position in the game world layouy defined in {@link LevelManager}.
+ * every frame is drawn from the latest {@link RenderSnapshot} published by the game thread, never from the models, so
+ * a frame never mixes the state of two ticks and the rendering thread never waits for the simulation.
+ * only the regions that changed since the previous frame are drawn again ({@link DamageTracker}): the world is kept in
+ * the {@link ScaledRenderTarget} between frames, and when the game is rendered passively only the damaged part of the
+ * window gets repainted.
  */
 public class GameView extends JPanel {
     //----------------------------------------------------------------------------------------------------------------//
     // FIELDS
     //----------------------------------------------------------------------------------------------------------------//
     //MODELS
+    private final TileManager tileManager;
+
+    //snapshots
+    /**
+     * the snapshots published by the game thread at the end of every tick. the player's extraction status, so that the
+     * {@link ResultScreenView} can appear accordingly, the interaction prompt, the current depth, level and room type
+     * are all read from them.
+     */
+    private final transient RenderSnapshotBuffer snapshotBuffer;
+    /**
+     * snapshot of the frame being drawn, only used while drawing a frame
+     */
+    private transient RenderSnapshot snapshot;
+    /**
+     * tick of the last snapshot the animations were advanced to, see {@link #advanceAnimations(RenderSnapshot)}
+     */
+    private long lastAnimatedTick = -1;
     /**
-     *reference to the {@link Player} model, used to get the player's extraction status so that the {@link ResultScreenView} can appear
-     * accordingly and the interaction prompt to appear when the player is near an interactable object.
+     * maximum number of ticks the animations are advanced by in a single frame, like the
+     * {@link controller.GameController} doesn't simulate more than a few ticks before a render
      */
-    private final Player player;
+    private final int MAX_ANIMATION_TICKS = 5;
     /**
-     * reference to the {@link LevelManager} model, used to get the data of the current depth, level, and room type.
+     * lock held while drawing a frame. the frames are drawn either on the EDT or on the game thread, never both at the
+     * same time, but the switch between the two isn't instant: the lock makes sure there is only one reader of the
+     * {@link #snapshotBuffer}, and only one user of the views.
      */
-    private final LevelManager levelManager;
+    private final transient Object renderLock = new Object();
 
-    private final TileManager tileManager;
+    //dirty regions
+    /**
+     * records the regions of the world and of the hud that changed since the last frame, see {@link DamageTracker}
+     */
+    private final transient DamageTracker damageTracker;
+    /**
+     * region of the window repainted by {@link #render()} in passive rendering, reused every frame
+     */
+    private final Rectangle repaintRegion = new Rectangle();
+    /**
+     * area of the fps text on the top left corner, damaged when the fps value changes
+     */
+    private final Rectangle FPS_TEXT_AREA = new Rectangle(0, 0, 300, 40);
 
 
     //helpers (subviews)
@@ -76,13 +115,6 @@ public class GameView extends JPanel {
      */
     private final JFrame window;
 
-    //bg
-    /**
-     *background image of the game. it only gets rendered when the player is on the first layer
-     * of the world layout defined in {@link LevelManager}
-     */
-    private static BufferedImage backgroundImage;
-
     //fps tracking vars
     /**
      * numbers of frames that have passed.
@@ -98,15 +130,110 @@ public class GameView extends JPanel {
      */
     private double fps;
 
+    //interpolation
+    /**
+     * how far the renderer is between the previous and the current simulation tick, from 0 to 1.
+     * set by the {@link controller.GameController} before every render request, and used by the entity views
+     * to draw the entities at their interpolated position.
+     */
+    private volatile double interpolation;
+
+    //active rendering
+    /**
+     * heavyweight canvas used for active rendering. the game thread draws directly into its {@link BufferStrategy},
+     * without going through the EDT repaint queue. it is only visible while active rendering is on, because it would
+     * otherwise cover the lightweight overlays (pause menu, result screen, what's your name screen).
+     */
+    private final Canvas canvas;
+    /**
+     * number of buffers of the canvas buffer strategy. with 2 buffers, java2d uses page flipping when the
+     * platform supports it, and falls back to blitting the back buffer otherwise.
+     */
+    private final int BUFFER_COUNT = 2;
+    /**
+     * true if active rendering can be used at all. it can be turned off by launching the game with
+     * -Dgame.activeRendering=false, in which case the game view is always rendered through repaint().
+     */
+    private final boolean ACTIVE_RENDERING_SUPPORTED = Boolean.parseBoolean(System.getProperty("game.activeRendering", "true"));
+    /**
+     * flag that indicates if the game is currently rendered actively on the {@link #canvas}.
+     * see {@link #setActiveRendering(boolean)}.
+     */
+    private volatile boolean activeRendering = false;
+    /**
+     * offscreen target the world is drawn into, then upscaled to the size of the window. see {@link ScaledRenderTarget}.
+     */
+    private final transient ScaledRenderTarget renderTarget = new ScaledRenderTarget();
+
     // fonts
+    /**
+     * size of the {@link #fpsFont}
+     */
+    private static final float FPS_FONT_SIZE = 25;
+    /**
+     * size of the {@link #gameFont}
+     */
+    private static final float GAME_FONT_SIZE = 50;
     /**
      * font used to display the fps on the top left corner
      */
-    private final Font fpsFont = loadFont("fonts/ThaleahFat.ttf", 25);
+    private final Font fpsFont = FontCache.getInstance().getFont(FontCache.GAME_FONT, FPS_FONT_SIZE);
     /**
      * font used to display the game text, such as the top right's world info and the interaction prompt of the player.
      */
-    public  final Font gameFont = loadFont("fonts/ThaleahFat.ttf", 50);
+    public  final Font gameFont = FontCache.getInstance().getFont(FontCache.GAME_FONT, GAME_FONT_SIZE);
+
+    //hud
+    /**
+     * top right world info text: depth, level index and room type. rendered again only when the room changes.
+     */
+    private final transient HudText worldInfoText = new HudText(gameFont, Color.WHITE);
+    /**
+     * top left fps text. rendered again only when the fps value changes (once per second).
+     */
+    private final transient HudText fpsText = new HudText(fpsFont, Color.WHITE);
+    /**
+     * interaction prompt text, drawn when the player is near an interactable object. it never changes.
+     */
+    private final transient HudText interactionPromptText = new HudText(gameFont, Color.WHITE).append("e");
+    /**
+     * background color of the interaction prompt
+     */
+    private final Color PROMPT_BACKGROUND_COLOR = new Color(0, 0, 0, 200);
+
+    //performance overlay
+    /**
+     * records the render times, and provides the percentiles shown in the performance overlay
+     */
+    private final transient PerformanceMonitor performanceMonitor = PerformanceMonitor.getInstance();
+    /**
+     * true if the performance overlay is shown under the fps. toggled with F3, see {@link #togglePerformanceOverlay()}.
+     */
+    private volatile boolean performanceOverlayVisible = false;
+    /**
+     * true if the performance overlay was shown or hidden since the last frame, so its area gets damaged
+     */
+    private volatile boolean performanceOverlayToggled = false;
+    /**
+     * one line of the performance overlay per metric: p50, p99 and max in milliseconds
+     */
+    private final transient HudText[] performanceTexts = new HudText[PerformanceMonitor.Metric.values().length];
+    /**
+     * last time the performance overlay percentiles were computed, in nanoseconds
+     */
+    private long lastPerformanceUpdateTime = 0;
+    /**
+     * time between two updates of the performance overlay percentiles, in nanoseconds
+     */
+    private final long PERFORMANCE_UPDATE_INTERVAL = 500_000_000L;
+    /**
+     * background color of the performance overlay
+     */
+    private final Color PERFORMANCE_BACKGROUND_COLOR = new Color(0, 0, 0, 160);
+    /**
+     * area covered by the performance overlay, its lines can be longer than its background
+     */
+    private final Rectangle PERFORMANCE_AREA = new Rectangle(0, 35, ScreenSettings.SCREEN_WIDTH / 2, PerformanceMonitor.Metric.values().length * 25 + 20);
 
 
     /**view of the game. it is composed by all the game models views, such as {@link PlayerView}, {@link EnemyView},
@@ -114,28 +241,33 @@ public class GameView extends JPanel {
      * note that it also contains the {@link ResultScreenView}, set in the {@link controller.TitleScreenController},
      * so that it displays when the player successfully extracts.
      *  it calls each entity's draw method
-     * @param player {@link Player} model
-     * @param levelManager {@link LevelManager} model
+     * @param player {@link Player} model, only used to create the views
+     * @param levelManager {@link LevelManager} model, only used to create the views
+     * @param snapshotBuffer the snapshots of the models, published by the {@link controller.GameController}
      * @param window the JFrame created in {@link JImpossibleMissionKnockoff}
      */
     //----------------------------------------------------------------------------------------------------------------//
     // CONSTRUCTOR, ! DEPENDS PURELY ON MODELS !
     //----------------------------------------------------------------------------------------------------------------//
-    public GameView(Player player, LevelManager levelManager, JFrame window) {
+    public GameView(Player player, LevelManager levelManager, RenderSnapshotBuffer snapshotBuffer, JFrame window) {
         this.window = window;
 
-        //models
-        this.levelManager = levelManager;
-        this.player = player;
+        //snapshots
+        this.snapshotBuffer = snapshotBuffer;
 
         //subviews
-        this.playerView = new PlayerView(player);
-        this.inventoryView = new InventoryView(player.getInventory());
-        this.interactableObjectsView = new InteractableObjectsView(levelManager);
-        this.enemyView = new EnemyView(levelManager);
+        this.playerView = new PlayerView();
+        this.inventoryView = new InventoryView(player.getInventory().getCapacity());
+        this.interactableObjectsView = new InteractableObjectsView();
+        this.enemyView = new EnemyView();
         this.tileManager = levelManager.getTileManager();
-        this.levelView = new LevelView(levelManager, tileManager);
+        this.levelView = new LevelView(tileManager);
+        this.damageTracker = new DamageTracker(inventoryView);
 
+        //hud
+        for (int i = 0; i < performanceTexts.length; i++) {
+            performanceTexts[i] = new HudText(fpsFont, Color.WHITE);
+        }
 
         //other
         window.setPreferredSize(new Dimension(ScreenSettings.SCREEN_WIDTH, ScreenSettings.SCREEN_HEIGHT));
@@ -143,14 +275,19 @@ public class GameView extends JPanel {
         setDoubleBuffered(true);
         setOpaque(true);
 
-        //loading background image
-        loadBackgroundImage();
+        //active rendering canvas, hidden until the game is actually being played
+        setLayout(new BorderLayout());
+        this.canvas = new Canvas();
+        canvas.setIgnoreRepaint(true);  //the canvas only gets drawn by the game thread
+        canvas.setFocusable(false);     //keep the keyboard focus on the game view
+        canvas.setBackground(Color.BLACK);
+        canvas.setVisible(false);
+        add(canvas, BorderLayout.CENTER);
     }
 
-    /** this is where the game actually renders:
-     * calls every single view component to draw.
-     * tracks the fps and makes the {@link ResultScreenView} visible when the {@link Player} extracts.
-     * this method is called every time the {@link controller.GameController}'s game loop (the .run() method) requests a repaint().
+    /**paints the game when it is rendered passively through repaint(), for example while the pause menu is open.
+     * the frame was already prepared by {@link #render()}, so only the clip requested gets drawn, by
+     * {@link #drawFrame(Graphics2D, int, int)}. the first frame is prepared here.
      * @param g the <code>Graphics</code> object to protect
      */
     @Override
@@ -158,14 +295,143 @@ public class GameView extends JPanel {
         //paintComponent is defined in the JComponent, the parent class of JPanel.
         //it is the primary method for CUSTOM drawing in swing components.
         super.paintComponent(g);
+        if (activeRendering) {
+            return;     //the canvas covers the panel, and the game thread is already drawing the frames
+        }
         Graphics2D g2d = (Graphics2D) g;
 
-        //enable text rendering
-        g2d.setRenderingHint(RenderingHints.KEY_TEXT_ANTIALIASING, RenderingHints.VALUE_TEXT_ANTIALIAS_ON);
-        g2d.setRenderingHint(RenderingHints.KEY_FRACTIONALMETRICS, RenderingHints.VALUE_FRACTIONALMETRICS_ON);
-        g2d.setRenderingHint(RenderingHints.KEY_RENDERING, RenderingHints.VALUE_RENDER_QUALITY);
+        RenderEvent renderEvent = new RenderEvent();
+        renderEvent.begin();
+        long renderStart = System.nanoTime();
+        synchronized (renderLock) {
+            if (snapshot == null) {     //nothing prepared yet
+                updateFrame(g2d.getDeviceConfiguration());
+                damageTracker.drawn();
+            }
+            drawFrame(g2d, getWidth(), getHeight());
+        }
+        performanceMonitor.record(PerformanceMonitor.Metric.RENDER, System.nanoTime() - renderStart);
+        commitRenderEvent(renderEvent, false);
+
+        g2d.dispose();
+    }
+
+    /**renders a frame of the game.
+     * if active rendering is on, the frame is drawn right away on the calling thread (the game thread) into the canvas
+     * buffer strategy and then shown. otherwise, the frame is prepared on the calling thread, and a repaint() of only
+     * the region that changed is requested: swing then draws it on the EDT.
+     * called by the {@link controller.GameController} game loop.
+     */
+    public void render() {
+        if (activeRendering && canvas.isShowing()) {
+            RenderEvent renderEvent = new RenderEvent();
+            renderEvent.begin();
+            long renderStart = System.nanoTime();
+            renderActive();
+            performanceMonitor.record(PerformanceMonitor.Metric.RENDER, System.nanoTime() - renderStart);    //including the flip to the screen
+            commitRenderEvent(renderEvent, true);
+        }
+        else {
+            GraphicsConfiguration gc = getGraphicsConfiguration();
+            if (gc == null) {   //not displayable yet
+                repaint();
+                return;
+            }
+            synchronized (renderLock) {
+                if (!updateFrame(gc) || damageTracker.isFullDamage()) {
+                    repaint(); // -> THIS CALLS PAINT COMPONENT METHOD IN GAMEVIEW
+                }
+                else {
+                    Rectangle damage = damageTracker.getFrameDamage();
+                    if (!damage.isEmpty()) {
+                        renderTarget.toWindow(damage, getWidth(), getHeight(), repaintRegion);
+                        repaint(repaintRegion);     //only the damaged part of the window
+                    }
+                }
+                damageTracker.drawn();
+            }
+        }
+    }
+
+    /**
+     * prepares a frame with {@link #updateFrame(GraphicsConfiguration)}, then draws it into the {@link #canvas} buffer
+     * strategy and flips it to the screen.
+     */
+    private void renderActive() {
+        synchronized (renderLock) {
+            updateFrame(canvas.getGraphicsConfiguration());
+            damageTracker.drawn();      //the whole frame is shown anyway
+            showActiveFrame();
+        }
+    }
+
+    /**
+     * shows the frame prepared by {@link #updateFrame(GraphicsConfiguration)} on the {@link #canvas}. page flipping
+     * leaves the back buffer with undefined contents, so the whole frame is drawn: one blit of the world, and the hud.
+     * the draw is repeated if the buffer contents get lost or restored while drawing (for example when the window gets
+     * minimized), as suggested by the {@link BufferStrategy} documentation.
+     */
+    private void showActiveFrame() {
+        BufferStrategy bufferStrategy = canvas.getBufferStrategy();
+        if (bufferStrategy == null) {
+            try {
+                canvas.createBufferStrategy(BUFFER_COUNT);
+                bufferStrategy = canvas.getBufferStrategy();
+            }
+            catch (IllegalStateException e) {     //canvas not displayable yet
+                repaint();
+                return;
+            }
+        }
+
+        do {
+            do {
+                Graphics2D g2d = (Graphics2D) bufferStrategy.getDrawGraphics();
+                try {
+                    drawFrame(g2d, canvas.getWidth(), canvas.getHeight());
+                }
+                finally {
+                    g2d.dispose();
+                }
+            } while (bufferStrategy.contentsRestored());
+            bufferStrategy.show();
+        } while (bufferStrategy.contentsLost());
+
+        Toolkit.getDefaultToolkit().sync();     //flush the frame to the display right away (needed on linux)
+    }
+
+    /**ends the flight recorder event of a frame, and records it if the flight recorder is on.
+     * @param renderEvent event started before drawing the frame
+     * @param active true if the frame was rendered actively on the {@link #canvas}
+     */
+    private void commitRenderEvent(RenderEvent renderEvent, boolean active) {
+        renderEvent.end();
+        if (renderEvent.shouldCommit()) {
+            renderEvent.activeRendering = active;
+            renderEvent.interpolation = interpolation;
+            renderEvent.commit();
+        }
+    }
 
-         //fps tracking
+    /** this is where the game actually renders:
+     * takes the latest snapshot, advances the animations to it, records what changed since the previous frame in the
+     * {@link #damageTracker}, and draws the world again into the {@link #renderTarget} only inside the damaged region
+     * (with every view drawn by {@link #drawWorld(Graphics2D)}, clipped to it).
+     * tracks the fps and makes the {@link ResultScreenView} visible when the {@link Player} extracts.
+     * the frame is then shown by {@link #drawFrame(Graphics2D, int, int)}. the caller holds the {@link #renderLock},
+     * and marks the damage as drawn once it is shown.
+     * @param gc graphics configuration of the surface the frame is shown on
+     * @return false if nothing was published yet
+     */
+    private boolean updateFrame(GraphicsConfiguration gc) {
+        snapshot = snapshotBuffer.acquire();
+        if (snapshot.isEmpty()) {   //nothing published yet
+            return false;
+        }
+        advanceAnimations(snapshot);
+        damageTracker.track(snapshot, interpolation);
+
+        //fps tracking
         frameCount++;
         long currentTime = System.nanoTime();
         double elapsedSec = (currentTime - lastFpsTime) / 1_000_000_000.0; //convert to seconds
@@ -173,152 +439,260 @@ public class GameView extends JPanel {
             fps = frameCount / elapsedSec;
             frameCount = 0;
             lastFpsTime = currentTime;
+            damageTracker.addHud(FPS_TEXT_AREA.x, FPS_TEXT_AREA.y, FPS_TEXT_AREA.width, FPS_TEXT_AREA.height);
         }
+        updatePerformanceOverlay();
 
-        //load background first
-        drawBackground(g2d);
+        //draw the world again, only where it changed
+        renderTarget.redraw(gc, damageTracker.isFullDamage() ? null : damageTracker.getWorldDamage(), this::drawWorld);
+
+        if (snapshot.isExtracted() && resultScreenView != null && !resultScreenView.isVisible()) {
+            SwingUtilities.invokeLater(this::showResultScreen);
+        }
+        return true;
+    }
 
-        //draw the tiles in the level
-        levelView.draw(g2d);
+    /**shows the frame prepared by {@link #updateFrame(GraphicsConfiguration)}: the world, upscaled from the
+     * {@link #renderTarget} to the window, then the hud on top at the resolution of the window.
+     * only the clip of the graphics is actually drawn. the caller holds the {@link #renderLock}.
+     * it is used by both the passive ({@link #paintComponent(Graphics)}) and the active ({@link #showActiveFrame()}) rendering.
+     * @param g2d swing's graphics 2d instance that allows rendering
+     * @param width width of the surface drawn into
+     * @param height height of the surface drawn into
+     */
+    private void drawFrame(Graphics2D g2d, int width, int height) {
+        if (snapshot == null || snapshot.isEmpty()) {   //nothing published yet
+            g2d.setColor(Color.BLACK);
+            g2d.fillRect(0, 0, width, height);
+            return;
+        }
+
+        //draw the world, upscaled to the window
+        if (!renderTarget.draw(g2d, width, height)) {
+            //the cached world got lost, draw all of it again
+            renderTarget.redraw(g2d.getDeviceConfiguration(), null, this::drawWorld);
+            renderTarget.draw(g2d, width, height);
+        }
+
+        //draw the hud over the world
+        Graphics2D hudG2d = (Graphics2D) g2d.create();
+        try {
+            renderTarget.applyViewport(hudG2d);
+            //enable text rendering
+            hudG2d.setRenderingHint(RenderingHints.KEY_TEXT_ANTIALIASING, RenderingHints.VALUE_TEXT_ANTIALIAS_ON);
+            hudG2d.setRenderingHint(RenderingHints.KEY_FRACTIONALMETRICS, RenderingHints.VALUE_FRACTIONALMETRICS_ON);
+            hudG2d.setRenderingHint(RenderingHints.KEY_RENDERING, RenderingHints.VALUE_RENDER_QUALITY);
+
+            //draw the tutorial text of the room
+            levelView.drawTutorialText(hudG2d, snapshot);
+
+            //draw the player's inventory
+            inventoryView.draw(hudG2d, snapshot);
+
+            //draw the game text
+            drawGameText(hudG2d);
+        }
+        finally {
+            hudG2d.dispose();
+        }
+    }
+
+    /**draws the world of the {@link #snapshot}: the level, the interactable objects, the enemies and the player.
+     * @param g2d graphics of the {@link #renderTarget}, in the logical coordinates of the models
+     */
+    private void drawWorld(Graphics2D g2d) {
+        //draw the background and the tiles in the level
+        levelView.draw(g2d, snapshot);
 
         //draw the room's interactive objects
-        interactableObjectsView.drawInteractableObjects(g2d);
+        interactableObjectsView.drawInteractableObjects(g2d, snapshot);
 
         //draw the enemies
-        enemyView.drawEnemies(g2d);
+        enemyView.drawEnemies(g2d, snapshot, interpolation);
 
         //draw the player
-        playerView.draw(g2d);
-
-        //draw the player's inventory
-        inventoryView.draw(g2d);
+        playerView.draw(g2d, snapshot.getPlayer(), interpolation);
+    }
 
-        //draw the game text
-        drawGameText(g2d);
+    /**
+     * shows the {@link ResultScreenView} on top of the game. active rendering gets turned off, otherwise the canvas
+     * would cover the result screen.
+     */
+    private void showResultScreen() {
+        setActiveRendering(false);
+        resultScreenView.setVisible(true);
+        resultScreenView.requestFocusInWindow();
+    }
 
-        if (player.getIsExtracted() && resultScreenView != null) {
-            resultScreenView.setVisible(true);
-            resultScreenView.requestFocusInWindow();
+    /**turns active rendering on or off.
+     * it has to be turned off while a lightweight overlay (pause menu, result screen, what's your name screen) is shown,
+     * because the heavyweight canvas would be drawn on top of it. while it is off, the game is rendered through repaint().
+     * must be called on the EDT.
+     * @param enabled true to render the game actively on the canvas
+     */
+    public void setActiveRendering(boolean enabled) {
+        this.activeRendering = enabled && ACTIVE_RENDERING_SUPPORTED;
+        canvas.setVisible(activeRendering);
+        revalidate();
+        if (!activeRendering) {
+            repaint();
         }
+    }
 
-        g2d.dispose();
+
+    /**advances every view animation by the simulation ticks elapsed since the last frame drawn, so that the
+     * animations run at the same speed regardless of how many frames get rendered. the enemy and object views are
+     * created again first, if the room of the snapshot changed.
+     * @param snapshot the snapshot about to be drawn
+     */
+    private void advanceAnimations(RenderSnapshot snapshot) {
+        int ticks = lastAnimatedTick < 0 ? 1 : (int) Math.min(snapshot.getTick() - lastAnimatedTick, MAX_ANIMATION_TICKS);
+        lastAnimatedTick = snapshot.getTick();
+
+        for (int tick = 0; tick < ticks; tick++) {
+            playerView.updateFrameCounter(snapshot.getPlayer());
+        }
+        enemyView.update(snapshot, ticks);
+        interactableObjectsView.update(snapshot, ticks);
     }
 
+    /**sets the interpolation factor used for the next render.
+     * @param interpolation how far the renderer is between the previous and the current simulation tick, from 0 to 1
+     */
+    public void setInterpolation(double interpolation) {
+        this.interpolation = interpolation;
+    }
 
-    /**loads the font at the provided font path, with the provided size.
-     * @param fontPath path of the ttf file
-     * @param size font size
-     * @return font
+    /**gets the refresh rate of the display the game window is on.
+     * the {@link controller.GameController} uses it to pace the rendering.
+     * @return refresh rate in hz, or 60 if it is unknown
      */
-    public Font loadFont(String fontPath, float size) {
-        try{
-            InputStream stream = getClass().getClassLoader().getResourceAsStream(fontPath);
-            if(stream == null) {    //if the font path provided is not available
-                System.out.println("[GameView]couldn't find font at " + fontPath);
-                return null;
+    public int getDisplayRefreshRate() {
+        GraphicsConfiguration gc = window.getGraphicsConfiguration();
+        if (gc != null) {
+            int refreshRate = gc.getDevice().getDisplayMode().getRefreshRate();
+            if (refreshRate != DisplayMode.REFRESH_RATE_UNKNOWN) {
+                return refreshRate;
             }
+        }
+        return 60;
+    }
 
-            Font font = Font.createFont(Font.TRUETYPE_FONT, stream).deriveFont(size);   //create font
-            GraphicsEnvironment ge = GraphicsEnvironment.getLocalGraphicsEnvironment(); //gets the ge
-            ge.registerFont(font);  //registers the font of the current ge
-            System.out.println("[GameView] loaded font " + fontPath);
-            return font;
-
-        }catch(Exception e) {
-            System.err.println("[GameView]couldn't load font at " + fontPath);
-            return null;
+    /**
+     * rasterises the glyphs of the text drawn every frame by {@link #drawGameText(Graphics2D)} (fps, performance
+     * overlay, world info and interaction prompt), so the first frames of the game don't stall on it. called by the {@link view.AssetLoader}.
+     */
+    public static void prewarmGameTextGlyphs() {
+        StringBuilder worldInfo = new StringBuilder("0123456789 -");
+        for (Room.RoomType roomType : Room.RoomType.values()) {
+            worldInfo.append(roomType);
+        }
+        StringBuilder fpsAndPerformance = new StringBuilder("FPS: 0123456789.,pmax");
+        for (PerformanceMonitor.Metric metric : PerformanceMonitor.Metric.values()) {
+            fpsAndPerformance.append(metric);
         }
+        FontCache.getInstance().prewarm(FontCache.GAME_FONT, FPS_FONT_SIZE, fpsAndPerformance.toString());
+        FontCache.getInstance().prewarm(FontCache.GAME_FONT, GAME_FONT_SIZE, worldInfo + "e");
     }
 
     /**draws the game text.
      * top right: world info
-     * top left: fps
+     * top left: fps, and the performance overlay under it if it is visible
      * player interaction prompt when near an interactable object.
+     * the values are the ones of the {@link #snapshot}.
+     * every text is a {@link HudText}, so an unchanged text is drawn from its cached image without allocating anything.
      * @param g2d swing's graphics 2d instance that allows rendering
      */
     private void drawGameText(Graphics2D g2d) {
         //top right, world info: depth, level index, leveltype
-        g2d.setFont(gameFont);
-        g2d.setColor(Color.WHITE);
-        int depth = levelManager.getCurrentDepth();
-        int level = levelManager.getCurrentWorldCol();
-        Room.RoomType currentRoomType = levelManager.getCurrentRoom().getRoomType();
-        String currentLevel = depth + " - " + level + "  " + currentRoomType.toString();
-        int textWidth = g2d.getFontMetrics().stringWidth(currentLevel);
-        g2d.setColor(Color.WHITE);
-        g2d.drawString(currentLevel, ScreenSettings.SCREEN_WIDTH - textWidth - 30, 30);
+        worldInfoText.clear()
+                .append(snapshot.getDepth())
+                .append(" - ")
+                .append(snapshot.getWorldCol())
+                .append("  ")
+                .append(snapshot.getRoomType().name());
+        worldInfoText.drawRightAligned(g2d, ScreenSettings.SCREEN_WIDTH - 30, 30);
 
         //DRAW TOP LEFT FPS
-        g2d.setFont(fpsFont);
-        String fpsText = String.format("FPS: %.1f", fps);
-        g2d.setColor(Color.WHITE);
-        g2d.drawString(fpsText, 20,30);
+        fpsText.clear().append("FPS: ").appendOneDecimal(fps);
+        fpsText.draw(g2d, 20, 30);
+
+        //performance overlay under the fps
+        if (performanceOverlayVisible) {
+            drawPerformanceOverlay(g2d);
+        }
 
         //DRAW INTERACTION BUTTON WHEN NEAR an interactable object AND PROGRESS BAR IF INTERACTING
-        g2d.setFont(gameFont);
-        if (player.getIsShowingInteractionPrompt() && player.getCurrentInteractable() != null){
-            InteractableObject obj = player.getCurrentInteractable();
+        if (snapshot.isPromptVisible()){
+            int objX = snapshot.getPromptX();
+            int objY = snapshot.getPromptY();
             //background
-            g2d.setColor(new Color(0, 0, 0, 200));
-            g2d.fillRoundRect(obj.getX() + ScreenSettings.TILE_SIZE, obj.getY() - ScreenSettings.TILE_SIZE, ScreenSettings.TILE_SIZE, ScreenSettings.TILE_SIZE, 10, 10);
+            g2d.setColor(PROMPT_BACKGROUND_COLOR);
+            g2d.fillRoundRect(objX + ScreenSettings.TILE_SIZE, objY - ScreenSettings.TILE_SIZE, ScreenSettings.TILE_SIZE, ScreenSettings.TILE_SIZE, 10, 10);
             //text
-            g2d.setColor(Color.WHITE);
-            String interactionPrompt = "e";
-            g2d.drawString(interactionPrompt, obj.getX() + ScreenSettings.TILE_SIZE + 13, obj.getY() - 13 );
+            interactionPromptText.draw(g2d, objX + ScreenSettings.TILE_SIZE + 13, objY - 13);
             //progress bar
             int progressBarWidth = ScreenSettings.TILE_SIZE - 10;
-            int filledWidth = (int)((double)obj.getInteractionProgress() / obj.getSearchCompleteTime() * progressBarWidth);
+            int filledWidth = (int)((double)snapshot.getInteractionProgress() / snapshot.getSearchCompleteTime() * progressBarWidth);
             //remaining interaction progress
             g2d.setColor(Color.GRAY);
-            g2d.fillRect(obj.getX() + ScreenSettings.TILE_SIZE + 5, obj.getY() - 10, progressBarWidth, 5);
+            g2d.fillRect(objX + ScreenSettings.TILE_SIZE + 5, objY - 10, progressBarWidth, 5);
             //current interaction progress
             g2d.setColor(Color.WHITE);
-            g2d.fillRect(obj.getX() + ScreenSettings.TILE_SIZE + 5, obj.getY() - 10, filledWidth, 5);
+            g2d.fillRect(objX + ScreenSettings.TILE_SIZE + 5, objY - 10, filledWidth, 5);
         }
     }
 
 
-    /**
-     * loads the background image, drawn in {@link #drawBackground(Graphics2D)}.
-     * the background is image is only drawn on the first layer of the game world. see {@link LevelManager}
+    /**computes the percentiles of the performance overlay again every {@link #PERFORMANCE_UPDATE_INTERVAL}, so the
+     * numbers stay readable and the texts are only rendered again when they change. the area of the overlay is damaged
+     * when the percentiles change, and when the overlay gets shown or hidden.
      */
-    private void loadBackgroundImage(){
-        try{
-            this.backgroundImage = ImageIO.read(getClass().getClassLoader().getResourceAsStream("backgrounds/background.png"));
+    private void updatePerformanceOverlay() {
+        if (performanceOverlayToggled) {
+            performanceOverlayToggled = false;
+            damageTracker.addHud(PERFORMANCE_AREA.x, PERFORMANCE_AREA.y, PERFORMANCE_AREA.width, PERFORMANCE_AREA.height);
         }
-        catch(Exception e) {
-            System.out.println("[GameView]couldn't find background");
-            e.printStackTrace();
+        if (!performanceOverlayVisible) {
+            return;
+        }
+        long currentTime = System.nanoTime();
+        if (currentTime - lastPerformanceUpdateTime >= PERFORMANCE_UPDATE_INTERVAL) {
+            lastPerformanceUpdateTime = currentTime;
+            PerformanceMonitor.Metric[] metrics = PerformanceMonitor.Metric.values();
+            for (int i = 0; i < metrics.length; i++) {
+                FrameTimeHistogram histogram = performanceMonitor.getHistogram(metrics[i]);
+                performanceTexts[i].clear()
+                        .append(metrics[i].name())
+                        .append("  p50 ").appendDecimal(histogram.getValueAtPercentile(50) / 1_000_000.0, 2)
+                        .append("  p99 ").appendDecimal(histogram.getValueAtPercentile(99) / 1_000_000.0, 2)
+                        .append("  max ").appendDecimal(histogram.getMax() / 1_000_000.0, 2);
+            }
+            damageTracker.addHud(PERFORMANCE_AREA.x, PERFORMANCE_AREA.y, PERFORMANCE_AREA.width, PERFORMANCE_AREA.height);
         }
     }
 
-
-    /**
-     * draws the game's background.
-     * it will display a background image if the player is on the first layer of {@link LevelManager} world layout,
-     * and a solid color when deeper into the game world.
+    /**draws the performance overlay: the p50, p99 and max of every {@link PerformanceMonitor.Metric}, in milliseconds,
+     * as computed by {@link #updatePerformanceOverlay()}.
      * @param g2d swing's graphics 2d instance that allows rendering
      */
-    private void drawBackground(Graphics2D g2d) {
-        Room currentRoom = levelManager.getCurrentRoom();
-        Room[][] world = levelManager.getWorldLayout();
-        if (currentRoom == world[1][0] || currentRoom == world[1][1] || currentRoom == world[1][2]  ) {     //depth 1
-            this.setBackground(new Color(139,171,191));   //lighter light blue
-        }
-        else if (currentRoom == world[2][0] || currentRoom == world[2][1] || currentRoom == world[2][2]  ) {     //depth 2
-            this.setBackground(new Color(86,106,137));   //light blue
-        }
-        else if (currentRoom == world[3][0] || currentRoom == world[3][1] || currentRoom == world[3][2]  ) {     //depth 3
-            this.setBackground(new Color(55, 68, 110)); //dark blue
-        }
-        else if (currentRoom == world[4][0] || currentRoom == world[4][1] || currentRoom == world[4][2]  ) {     //depth 3
-            this.setBackground(new Color(41,51,83));
-        }
-        else{
-            g2d.drawImage(backgroundImage, 0,0, ScreenSettings.SCREEN_WIDTH, ScreenSettings.SCREEN_HEIGHT, null);
+    private void drawPerformanceOverlay(Graphics2D g2d) {
+        g2d.setColor(PERFORMANCE_BACKGROUND_COLOR);
+        g2d.fillRect(10, 40, 420, performanceTexts.length * 25 + 10);
+        for (int i = 0; i < performanceTexts.length; i++) {
+            performanceTexts[i].draw(g2d, 20, 65 + i * 25);
         }
     }
 
+    /**
+     * shows or hides the performance overlay. called by the {@link controller.GameKeyListener} when F3 is pressed.
+     */
+    public void togglePerformanceOverlay() {
+        performanceOverlayVisible = !performanceOverlayVisible;
+        performanceOverlayToggled = true;
+        lastPerformanceUpdateTime = System.nanoTime() - PERFORMANCE_UPDATE_INTERVAL;     //compute the percentiles on the next frame
+    }
+
 
     /**sets the result screen view. a setter is used because the result screen instance is created in {@link controller.TitleScreenController}'s
      * .startMainGame() method.
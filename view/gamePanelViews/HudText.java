@@ -0,0 +1,235 @@
+package view.gamePanelViews;
+
+import java.awt.*;
+import java.awt.font.FontRenderContext;
+import java.awt.geom.Rectangle2D;
+import java.awt.image.BufferedImage;
+
+/**
+ * a single line of hud text, cached as an image. the text is written into a reusable char buffer every frame
+ * ({@link #clear()} and the append methods), and only gets rendered again into its image when it's different from the
+ * last rendered text. drawing an unchanged text is a single image blit, with no string formatting, no font metrics and
+ * no allocation.
+ */
+public class HudText {
+    /**
+     * max number of characters of a text
+     */
+    private final int MAX_CHARS = 64;
+    /**
+     * empty pixels around the text in the image, so the antialiased edges of the glyphs are never cut
+     */
+    private final int PADDING = 2;
+
+    /**
+     * font of the text
+     */
+    private final Font font;
+    /**
+     * color of the text
+     */
+    private final Color color;
+
+    /**
+     * text being written for this frame
+     */
+    private final char[] chars = new char[MAX_CHARS];
+    /**
+     * number of characters in {@link #chars}
+     */
+    private int length = 0;
+    /**
+     * text currently rendered in the {@link #image}
+     */
+    private final char[] renderedChars = new char[MAX_CHARS];
+    /**
+     * number of characters in {@link #renderedChars}, -1 if nothing was rendered yet
+     */
+    private int renderedLength = -1;
+    /**
+     * rendered text, null if the text is empty
+     */
+    private BufferedImage image;
+    /**
+     * width of the rendered text (its advance), used to align it
+     */
+    private int width;
+    /**
+     * distance between the top of the {@link #image} and the baseline of the text
+     */
+    private int baseline;
+
+    /**
+     * @param font font of the text
+     * @param color color of the text
+     */
+    public HudText(Font font, Color color) {
+        this.font = font;
+        this.color = color;
+    }
+
+    //----------------------------------------------------------------------------------------------------------------//
+    // WRITING
+    //----------------------------------------------------------------------------------------------------------------//
+    /**
+     * empties the text, before appending this frame's content
+     * @return this hud text
+     */
+    public HudText clear() {
+        length = 0;
+        return this;
+    }
+
+    /**appends a string. constant strings (literals, enum names) don't allocate anything.
+     * @param text text to append
+     * @return this hud text
+     */
+    public HudText append(String text) {
+        int count = Math.min(text.length(), MAX_CHARS - length);
+        text.getChars(0, count, chars, length);
+        length += count;
+        return this;
+    }
+
+    /**appends a character.
+     * @param c character to append
+     * @return this hud text
+     */
+    public HudText append(char c) {
+        if (length < MAX_CHARS) {
+            chars[length++] = c;
+        }
+        return this;
+    }
+
+    /**appends an integer, in base 10.
+     * @param value value to append
+     * @return this hud text
+     */
+    public HudText append(int value) {
+        long magnitude = value;     //a long, so negating Integer.MIN_VALUE doesn't overflow
+        if (magnitude < 0) {
+            append('-');
+            magnitude = -magnitude;
+        }
+        int digits = 1;
+        for (long v = magnitude / 10; v > 0; v /= 10) {
+            digits++;
+        }
+        if (length + digits > MAX_CHARS) return this;
+        for (int i = length + digits - 1; i >= length; i--) {
+            chars[i] = (char) ('0' + magnitude % 10);
+            magnitude /= 10;
+        }
+        length += digits;
+        return this;
+    }
+
+    /**appends a decimal number with one decimal digit, like String.format("%.1f") would.
+     * @param value value to append
+     * @return this hud text
+     */
+    public HudText appendOneDecimal(double value) {
+        return appendDecimal(value, 1);
+    }
+
+    /**appends a decimal number with the provided number of decimal digits, like String.format("%.2f") would.
+     * @param value value to append
+     * @param decimals number of decimal digits, from 1 to 9
+     * @return this hud text
+     */
+    public HudText appendDecimal(double value, int decimals) {
+        long scale = 1;
+        for (int i = 0; i < decimals; i++) {
+            scale *= 10;
+        }
+        long scaled = Math.round(value * scale);
+        if (scaled < 0) {
+            append('-');
+            scaled = -scaled;
+        }
+        append((int) (scaled / scale));
+        append('.');
+        long fraction = scaled % scale;
+        for (long digit = scale / 10; digit > 0; digit /= 10) {
+            append((char) ('0' + fraction / digit % 10));
+        }
+        return this;
+    }
+
+    //----------------------------------------------------------------------------------------------------------------//
+    // DRAWING
+    //----------------------------------------------------------------------------------------------------------------//
+    /**draws the text, rendering it again first if it changed.
+     * @param g2d swing's graphics 2d instance that allows rendering
+     * @param x x coordinate of the start of the text
+     * @param y y coordinate of the baseline of the text, like in Graphics.drawString()
+     */
+    public void draw(Graphics2D g2d, int x, int y) {
+        if (isChanged()) {
+            render(g2d.getDeviceConfiguration());
+        }
+        if (image != null) {
+            g2d.drawImage(image, x - PADDING, y - baseline, null);
+        }
+    }
+
+    /**draws the text so that it ends at the provided x coordinate, rendering it again first if it changed.
+     * @param g2d swing's graphics 2d instance that allows rendering
+     * @param rightX x coordinate of the end of the text
+     * @param y y coordinate of the baseline of the text, like in Graphics.drawString()
+     */
+    public void drawRightAligned(Graphics2D g2d, int rightX, int y) {
+        if (isChanged()) {
+            render(g2d.getDeviceConfiguration());
+        }
+        draw(g2d, rightX - width, y);
+    }
+
+    /**
+     * @return true if the written text is different from the rendered one
+     */
+    private boolean isChanged() {
+        if (length != renderedLength) return true;
+        for (int i = 0; i < length; i++) {
+            if (chars[i] != renderedChars[i]) return true;
+        }
+        return false;
+    }
+
+    /**renders the written text into the {@link #image}. only called when the text changes.
+     * @param gc graphics configuration of the destination, used to create a compatible image
+     */
+    private void render(GraphicsConfiguration gc) {
+        System.arraycopy(chars, 0, renderedChars, 0, length);
+        renderedLength = length;
+        if (length == 0 || font == null) {
+            image = null;
+            width = 0;
+            return;
+        }
+
+        FontRenderContext frc = new FontRenderContext(null, true, true);     //antialiased, fractional metrics: like the game view
+        Rectangle2D bounds = font.getStringBounds(chars, 0, length, frc);
+        width = (int) Math.ceil(bounds.getWidth());
+        baseline = (int) Math.ceil(-bounds.getY()) + PADDING;
+        int imageWidth = width + PADDING * 2;
+        int imageHeight = (int) Math.ceil(bounds.getHeight()) + PADDING * 2;
+        if (image == null || image.getWidth() < imageWidth || image.getHeight() < imageHeight
+                || !gc.getColorModel(Transparency.TRANSLUCENT).equals(image.getColorModel())) {
+            image = gc.createCompatibleImage(imageWidth, imageHeight, Transparency.TRANSLUCENT);
+        }
+
+        Graphics2D imageG2d = image.createGraphics();
+        imageG2d.setComposite(AlphaComposite.Clear);     //erase the previous text
+        imageG2d.fillRect(0, 0, image.getWidth(), image.getHeight());
+        imageG2d.setComposite(AlphaComposite.SrcOver);
+        imageG2d.setRenderingHint(RenderingHints.KEY_TEXT_ANTIALIASING, RenderingHints.VALUE_TEXT_ANTIALIAS_ON);
+        imageG2d.setRenderingHint(RenderingHints.KEY_FRACTIONALMETRICS, RenderingHints.VALUE_FRACTIONALMETRICS_ON);
+        imageG2d.setRenderingHint(RenderingHints.KEY_RENDERING, RenderingHints.VALUE_RENDER_QUALITY);
+        imageG2d.setFont(font);
+        imageG2d.setColor(color);
+        imageG2d.drawChars(chars, 0, length, PADDING, baseline);
+        imageG2d.dispose();
+    }
+}
@@ -2,10 +2,10 @@ package view.gamePanelViews;
 
 import model.Leaderboard;
 import model.ScreenSettings;
+import view.FontCache;
 
 import javax.swing.*;
 import java.awt.*;
-import java.io.InputStream;
 import java.util.List;
 
 /**
@@ -16,7 +16,7 @@ public class LeaderboardView extends JPanel {
     /**
      * path of the font used, in the res folder
      */
-    private final String fontPath = "fonts/ThaleahFat.ttf";
+    private final String fontPath = FontCache.GAME_FONT;
 
     /**
      * reference to the {@link Leaderboard} model, used to get the
@@ -27,21 +27,27 @@ public class LeaderboardView extends JPanel {
     /**
      * font used to display the leaderboard title on the top.
      */
-    private final Font leaderboardTitleFont = loadCustomFont(fontPath, 70f);
+    private final Font leaderboardTitleFont = FontCache.getInstance().getFont(fontPath, 70f);
     /**
      * font used to display the leaderboard contents, such as placing, name and points.
      */
-    private final Font leaderboardFont = loadCustomFont(fontPath, 60f);
+    private final Font leaderboardFont = FontCache.getInstance().getFont(fontPath, 60f);
     /**
      * font used to the display the exit prompt on the bottom right of the leaderboard screen.
      */
-    private final Font exitFont = loadCustomFont(fontPath, 30f);
+    private final Font exitFont = FontCache.getInstance().getFont(fontPath, 30f);
 
     /**
      * visual padding integer that helps with the spacing consistency of the leaderboard screen.
      */
     private final int padding = 50;
 
+    /**
+     * the whole leaderboard screen, painted once: the rankings don't change while the screen is shown (a new view is
+     * created every time it is opened), so every repaint is a blit of it, see {@link CachedLayer}.
+     */
+    private final transient CachedLayer content;
+
     /**view, renders all the data provided by the {@link Leaderboard} model.
      * @param leaderboard the {@link Leaderboard} model
      */
@@ -51,42 +57,26 @@ public class LeaderboardView extends JPanel {
         setOpaque(true);
         setFocusable(true);
         setBackground(Color.BLACK);
+        content = new CachedLayer(this::paintLeaderboard, Transparency.OPAQUE);
     }
 
-    /**loads the font at the provided font path, with the provided size.
-     * @param fontPath path of the .ttf file in the res folder
-     * @param size size of the font
-     * @return the font if it finds it, null otherwise
-     */
-    private Font loadCustomFont(String fontPath, float size) {
-        try{
-            InputStream stream = getClass().getClassLoader().getResourceAsStream(fontPath);
-            if(stream == null) {    //if the font path provided is not available
-                System.out.println("[LeaderboardView]couldn't find font " + fontPath);
-                return null;
-            }
-
-            Font font = Font.createFont(Font.TRUETYPE_FONT, stream).deriveFont(size);
-            GraphicsEnvironment ge = GraphicsEnvironment.getLocalGraphicsEnvironment();
-            ge.registerFont(font);
-            System.out.println("[LeaderboardView]loaded font " + fontPath);
-            return font;
-
-        }catch(Exception e) {
-            System.err.println("[LeaderboardView] couldn't load font " + fontPath);
-            return null;
-        }
-    }
-
-
-    /**renders the leaderboard, with the data provided by {@link Leaderboard} model.
-     * draws the title, the rankings from 1 to 10 with the names and points.
+    /**renders the leaderboard from the cached {@link #content}, painted by {@link #paintLeaderboard(Graphics2D)} on the
+     * first repaint.
      * @param g the <code>Graphics</code> object to protect
      */
     @Override
     protected void paintComponent(Graphics g) {
         super.paintComponent(g);
-        Graphics2D g2d = (Graphics2D) g;
+        content.draw((Graphics2D) g, getWidth(), getHeight());
+    }
+
+    /**paints the leaderboard into the {@link #content}, with the data provided by {@link Leaderboard} model.
+     * draws the title, the rankings from 1 to 10 with the names and points.
+     * @param g2d graphics of the cached image
+     */
+    private void paintLeaderboard(Graphics2D g2d) {
+        g2d.setColor(getBackground());
+        g2d.fillRect(0, 0, getWidth(), getHeight());
 
         // enable antialiasing for smoother text
         g2d.setRenderingHint(RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_ON);
@@ -1,10 +1,10 @@
 package view.gamePanelViews;
 
 import model.ScreenSettings;
+import view.FontCache;
 
 import javax.swing.*;
 import java.awt.*;
-import java.io.InputStream;
 
 /**
  * view, renders the pause menu.
@@ -25,11 +25,30 @@ public class PauseMenuView extends JPanel{
     /**
      * font used for the options in the pause menu
      */
-    private final Font pauseMenuFont = loadCustomFont("fonts/ThaleahFat.ttf", 40f);
+    private final Font pauseMenuFont = FontCache.getInstance().getFont(FontCache.GAME_FONT, 40f);
     /**
      * font used in the title of the pause menu, the 'game paused' section.
      */
-    private final Font pauseMenuTitleFont = loadCustomFont("fonts/ThaleahFat.ttf", 60f);
+    private final Font pauseMenuTitleFont = FontCache.getInstance().getFont(FontCache.GAME_FONT, 60f);
+
+    //dirty regions
+    /**
+     * the static part of the pause menu: the transparent background and the 'game paused' title. painted once, then
+     * every repaint is a blit of it, see {@link CachedLayer}.
+     */
+    private final transient CachedLayer background;
+    /**
+     * distance between the baseline of the title and the baseline of the first option
+     */
+    private final int OPTIONS_OFFSET = 80;
+    /**
+     * vertical distance between the baselines of two options
+     */
+    private final int OPTIONS_SPACING = 60;
+    /**
+     * empty pixels added around a repainted option, so the antialiased edges of the text are repainted too
+     */
+    private final int DAMAGE_PADDING = 4;
 
     /**
      * view of the pause menu, renders the pause menu.
@@ -39,27 +58,50 @@ public class PauseMenuView extends JPanel{
         setBackground(Color.BLACK);    //semi transparent
         setOpaque(false);               //allow transparency
         setFocusable(true);
+        background = new CachedLayer(this::paintBackground, Transparency.TRANSLUCENT);
     }
     /**
-     * selects the next option in {@link #options}.
+     * selects the next option in {@link #options}, and repaints the two options that changed.
      * called in {@link controller.PauseMenuController}.
      */
     public void selectNextOption(){
         if (selectedOption < options.length - 1){
+            repaintOption(selectedOption);
             selectedOption = (selectedOption + 1) %  options.length;
+            repaintOption(selectedOption);
         }
     }
 
     /**
-     * selects the previous option in {@link #options}.
+     * selects the previous option in {@link #options}, and repaints the two options that changed.
      * called in {@link controller.PauseMenuController}.
      */
     public void selectPreviousOption(){
         if (selectedOption > 0){
+            repaintOption(selectedOption);
             selectedOption = (selectedOption - 1) %  options.length;
+            repaintOption(selectedOption);
         }
     }
 
+    /**requests a repaint of the area of a single option. the rest of the pause menu, and the game under it, stay as they are.
+     * @param option index of the option in {@link #options}
+     */
+    private void repaintOption(int option) {
+        FontMetrics fm = getFontMetrics(pauseMenuFont);
+        int optionX = (getWidth() - fm.stringWidth(options[option])) / 2;
+        int optionY = getOptionsY() + option * OPTIONS_SPACING;
+        repaint(optionX - DAMAGE_PADDING, optionY - fm.getAscent() - DAMAGE_PADDING,
+                fm.stringWidth(options[option]) + DAMAGE_PADDING * 2, fm.getAscent() + fm.getDescent() + DAMAGE_PADDING * 2);
+    }
+
+    /**
+     * @return y coordinate of the baseline of the first option, under the title
+     */
+    private int getOptionsY() {
+        return getHeight() / 2 + OPTIONS_OFFSET;
+    }
+
     /**
      * @return the currently selected option in the pause menu
      */
@@ -67,33 +109,9 @@ public class PauseMenuView extends JPanel{
         return options[selectedOption];
     }
 
-    /**loads the font at the provided font path, with the provided size.
-     * @param fontPath path of the .ttf file in the res folder
-     * @param size size of the font
-     * @return the font if it finds it, null otherwise
-     */
-    private Font loadCustomFont(String fontPath, float size) {
-        try{
-            InputStream stream = getClass().getClassLoader().getResourceAsStream(fontPath);
-            if(stream == null) {    //if the font path provided is not available
-                System.out.println("[PauseMenuView]cant find font " + fontPath);
-                return null;
-            }
-
-            Font font = Font.createFont(Font.TRUETYPE_FONT, stream).deriveFont(size);
-            GraphicsEnvironment ge = GraphicsEnvironment.getLocalGraphicsEnvironment();
-            ge.registerFont(font);
-            System.out.println("[PauseMenuView]loaded font " + fontPath);
-            return font;
-
-        }catch(Exception e) {
-            System.err.println("[PauseMenuView]couldn't load font " + fontPath);
-            return null;
-        }
-    }
-
-
-    /**renders the pause menu screen, with the transparent background and the available options in {@link #options}.
+    /**renders the pause menu screen: the cached transparent background and title ({@link #background}), then the
+     * available options in {@link #options}.
+     * the repaints requested by the view only cover the options that changed, everything outside the clip is left as it is.
      * @param g the <code>Graphics</code> object to protect
      */
     @Override
@@ -101,31 +119,20 @@ public class PauseMenuView extends JPanel{
         super.paintComponent(g);
         Graphics2D g2d = (Graphics2D) g;
 
+        // transparent background and title
+        background.draw(g2d, getWidth(), getHeight());
+
         // enable antialiasing for smoother text
         g2d.setRenderingHint(RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_ON);
 
-        // transparent background
-        g2d.setColor(new Color(0, 0, 0, 150));
-        g2d.fillRect(0, 0, getWidth(), getHeight());
-
-        // draw game paused title
-        g2d.setFont(pauseMenuTitleFont);
-        FontMetrics titleMetrics = g2d.getFontMetrics();
-        String title = "GAME PAUSED";
-        int titleX = (getWidth() - titleMetrics.stringWidth(title)) / 2;
-        int titleY = getHeight() / 2;
-        g2d.setColor(Color.WHITE);
-        g2d.drawString(title, titleX, titleY);
-
         // draw menu options
         g2d.setFont(pauseMenuFont);
         FontMetrics optionMetrics = g2d.getFontMetrics();
-        int startY = titleY + 80;  // space below title
-        int verticalSpacing = 60;
+        int startY = getOptionsY();  // space below title
 
         for (int i = 0; i < options.length; i++) {
             int optionX = (getWidth() - optionMetrics.stringWidth(options[i])) / 2;
-            int optionY = startY + i * verticalSpacing;
+            int optionY = startY + i * OPTIONS_SPACING;
 
             if (i == selectedOption) {
                 g2d.setColor(new Color(255, 215, 0)); // gold highlight
@@ -136,6 +143,28 @@ public class PauseMenuView extends JPanel{
         }
     }
 
+    /**paints the static part of the pause menu into the {@link #background}: the transparent background and the
+     * 'game paused' title.
+     * @param g2d graphics of the cached image
+     */
+    private void paintBackground(Graphics2D g2d) {
+        // enable antialiasing for smoother text
+        g2d.setRenderingHint(RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_ON);
+
+        // transparent background
+        g2d.setColor(new Color(0, 0, 0, 150));
+        g2d.fillRect(0, 0, getWidth(), getHeight());
+
+        // draw game paused title
+        g2d.setFont(pauseMenuTitleFont);
+        FontMetrics titleMetrics = g2d.getFontMetrics();
+        String title = "GAME PAUSED";
+        int titleX = (getWidth() - titleMetrics.stringWidth(title)) / 2;
+        int titleY = getHeight() / 2;
+        g2d.setColor(Color.WHITE);
+        g2d.drawString(title, titleX, titleY);
+    }
+
 
 }
 
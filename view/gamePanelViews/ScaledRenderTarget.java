@@ -0,0 +1,238 @@
+package view.gamePanelViews;
+
+import model.ScreenSettings;
+
+import java.awt.*;
+import java.awt.geom.AffineTransform;
+import java.awt.image.VolatileImage;
+import java.util.Locale;
+import java.util.function.Consumer;
+
+/**
+ * view, offscreen render target of the game world, upscaled to the window in a single nearest neighbour draw.
+ * the world is drawn in the logical coordinates of the models ({@link ScreenSettings#SCREEN_WIDTH} x
+ * {@link ScreenSettings#SCREEN_HEIGHT}) into a target of {@link #NATIVE_WIDTH} x {@link #NATIVE_HEIGHT} pixels times the
+ * render scale, then the target is stretched over the viewport of the window, see {@link ScaleMode}.
+ * the render scale is set with -Dgame.renderScale=n, from 1 to {@link ScreenSettings#SCALE}:
+ * - {@link ScreenSettings#SCALE} (default): the target has the logical size, the tiles are drawn 1:1, with all the
+ *   detail of the art.
+ * - 1: the target is 512x256, the native size of the 16 pixel tile grid, so drawing the world fills 9 times fewer
+ *   pixels. meant for low end machines with large windows.
+ * the hud is not part of the target, it's drawn afterwards at the resolution of the window, see {@link #applyViewport(Graphics2D)}.
+ * the target is also the cached frame of the world: it keeps its contents between frames, so only the regions that
+ * changed get drawn again into it ({@link #redraw(GraphicsConfiguration, Rectangle, Consumer)}), and every frame shown is
+ * a single blit of it ({@link #draw(Graphics2D, int, int)}).
+ */
+public class ScaledRenderTarget {
+    /**
+     * how the target is fitted into the window
+     */
+    public enum ScaleMode {
+        /**
+         * largest whole multiple of the logical size that fits, centered. pixels keep the same size everywhere.
+         */
+        INTEGER,
+        /**
+         * largest size that fits with the aspect ratio of the game, centered. the default.
+         */
+        FIT,
+        /**
+         * the whole window, the aspect ratio is not kept
+         */
+        STRETCH
+    }
+
+    /**
+     * width of the tile grid at 1 pixel per tile pixel (512)
+     */
+    public static final int NATIVE_WIDTH = ScreenSettings.MAX_SCREEN_COL * ScreenSettings.ORIGINAL_TILE_SIZE;
+    /**
+     * height of the tile grid at 1 pixel per tile pixel (256)
+     */
+    public static final int NATIVE_HEIGHT = ScreenSettings.MAX_SCREEN_ROW * ScreenSettings.ORIGINAL_TILE_SIZE;
+
+    /**
+     * pixels of the target per pixel of the tile grid, set with -Dgame.renderScale=n
+     */
+    private final int RENDER_SCALE = Math.max(1, Math.min(ScreenSettings.SCALE, Integer.getInteger("game.renderScale", ScreenSettings.SCALE)));
+    /**
+     * how the target is fitted into the window, set with -Dgame.scaleMode=integer|fit|stretch
+     */
+    private final ScaleMode SCALE_MODE = parseScaleMode(System.getProperty("game.scaleMode", "fit"));
+    /**
+     * width of the target
+     */
+    private final int TARGET_WIDTH = NATIVE_WIDTH * RENDER_SCALE;
+    /**
+     * height of the target
+     */
+    private final int TARGET_HEIGHT = NATIVE_HEIGHT * RENDER_SCALE;
+
+    /**
+     * the target, in video memory. null until the first frame is drawn.
+     */
+    private VolatileImage target;
+    /**
+     * area of the window covered by the game, computed on every frame from the size of the window
+     */
+    private final Rectangle viewport = new Rectangle();
+
+    /**draws the world again into the target, only inside the damaged region: everything outside of it keeps what was
+     * drawn in the previous frames. the whole world is drawn when the target is created, or after its contents got lost.
+     * @param gc graphics configuration of the window
+     * @param damage region of the world to draw again, in logical coordinates, null to draw everything
+     * @param world draws the world, in the logical coordinates of the models
+     */
+    public void redraw(GraphicsConfiguration gc, Rectangle damage, Consumer<Graphics2D> world) {
+        boolean full = damage == null;
+        if (!full && damage.isEmpty() && target != null && target.validate(gc) == VolatileImage.IMAGE_OK) {
+            return;     //nothing changed
+        }
+        boolean lost;
+        do {
+            int status = target == null ? VolatileImage.IMAGE_INCOMPATIBLE : target.validate(gc);
+            if (status == VolatileImage.IMAGE_INCOMPATIBLE) {
+                target = gc.createCompatibleVolatileImage(TARGET_WIDTH, TARGET_HEIGHT, Transparency.OPAQUE);
+                full = true;
+            }
+            else if (status == VolatileImage.IMAGE_RESTORED) {
+                full = true;    //the contents are gone
+            }
+            Graphics2D targetG2d = target.createGraphics();
+            try {
+                if (!full) {
+                    //clip in target pixels, rounded outwards so the edges of the region are drawn again too
+                    int x0 = (int) Math.floor((double) damage.x * TARGET_WIDTH / ScreenSettings.SCREEN_WIDTH);
+                    int y0 = (int) Math.floor((double) damage.y * TARGET_HEIGHT / ScreenSettings.SCREEN_HEIGHT);
+                    int x1 = (int) Math.ceil((double) (damage.x + damage.width) * TARGET_WIDTH / ScreenSettings.SCREEN_WIDTH);
+                    int y1 = (int) Math.ceil((double) (damage.y + damage.height) * TARGET_HEIGHT / ScreenSettings.SCREEN_HEIGHT);
+                    targetG2d.clipRect(x0, y0, x1 - x0, y1 - y0);
+                }
+                targetG2d.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_NEAREST_NEIGHBOR);
+                targetG2d.scale((double) TARGET_WIDTH / ScreenSettings.SCREEN_WIDTH, (double) TARGET_HEIGHT / ScreenSettings.SCREEN_HEIGHT);
+                world.accept(targetG2d);
+            }
+            finally {
+                targetG2d.dispose();
+            }
+            lost = target.contentsLost();
+            full = full || lost;    //draw everything again if the contents got lost while drawing
+        } while (lost);
+    }
+
+    /**upscales the target over the viewport, then fills the rest of the window in black.
+     * only the clip of the graphics gets copied.
+     * @param g2d graphics of the window
+     * @param width width of the window
+     * @param height height of the window
+     * @return false if the target has nothing to show (never drawn, or its contents got lost), in which case it has to
+     * be drawn again entirely with {@link #redraw(GraphicsConfiguration, Rectangle, Consumer)} first
+     */
+    public boolean draw(Graphics2D g2d, int width, int height) {
+        computeViewport(width, height);
+        drawLetterbox(g2d, width, height);
+
+        if (target == null || target.validate(g2d.getDeviceConfiguration()) != VolatileImage.IMAGE_OK) {
+            return false;
+        }
+        Object interpolation = g2d.getRenderingHint(RenderingHints.KEY_INTERPOLATION);
+        g2d.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_NEAREST_NEIGHBOR);
+        if (viewport.width == TARGET_WIDTH && viewport.height == TARGET_HEIGHT) {
+            g2d.drawImage(target, viewport.x, viewport.y, null);     //1:1, a straight copy
+        }
+        else {
+            g2d.drawImage(target, viewport.x, viewport.y, viewport.width, viewport.height, null);
+        }
+        if (interpolation != null) {
+            g2d.setRenderingHint(RenderingHints.KEY_INTERPOLATION, interpolation);
+        }
+        return !target.contentsLost();
+    }
+
+    /**converts a region in logical coordinates into the region of the window it is shown in, rounded outwards.
+     * @param region region in the logical coordinates of the models
+     * @param width width of the window
+     * @param height height of the window
+     * @param result set to the region of the window
+     */
+    public void toWindow(Rectangle region, int width, int height, Rectangle result) {
+        computeViewport(width, height);
+        double scaleX = (double) viewport.width / ScreenSettings.SCREEN_WIDTH;
+        double scaleY = (double) viewport.height / ScreenSettings.SCREEN_HEIGHT;
+        int x0 = viewport.x + (int) Math.floor(region.x * scaleX);
+        int y0 = viewport.y + (int) Math.floor(region.y * scaleY);
+        int x1 = viewport.x + (int) Math.ceil((region.x + region.width) * scaleX);
+        int y1 = viewport.y + (int) Math.ceil((region.y + region.height) * scaleY);
+        result.setBounds(x0, y0, x1 - x0, y1 - y0);
+    }
+
+    /**transforms the graphics so that the logical coordinates of the models map onto the viewport of the last frame,
+     * to draw the hud on top of the world at the resolution of the window.
+     * @param g2d graphics of the window
+     */
+    public void applyViewport(Graphics2D g2d) {
+        g2d.translate(viewport.x, viewport.y);
+        if (viewport.width != ScreenSettings.SCREEN_WIDTH || viewport.height != ScreenSettings.SCREEN_HEIGHT) {
+            g2d.transform(AffineTransform.getScaleInstance((double) viewport.width / ScreenSettings.SCREEN_WIDTH,
+                    (double) viewport.height / ScreenSettings.SCREEN_HEIGHT));
+        }
+    }
+
+    /**computes the {@link #viewport} for the size of the window, according to the {@link #SCALE_MODE}.
+     * @param width width of the window
+     * @param height height of the window
+     */
+    private void computeViewport(int width, int height) {
+        switch (SCALE_MODE) {
+            case INTEGER:
+                //whole multiples of the native grid, 1 at least even if the window is smaller
+                int scale = Math.max(1, Math.min(width / NATIVE_WIDTH, height / NATIVE_HEIGHT));
+                viewport.width = NATIVE_WIDTH * scale;
+                viewport.height = NATIVE_HEIGHT * scale;
+                break;
+            case STRETCH:
+                viewport.width = width;
+                viewport.height = height;
+                break;
+            case FIT:
+            default:
+                double fit = Math.min((double) width / NATIVE_WIDTH, (double) height / NATIVE_HEIGHT);
+                viewport.width = Math.max(1, (int) Math.round(NATIVE_WIDTH * fit));
+                viewport.height = Math.max(1, (int) Math.round(NATIVE_HEIGHT * fit));
+                break;
+        }
+        viewport.x = (width - viewport.width) / 2;
+        viewport.y = (height - viewport.height) / 2;
+    }
+
+    /**fills the parts of the window outside the viewport in black.
+     * @param g2d graphics of the window
+     * @param width width of the window
+     * @param height height of the window
+     */
+    private void drawLetterbox(Graphics2D g2d, int width, int height) {
+        g2d.setColor(Color.BLACK);
+        if (viewport.y > 0) {
+            g2d.fillRect(0, 0, width, viewport.y);
+            g2d.fillRect(0, viewport.y + viewport.height, width, height - viewport.y - viewport.height);
+        }
+        if (viewport.x > 0) {
+            g2d.fillRect(0, viewport.y, viewport.x, viewport.height);
+            g2d.fillRect(viewport.x + viewport.width, viewport.y, width - viewport.x - viewport.width, viewport.height);
+        }
+    }
+
+    /**
+     * @param scaleMode name of a scale mode, case insensitive
+     * @return the scale mode, or {@link ScaleMode#FIT} if the name is not a scale mode
+     */
+    private static ScaleMode parseScaleMode(String scaleMode) {
+        try {
+            return ScaleMode.valueOf(scaleMode.trim().toUpperCase(Locale.ROOT));
+        }
+        catch (IllegalArgumentException e) {
+            System.out.println("[ScaledRenderTarget] unknown scale mode " + scaleMode + ", using FIT");
+            return ScaleMode.FIT;
+        }
+    }
+}
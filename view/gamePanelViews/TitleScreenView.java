@@ -1,12 +1,13 @@
 package view.gamePanelViews;
 
 import model.ScreenSettings;
+import view.AssetLoader;
+import view.FontCache;
 
 import javax.imageio.ImageIO;
 import javax.swing.*;
 import java.awt.*;
 import java.awt.image.BufferedImage;
-import java.io.InputStream;
 
 /**
  * view of the title screen, handles the rendering/logic of the title screen.
@@ -20,12 +21,16 @@ public class TitleScreenView extends JPanel {
     /**
      * the menu font, of the {@link #options}
      */
-    private final Font menuFont = loadCustomFont("fonts/ThaleahFat.ttf", 40f);
+    private final Font menuFont = FontCache.getInstance().getFont(FontCache.GAME_FONT, 40f);
     /**
      * the font of the currently selected font. note that is slightly bigger than the {@link #menuFont},
      * so that the used has an even better clarity of the current selected option.
      */
-    private final Font selectedFont = loadCustomFont("fonts/ThaleahFat.ttf", 50f);; //the currently selected option is gonna have a slightly larger font
+    private final Font selectedFont = FontCache.getInstance().getFont(FontCache.GAME_FONT, 50f);; //the currently selected option is gonna have a slightly larger font
+    /**
+     * font of the instructions at the bottom of the title screen
+     */
+    private final Font instructionsFont = FontCache.getInstance().getFont(FontCache.GAME_FONT, 24f);
     /**
      * the currently selected option, it can be incremented or decremented via {@link #selectNextOption()} and
      * {@link #selectPreviousOption()}.
@@ -44,42 +49,69 @@ public class TitleScreenView extends JPanel {
     };
 
 
+    /**
+     * reference to the {@link AssetLoader}, whose progress is displayed while the assets load
+     */
+    private final AssetLoader assetLoader;
+    /**
+     * repaints the title screen while the assets load, so the progress bar moves. stopped once they are loaded.
+     */
+    private final Timer loadingTimer;
+    /**
+     * delay between the repaints of the loading progress bar, in milliseconds
+     */
+    private final int LOADING_REPAINT_DELAY = 50;
+
+    //dirty regions
+    /**
+     * the static part of the title screen: the title image and the instructions. painted once, then every repaint is
+     * a blit of it, see {@link CachedLayer}.
+     */
+    private final transient CachedLayer background;
+    /**
+     * x coordinate of the menu options
+     */
+    private final int OPTIONS_X = ScreenSettings.SCREEN_WIDTH / 2 - 100;
+    /**
+     * y coordinate of the baseline of the first menu option
+     */
+    private final int OPTIONS_Y = ScreenSettings.SCREEN_HEIGHT / 2 + 100;
+    /**
+     * vertical distance between the baselines of two menu options
+     */
+    private final int OPTIONS_SPACING = 60;
+    /**
+     * empty pixels added around a repainted region, so the antialiased edges of the text are repainted too
+     */
+    private final int DAMAGE_PADDING = 4;
+    /**
+     * area of the asset loading progress bar
+     */
+    private final Rectangle loadingBarBounds = new Rectangle((ScreenSettings.SCREEN_WIDTH - 400) / 2, ScreenSettings.SCREEN_HEIGHT - 30, 401, 13);
+
     /**
      * view of the title screen. handles the rendering of all the options in the title screen, title image.
      * the inputs are handled in the {@link controller.TitleScreenController}.
+     * while the {@link AssetLoader} is still loading, a progress bar is drawn under the options.
      */
     public TitleScreenView() {
         setPreferredSize(new Dimension(ScreenSettings.SCREEN_WIDTH, ScreenSettings.SCREEN_HEIGHT));
         setBackground(Color.BLACK);
         loadTitleScreenBackgroundImage();
-    }
+        background = new CachedLayer(this::paintBackground, Transparency.OPAQUE);
 
-    /**loads the font at the provided font path, with the provided size.
-     * @param fontPath path of the .ttf file in the res folder
-     * @param size size of the font
-     * @return the font if it finds it, null otherwise
-     */
-    private Font loadCustomFont(String fontPath, float size) {
-        try{
-            InputStream stream = getClass().getClassLoader().getResourceAsStream(fontPath);
-            if(stream == null) {    //if the font path provided is not available
-                System.out.println("[TitleScreenView]cant find font " + fontPath);
-                return null;
+        assetLoader = AssetLoader.getInstance();
+        loadingTimer = new Timer(LOADING_REPAINT_DELAY, e -> {
+            if (assetLoader.isDone()) {
+                ((Timer) e.getSource()).stop();
             }
-
-            Font font = Font.createFont(Font.TRUETYPE_FONT, stream).deriveFont(size);
-            GraphicsEnvironment ge = GraphicsEnvironment.getLocalGraphicsEnvironment();
-            ge.registerFont(font);
-            System.out.println("[TitleScreenView]loaded font " + fontPath);
-            return font;
-
-        }catch(Exception e) {
-            System.err.println("[TitleScreenView]couldn't load font " + fontPath);
-            return null;
+            repaint(loadingBarBounds);     //only the progress bar changes
+        });
+        if (!assetLoader.isDone()) {
+            loadingTimer.start();
         }
     }
 
-
     /**
      * loads the title screen image from the res folder.
      */
@@ -93,23 +125,38 @@ public class TitleScreenView extends JPanel {
     }
 
     /**
-     * selects the next option in the {@link #options} field
+     * selects the next option in the {@link #options} field, and repaints the two options that changed
      */
     public void selectNextOption() {
         if (selectedOption != options.length - 1) {
+            repaintOption(selectedOption);
             selectedOption = (selectedOption + 1) % options.length;
+            repaintOption(selectedOption);
         }
     }
 
     /**
-     * selects the previous option in the {@link #options} field
+     * selects the previous option in the {@link #options} field, and repaints the two options that changed
      */
     public void selectPreviousOption() {
         if (selectedOption != 0) {
+            repaintOption(selectedOption);
             selectedOption = (selectedOption - 1) % options.length;
+            repaintOption(selectedOption);
         }
     }
 
+    /**requests a repaint of the area of a single option, drawn with the bigger {@link #selectedFont} so that
+     * the area fits the option whether it is selected or not. the rest of the title screen stays as it is.
+     * @param option index of the option in {@link #options}
+     */
+    private void repaintOption(int option) {
+        FontMetrics fm = getFontMetrics(selectedFont);
+        int baseline = OPTIONS_Y + OPTIONS_SPACING * option;
+        repaint(OPTIONS_X - DAMAGE_PADDING, baseline - fm.getAscent() - DAMAGE_PADDING,
+                fm.stringWidth(options[option]) + DAMAGE_PADDING * 2, fm.getAscent() + fm.getDescent() + DAMAGE_PADDING * 2);
+    }
+
     /**gets the currently selected option of the used via the 'enter key'.
      * see {@link controller.TitleScreenController}.
      * @return the currently selected option
@@ -119,8 +166,9 @@ public class TitleScreenView extends JPanel {
     }
 
 
-    /**renders the entirety of the title screen: the title image, the various options, such as 'new game', 'play tutorial',
-     * 'leaderboard' and 'exit game', listed in the {@link #options}.
+    /**renders the title screen: the cached title image and instructions ({@link #background}), then the various options,
+     * such as 'new game', 'play tutorial', 'leaderboard' and 'exit game', listed in the {@link #options}.
+     * the repaints requested by the view only cover the regions that changed, everything outside the clip is left as it is.
      *
      * @param g the <code>Graphics</code> object to protect
      */
@@ -129,15 +177,16 @@ public class TitleScreenView extends JPanel {
         super.paintComponent(g);
         Graphics2D g2d = (Graphics2D) g;
 
+        //background image and instructions
+        background.draw(g2d, getWidth(), getHeight());
+
         //enable antialiasing
         g2d.setRenderingHint(RenderingHints.KEY_TEXT_ANTIALIASING, RenderingHints.VALUE_TEXT_ANTIALIAS_ON);
-        //background image
-        g2d.drawImage(titleImage, 0, 0, ScreenSettings.SCREEN_WIDTH, ScreenSettings.SCREEN_HEIGHT,  null);
 
         //draw menu options
-        int startX = ScreenSettings.SCREEN_WIDTH / 2 - 100;
-        int startY = ScreenSettings.SCREEN_HEIGHT / 2 + 100;
-        int verticalSpacing = 60;
+        int startX = OPTIONS_X;
+        int startY = OPTIONS_Y;
+        int verticalSpacing = OPTIONS_SPACING;
 
         for (int i = 0; i < options.length; i++) {
 
@@ -155,14 +204,45 @@ public class TitleScreenView extends JPanel {
             g2d.drawString(options[i], startX, startY + (verticalSpacing * i));
         }
 
+        //loading progress bar, until every asset is loaded
+        if (!assetLoader.isDone()) {
+            drawLoadingBar(g2d);
+        }
+    }
+
+    /**paints the static part of the title screen into the {@link #background}: the title image and the instructions
+     * at the bottom.
+     * @param g2d graphics of the cached image
+     */
+    private void paintBackground(Graphics2D g2d) {
+        g2d.setColor(Color.BLACK);
+        g2d.fillRect(0, 0, getWidth(), getHeight());
+        g2d.setRenderingHint(RenderingHints.KEY_TEXT_ANTIALIASING, RenderingHints.VALUE_TEXT_ANTIALIAS_ON);
+        //background image
+        g2d.drawImage(titleImage, 0, 0, ScreenSettings.SCREEN_WIDTH, ScreenSettings.SCREEN_HEIGHT,  null);
+
         //instructions bottom
-        g2d.setFont(menuFont.deriveFont(24f));
+        g2d.setFont(instructionsFont);
         g2d.setColor(Color.DARK_GRAY);
         String instructions = "Use arrow keys to navigate, ENTER to select";
         int instrX = (ScreenSettings.SCREEN_WIDTH - g2d.getFontMetrics().stringWidth(instructions)) / 2;
         g2d.drawString(instructions, instrX, ScreenSettings.SCREEN_HEIGHT - 50);
     }
 
+    /**draws the asset loading progress bar, at the bottom of the title screen.
+     * @param g2d swing's graphics 2d instance that allows rendering
+     */
+    private void drawLoadingBar(Graphics2D g2d) {
+        int barWidth = loadingBarBounds.width - 1;
+        int barHeight = loadingBarBounds.height - 1;
+        int barX = loadingBarBounds.x;
+        int barY = loadingBarBounds.y;
+        g2d.setColor(Color.DARK_GRAY);
+        g2d.drawRect(barX, barY, barWidth, barHeight);
+        g2d.setColor(Color.GRAY);
+        g2d.fillRect(barX + 2, barY + 2, (int) ((barWidth - 3) * assetLoader.getProgress()), barHeight - 3);
+    }
+
 
 
 
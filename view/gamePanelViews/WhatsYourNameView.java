@@ -1,10 +1,10 @@
 package view.gamePanelViews;
 
 import model.ScreenSettings;
+import view.FontCache;
 
 import javax.swing.*;
 import java.awt.*;
-import java.io.InputStream;
 
 /**
  * view that user sees when he presses the 'new game' in the title screen.
@@ -17,15 +17,15 @@ public class WhatsYourNameView extends JPanel {
     /**
      * the path of the .ttf file in res folder
      */
-    private final String fontPath = "fonts/ThaleahFat.ttf";
+    private final String fontPath = FontCache.GAME_FONT;
     /**
-     * font used to display the title that says 'what's your name?'. the font is loaded via {@link #loadFont(String, float)} method.
+     * font used to display the title that says 'what's your name?'. the font is loaded via {@link FontCache#getFont(String, float)} method.
      */
-    private final Font whatsYourNameFont = loadFont(fontPath, 60f);
+    private final Font whatsYourNameFont = FontCache.getInstance().getFont(fontPath, 60f);
     /**
-     * font used to display the currently typed in name. the font is loaded via {@link #loadFont(String, float)} method.
+     * font used to display the currently typed in name. the font is loaded via {@link FontCache#getFont(String, float)} method.
      */
-    private final Font nameTypedInFont = loadFont(fontPath, 80f);
+    private final Font nameTypedInFont = FontCache.getInstance().getFont(fontPath, 80f);
 
 
     /**
@@ -37,6 +37,17 @@ public class WhatsYourNameView extends JPanel {
      */
     private String displayedName = "";
 
+    //dirty regions
+    /**
+     * the static part of the screen: the transparent background, the title and the dashes under the name. painted once,
+     * then every repaint is a blit of it, see {@link CachedLayer}.
+     */
+    private final transient CachedLayer background;
+    /**
+     * empty pixels added around the repainted name, so the antialiased edges of the text are repainted too
+     */
+    private final int DAMAGE_PADDING = 4;
+
     /**
      * view, handles the rendering the of the 'what's your name?' panel that is visible right after
      * the user pressed 'new game' on the title screen.
@@ -47,37 +58,13 @@ public class WhatsYourNameView extends JPanel {
         setBackground(Color.BLACK);    //semi transparent
         setOpaque(false);               //allow   transparency
         setFocusable(true);
+        background = new CachedLayer(this::paintBackground, Transparency.TRANSLUCENT);
     }
 
 
-    /**loads the font at the provided font path, with the provided size.
-     * @param fontPath path of the .ttf file in the res folder
-     * @param size size of the font
-     * @return the font if it finds it, null otherwise
-     */
-    private Font loadFont(String fontPath, float size) {
-        try{
-            InputStream stream = getClass().getClassLoader().getResourceAsStream(fontPath);
-            if(stream == null) {    //if the font path provided is not available
-                System.out.println("[WhatsYourNameView] cant find font " + fontPath);
-                return null;
-            }
-
-            Font font = Font.createFont(Font.TRUETYPE_FONT, stream).deriveFont(size);
-            GraphicsEnvironment ge = GraphicsEnvironment.getLocalGraphicsEnvironment();
-            ge.registerFont(font);
-            System.out.println("[WhatsYourNameView] loaded font " + fontPath);
-            return font;
-
-        }catch(Exception e) {
-            System.err.println("[WhatsYourNameView] couldn't load font " + fontPath);
-            return null;
-        }
-    }
-
-
-    /**renders this view's contents. sets the transparent background, the title, renders the
-     * currently name being typed in, and the dashed under the name.
+    /**renders this view's contents: the cached transparent background, title and dashes ({@link #background}), then
+     * the name currently being typed in.
+     * the repaints requested by the view only cover the name, everything outside the clip is left as it is.
      * @param g the <code>Graphics</code> object to protect
      */
     @Override
@@ -85,6 +72,23 @@ public class WhatsYourNameView extends JPanel {
         super.paintComponent(g);
         Graphics2D g2d = (Graphics2D) g;
 
+        // transparent background, title and dashes
+        background.draw(g2d, getWidth(), getHeight());
+
+        // enable antialiasing for smoother text
+        g2d.setRenderingHint(RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_ON);
+
+        //current name typed in
+        g2d.setFont(nameTypedInFont);
+        g2d.setColor(Color.WHITE);
+        g2d.drawString(displayedName, padding * 12, getNameY());
+    }
+
+    /**paints the static part of the screen into the {@link #background}: the transparent background, the title,
+     * and the dashes under the name.
+     * @param g2d graphics of the cached image
+     */
+    private void paintBackground(Graphics2D g2d) {
         // enable antialiasing for smoother text
         g2d.setRenderingHint(RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_ON);
 
@@ -101,23 +105,32 @@ public class WhatsYourNameView extends JPanel {
         int nameY = ScreenSettings.SCREEN_HEIGHT / 2;
         g2d.drawString(whatsYourName, nameX, nameY);
 
-        //current name typed in
-        g2d.setFont(nameTypedInFont);
-        g2d.drawString(displayedName, padding * 12, nameY + 100);
         //dashed under the name that helps the user know what's the limit
+        g2d.setFont(nameTypedInFont);
         int maxLength = 7;  //hard coded, but it is 7 in the what's your name controller
         for (int i = 0; i < maxLength; i++) {
             g2d.drawString("-", padding * 12 + ( padding * i), nameY + 130);
         }
     }
 
+    /**
+     * @return y coordinate of the baseline of the name typed in
+     */
+    private int getNameY() {
+        return ScreenSettings.SCREEN_HEIGHT / 2 + 100;
+    }
+
 
-    /**updates the {@link #displayedName} field and requests a repaint of the window
+    /**updates the {@link #displayedName} field and requests a repaint of the area of the name only, wide enough for
+     * both the previous and the new name.
      * @param currentName the string that is currently typed in. it is handled/called in the {@link controller.WhatsYourNameController}
      */
     public void updateNameDisplay(String currentName){
+        FontMetrics fm = getFontMetrics(nameTypedInFont);
+        int width = Math.max(fm.stringWidth(displayedName), fm.stringWidth(currentName));
         this.displayedName = currentName;       //getting the current char typed in from the controller
-        repaint();  //ofc repaint
+        repaint(padding * 12 - DAMAGE_PADDING, getNameY() - fm.getAscent() - DAMAGE_PADDING,
+                width + DAMAGE_PADDING * 2, fm.getAscent() + fm.getDescent() + DAMAGE_PADDING * 2);  //ofc repaint, only the name
     }
 
 
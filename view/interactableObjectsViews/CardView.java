@@ -1,8 +1,10 @@
 package view.interactableObjectsViews;
 
+import logging.Log;
 import model.interactableObjects.Card;
+import model.snapshot.ObjectSnapshot;
+import view.ImageCache;
 
-import javax.imageio.ImageIO;
 import java.awt.*;
 import java.awt.image.BufferedImage;
 
@@ -32,18 +34,18 @@ public class CardView {
     private static final int ANIMATION_SPEED = 5;
 
     /**
-     * {@link Card} instance
+     * index of the object in the room, to find its state in the {@link model.snapshot.RenderSnapshot}
      */
-    private final Card card;
+    private final int index;
 
 
     /**
      * when the card is picked up, a CardView is created to display the card animation / sprites.
      * when created, it loads all the card related sprites via {@link #loadSprites()}
-     * @param card card interactable object
+     * @param index index of the {@link Card} in the room
      */
-    public CardView(Card card) {
-        this.card = card;
+    public CardView(int index) {
+        this.index = index;
 
         loadSprites();
     }
@@ -53,20 +55,16 @@ public class CardView {
      * loads the card sprites from the resources folder
      */
     private void loadSprites(){
-        try{
-            card1 = ImageIO.read(getClass().getClassLoader().getResourceAsStream("interactableObjects/card/card1.png"));
-            card2 = ImageIO.read(getClass().getClassLoader().getResourceAsStream("interactableObjects/card/card2.png"));
-            card3 = ImageIO.read(getClass().getClassLoader().getResourceAsStream("interactableObjects/card/card3.png"));
-            card4 = ImageIO.read(getClass().getClassLoader().getResourceAsStream("interactableObjects/card/card4.png"));
-            card5 = ImageIO.read(getClass().getClassLoader().getResourceAsStream("interactableObjects/card/card5.png"));
-            card6 = ImageIO.read(getClass().getClassLoader().getResourceAsStream("interactableObjects/card/card6.png"));
-            card7 = ImageIO.read(getClass().getClassLoader().getResourceAsStream("interactableObjects/card/card7.png"));
-            card8 = ImageIO.read(getClass().getClassLoader().getResourceAsStream("interactableObjects/card/card8.png"));
-            System.out.println("[CardView]loaded card sprites");
-        }catch (Exception e){
-            System.out.println("[CardView]failed to load card sprites");
-            e.printStackTrace();
-        }
+        ImageCache imageCache = ImageCache.getInstance();
+        card1 = imageCache.getImage("interactableObjects/card/card1.png");
+        card2 = imageCache.getImage("interactableObjects/card/card2.png");
+        card3 = imageCache.getImage("interactableObjects/card/card3.png");
+        card4 = imageCache.getImage("interactableObjects/card/card4.png");
+        card5 = imageCache.getImage("interactableObjects/card/card5.png");
+        card6 = imageCache.getImage("interactableObjects/card/card6.png");
+        card7 = imageCache.getImage("interactableObjects/card/card7.png");
+        card8 = imageCache.getImage("interactableObjects/card/card8.png");
+        Log.debug("[CardView]loaded card sprites");
     }
 
 
@@ -87,8 +85,9 @@ public class CardView {
     /**
      * if the card is not taken yet, then draws the card sprite at {@link Card} x and y position
      * @param g2d swing's graphics 2d instance that allows rendering
+     * @param card state of the card
      */
-    public void draw(Graphics2D g2d) {
+    public void draw(Graphics2D g2d, ObjectSnapshot card) {
         BufferedImage image;
         if(!card.getIsTaken()) {
             switch(spriteNum){
@@ -108,9 +107,10 @@ public class CardView {
         }
     }
 
-
-
-
-
-
+    /**
+     * @return index of the object in the room, to find its state in the {@link model.snapshot.RenderSnapshot}
+     */
+    public int getIndex() {
+        return index;
+    }
 }
@@ -1,12 +1,14 @@
 package view.interactableObjectsViews;
 
 
+import logging.Log;
 import model.interactableObjects.Computer;
+import model.snapshot.ObjectSnapshot;
+import view.FontCache;
+import view.ImageCache;
 
-import javax.imageio.ImageIO;
 import java.awt.*;
 import java.awt.image.BufferedImage;
-import java.io.InputStream;
 
 /**
  * view of the {@link Computer} interactable object
@@ -34,19 +36,19 @@ public class ComputerView {
     private int spriteNum = 1;
 
     /**
-     * {@link Computer} instance
+     * index of the object in the room, to find its state in the {@link model.snapshot.RenderSnapshot}
      */
-    private Computer computer;
+    private final int index;
 
     /**
      * width of the computer menu
      */
-    private int MENU_WIDTH = 300;
+    private static final int MENU_WIDTH = 300;
 
     /**
      * height of the computer menu
      */
-    private int MENU_HEIGHT = 90;
+    private static final int MENU_HEIGHT = 90;
 
     /**
      * font used to display the menu text
@@ -55,29 +57,25 @@ public class ComputerView {
 
 
     /**view of the {@link Computer} model, loads sprite when called via {@link #loadSprites()}
-     * @param computer {@link Computer} model instance
+     * @param index index of the {@link Computer} in the room
      */
-    public ComputerView(Computer computer) {
-        this.computer = computer;
+    public ComputerView(int index) {
+        this.index = index;
 
         loadSprites();
-        this.menuFont = loadFont("fonts/ThaleahFat.ttf", 30f);
+        this.menuFont = FontCache.getInstance().getFont(FontCache.GAME_FONT, 30f);
     }
 
     /**
      * loads the computer sprites
      */
     private void loadSprites(){
-        try{
-            computer1 = ImageIO.read(getClass().getClassLoader().getResourceAsStream("interactableObjects/computer/computer1.png"));
-            computer2 = ImageIO.read(getClass().getClassLoader().getResourceAsStream("interactableObjects/computer/computer2.png"));
-            computer3 = ImageIO.read(getClass().getClassLoader().getResourceAsStream("interactableObjects/computer/computer2.png"));
-            computer4 = ImageIO.read(getClass().getClassLoader().getResourceAsStream("interactableObjects/computer/computer2.png"));
-            System.out.println("[ComputerView]computer sprites loaded");
-        }catch(Exception e){
-            System.out.println("[ComputerView]error in loading computer sprites ");
-            e.printStackTrace();
-        }
+        ImageCache imageCache = ImageCache.getInstance();
+        computer1 = imageCache.getImage("interactableObjects/computer/computer1.png");
+        computer2 = imageCache.getImage("interactableObjects/computer/computer2.png");
+        computer3 = imageCache.getImage("interactableObjects/computer/computer2.png");
+        computer4 = imageCache.getImage("interactableObjects/computer/computer2.png");
+        Log.debug("[ComputerView]computer sprites loaded");
     }
 
 
@@ -99,8 +97,9 @@ public class ComputerView {
     /**
      * draw the computer sprite at the {@link Computer} x and y coordinates
      * @param g2d swing's graphics 2d instance that allows rendering
+     * @param computer state of the computer
      */
-    public void draw(Graphics2D g2d) {
+    public void draw(Graphics2D g2d, ObjectSnapshot computer) {
         BufferedImage image = null;
 
         //switch the sprite nummber to draw the appropriate image. the sprite number gets updated in the update() method
@@ -116,15 +115,16 @@ public class ComputerView {
         }
 
         if(computer.getIsBeingAccessed() && computer.getIsMenuVisible()){
-            drawMenu(g2d);
+            drawMenu(g2d, computer);
         }
     }
 
 
     /**draw the {@link Computer}'s menu when it is visible
      * @param g2d swing's graphics 2d instance that allows rendering
+     * @param computer state of the computer
      */
-    private void drawMenu(Graphics2D g2d) {
+    private void drawMenu(Graphics2D g2d, ObjectSnapshot computer) {
         Font originalFont = g2d.getFont();      //save the original font
 
         int menuX = computer.getX() + computer.getWidth() + 20;
@@ -158,35 +158,19 @@ public class ComputerView {
         g2d.setFont(originalFont);  //had some issues that when the computer menu appears, the other fonts would get resized
     }
 
+    /**gets the area covered by the menu of a computer (border included), so that it can be drawn again when the menu
+     * appears, changes or disappears. see {@link view.gamePanelViews.DamageTracker}.
+     * @param computer state of the computer
+     * @param bounds set to the area of the menu
+     */
+    public static void getMenuBounds(ObjectSnapshot computer, Rectangle bounds) {
+        bounds.setBounds(computer.getX() + computer.getWidth() + 20, computer.getY() - computer.getHeight() - 40, MENU_WIDTH + 1, MENU_HEIGHT + 1);
+    }
 
     /**
-     * loads the font
-     * @param fontPath path of the .ttf file
-     * @param size font size
-     * @return font if font path is correct, null otherwise
+     * @return index of the object in the room, to find its state in the {@link model.snapshot.RenderSnapshot}
      */
-    private Font loadFont(String fontPath, float size) {
-        try {
-            InputStream stream = getClass().getClassLoader().getResourceAsStream(fontPath);
-            if (stream == null) {    //if the font path provided is not available
-                System.out.println("[ComputerView] couldn't find font " + fontPath);
-                return null;
-            }
-            //create the Font object and set it to the current Graphics Environment
-            Font font = Font.createFont(Font.TRUETYPE_FONT, stream).deriveFont(size);   //ttf stands for true type font
-            //note: Font object in java are immutable, derive font here just changes the size of the font.
-
-            GraphicsEnvironment ge = GraphicsEnvironment.getLocalGraphicsEnvironment(); //register the font with java graphics system
-            ge.registerFont(font);
-            System.out.println("[ComputerView]loaded font " + fontPath);
-            return font;
-
-        } catch (Exception e) {
-            System.err.println("[ComputerView]couldn't load font " + fontPath);
-            return null;    //return null if the font path is not correct / available
-        }
+    public int getIndex() {
+        return index;
     }
-
-
-
 }
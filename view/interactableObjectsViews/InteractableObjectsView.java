@@ -1,25 +1,18 @@
 package view.interactableObjectsViews;
 
-import model.interactableObjects.*;
-import model.levels.LevelManager;
-import model.levels.Room;
+import logging.Log;
+import model.interactableObjects.InteractableObject;
+import model.snapshot.RenderSnapshot;
 
 import java.awt.*;
 import java.util.ArrayList;
 import java.util.List;
-import java.util.Observable;
-import java.util.Observer;
 
 /** view , every single interactable object views is collected in here.
- * it is created once in {@link view.gamePanelViews.GameView}, and changes the room via the observer pattern.
- * it is the observer of {@link LevelManager}, so when it gets notified of the room change, it will reload the interactable object views
- * via {@link #refreshViews()}
+ * it is created once in {@link view.gamePanelViews.GameView}, and draws the objects of the {@link RenderSnapshot}.
+ * when the room of the snapshot changes, it reloads the interactable object views via {@link #refreshViews(RenderSnapshot)}
  */
-public class InteractableObjectsView implements Observer {
-    /**
-     * {@link LevelManager} model instance
-     */
-    private static LevelManager levelManager;
+public class InteractableObjectsView {
     /**
      * list of {@link PaperBoxView}s
      */
@@ -50,19 +43,18 @@ public class InteractableObjectsView implements Observer {
     private List<WoodLockerView> woodLockerViews;
 
     /**
-     * the current room the player is in.
-     * updated via observe: {@link #update(Observable, Object)}
+     * {@link RenderSnapshot#getRoomVersion()} of the room the views were created for, -1 before the first snapshot
+     */
+    private int roomVersion = -1;
+    /**
+     * number of objects of the room the views were created for
      */
-    private Room currentRoom;
+    private int objectCount = 0;
 
     /**created once in the {@link view.gamePanelViews.GameView}. it is a collection of each
-     * {@link InteractableObject} in the {@link #currentRoom}.
-     * @param levelManager {@link LevelManager} model
+     * {@link InteractableObject} in the current room, created from the first snapshot drawn.
      */
-    public InteractableObjectsView(LevelManager levelManager) {
-        this.levelManager = levelManager;
-        this.currentRoom = levelManager.getCurrentRoom();
-
+    public InteractableObjectsView() {
         this.paperBoxViews = new ArrayList<>();
         this.cardViews = new ArrayList<>();
         this.computerViews = new ArrayList<>();
@@ -70,32 +62,14 @@ public class InteractableObjectsView implements Observer {
         this.metalLockerViews = new ArrayList<>();
         this.redBoxViews = new ArrayList<>();
         this.woodLockerViews = new ArrayList<>();
-
-        levelManager.addObserver(this);
-        initializeViews();
-    }
-
-    /**updates the {@link #currentRoom} via the observer pattern, whenever the player enters a new room and
-     * changes {@link LevelManager}.
-     * @param o   the observable object.
-     * @param arg an argument passed to the {@code notifyObservers}
-     *            method.
-     */
-    @Override
-    public void update(Observable o, Object arg) {
-        if (o instanceof LevelManager){
-            if (arg == "level changed"){           //when changin rooms, in level manager notifies observers with getCurrentRoom()
-                this.currentRoom = levelManager.getCurrentRoom();             //update the current room
-                refreshViews();
-            }
-        }
     }
 
 
     /**
-     * scans the {@link #currentRoom}'s interactive objects, and creates each view.
+     * scans the interactive objects of the snapshot, and creates each view.
+     * @param snapshot the snapshot being drawn
      */
-    private void initializeViews() {
+    private void initializeViews(RenderSnapshot snapshot) {
         //clear everything
         paperBoxViews.clear();
         cardViews.clear();
@@ -106,39 +80,30 @@ public class InteractableObjectsView implements Observer {
         woodLockerViews.clear();
 
         //for each interactable object in the room
-        for( InteractableObject obj : currentRoom.getInteractiveObjects()) {
+        for (int i = 0; i < snapshot.getObjectCount(); i++) {
             //create its 'view'
-            if (obj instanceof PaperBox paperBox) {
-                paperBoxViews.add(new PaperBoxView(paperBox));
-            }
-            else if (obj instanceof Card card) {
-                cardViews.add(new CardView(card));
-            }
-            else if (obj instanceof Computer computer){
-                computerViews.add(new ComputerView(computer));
-            }
-            else if (obj instanceof Ladder ladder){
-                ladderViews.add(new LadderView(ladder));
-            }
-            else if (obj instanceof MetalLocker metalLocker){
-                metalLockerViews.add(new MetalLockerView(metalLocker));
-            }
-            else if (obj instanceof RedBox redBox){
-                redBoxViews.add(new RedBoxView(redBox));
-            }
-            else if (obj instanceof WoodLocker woodLocker){
-                woodLockerViews.add(new WoodLockerView(woodLocker));
+            switch (snapshot.getObject(i).getKind()) {
+                case PAPER_BOX: paperBoxViews.add(new PaperBoxView(i)); break;
+                case CARD: cardViews.add(new CardView(i)); break;
+                case COMPUTER: computerViews.add(new ComputerView(i)); break;
+                case LADDER: ladderViews.add(new LadderView(i)); break;
+                case METAL_LOCKER: metalLockerViews.add(new MetalLockerView(i)); break;
+                case RED_BOX: redBoxViews.add(new RedBoxView(i)); break;
+                case WOOD_LOCKER: woodLockerViews.add(new WoodLockerView(i)); break;
             }
         }
-        System.out.println("[InteractiveObjectsView] -> initializeViews(): initializing views");
+        roomVersion = snapshot.getRoomVersion();
+        objectCount = snapshot.getObjectCount();
+        Log.debug("[InteractiveObjectsView] -> initializeViews(): initializing views");
     }
 
     /**
      * refreshes the interactable object views.
      * clears the object view lists ex.{@link #paperBoxViews}
-     * and re-initializes them via {@link #initializeViews()}
+     * and re-initializes them via {@link #initializeViews(RenderSnapshot)}
+     * @param snapshot the snapshot being drawn
      */
-    private void refreshViews() {
+    private void refreshViews(RenderSnapshot snapshot) {
         paperBoxViews.clear();
         cardViews.clear();
         computerViews.clear();
@@ -147,44 +112,66 @@ public class InteractableObjectsView implements Observer {
         woodLockerViews.clear();
 
 
-        initializeViews();
-        System.out.println("[InteractiveObjectsView] -> refreshViews(): refreshing views");
+        initializeViews(snapshot);
+        Log.debug("[InteractiveObjectsView] -> refreshViews(): refreshing views");
+    }
+
+    /**refreshes the views if the room changed, then advances the animated object views (cards, red boxes, computers)
+     * by the simulation ticks elapsed since the last frame.
+     * called by the {@link view.gamePanelViews.GameView} before drawing a snapshot, so the animation speed doesn't
+     * depend on the frame rate.
+     * @param snapshot the snapshot being drawn
+     * @param ticks number of simulation ticks since the last frame
+     */
+    public void update(RenderSnapshot snapshot, int ticks) {
+        if (roomVersion != snapshot.getRoomVersion() || objectCount != snapshot.getObjectCount()) {
+            refreshViews(snapshot);
+        }
+        for (int tick = 0; tick < ticks; tick++) {
+            for (CardView cardView : cardViews){
+                cardView.update();
+            }
+            for (RedBoxView redBoxView : redBoxViews){
+                redBoxView.update(snapshot.getObject(redBoxView.getIndex()));
+            }
+            for (ComputerView computerView : computerViews){
+                computerView.update();
+            }
+        }
     }
 
     /**draws every single interactable object view
      * @param g2d swing's graphics 2d instance that allows rendering
+     * @param snapshot the snapshot being drawn, already passed to {@link #update(RenderSnapshot, int)}
      */
-    public void drawInteractableObjects(Graphics2D g2d) {
+    public void drawInteractableObjects(Graphics2D g2d, RenderSnapshot snapshot) {
         //pp box
         for (PaperBoxView paperBoxView : paperBoxViews){
-            paperBoxView.draw(g2d);
+            paperBoxView.draw(g2d, snapshot.getObject(paperBoxView.getIndex()));
         }
         //computer card
         for (CardView cardView : cardViews){
-            cardView.draw(g2d);
-            cardView.update();
+            cardView.draw(g2d, snapshot.getObject(cardView.getIndex()));
         }
         //ladders
         for (LadderView ladderView : ladderViews){
-            ladderView.draw(g2d);
+            ladderView.draw(g2d, snapshot.getObject(ladderView.getIndex()));
         }
         //metal lockers
         for (MetalLockerView metalLockerView : metalLockerViews){
-            metalLockerView.draw(g2d);
+            metalLockerView.draw(g2d, snapshot.getObject(metalLockerView.getIndex()));
         }
         //red boxes
         for (RedBoxView redBoxView : redBoxViews){
-            redBoxView.draw(g2d);
-            redBoxView.update();
+            redBoxView.draw(g2d, snapshot.getObject(redBoxView.getIndex()));
         }
         //wood lockers
         for (WoodLockerView woodLockerView : woodLockerViews){
-            woodLockerView.draw(g2d);
+            woodLockerView.draw(g2d, snapshot.getObject(woodLockerView.getIndex()));
         }
         //computers
         for (ComputerView computerView : computerViews){
-            computerView.draw(g2d);
-            computerView.update();
+            computerView.draw(g2d, snapshot.getObject(computerView.getIndex()));
         }
     }
 
@@ -1,8 +1,10 @@
 package view.interactableObjectsViews;
 
+import logging.Log;
 import model.interactableObjects.Ladder;
+import model.snapshot.ObjectSnapshot;
+import view.ImageCache;
 
-import javax.imageio.ImageIO;
 import java.awt.*;
 import java.awt.image.BufferedImage;
 
@@ -15,16 +17,16 @@ public class LadderView {
      */
     private static BufferedImage ladderImage;
     /**
-     * ladder instance that this view is rendering
+     * index of the object in the room, to find its state in the {@link model.snapshot.RenderSnapshot}
      */
-    private final Ladder ladder;
+    private final int index;
 
 
     /**view of the {@link Ladder} model
-     * @param ladder ladder instance that this view is rendering
+     * @param index index of the {@link Ladder} in the room
      */
-    public LadderView(Ladder ladder) {
-        this.ladder = ladder;
+    public LadderView(int index) {
+        this.index = index;
         loadSprites();
     }
 
@@ -32,21 +34,23 @@ public class LadderView {
      * loads the ladder sprites
      */
     public void loadSprites() {
-        try{
-            ladderImage = ImageIO.read(getClass().getClassLoader().getResourceAsStream("interactableObjects/ladder/ladder.png"));
-            System.out.println("[LadderView] ladder image loaded");
-        }catch(Exception e){
-            System.out.println("[LadderView] ladder image not loaded : ");
-            e.printStackTrace();
-        }
+        ImageCache imageCache = ImageCache.getInstance();
+        ladderImage = imageCache.getImage("interactableObjects/ladder/ladder.png");
+        Log.debug("[LadderView] ladder image loaded");
     }
 
     /**draws the ladder sprite at {@link Ladder} x and y position
      * @param g2d swing's graphics 2d instance that allows rendering
+     * @param ladder state of the ladder
      */
-    public void draw(Graphics2D g2d) {
+    public void draw(Graphics2D g2d, ObjectSnapshot ladder) {
         g2d.drawImage(ladderImage, ladder.getX(), ladder.getY(), ladder.getWidth(), ladder.getHeight(), null);
     }
 
-
+    /**
+     * @return index of the object in the room, to find its state in the {@link model.snapshot.RenderSnapshot}
+     */
+    public int getIndex() {
+        return index;
+    }
 }
@@ -1,8 +1,10 @@
 package view.interactableObjectsViews;
 
+import logging.Log;
 import model.interactableObjects.MetalLocker;
+import model.snapshot.ObjectSnapshot;
+import view.ImageCache;
 
-import javax.imageio.ImageIO;
 import java.awt.*;
 import java.awt.image.BufferedImage;
 
@@ -14,15 +16,18 @@ public class MetalLockerView {
      * locker image
      */
     private static BufferedImage lockerImage;
-    private final MetalLocker metalLocker;
+    /**
+     * index of the object in the room, to find its state in the {@link model.snapshot.RenderSnapshot}
+     */
+    private final int index;
 
 
     /**view of the {@link MetalLocker} model.
      * loads the sprite via {@link #loadSprites()}
-     * @param metalLocker {@link MetalLocker} model instance that this view is rendering
+     * @param index index of the {@link MetalLocker} in the room
      */
-    public MetalLockerView(MetalLocker metalLocker) {
-        this.metalLocker = metalLocker;
+    public MetalLockerView(int index) {
+        this.index = index;
 
         loadSprites();
     }
@@ -32,13 +37,9 @@ public class MetalLockerView {
      * loads the metal locker sprite
      */
     public void loadSprites(){
-        try{
-            lockerImage = ImageIO.read(getClass().getClassLoader().getResource("interactableObjects/lockers/metalLocker.png"));
-            System.out.println("[MetalLockerView] loaded metal locker image");
-        }catch(Exception e){
-            System.out.println("[MetalLockerView]failed to load metal locker image");
-            e.printStackTrace();
-        }
+        ImageCache imageCache = ImageCache.getInstance();
+        lockerImage = imageCache.getImage("interactableObjects/lockers/metalLocker.png");
+        Log.debug("[MetalLockerView] loaded metal locker image");
 
 
     }
@@ -46,14 +47,17 @@ public class MetalLockerView {
 
     /**draws the metal locker at {@link MetalLocker} position
      * @param g2d swing's graphics 2d instance that allows rendering
+     * @param metalLocker state of the metal locker
      */
-    public void draw(Graphics2D g2d) {  //called in gameview's draw interactive objects method
+    public void draw(Graphics2D g2d, ObjectSnapshot metalLocker) {  //called in gameview's draw interactive objects method
         BufferedImage image = lockerImage;
         g2d.drawImage(image, metalLocker.getX(),metalLocker.getY(), metalLocker.getWidth(), metalLocker.getHeight(), null);
     }
 
-
-
-
-
+    /**
+     * @return index of the object in the room, to find its state in the {@link model.snapshot.RenderSnapshot}
+     */
+    public int getIndex() {
+        return index;
+    }
 }
@@ -1,11 +1,12 @@
 package view.interactableObjectsViews;
 
+import logging.Log;
 import model.interactableObjects.PaperBox;
+import model.snapshot.ObjectSnapshot;
+import view.ImageCache;
 
-import javax.imageio.ImageIO;
 import java.awt.*;
 import java.awt.image.BufferedImage;
-import java.io.IOException;
 
 /**
  * view of the {@link PaperBox} model
@@ -21,16 +22,16 @@ public class PaperBoxView {
      */
     private static BufferedImage openedBoxImage;
     /**
-     * {@link PaperBox} model instance
+     * index of the object in the room, to find its state in the {@link model.snapshot.RenderSnapshot}
      */
-    private final PaperBox paperBox;
+    private final int index;
 
     /**view of the {@link PaperBox} model.
      * loads the paper box sprites via {@link #loadSprites()}
-     * @param paperBox {@link PaperBox} instance
+     * @param index index of the {@link PaperBox} in the room
      */
-    public PaperBoxView(PaperBox paperBox) {
-        this.paperBox = paperBox;
+    public PaperBoxView(int index) {
+        this.index = index;
 
         loadSprites();
     }
@@ -40,27 +41,28 @@ public class PaperBoxView {
      * loads the paper box sprites
      */
     public void loadSprites(){
-        try{
-            closedBoxImage = ImageIO.read(getClass().getClassLoader().getResourceAsStream("interactableObjects/boxes/closedBox1.png"));
-            openedBoxImage = ImageIO.read(getClass().getClassLoader().getResourceAsStream("interactableObjects/boxes/openedBox1.png"));
-            System.out.println("[PaperBoxView] loaded paper box sprites");
-        }catch(IOException e){
-            System.err.println("[PaperBoxView]IOException while loading box images:");
-            e.printStackTrace();
-        }
+        ImageCache imageCache = ImageCache.getInstance();
+        closedBoxImage = imageCache.getImage("interactableObjects/boxes/closedBox1.png");
+        openedBoxImage = imageCache.getImage("interactableObjects/boxes/openedBox1.png");
+        Log.debug("[PaperBoxView] loaded paper box sprites");
     }
 
 
     /**draws the paper box sprites at the {@link PaperBox} model specified location
      *@param g2d swing's graphics 2d instance that allows rendering
+     * @param paperBox state of the paper box
      */
-    public void draw(Graphics2D g2d) {
+    public void draw(Graphics2D g2d, ObjectSnapshot paperBox) {
         BufferedImage image = paperBox.getIsOpened() ? openedBoxImage : closedBoxImage;
         if(image != null){
             g2d.drawImage(image, paperBox.getX(), paperBox.getY(), paperBox.getWidth(), paperBox.getHeight(), null);
         }
     }
 
-
-
+    /**
+     * @return index of the object in the room, to find its state in the {@link model.snapshot.RenderSnapshot}
+     */
+    public int getIndex() {
+        return index;
+    }
 }
@@ -1,11 +1,12 @@
 package view.interactableObjectsViews;
 
+import logging.Log;
 import model.interactableObjects.RedBox;
+import model.snapshot.ObjectSnapshot;
+import view.ImageCache;
 
-import javax.imageio.ImageIO;
 import java.awt.*;
 import java.awt.image.BufferedImage;
-import java.io.IOException;
 
 /**
  * view of the {@link RedBox} model
@@ -35,17 +36,17 @@ public class RedBoxView {
     private final int ANIMATION_SPEED = 5;
 
     /**
-     * {@link RedBox} model instance
+     * index of the object in the room, to find its state in the {@link model.snapshot.RenderSnapshot}
      */
-    private final RedBox redBox;
+    private final int index;
 
 
     /**
      * view of the {@link RedBox} model
-     * @param redBox {@link RedBox} model instance
+     * @param index index of the {@link RedBox} in the room
      */
-    public RedBoxView(RedBox redBox) {
-        this.redBox = redBox;
+    public RedBoxView(int index) {
+        this.index = index;
 
         loadSprites();
     }
@@ -55,27 +56,24 @@ public class RedBoxView {
      * loadds the red box sprites ex: {@link #redBox1}
      */
     private void loadSprites() {
-        try{
-            redBox1 = ImageIO.read(getClass().getClassLoader().getResourceAsStream("interactableObjects/boxes/redBox1.png"));
-            redBox2 = ImageIO.read(getClass().getClassLoader().getResourceAsStream("interactableObjects/boxes/redBox2.png"));
-            redBox3 = ImageIO.read(getClass().getClassLoader().getResourceAsStream("interactableObjects/boxes/redBox3.png"));
-            redBox4 = ImageIO.read(getClass().getClassLoader().getResourceAsStream("interactableObjects/boxes/redBox4.png"));
-            redBox5 = ImageIO.read(getClass().getClassLoader().getResourceAsStream("interactableObjects/boxes/redBox5.png"));
-            redBox6 = ImageIO.read(getClass().getClassLoader().getResourceAsStream("interactableObjects/boxes/redBox6.png"));
-            redBox7 = ImageIO.read(getClass().getClassLoader().getResourceAsStream("interactableObjects/boxes/redBox7.png"));
-            redBox8 = ImageIO.read(getClass().getClassLoader().getResourceAsStream("interactableObjects/boxes/redBox8.png"));
-            System.out.println("loaded red box sprites");
-        }catch(IOException e){
-            System.err.println("IOException while loading box images:");
-            e.printStackTrace();
-        }
+        ImageCache imageCache = ImageCache.getInstance();
+        redBox1 = imageCache.getImage("interactableObjects/boxes/redBox1.png");
+        redBox2 = imageCache.getImage("interactableObjects/boxes/redBox2.png");
+        redBox3 = imageCache.getImage("interactableObjects/boxes/redBox3.png");
+        redBox4 = imageCache.getImage("interactableObjects/boxes/redBox4.png");
+        redBox5 = imageCache.getImage("interactableObjects/boxes/redBox5.png");
+        redBox6 = imageCache.getImage("interactableObjects/boxes/redBox6.png");
+        redBox7 = imageCache.getImage("interactableObjects/boxes/redBox7.png");
+        redBox8 = imageCache.getImage("interactableObjects/boxes/redBox8.png");
+        Log.debug("loaded red box sprites");
     }
 
 
     /**
      * increments the {@link #spriteCounter} once per frame if the red box {@link #isOpening}.
+     * @param redBox state of the red box
      */
-    public void update() {
+    public void update(ObjectSnapshot redBox) {
         // if the box is opened then start opening it
         if (redBox.getIsOpened() && !isOpening) {
             isOpening = true;
@@ -99,8 +97,9 @@ public class RedBoxView {
 
     /**draws the red box sprites at the  {@link RedBox} specified location
      * @param g2d swing's graphics 2d instance that allows rendering
+     * @param redBox state of the red box
      */
-    public void draw(Graphics2D g2d) {
+    public void draw(Graphics2D g2d, ObjectSnapshot redBox) {
         BufferedImage image = null;
         if(isOpening){
             switch (spriteNum) {
@@ -124,4 +123,10 @@ public class RedBoxView {
             }
     }
 
+    /**
+     * @return index of the object in the room, to find its state in the {@link model.snapshot.RenderSnapshot}
+     */
+    public int getIndex() {
+        return index;
+    }
 }
@@ -1,8 +1,10 @@
 package view.interactableObjectsViews;
 
+import logging.Log;
 import model.interactableObjects.WoodLocker;
+import model.snapshot.ObjectSnapshot;
+import view.ImageCache;
 
-import javax.imageio.ImageIO;
 import java.awt.*;
 import java.awt.image.BufferedImage;
 
@@ -16,15 +18,15 @@ public class WoodLockerView {
      */
     private static BufferedImage lockerImage;
     /**
-     * {@link WoodLocker} instance
+     * index of the object in the room, to find its state in the {@link model.snapshot.RenderSnapshot}
      */
-    private final WoodLocker woodLocker;
+    private final int index;
 
     /**view of the {@link WoodLocker} model, loads the wood locker sprite via {@link #loadSprites()}
-     * @param woodLocker {@link WoodLocker} instance
+     * @param index index of the {@link WoodLocker} in the room
      */
-    public WoodLockerView(WoodLocker woodLocker) {
-        this.woodLocker = woodLocker;
+    public WoodLockerView(int index) {
+        this.index = index;
         loadSprites();
     }
 
@@ -33,31 +35,25 @@ public class WoodLockerView {
      * loads the wood locker sprites
      */
     private void loadSprites() {
-        try{
-            lockerImage = ImageIO.read(getClass().getClassLoader().getResource("interactableObjects/lockers/woodLocker.png"));
-            System.out.println("[WoodLocker] loaded wood locker image");
-        }
-        catch(Exception e){
-            System.out.println("[WoodLocker] failed to load wood locker image");
-            e.printStackTrace();
-        }
+        ImageCache imageCache = ImageCache.getInstance();
+        lockerImage = imageCache.getImage("interactableObjects/lockers/woodLocker.png");
+        Log.debug("[WoodLocker] loaded wood locker image");
     }
 
 
     /**draws the wood locker at {@link WoodLocker} specified location
      * @param g2d swing's graphics 2d instance that allows rendering
+     * @param woodLocker state of the wood locker
      */
-    public void draw(Graphics2D g2d) {
+    public void draw(Graphics2D g2d, ObjectSnapshot woodLocker) {
         BufferedImage image = lockerImage;
         g2d.drawImage(image,woodLocker.getX(), woodLocker.getY(), woodLocker.getWidth(), woodLocker.getHeight(),null);
     }
 
-
-
-
-
-
-
-
-
+    /**
+     * @return index of the object in the room, to find its state in the {@link model.snapshot.RenderSnapshot}
+     */
+    public int getIndex() {
+        return index;
+    }
 }
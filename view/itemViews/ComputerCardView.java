@@ -1,8 +1,8 @@
 package view.itemViews;
 
 import model.inventoryrelated.ComputerCard;
+import view.ImageCache;
 
-import javax.imageio.ImageIO;
 import java.awt.*;
 import java.awt.image.BufferedImage;
 
@@ -30,14 +30,9 @@ public class ComputerCardView extends ItemView {
      */
     @Override
     public void loadSprites(){
-        try{
-            computerCardSprite = ImageIO.read(getClass().getClassLoader().getResourceAsStream("items/computerCard.png"));
+        ImageCache imageCache = ImageCache.getInstance();
+        computerCardSprite = imageCache.getImage("items/computerCard.png");
 //            System.out.println("[ComputerCardView]loaded computer card item sprite");
-        }
-        catch (Exception e) {
-//            System.out.println("[ComputerCardView]failed to load computer card item sprite");
-            e.printStackTrace();
-        }
     }
 
 
@@ -5,21 +5,19 @@ import model.inventoryrelated.ComputerCard;
 import model.inventoryrelated.Inventory;
 import model.inventoryrelated.Item;
 import model.inventoryrelated.PokerCard;
+import model.snapshot.RenderSnapshot;
 
 import javax.imageio.ImageIO;
 import java.awt.*;
 import java.awt.image.BufferedImage;
-import java.util.Observable;
-import java.util.Observer;
 
 
 /**
  * view of the {@link Inventory} model,  renders the inventory slots and the items contained in it.
- * it gets updated via the observer pattern.
- * whenever the inventory(observable) gets updated and sends a notification, this view (inventory view) gets that information and
- * updates accordingly, via {@link #update(Observable, Object)} and the {@link #updateItemViews()}.
+ * the items are read from the {@link RenderSnapshot}: whenever an item in a slot is not the one drawn in the previous
+ * frame, this view (inventory view) updates accordingly, via the {@link #updateItemViews(RenderSnapshot)}.
  */
-public class InventoryView implements Observer {
+public class InventoryView {
 
     /**
      * the inventory slot sprite
@@ -37,12 +35,14 @@ public class InventoryView implements Observer {
      * array of {@link ItemView} views. it contains all the views of the items contained in the {@link Inventory} model.
      */
     private ItemView[] itemViews;
-
     /**
-     * reference to the {@link Inventory}, the observable object. this view displays the data
-     * got from the inventory model.
+     * items the {@link #itemViews} were created for, one per slot, to notice when the inventory changes
+     */
+    private final Item[] shownItems;
+    /**
+     * number of slots of the {@link Inventory} model
      */
-    private final Inventory inventory;
+    private final int capacity;
     /**
      * reference to the {@link PokerCardsView} view, used mainly to load all the poker cards sprite once,
      * in the constructor.
@@ -52,25 +52,22 @@ public class InventoryView implements Observer {
 
     /**view of the inventory.
      * renders the inventory slots and the items contained in it.
-     * it gets updated via the observer pattern.
-     * whenever the inventory(observable) gets updated and sends a notification, this view (inventory view) gets that information and
-     * updates accordingly, via {@link #update(Observable, Object)} and the {@link #updateItemViews()}.
-     * @param inventory {@link Inventory} model
+     * the items are read from the {@link RenderSnapshot} drawn, and the item views are updated via the
+     * {@link #updateItemViews(RenderSnapshot)} whenever they change.
+     * @param capacity number of slots of the {@link Inventory} model
      */
-    public InventoryView(Inventory inventory) {
-        this.inventory = inventory;
-        this.itemViews = new ItemView[inventory.getCapacity()];  //set the max capacity to the inventory capacity
+    public InventoryView(int capacity) {
+        this.capacity = capacity;
+        this.itemViews = new ItemView[capacity];  //set the max capacity to the inventory capacity
+        this.shownItems = new Item[capacity];
 
         this.pokerCardsView = new PokerCardsView(); //initialize the poker card sprites
 
-        for(int i = 0; i < inventory.getCapacity(); i++) {  //initialize all the item views to null
+        for(int i = 0; i < capacity; i++) {  //initialize all the item views to null
             itemViews[i] = null;
         }
 
         loadSprites();
-        updateItemViews();
-
-        inventory.addObserver(this);
     }
 
 
@@ -91,14 +88,16 @@ public class InventoryView implements Observer {
      * it handles the drawing of the red transparent progress bar of when an item is starting to get discarded, based on the
      * progress given by the {@link Inventory}.
      * @param g2d swing's graphics 2d instance that allows rendering
+     * @param snapshot the snapshot being drawn
      */
-    public void draw(Graphics2D g2d) {
-        int totalInventoryWidth = inventory.getCapacity() * slotWidth;
-        int startX = (ScreenSettings.SCREEN_WIDTH - totalInventoryWidth) / 2;
-        int startY = ScreenSettings.SCREEN_HEIGHT - slotHeight - 20;
+    public void draw(Graphics2D g2d, RenderSnapshot snapshot) {
+        updateItemViews(snapshot);
+
+        int startX = getStartX();
+        int startY = getStartY();
 
         //draw slots and items
-        for (int i = 0; i < inventory.getCapacity(); i++) {
+        for (int i = 0; i < capacity; i++) {
             int x = startX + i * slotWidth;
             //draw slot backgrounds
             g2d.drawImage(inventorySlotImage, x, startY, slotWidth,slotHeight, null);
@@ -117,7 +116,7 @@ public class InventoryView implements Observer {
             }
 
             //draw the item discard progress if active
-            float discardProgress = inventory.getDiscardProgress(i);
+            float discardProgress = snapshot.getDiscardProgress(i);
 //            System.out.println("[InventoryView][draw()] discard progress: " + progress);
             if (discardProgress > 0) {
                 int progressBarHeight = (int) (slotHeight * discardProgress);
@@ -129,18 +128,47 @@ public class InventoryView implements Observer {
         }
     }
 
+    /**gets the area of an inventory slot, so that only that slot is drawn again when its item or its discard progress
+     * changes. see {@link view.gamePanelViews.DamageTracker}.
+     * @param slot index of the slot
+     * @param bounds set to the area of the slot
+     */
+    public void getSlotBounds(int slot, Rectangle bounds) {
+        bounds.setBounds(getStartX() + slot * slotWidth, getStartY(), slotWidth, slotHeight);
+    }
+
+    /**
+     * @return x coordinate of the first slot, the slots are centered at the bottom of the screen
+     */
+    private int getStartX() {
+        return (ScreenSettings.SCREEN_WIDTH - capacity * slotWidth) / 2;
+    }
+
+    /**
+     * @return y coordinate of the slots
+     */
+    private int getStartY() {
+        return ScreenSettings.SCREEN_HEIGHT - slotHeight - 20;
+    }
+
     /**
      * refreshes the inventory view.
-     * checks all the {@link Inventory}'s items and creates the appropriate views for the {@link Item} object.
-     * if an item gets added to the inventory, then that item's view (for example, {@link ComputerCardView} gets created and rendered in {@link #draw(Graphics2D)} .
+     * checks all the {@link Inventory}'s items in the snapshot and creates the appropriate views for the {@link Item} object.
+     * if an item gets added to the inventory, then that item's view (for example, {@link ComputerCardView} gets created and rendered in {@link #draw(Graphics2D, RenderSnapshot)} .
      * if an item gets removed from the inventory, the that item's view gets discarded.
+     * the slots that hold the same item as in the previous frame are left untouched.
+     * @param snapshot the snapshot being drawn
      */
     //rebuild the items views when the inventory changes
-    public void updateItemViews(){
-//        System.out.println("[InventoryView]updateItemViews(): inventory capacity: " + inventory.getCapacity());
-        for (int i = 0; i < inventory.getCapacity(); i++) {
+    private void updateItemViews(RenderSnapshot snapshot){
+//        System.out.println("[InventoryView]updateItemViews(): inventory capacity: " + capacity);
+        for (int i = 0; i < capacity; i++) {
 //            System.out.println("[InventoryView]updateItemViews(): slot " + i + "; item " + itemViews[i]);
-            Item item = inventory.getItem(i);
+            Item item = snapshot.getItem(i);
+            if (item == shownItems[i]) {
+                continue;   //same item as the previous frame, keep its view
+            }
+            shownItems[i] = item;
 
             if( item instanceof ComputerCard computerCard){
                 itemViews[i] =  new ComputerCardView(computerCard);   //add the view corresponding to the inventory slot
@@ -156,28 +184,4 @@ public class InventoryView implements Observer {
             }
         }
     }
-
-    /**updates the inventory view based on the {@link Inventory} notifications, refreshes the item views via {@link #updateItemViews()} method.
-     * @param o   the observable object.
-     * @param arg an argument passed to the {@code notifyObservers}
-     *            method.
-     */
-    @Override
-    public void update(Observable o, Object arg) {
-        if (o instanceof Inventory) {
-            switch((String) arg){
-                case "item added to inventory":
-                    updateItemViews();
-//                    System.out.println("[InventoryView]item added to inventory: " + inventory.getItems());
-                    break;
-                case "removed item from inventory":
-                    updateItemViews();
-                    break;
-                case "removed computer card from inventory":
-                    updateItemViews();
-                    break;
-
-            }
-        }
-    }
 }
@@ -1,8 +1,8 @@
 package view.itemViews;
 
 import model.inventoryrelated.PokerCard;
+import view.ImageCache;
 
-import javax.imageio.ImageIO;
 import java.awt.image.BufferedImage;
 
 
@@ -48,72 +48,69 @@ public class PokerCardsView extends ItemView{
      */
     @Override
     public void loadSprites(){
-        try {
-            oneclub = ImageIO.read(getClass().getClassLoader().getResourceAsStream("items/darkpokercards/1club.png"));
-            twoclub = ImageIO.read(getClass().getClassLoader().getResourceAsStream("items/darkpokercards/2club.png"));
-            threeclub = ImageIO.read(getClass().getClassLoader().getResourceAsStream("items/darkpokercards/3club.png"));
-            fourclub = ImageIO.read(getClass().getClassLoader().getResourceAsStream("items/darkpokercards/4club.png"));
-            fiveclub = ImageIO.read(getClass().getClassLoader().getResourceAsStream("items/darkpokercards/5club.png"));
-            sixclub = ImageIO.read(getClass().getClassLoader().getResourceAsStream("items/darkpokercards/6club.png"));
-            sevenclub = ImageIO.read(getClass().getClassLoader().getResourceAsStream("items/darkpokercards/7club.png"));
-            eightclub = ImageIO.read(getClass().getClassLoader().getResourceAsStream("items/darkpokercards/8club.png"));
-            nineclub = ImageIO.read(getClass().getClassLoader().getResourceAsStream("items/darkpokercards/9club.png"));
-            tenclub = ImageIO.read(getClass().getClassLoader().getResourceAsStream("items/darkpokercards/10club.png"));
-            jclub = ImageIO.read(getClass().getClassLoader().getResourceAsStream("items/darkpokercards/jclub.png"));
-            qclub = ImageIO.read(getClass().getClassLoader().getResourceAsStream("items/darkpokercards/qclub.png"));
-            kclub = ImageIO.read(getClass().getClassLoader().getResourceAsStream("items/darkpokercards/kclub.png"));
-            aceclub = ImageIO.read(getClass().getClassLoader().getResourceAsStream("items/darkpokercards/aceclub.png"));
-
-            onespade = ImageIO.read(getClass().getClassLoader().getResourceAsStream("items/darkpokercards/1spade.png"));
-            twospade = ImageIO.read(getClass().getClassLoader().getResourceAsStream("items/darkpokercards/2spade.png"));
-            threespade = ImageIO.read(getClass().getClassLoader().getResourceAsStream("items/darkpokercards/3spade.png"));
-            fourspade = ImageIO.read(getClass().getClassLoader().getResourceAsStream("items/darkpokercards/4spade.png"));
-            fivespade = ImageIO.read(getClass().getClassLoader().getResourceAsStream("items/darkpokercards/5spade.png"));
-            sixspade = ImageIO.read(getClass().getClassLoader().getResourceAsStream("items/darkpokercards/6spade.png"));
-            sevenspade = ImageIO.read(getClass().getClassLoader().getResourceAsStream("items/darkpokercards/7spade.png"));
-            eightspade = ImageIO.read(getClass().getClassLoader().getResourceAsStream("items/darkpokercards/8spade.png"));
-            ninespade = ImageIO.read(getClass().getClassLoader().getResourceAsStream("items/darkpokercards/9spade.png"));
-            tenspade = ImageIO.read(getClass().getClassLoader().getResourceAsStream("items/darkpokercards/10spade.png"));
-            jspade = ImageIO.read(getClass().getClassLoader().getResourceAsStream("items/darkpokercards/jspade.png"));
-            qspade = ImageIO.read(getClass().getClassLoader().getResourceAsStream("items/darkpokercards/qspade.png"));
-            kspade = ImageIO.read(getClass().getClassLoader().getResourceAsStream("items/darkpokercards/kspade.png"));
-            acespade = ImageIO.read(getClass().getClassLoader().getResourceAsStream("items/darkpokercards/acespade.png"));
-
-            oneheart = ImageIO.read(getClass().getClassLoader().getResourceAsStream("items/darkpokercards/1heart.png"));
-            twoheart = ImageIO.read(getClass().getClassLoader().getResourceAsStream("items/darkpokercards/2heart.png"));
-            threeheart = ImageIO.read(getClass().getClassLoader().getResourceAsStream("items/darkpokercards/3heart.png"));
-            fourheart = ImageIO.read(getClass().getClassLoader().getResourceAsStream("items/darkpokercards/4heart.png"));
-            fiveheart = ImageIO.read(getClass().getClassLoader().getResourceAsStream("items/darkpokercards/5heart.png"));
-            sixheart = ImageIO.read(getClass().getClassLoader().getResourceAsStream("items/darkpokercards/6heart.png"));
-            sevenheart = ImageIO.read(getClass().getClassLoader().getResourceAsStream("items/darkpokercards/7heart.png"));
-            eightheart = ImageIO.read(getClass().getClassLoader().getResourceAsStream("items/darkpokercards/8heart.png"));
-            nineheart = ImageIO.read(getClass().getClassLoader().getResourceAsStream("items/darkpokercards/9heart.png"));
-            tenheart = ImageIO.read(getClass().getClassLoader().getResourceAsStream("items/darkpokercards/10heart.png"));
-            jheart = ImageIO.read(getClass().getClassLoader().getResourceAsStream("items/darkpokercards/jheart.png"));
-            qheart = ImageIO.read(getClass().getClassLoader().getResourceAsStream("items/darkpokercards/qheart.png"));
-            kheart = ImageIO.read(getClass().getClassLoader().getResourceAsStream("items/darkpokercards/kheart.png"));
-            aceheart = ImageIO.read(getClass().getClassLoader().getResourceAsStream("items/darkpokercards/aceheart.png"));
-
-            onediamond = ImageIO.read(getClass().getClassLoader().getResourceAsStream("items/darkpokercards/1diamond.png"));
-            twodiamond = ImageIO.read(getClass().getClassLoader().getResourceAsStream("items/darkpokercards/2diamond.png"));
-            threediamond = ImageIO.read(getClass().getClassLoader().getResourceAsStream("items/darkpokercards/3diamond.png"));
-            fourdiamond = ImageIO.read(getClass().getClassLoader().getResourceAsStream("items/darkpokercards/4diamond.png"));
-            fivediamond = ImageIO.read(getClass().getClassLoader().getResourceAsStream("items/darkpokercards/5diamond.png"));
-            sixdiamond = ImageIO.read(getClass().getClassLoader().getResourceAsStream("items/darkpokercards/6diamond.png"));
-            sevendiamond = ImageIO.read(getClass().getClassLoader().getResourceAsStream("items/darkpokercards/7diamond.png"));
-            eightdiamond = ImageIO.read(getClass().getClassLoader().getResourceAsStream("items/darkpokercards/8diamond.png"));
-            ninediamond = ImageIO.read(getClass().getClassLoader().getResourceAsStream("items/darkpokercards/9diamond.png"));
-            tendiamond = ImageIO.read(getClass().getClassLoader().getResourceAsStream("items/darkpokercards/10diamond.png"));
-            jdiamond = ImageIO.read(getClass().getClassLoader().getResourceAsStream("items/darkpokercards/jdiamond.png"));
-            qdiamond = ImageIO.read(getClass().getClassLoader().getResourceAsStream("items/darkpokercards/qdiamond.png"));
-            kdiamond = ImageIO.read(getClass().getClassLoader().getResourceAsStream("items/darkpokercards/kdiamond.png"));
-            acediamond = ImageIO.read(getClass().getClassLoader().getResourceAsStream("items/darkpokercards/acediamond.png"));
-
-            joker = ImageIO.read(getClass().getClassLoader().getResourceAsStream("items/darkpokercards/JOKER.png"));
+        ImageCache imageCache = ImageCache.getInstance();
+        oneclub = imageCache.getImage("items/darkpokercards/1club.png");
+        twoclub = imageCache.getImage("items/darkpokercards/2club.png");
+        threeclub = imageCache.getImage("items/darkpokercards/3club.png");
+        fourclub = imageCache.getImage("items/darkpokercards/4club.png");
+        fiveclub = imageCache.getImage("items/darkpokercards/5club.png");
+        sixclub = imageCache.getImage("items/darkpokercards/6club.png");
+        sevenclub = imageCache.getImage("items/darkpokercards/7club.png");
+        eightclub = imageCache.getImage("items/darkpokercards/8club.png");
+        nineclub = imageCache.getImage("items/darkpokercards/9club.png");
+        tenclub = imageCache.getImage("items/darkpokercards/10club.png");
+        jclub = imageCache.getImage("items/darkpokercards/jclub.png");
+        qclub = imageCache.getImage("items/darkpokercards/qclub.png");
+        kclub = imageCache.getImage("items/darkpokercards/kclub.png");
+        aceclub = imageCache.getImage("items/darkpokercards/aceclub.png");
+
+        onespade = imageCache.getImage("items/darkpokercards/1spade.png");
+        twospade = imageCache.getImage("items/darkpokercards/2spade.png");
+        threespade = imageCache.getImage("items/darkpokercards/3spade.png");
+        fourspade = imageCache.getImage("items/darkpokercards/4spade.png");
+        fivespade = imageCache.getImage("items/darkpokercards/5spade.png");
+        sixspade = imageCache.getImage("items/darkpokercards/6spade.png");
+        sevenspade = imageCache.getImage("items/darkpokercards/7spade.png");
+        eightspade = imageCache.getImage("items/darkpokercards/8spade.png");
+        ninespade = imageCache.getImage("items/darkpokercards/9spade.png");
+        tenspade = imageCache.getImage("items/darkpokercards/10spade.png");
+        jspade = imageCache.getImage("items/darkpokercards/jspade.png");
+        qspade = imageCache.getImage("items/darkpokercards/qspade.png");
+        kspade = imageCache.getImage("items/darkpokercards/kspade.png");
+        acespade = imageCache.getImage("items/darkpokercards/acespade.png");
+
+        oneheart = imageCache.getImage("items/darkpokercards/1heart.png");
+        twoheart = imageCache.getImage("items/darkpokercards/2heart.png");
+        threeheart = imageCache.getImage("items/darkpokercards/3heart.png");
+        fourheart = imageCache.getImage("items/darkpokercards/4heart.png");
+        fiveheart = imageCache.getImage("items/darkpokercards/5heart.png");
+        sixheart = imageCache.getImage("items/darkpokercards/6heart.png");
+        sevenheart = imageCache.getImage("items/darkpokercards/7heart.png");
+        eightheart = imageCache.getImage("items/darkpokercards/8heart.png");
+        nineheart = imageCache.getImage("items/darkpokercards/9heart.png");
+        tenheart = imageCache.getImage("items/darkpokercards/10heart.png");
+        jheart = imageCache.getImage("items/darkpokercards/Jheart.png");
+        qheart = imageCache.getImage("items/darkpokercards/qheart.png");
+        kheart = imageCache.getImage("items/darkpokercards/kheart.png");
+        aceheart = imageCache.getImage("items/darkpokercards/aceheart.png");
+
+        onediamond = imageCache.getImage("items/darkpokercards/1diamond.png");
+        twodiamond = imageCache.getImage("items/darkpokercards/2diamond.png");
+        threediamond = imageCache.getImage("items/darkpokercards/3diamond.png");
+        fourdiamond = imageCache.getImage("items/darkpokercards/4diamond.png");
+        fivediamond = imageCache.getImage("items/darkpokercards/5diamond.png");
+        sixdiamond = imageCache.getImage("items/darkpokercards/6diamond.png");
+        sevendiamond = imageCache.getImage("items/darkpokercards/7diamond.png");
+        eightdiamond = imageCache.getImage("items/darkpokercards/8diamond.png");
+        ninediamond = imageCache.getImage("items/darkpokercards/9diamond.png");
+        tendiamond = imageCache.getImage("items/darkpokercards/10diamond.png");
+        jdiamond = imageCache.getImage("items/darkpokercards/jdiamond.png");
+        qdiamond = imageCache.getImage("items/darkpokercards/qdiamond.png");
+        kdiamond = imageCache.getImage("items/darkpokercards/kdiamond.png");
+        acediamond = imageCache.getImage("items/darkpokercards/acediamond.png");
+
+        joker = imageCache.getImage("items/darkpokercards/JOKER.png");
 //            System.out.println("[PokerCardsView][loadSprites()]loaded poker card sprites");
-        }catch (Exception e) {
-            e.printStackTrace();
-        }
 
     }
 